@@ -0,0 +1,222 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import edu.stanford.protege.webprotege.jackson.WebProtegeJacksonApplication;
+import org.semanticweb.owlapi.model.EntityType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.vocab.XSDVocabulary;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+import javax.annotation.Nonnull;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Generates synthetic, but realistically shaped, entity data for benchmarks.  IRIs are a mix of
+ *     OBO style IRIs (e.g. http://purl.obolibrary.org/obo/GO_0008150), hash IRIs with camel case local names
+ *     and long UUID based WebProtege IRIs.  Entities have between zero and four short forms.
+ * </p>
+ */
+public class BenchmarkData {
+
+    private static final String[] WORDS = {
+            "heart", "attack", "cell", "membrane", "protein", "binding", "regulation", "of", "process",
+            "negative", "positive", "transport", "activity", "receptor", "signaling", "pathway", "nucleus",
+            "mitochondrial", "development", "response", "to", "stimulus", "metabolic", "biosynthetic",
+            "organ", "tissue", "structure", "disease", "chronic", "acute", "syndrome", "infection"
+    };
+
+    private static final String[] NAMESPACES = {
+            "http://purl.obolibrary.org/obo/",
+            "http://www.ebi.ac.uk/efo/",
+            "http://example.org/ontologies/anatomy#",
+            "http://webprotege.stanford.edu/"
+    };
+
+    private static final ImmutableList<DictionaryLanguage> LANGUAGES = ImmutableList.of(
+            DictionaryLanguage.rdfsLabel("en"),
+            DictionaryLanguage.localName(),
+            DictionaryLanguage.skosPrefLabel("de"),
+            DictionaryLanguage.oboId()
+    );
+
+    private final OWLDataFactory dataFactory = new OWLDataFactoryImpl();
+
+    private final Random random;
+
+    public BenchmarkData(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Creates an {@link ObjectMapper} that is configured in the same way as the mapper used by WebProtege services.
+     */
+    @Nonnull
+    public static ObjectMapper createObjectMapper() {
+        return new WebProtegeJacksonApplication().objectMapper(new OWLDataFactoryImpl());
+    }
+
+    @Nonnull
+    public OWLDataFactory getDataFactory() {
+        return dataFactory;
+    }
+
+    @Nonnull
+    public String nextLabel() {
+        int wordCount = 1 + random.nextInt(4);
+        StringBuilder sb = new StringBuilder();
+        for(int i = 0; i < wordCount; i++) {
+            if(i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+
+    @Nonnull
+    public IRI nextIri() {
+        int ns = random.nextInt(NAMESPACES.length);
+        String namespace = NAMESPACES[ns];
+        switch (ns) {
+            case 0:
+                return IRI.create(namespace + String.format("GO_%07d", random.nextInt(10_000_000)));
+            case 1:
+                return IRI.create(namespace + String.format("EFO_%07d", random.nextInt(10_000_000)));
+            case 2:
+                return IRI.create(namespace + toCamelCase(nextLabel()));
+            default:
+                return IRI.create(namespace + "R" + new UUID(random.nextLong(), random.nextLong())
+                        .toString()
+                        .replace("-", ""));
+        }
+    }
+
+    @Nonnull
+    public ImmutableMap<DictionaryLanguage, String> nextShortForms(@Nonnull IRI iri) {
+        int count = random.nextInt(LANGUAGES.size() + 1);
+        ImmutableMap.Builder<DictionaryLanguage, String> builder = ImmutableMap.builder();
+        String label = nextLabel();
+        for(int i = 0; i < count; i++) {
+            DictionaryLanguage language = LANGUAGES.get(i);
+            if(language.equals(DictionaryLanguage.localName())) {
+                builder.put(language, iri.getShortForm());
+            }
+            else {
+                builder.put(language, label);
+            }
+        }
+        return builder.build();
+    }
+
+    @Nonnull
+    public OWLEntity nextEntity(@Nonnull EntityType<?> entityType) {
+        return dataFactory.getOWLEntity(entityType, nextIri());
+    }
+
+    /**
+     * Generates a random piece of primitive data of the specified type.
+     */
+    @Nonnull
+    public OWLPrimitiveData nextPrimitiveData(@Nonnull PrimitiveType type) {
+        boolean deprecated = random.nextInt(20) == 0;
+        switch (type) {
+            case CLASS:
+                var cls = dataFactory.getOWLClass(nextIri());
+                return OWLClassData.get(cls, nextShortForms(cls.getIRI()), deprecated);
+            case OBJECT_PROPERTY:
+                var op = dataFactory.getOWLObjectProperty(nextIri());
+                return OWLObjectPropertyData.get(op, nextShortForms(op.getIRI()), deprecated);
+            case DATA_PROPERTY:
+                var dp = dataFactory.getOWLDataProperty(nextIri());
+                return OWLDataPropertyData.get(dp, nextShortForms(dp.getIRI()), deprecated);
+            case ANNOTATION_PROPERTY:
+                var ap = dataFactory.getOWLAnnotationProperty(nextIri());
+                return OWLAnnotationPropertyData.get(ap, nextShortForms(ap.getIRI()), deprecated);
+            case NAMED_INDIVIDUAL:
+                var ind = dataFactory.getOWLNamedIndividual(nextIri());
+                return OWLNamedIndividualData.get(ind, nextShortForms(ind.getIRI()), deprecated);
+            case DATA_TYPE:
+                var dt = dataFactory.getOWLDatatype(nextIri());
+                return OWLDatatypeData.get(dt, nextShortForms(dt.getIRI()), deprecated);
+            case IRI:
+                var iri = nextIri();
+                return IRIData.get(iri, nextShortForms(iri));
+            case LITERAL:
+                switch (random.nextInt(3)) {
+                    case 0:
+                        return OWLLiteralData.get(dataFactory.getOWLLiteral(nextLabel(), "en"));
+                    case 1:
+                        return OWLLiteralData.get(dataFactory.getOWLLiteral(nextLabel()));
+                    default:
+                        return OWLLiteralData.get(dataFactory.getOWLLiteral(Integer.toString(random.nextInt()),
+                                                                            dataFactory.getOWLDatatype(XSDVocabulary.INTEGER.getIRI())));
+                }
+            default:
+                throw new RuntimeException("Unknown primitive type " + type);
+        }
+    }
+
+    /**
+     * Generates a random piece of entity data with an entity type that is chosen at random.  Classes are
+     * much more common than other kinds of entities, as they are in real ontologies.
+     */
+    @Nonnull
+    public OWLEntityData nextEntityData() {
+        int r = random.nextInt(100);
+        PrimitiveType type;
+        if(r < 80) {
+            type = PrimitiveType.CLASS;
+        }
+        else if(r < 90) {
+            type = PrimitiveType.NAMED_INDIVIDUAL;
+        }
+        else if(r < 94) {
+            type = PrimitiveType.OBJECT_PROPERTY;
+        }
+        else if(r < 97) {
+            type = PrimitiveType.ANNOTATION_PROPERTY;
+        }
+        else if(r < 99) {
+            type = PrimitiveType.DATA_PROPERTY;
+        }
+        else {
+            type = PrimitiveType.DATA_TYPE;
+        }
+        return (OWLEntityData) nextPrimitiveData(type);
+    }
+
+    @Nonnull
+    public ImmutableList<OWLEntityData> nextEntityDataList(int size) {
+        ImmutableList.Builder<OWLEntityData> builder = ImmutableList.builderWithExpectedSize(size);
+        for(int i = 0; i < size; i++) {
+            builder.add(nextEntityData());
+        }
+        return builder.build();
+    }
+
+    private static String toCamelCase(String label) {
+        StringBuilder sb = new StringBuilder(label.length());
+        boolean upper = true;
+        for(int i = 0; i < label.length(); i++) {
+            char ch = label.charAt(i);
+            if(ch == ' ') {
+                upper = true;
+            }
+            else {
+                sb.append(upper ? Character.toUpperCase(ch) : ch);
+                upper = false;
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,95 @@
+package edu.stanford.protege.webprotege.entity;
+
+import edu.stanford.protege.webprotege.common.UserId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Compares sorting commented entity data with the existing comparators against {@link CommentedEntityDataSorter},
+ *     and compares sorting everything to show the 20 most recently modified entities against a bounded selection.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommentedEntityDataSorterBenchmark {
+
+    private static final int TOP_K = 20;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private List<CommentedEntityData> data;
+
+    private List<CommentedEntityData> workingCopy;
+
+    private final CommentedEntityDataSorter sorter = CommentedEntityDataSorter.get();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var random = new Random(42);
+        var user = UserId.valueOf("user");
+        data = new ArrayList<>(size);
+        for(var entityData : new BenchmarkData(42).nextEntityDataList(size)) {
+            data.add(new CommentedEntityData(entityData,
+                                             4,
+                                             random.nextInt(3),
+                                             10,
+                                             1_600_000_000_000L + random.nextInt(1_000_000_000),
+                                             user,
+                                             List.of(user)));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        workingCopy = new ArrayList<>(data);
+    }
+
+    @Benchmark
+    public List<CommentedEntityData> collectionsSort() {
+        Collections.sort(workingCopy);
+        return workingCopy;
+    }
+
+    @Benchmark
+    public List<CommentedEntityData> sorterSort() {
+        sorter.sort(workingCopy);
+        return workingCopy;
+    }
+
+    @Benchmark
+    public List<CommentedEntityData> collectionsSortByLastModified() {
+        workingCopy.sort(CommentedEntityData.byLastModified);
+        return workingCopy;
+    }
+
+    @Benchmark
+    public List<CommentedEntityData> sorterSortByLastModified() {
+        sorter.sortByLastModified(workingCopy);
+        return workingCopy;
+    }
+
+    @Benchmark
+    public List<CommentedEntityData> mostRecentlyModifiedBySorting() {
+        workingCopy.sort(CommentedEntityData.byLastModified);
+        return new ArrayList<>(workingCopy.subList(0, Math.min(TOP_K, workingCopy.size())));
+    }
+
+    @Benchmark
+    public List<CommentedEntityData> mostRecentlyModifiedBySelection() {
+        return sorter.getMostRecentlyModified(data, TOP_K);
+    }
+}
@@ -0,0 +1,89 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Compares writing and reading lists of primitive data as plain JSON lists against
+ *     {@link CompactOWLPrimitiveDataList}.  The encoded sizes for each form are printed when the benchmark is
+ *     set up.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompactOWLPrimitiveDataListBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private ObjectWriter plainWriter;
+
+    private ObjectReader plainReader;
+
+    private ObjectWriter compactWriter;
+
+    private ObjectReader compactReader;
+
+    private List<OWLPrimitiveData> data;
+
+    private CompactOWLPrimitiveDataList compactData;
+
+    private byte[] plainJson;
+
+    private byte[] compactJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        var objectMapper = BenchmarkData.createObjectMapper();
+        var listType = new TypeReference<List<OWLPrimitiveData>>() {};
+        plainWriter = objectMapper.writerFor(listType);
+        plainReader = objectMapper.readerFor(listType);
+        compactWriter = objectMapper.writerFor(CompactOWLPrimitiveDataList.class);
+        compactReader = objectMapper.readerFor(CompactOWLPrimitiveDataList.class);
+        var benchmarkData = new BenchmarkData(42);
+        data = new ArrayList<>(benchmarkData.nextEntityDataList(size - size / 10));
+        for(int i = data.size(); i < size; i++) {
+            data.add(benchmarkData.nextPrimitiveData(PrimitiveType.LITERAL));
+        }
+        compactData = CompactOWLPrimitiveDataList.get(data);
+        plainJson = plainWriter.writeValueAsBytes(data);
+        compactJson = compactWriter.writeValueAsBytes(compactData);
+        System.out.printf("%nSize %d: plain %d bytes, compact %d bytes (%.1f%%)%n",
+                          size, plainJson.length, compactJson.length, 100.0 * compactJson.length / plainJson.length);
+    }
+
+    @Benchmark
+    public byte[] plainWrite() throws IOException {
+        return plainWriter.writeValueAsBytes(data);
+    }
+
+    @Benchmark
+    public byte[] compactWrite() throws IOException {
+        return compactWriter.writeValueAsBytes(compactData);
+    }
+
+    @Benchmark
+    public List<OWLPrimitiveData> plainRead() throws IOException {
+        return plainReader.readValue(plainJson);
+    }
+
+    @Benchmark
+    public CompactOWLPrimitiveDataList compactRead() throws IOException {
+        return compactReader.readValue(compactJson);
+    }
+}
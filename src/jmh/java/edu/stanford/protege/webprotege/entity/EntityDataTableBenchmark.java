@@ -0,0 +1,92 @@
+package edu.stanford.protege.webprotege.entity;
+
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Compares a snapshot of entity data held as a list of {@link OWLEntityData} with the same snapshot held in an
+ *     {@link EntityDataTable}.  The heap retained by each, and the off-heap memory used by the table, is printed
+ *     during setup.  The benchmarks scan every row for a short form, and materialize a sample of rows.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g", "-XX:MaxDirectMemorySize=2g"})
+public class EntityDataTableBenchmark {
+
+    private static final DictionaryLanguage ENGLISH = DictionaryLanguage.rdfsLabel("en");
+
+    private static final int SAMPLE_SIZE = 1000;
+
+    @Param({"1000000"})
+    public int size;
+
+    private List<OWLEntityData> entityData;
+
+    private EntityDataTable table;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long before = getUsedHeap();
+        entityData = new BenchmarkData(42).nextEntityDataList(size);
+        long listHeap = getUsedHeap() - before;
+        before = getUsedHeap();
+        table = EntityDataTable.create(entityData);
+        long tableHeap = getUsedHeap() - before;
+        System.out.printf("%nList: %,d bytes of heap (%.1f bytes per row)%n", listHeap, (double) listHeap / size);
+        System.out.printf("Table: %,d bytes of heap, %,d bytes off-heap (%.1f bytes per row)%n",
+                          tableHeap, table.getOffHeapSize(), (double) table.getOffHeapSize() / size);
+    }
+
+    private static long getUsedHeap() {
+        for(int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    @Benchmark
+    public int scanList() {
+        int count = 0;
+        for(OWLEntityData data : entityData) {
+            String shortForm = data.getCompactShortForms().getShortForm(ENGLISH);
+            if(shortForm != null && shortForm.startsWith("cell")) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int scanTable() {
+        int count = 0;
+        EntityDataTable.Cursor cursor = table.cursor();
+        while(cursor.next()) {
+            String shortForm = cursor.getShortForm(ENGLISH);
+            if(shortForm != null && shortForm.startsWith("cell")) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public void materializeSample(Blackhole blackhole) {
+        int step = size / SAMPLE_SIZE;
+        for(int row = 0; row < size; row += step) {
+            blackhole.consume(table.getEntityData(row));
+        }
+    }
+}
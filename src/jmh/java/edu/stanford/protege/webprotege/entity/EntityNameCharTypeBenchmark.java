@@ -0,0 +1,81 @@
+package edu.stanford.protege.webprotege.entity;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Compares classifying every character of a batch of labels with the original predicate chain, with the
+ *     table driven {@link EntityNameCharType#getType(int, char, int)}, and with the bulk
+ *     {@link EntityNameCharType#classify(CharSequence, byte[])}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityNameCharTypeBenchmark {
+
+    private static final int LABEL_COUNT = 1000;
+
+    /**
+     * The proportion of labels that contain non-Latin-1 characters
+     */
+    @Param({"0", "20"})
+    public int nonLatinPercentage;
+
+    private String[] labels;
+
+    private byte[] types;
+
+    @Setup
+    public void setUp() {
+        BenchmarkData data = new BenchmarkData(42);
+        labels = new String[LABEL_COUNT];
+        int maxLength = 0;
+        for(int i = 0; i < LABEL_COUNT; i++) {
+            String label = data.nextLabel();
+            if(i % 100 < nonLatinPercentage) {
+                label = label + " \u4e2d\u6587 \u00e9t\u00e9 \uD835\uDC00";
+            }
+            labels[i] = label;
+            maxLength = Math.max(maxLength, label.length());
+        }
+        types = new byte[maxLength];
+    }
+
+    @Benchmark
+    public void legacyGetType(Blackhole blackhole) {
+        for(String label : labels) {
+            int length = label.length();
+            for(int i = 0; i < length; i++) {
+                blackhole.consume(LegacyEntityNameCharTypeClassifier.getType(i, label.charAt(i), length));
+            }
+        }
+    }
+
+    @Benchmark
+    public void getType(Blackhole blackhole) {
+        for(String label : labels) {
+            int length = label.length();
+            for(int i = 0; i < length; i++) {
+                blackhole.consume(EntityNameCharType.getType(i, label.charAt(i), length));
+            }
+        }
+    }
+
+    @Benchmark
+    public void classify(Blackhole blackhole) {
+        for(String label : labels) {
+            int length = EntityNameCharType.classify(label, types);
+            blackhole.consume(types[length - 1]);
+        }
+    }
+}
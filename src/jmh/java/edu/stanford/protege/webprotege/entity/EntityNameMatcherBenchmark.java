@@ -0,0 +1,53 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Measures the time taken by an {@link EntityNameMatcher} to filter a large list of entity data, both
+ *     sequentially and in parallel in the common pool.  Browser text is computed before the measurement.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EntityNameMatcherBenchmark {
+
+    @Param({"500000"})
+    public int entityCount;
+
+    @Param({"NeReOf", "heart att", "cemem", "xyz"})
+    public String query;
+
+    private List<OWLEntityData> entityData;
+
+    private EntityNameMatcher matcher;
+
+    @Setup
+    public void setUp() {
+        entityData = new BenchmarkData(42).nextEntityDataList(entityCount);
+        entityData.forEach(OWLEntityData::getBrowserText);
+        matcher = EntityNameMatcher.get(query);
+    }
+
+    @Benchmark
+    public ImmutableList<OWLEntityData> filter() {
+        return matcher.filter(entityData);
+    }
+
+    @Benchmark
+    public ImmutableList<OWLEntityData> filterInParallel() {
+        return matcher.filter(entityData, ForkJoinPool.commonPool());
+    }
+}
@@ -0,0 +1,59 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableSet;
+import org.openjdk.jmh.annotations.*;
+import org.semanticweb.owlapi.model.IRI;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Compares the single pass {@link FreshEntityIri} parser with the original {@code Splitter} based parser, and
+ *     with extracting just the supplied name.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FreshEntityIriParserBenchmark {
+
+    @Param({"0", "1", "3"})
+    public int parentIriCount;
+
+    private String iri;
+
+    @Setup
+    public void setUp() {
+        ImmutableSet.Builder<IRI> parentIris = ImmutableSet.builder();
+        for(int i = 0; i < parentIriCount; i++) {
+            parentIris.add(IRI.create("http://example.org/anatomy&physiology#Heart" + i));
+        }
+        iri = FreshEntityIri.get("Negative regulation of heart attack",
+                                 "en",
+                                 "12345678-1234-1234-1234-123456789abc",
+                                 parentIris.build())
+                            .getIri()
+                            .toString();
+    }
+
+    @Benchmark
+    public FreshEntityIri legacyParse() {
+        return LegacyFreshEntityIriParser.parse(iri);
+    }
+
+    @Benchmark
+    public FreshEntityIri parse() {
+        return FreshEntityIri.parse(iri);
+    }
+
+    @Benchmark
+    public String suppliedNameOf() {
+        return FreshEntityIri.suppliedNameOf(iri);
+    }
+}
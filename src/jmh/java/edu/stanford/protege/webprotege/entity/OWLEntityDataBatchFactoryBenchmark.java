@@ -0,0 +1,86 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import org.openjdk.jmh.annotations.*;
+import org.semanticweb.owlapi.model.OWLEntity;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Compares creating entity data one entity at a time, with the factory methods on each type of entity data,
+ *     against creating it with {@link OWLEntityDataBatchFactory}, with and without sharing short form strings.
+ *     Batches of the larger size are processed in parallel when more than one processor is available.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OWLEntityDataBatchFactoryBenchmark {
+
+    @Param({"1000", "200000"})
+    public int size;
+
+    private List<OWLEntity> entities;
+
+    private List<ImmutableMap<DictionaryLanguage, String>> shortForms;
+
+    private BitSet deprecated;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var benchmarkData = new BenchmarkData(42);
+        entities = new ArrayList<>(size);
+        shortForms = new ArrayList<>(size);
+        deprecated = new BitSet(size);
+        for(var entityData : benchmarkData.nextEntityDataList(size)) {
+            if(entityData.isDeprecated()) {
+                deprecated.set(entities.size());
+            }
+            entities.add(entityData.getEntity());
+            shortForms.add(entityData.getShortFormsMap());
+        }
+    }
+
+    @Benchmark
+    public List<OWLEntityData> oneAtATime() {
+        var result = ImmutableList.<OWLEntityData>builderWithExpectedSize(size);
+        for(int i = 0; i < size; i++) {
+            var entity = entities.get(i);
+            var entityShortForms = shortForms.get(i);
+            var isDeprecated = deprecated.get(i);
+            switch(PrimitiveType.get(entity.getEntityType())) {
+                case CLASS -> result.add(OWLClassData.get(entity.asOWLClass(), entityShortForms, isDeprecated));
+                case OBJECT_PROPERTY -> result.add(OWLObjectPropertyData.get(entity.asOWLObjectProperty(), entityShortForms, isDeprecated));
+                case DATA_PROPERTY -> result.add(OWLDataPropertyData.get(entity.asOWLDataProperty(), entityShortForms, isDeprecated));
+                case ANNOTATION_PROPERTY -> result.add(OWLAnnotationPropertyData.get(entity.asOWLAnnotationProperty(), entityShortForms, isDeprecated));
+                case NAMED_INDIVIDUAL -> result.add(OWLNamedIndividualData.get(entity.asOWLNamedIndividual(), entityShortForms, isDeprecated));
+                case DATA_TYPE -> result.add(OWLDatatypeData.get(entity.asOWLDatatype(), entityShortForms, isDeprecated));
+                default -> throw new RuntimeException("Unexpected entity " + entity);
+            }
+        }
+        return result.build();
+    }
+
+    @Benchmark
+    public List<OWLEntityData> batch() {
+        return OWLEntityDataBatchFactory.get().create(entities, shortForms, deprecated);
+    }
+
+    @Benchmark
+    public List<OWLEntityData> batchSharingShortForms() {
+        return OWLEntityDataBatchFactory.get(ForkJoinPool.commonPool(), true).create(entities, shortForms, deprecated);
+    }
+}
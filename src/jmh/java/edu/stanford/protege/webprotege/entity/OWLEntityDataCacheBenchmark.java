@@ -0,0 +1,189 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.protege.webprotege.common.AnnotationAssertionDictionaryLanguage;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import edu.stanford.protege.webprotege.common.ProjectId;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.vocab.SKOSVocabulary;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Compares rebuilding entity data from its short forms, as services do for every request, against getting it
+ *     from a warm {@link OWLEntityDataCache}.  The rendering benchmarks also get the browser text, which is memoized
+ *     by cached entity data but is computed again for rebuilt entity data.
+ * </p>
+ * <p>
+ *     Rebuilding from short forms that are already known is cheaper than a cache lookup, so the annotation
+ *     benchmarks also find the short forms, as services do when they render entities from an ontology.  Each entity
+ *     has a label in two languages, a SKOS label, a comment and a definition, and is rendered for a label, a SKOS
+ *     label and its local name, and for whether it is deprecated.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OWLEntityDataCacheBenchmark {
+
+    private static final ImmutableList<DictionaryLanguage> LANGUAGES = ImmutableList.of(DictionaryLanguage.rdfsLabel("en"));
+
+    private static final ImmutableList<DictionaryLanguage> DISPLAY_LANGUAGES = ImmutableList.of(
+            DictionaryLanguage.rdfsLabel("en"),
+            DictionaryLanguage.skosPrefLabel("de"),
+            DictionaryLanguage.localName());
+
+    @Param({"1000"})
+    public int size;
+
+    private final ProjectId projectId = ProjectId.generate();
+
+    private List<OWLEntityData> entityData;
+
+    private List<ImmutableMap<DictionaryLanguage, String>> shortForms;
+
+    private final Map<IRI, List<OWLAnnotationAssertionAxiom>> annotationAssertions = new HashMap<>();
+
+    private OWLEntityDataCache cache;
+
+    private OWLDataFactory dataFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkData benchmarkData = new BenchmarkData(42);
+        dataFactory = benchmarkData.getDataFactory();
+        OWLAnnotationProperty skosPrefLabel = dataFactory.getOWLAnnotationProperty(SKOSVocabulary.PREFLABEL.getIRI());
+        OWLAnnotationProperty definition = dataFactory.getOWLAnnotationProperty(SKOSVocabulary.DEFINITION.getIRI());
+        entityData = benchmarkData.nextEntityDataList(size);
+        shortForms = new ArrayList<>(size);
+        cache = OWLEntityDataCache.create();
+        for(OWLEntityData data : entityData) {
+            shortForms.add(data.getShortFormsMap());
+            cache.put(projectId, LANGUAGES, data);
+            IRI iri = data.getEntity().getIRI();
+            List<OWLAnnotationAssertionAxiom> axioms = annotationAssertions.computeIfAbsent(iri, i -> new ArrayList<>());
+            axioms.add(newAnnotationAssertion(dataFactory.getRDFSComment(), iri, benchmarkData.nextLabel(), "en"));
+            axioms.add(newAnnotationAssertion(dataFactory.getRDFSLabel(), iri, benchmarkData.nextLabel(), "fr"));
+            axioms.add(newAnnotationAssertion(dataFactory.getRDFSLabel(), iri, data.getBrowserText(), "en"));
+            axioms.add(newAnnotationAssertion(definition, iri, benchmarkData.nextLabel(), "en"));
+            axioms.add(newAnnotationAssertion(skosPrefLabel, iri, benchmarkData.nextLabel(), "de"));
+            if(data.isDeprecated()) {
+                axioms.add(dataFactory.getDeprecatedOWLAnnotationAssertionAxiom(iri));
+            }
+        }
+        for(int i = 0; i < size; i++) {
+            cache.put(projectId, DISPLAY_LANGUAGES, renderFromAnnotations(i));
+        }
+    }
+
+    private OWLAnnotationAssertionAxiom newAnnotationAssertion(OWLAnnotationProperty property,
+                                                               IRI subject,
+                                                               String value,
+                                                               String lang) {
+        return dataFactory.getOWLAnnotationAssertionAxiom(property, subject, dataFactory.getOWLLiteral(value, lang));
+    }
+
+    @Benchmark
+    public void rebuild(Blackhole blackhole) {
+        for(int i = 0; i < size; i++) {
+            blackhole.consume(rebuild(i));
+        }
+    }
+
+    @Benchmark
+    public void cached(Blackhole blackhole) {
+        for(int i = 0; i < size; i++) {
+            int index = i;
+            OWLEntityData data = entityData.get(i);
+            blackhole.consume(cache.get(projectId, data.getEntity(), LANGUAGES, () -> rebuild(index)));
+        }
+    }
+
+    @Benchmark
+    public void rebuildAndRender(Blackhole blackhole) {
+        for(int i = 0; i < size; i++) {
+            blackhole.consume(rebuild(i).getBrowserText());
+        }
+    }
+
+    @Benchmark
+    public void cachedAndRender(Blackhole blackhole) {
+        for(int i = 0; i < size; i++) {
+            int index = i;
+            OWLEntityData data = entityData.get(i);
+            blackhole.consume(cache.get(projectId, data.getEntity(), LANGUAGES, () -> rebuild(index)).getBrowserText());
+        }
+    }
+
+    @Benchmark
+    public void renderFromAnnotations(Blackhole blackhole) {
+        for(int i = 0; i < size; i++) {
+            blackhole.consume(renderFromAnnotations(i).getBrowserText());
+        }
+    }
+
+    @Benchmark
+    public void cachedAndRenderFromAnnotations(Blackhole blackhole) {
+        for(int i = 0; i < size; i++) {
+            int index = i;
+            OWLEntityData data = entityData.get(i);
+            blackhole.consume(cache.get(projectId, data.getEntity(), DISPLAY_LANGUAGES,
+                                        () -> renderFromAnnotations(index)).getBrowserText());
+        }
+    }
+
+    private OWLEntityData renderFromAnnotations(int index) {
+        OWLEntityData data = entityData.get(index);
+        IRI iri = data.getEntity().getIRI();
+        List<OWLAnnotationAssertionAxiom> axioms = annotationAssertions.get(iri);
+        Map<DictionaryLanguage, String> shortForms = new LinkedHashMap<>();
+        for(DictionaryLanguage language : DISPLAY_LANGUAGES) {
+            if(language instanceof AnnotationAssertionDictionaryLanguage) {
+                IRI property = ((AnnotationAssertionDictionaryLanguage) language).getAnnotationPropertyIri();
+                for(OWLAnnotationAssertionAxiom axiom : axioms) {
+                    if(axiom.getProperty().getIRI().equals(property)
+                            && axiom.getValue() instanceof OWLLiteral
+                            && ((OWLLiteral) axiom.getValue()).hasLang(language.getLang())) {
+                        shortForms.putIfAbsent(language, ((OWLLiteral) axiom.getValue()).getLiteral());
+                    }
+                }
+            }
+            else {
+                shortForms.put(language, iri.getShortForm());
+            }
+        }
+        boolean deprecated = false;
+        for(OWLAnnotationAssertionAxiom axiom : axioms) {
+            if(axiom.isDeprecatedIRIAssertion()) {
+                deprecated = true;
+            }
+        }
+        return (OWLEntityData) OWLPrimitiveData.get(data.getType(),
+                                                    iri,
+                                                    CompactShortForms.get(shortForms),
+                                                    deprecated);
+    }
+
+    private OWLEntityData rebuild(int index) {
+        OWLEntityData data = entityData.get(index);
+        return (OWLEntityData) OWLPrimitiveData.get(data.getType(),
+                                                    data.getEntity().getIRI(),
+                                                    CompactShortForms.get(shortForms.get(index)),
+                                                    data.isDeprecated());
+    }
+}
@@ -0,0 +1,47 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Measures the latency of fuzzy searches against an {@link OWLEntityDataFuzzyIndex} of a synthetic ontology
+ *     with a million entities, for queries with and without typos.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class OWLEntityDataFuzzyIndexBenchmark {
+
+    private static final int LIMIT = 20;
+
+    @Param({"1000000"})
+    public int entityCount;
+
+    @Param({"1", "2"})
+    public int maxDistance;
+
+    @Param({"haert atack", "regualtion", "mitochondral membrane", "cell"})
+    public String query;
+
+    private OWLEntityDataFuzzyIndex index;
+
+    @Setup
+    public void setUp() {
+        index = OWLEntityDataFuzzyIndex.create(new BenchmarkData(42).nextEntityDataList(entityCount));
+    }
+
+    @Benchmark
+    public ImmutableList<OWLEntityData> search() {
+        return index.search(query, maxDistance, LIMIT);
+    }
+}
@@ -0,0 +1,68 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Measures the latency of autocomplete queries against an {@link OWLEntityDataPrefixIndex}, and compares it
+ *     with scanning the lower case browser text of every entity for the query.  The scan is a lower bound for
+ *     a scan based search, since it does not check that matches are at the start of a word or rank them.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class OWLEntityDataPrefixIndexBenchmark {
+
+    private static final int LIMIT = 20;
+
+    @Param({"100000", "1000000"})
+    public int entityCount;
+
+    @Param({"hea", "regulation of", "go_000"})
+    public String query;
+
+    private OWLEntityDataPrefixIndex index;
+
+    private List<OWLEntityData> entityData;
+
+    private String[] lowerCaseBrowserText;
+
+    @Setup
+    public void setUp() {
+        entityData = new BenchmarkData(42).nextEntityDataList(entityCount);
+        index = OWLEntityDataPrefixIndex.create(entityData);
+        lowerCaseBrowserText = new String[entityCount];
+        for(int i = 0; i < entityCount; i++) {
+            lowerCaseBrowserText[i] = entityData.get(i).getBrowserText().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    @Benchmark
+    public ImmutableList<OWLEntityData> search() {
+        return index.search(query, LIMIT);
+    }
+
+    @Benchmark
+    public List<OWLEntityData> scan() {
+        List<OWLEntityData> matches = new ArrayList<>(LIMIT);
+        for(int i = 0; i < lowerCaseBrowserText.length && matches.size() < LIMIT; i++) {
+            if(lowerCaseBrowserText[i].contains(query)) {
+                matches.add(entityData.get(i));
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,140 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Deserializes a synthetic set of entity data responses that contain {@link #entityCount} references to a
+ *     smaller vocabulary of entities, as hierarchy and search responses do, and measures the time to deserialize
+ *     them with and without an {@link OWLEntityInterningPool}.  The heap that is retained by the deserialized
+ *     data (and by the pool, which is kept for the lifetime of a service) is printed during setup for each
+ *     {@link #interning} mode.  The heap that is retained by the pool alone, once the data has been released, is
+ *     printed as well.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class OWLEntityInterningPoolBenchmark {
+
+    private static final int RESPONSE_SIZE = 1000;
+
+    private static final int MAXIMUM_INTERNED_SHORT_FORM_LENGTH = 64;
+
+    private static final TypeReference<List<OWLPrimitiveData>> LIST_TYPE = new TypeReference<>() {};
+
+    @Param({"1000000"})
+    public int entityCount;
+
+    /**
+     * The number of references to each distinct entity
+     */
+    @Param({"4"})
+    public int referencesPerEntity;
+
+    /**
+     * NONE, ENTITIES (IRIs and entities) or SHORT_FORMS (IRIs, entities and short forms)
+     */
+    @Param({"NONE", "ENTITIES", "SHORT_FORMS"})
+    public String interning;
+
+    private ObjectMapper objectMapper;
+
+    private List<byte[]> responses;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = BenchmarkData.createObjectMapper();
+        objectMapper.registerModule(new OWLPrimitiveDataModule());
+        ObjectWriter writer = objectMapper.writerFor(LIST_TYPE);
+        List<OWLEntityData> vocabulary = new BenchmarkData(42).nextEntityDataList(entityCount / referencesPerEntity);
+        Random random = new Random(42);
+        responses = new ArrayList<>(entityCount / RESPONSE_SIZE);
+        List<OWLPrimitiveData> response = new ArrayList<>(RESPONSE_SIZE);
+        for(int i = 0; i < entityCount; i++) {
+            response.add(vocabulary.get(random.nextInt(vocabulary.size())));
+            if(response.size() == RESPONSE_SIZE) {
+                responses.add(writer.writeValueAsBytes(response));
+                response.clear();
+            }
+        }
+        vocabulary = null;
+        long before = getRetainedHeap();
+        OWLEntityInterningPool pool = createPool();
+        List<List<OWLPrimitiveData>> deserialized = deserializeAll(createReader(pool));
+        long retained = getRetainedHeap() - before;
+        System.out.printf("%nInterning %s: %d entity data retain %,d bytes (%.1f bytes per entity data)%n",
+                          interning, entityCount, retained, (double) retained / entityCount);
+        // Keep the data reachable until the heap has been measured
+        if(deserialized.size() != responses.size()) {
+            throw new IllegalStateException();
+        }
+        deserialized = null;
+        long retainedByPool = getRetainedHeap() - before;
+        if(pool != null) {
+            System.out.printf("Interning %s: %s%n", interning, pool.getStats());
+            System.out.printf("Interning %s: after the data is released the pool retains %,d bytes%n",
+                              interning, retainedByPool);
+        }
+    }
+
+    private OWLEntityInterningPool createPool() {
+        switch (interning) {
+            case "NONE":
+                return null;
+            case "ENTITIES":
+                return OWLEntityInterningPool.create();
+            case "SHORT_FORMS":
+                return OWLEntityInterningPool.create(OWLEntityInterningPool.DEFAULT_MAXIMUM_SIZE,
+                                                     MAXIMUM_INTERNED_SHORT_FORM_LENGTH);
+            default:
+                throw new RuntimeException("Unknown interning mode " + interning);
+        }
+    }
+
+    private ObjectReader createReader(OWLEntityInterningPool pool) {
+        if(pool == null) {
+            return objectMapper.readerFor(LIST_TYPE);
+        }
+        return objectMapper.copy()
+                           .registerModule(new OWLPrimitiveDataInterningModule(pool))
+                           .readerFor(LIST_TYPE);
+    }
+
+    private List<List<OWLPrimitiveData>> deserializeAll(ObjectReader reader) throws IOException {
+        List<List<OWLPrimitiveData>> deserialized = new ArrayList<>(responses.size());
+        for(byte[] json : responses) {
+            deserialized.add(reader.readValue(json));
+        }
+        return deserialized;
+    }
+
+    private static long getRetainedHeap() {
+        for(int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    @Benchmark
+    public List<List<OWLPrimitiveData>> deserialize() throws IOException {
+        return deserializeAll(createReader(createPool()));
+    }
+}
@@ -0,0 +1,81 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Compares encoding and decoding lists of primitive data as JSON against {@link OWLPrimitiveDataBinaryCodec}.
+ *     The encoded sizes for each format are printed when the benchmark is set up.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OWLPrimitiveDataBinaryCodecBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private final OWLPrimitiveDataBinaryCodec codec = OWLPrimitiveDataBinaryCodec.get();
+
+    private ObjectWriter writer;
+
+    private ObjectReader reader;
+
+    private List<OWLPrimitiveData> data;
+
+    private byte[] json;
+
+    private byte[] binary;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        var objectMapper = BenchmarkData.createObjectMapper();
+        var listType = new TypeReference<List<OWLPrimitiveData>>() {};
+        writer = objectMapper.writerFor(listType);
+        reader = objectMapper.readerFor(listType);
+        var benchmarkData = new BenchmarkData(42);
+        data = new ArrayList<>(benchmarkData.nextEntityDataList(size - size / 10));
+        for(int i = data.size(); i < size; i++) {
+            data.add(benchmarkData.nextPrimitiveData(PrimitiveType.LITERAL));
+        }
+        json = writer.writeValueAsBytes(data);
+        binary = codec.encode(data);
+        System.out.printf("%nSize %d: JSON %d bytes, binary %d bytes (%.1f%%)%n",
+                          size, json.length, binary.length, 100.0 * binary.length / json.length);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() throws IOException {
+        return writer.writeValueAsBytes(data);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return codec.encode(data);
+    }
+
+    @Benchmark
+    public List<OWLPrimitiveData> jsonDecode() throws IOException {
+        return reader.readValue(json);
+    }
+
+    @Benchmark
+    public List<OWLPrimitiveData> binaryDecode() throws IOException {
+        return codec.decode(binary);
+    }
+}
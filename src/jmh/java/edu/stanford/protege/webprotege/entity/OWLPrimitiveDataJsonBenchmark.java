@@ -0,0 +1,86 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Measures JSON serialization and deserialization throughput for each {@link OWLPrimitiveData} subtype.
+ *     Deserialization goes through the polymorphic {@link OWLPrimitiveData} reader, which is how entity data
+ *     arrives in services, and so exercises the {@code @JsonCreator} factory methods such as
+ *     {@code OWLClassData.get(String iri, ...)}, unless {@link #handWritten} is set, in which case the
+ *     {@link OWLPrimitiveDataModule} serializers and deserializers are used.  Run with {@code -prof gc} to see
+ *     allocation rates.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OWLPrimitiveDataJsonBenchmark {
+
+    private static final int SAMPLE_SIZE = 1024;
+
+    @Param({"CLASS", "OBJECT_PROPERTY", "DATA_PROPERTY", "ANNOTATION_PROPERTY", "NAMED_INDIVIDUAL", "DATA_TYPE", "IRI", "LITERAL"})
+    public PrimitiveType type;
+
+    @Param({"false", "true"})
+    public boolean handWritten;
+
+    private ObjectWriter writer;
+
+    private ObjectReader reader;
+
+    private OWLPrimitiveData[] data;
+
+    private byte[][] json;
+
+    private int counter = 0;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = BenchmarkData.createObjectMapper();
+        if(handWritten) {
+            objectMapper.registerModule(new OWLPrimitiveDataModule());
+        }
+        writer = objectMapper.writerFor(OWLPrimitiveData.class);
+        reader = objectMapper.readerFor(OWLPrimitiveData.class);
+        BenchmarkData benchmarkData = new BenchmarkData(type.ordinal());
+        data = new OWLPrimitiveData[SAMPLE_SIZE];
+        json = new byte[SAMPLE_SIZE][];
+        for(int i = 0; i < SAMPLE_SIZE; i++) {
+            data[i] = benchmarkData.nextPrimitiveData(type);
+            json[i] = writer.writeValueAsBytes(data[i]);
+        }
+    }
+
+    private int nextIndex() {
+        counter = (counter + 1) & (SAMPLE_SIZE - 1);
+        return counter;
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(data[nextIndex()]);
+    }
+
+    @Benchmark
+    public OWLPrimitiveData deserialize() throws IOException {
+        return reader.readValue(json[nextIndex()]);
+    }
+
+    @Benchmark
+    public OWLPrimitiveData roundTrip() throws IOException {
+        return reader.readValue(writer.writeValueAsBytes(data[nextIndex()]));
+    }
+}
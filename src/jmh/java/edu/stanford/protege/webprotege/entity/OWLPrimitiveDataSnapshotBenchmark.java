@@ -0,0 +1,98 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
+import org.openjdk.jmh.annotations.*;
+import org.semanticweb.owlapi.model.IRI;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Measures opening an {@link OWLPrimitiveDataSnapshot} of {@link #size} entity data records, and getting
+ *     records from it by ordinal and by IRI.  The time to write the snapshot and its file size are printed during
+ *     setup.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class OWLPrimitiveDataSnapshotBenchmark {
+
+    private static final int SAMPLE_SIZE = 1024;
+
+    @Param({"1000000"})
+    public int size;
+
+    private Path path;
+
+    private OWLPrimitiveDataSnapshot snapshot;
+
+    private int[] ordinals;
+
+    private IRI[] iris;
+
+    private int counter = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<OWLEntityData> entityData = new BenchmarkData(42).nextEntityDataList(size);
+        path = Files.createTempFile("snapshot", ".bin");
+        long start = System.nanoTime();
+        OWLPrimitiveDataSnapshot.write(entityData, path);
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%nWrote %d records in %d ms to %,d bytes (%.1f bytes per record)%n",
+                          size, TimeUnit.NANOSECONDS.toMillis(elapsed), Files.size(path),
+                          (double) Files.size(path) / size);
+        snapshot = OWLPrimitiveDataSnapshot.open(path);
+        // Some generated IRIs are shared by thousands of records, so IRIs are sampled from the unique ones
+        Multiset<IRI> iriCounts = HashMultiset.create();
+        entityData.forEach(data -> iriCounts.add(data.getEntity().getIRI()));
+        ordinals = new int[SAMPLE_SIZE];
+        iris = new IRI[SAMPLE_SIZE];
+        for(int i = 0; i < SAMPLE_SIZE; i++) {
+            int ordinal = (int) ((long) i * size / SAMPLE_SIZE);
+            while(iriCounts.count(entityData.get(ordinal).getEntity().getIRI()) > 1) {
+                ordinal++;
+            }
+            ordinals[i] = ordinal;
+            iris[i] = entityData.get(ordinal).getEntity().getIRI();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        snapshot = null;
+        Files.deleteIfExists(path);
+    }
+
+    private int nextIndex() {
+        counter = (counter + 1) & (SAMPLE_SIZE - 1);
+        return counter;
+    }
+
+    @Benchmark
+    public OWLPrimitiveDataSnapshot open() throws IOException {
+        return OWLPrimitiveDataSnapshot.open(path);
+    }
+
+    @Benchmark
+    public OWLPrimitiveData getByOrdinal() {
+        return snapshot.get(ordinals[nextIndex()]);
+    }
+
+    @Benchmark
+    public List<OWLPrimitiveData> getByIri() {
+        return snapshot.getByIri(iris[nextIndex()]);
+    }
+}
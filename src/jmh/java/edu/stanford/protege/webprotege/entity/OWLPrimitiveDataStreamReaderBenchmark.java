@@ -0,0 +1,57 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Compares materializing a large JSON array of entity data as a list against reading it one element at a
+ *     time with {@link OWLPrimitiveDataStreamReader}.  Run with {@code -prof gc} to compare allocation.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OWLPrimitiveDataStreamReaderBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+
+    private OWLPrimitiveDataStreamReader<OWLEntityData> streamReader;
+
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = BenchmarkData.createObjectMapper();
+        streamReader = OWLPrimitiveDataStreamReader.get(objectMapper, OWLEntityData.class);
+        List<OWLEntityData> entityData = new BenchmarkData(42).nextEntityDataList(size);
+        json = objectMapper.writerFor(new TypeReference<List<OWLEntityData>>() {}).writeValueAsBytes(entityData);
+    }
+
+    @Benchmark
+    public void readList(Blackhole blackhole) throws IOException {
+        List<OWLEntityData> entityData = objectMapper.readValue(json, new TypeReference<List<OWLEntityData>>() {});
+        entityData.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public long readStream(Blackhole blackhole) throws IOException {
+        return streamReader.forEach(new ByteArrayInputStream(json), blackhole::consume);
+    }
+}
@@ -0,0 +1,100 @@
+package edu.stanford.protege.webprotege.entity;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Compares sorting entity data with {@link Collections#sort(List)} and the existing comparators against
+ *     sorting with precomputed keys using {@link PrimitiveDataSorter}.  The legacy benchmark sorts with the
+ *     previous implementation of {@link OWLEntityData#compareToIgnorePrefixNames(OWLEntityData)}, which copied
+ *     the browser text of both arguments on every comparison.  Run with {@code -prof gc} to compare allocation.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrimitiveDataSorterBenchmark {
+
+    @Param({"1000", "200000"})
+    public int size;
+
+    private List<OWLEntityData> entityData;
+
+    private List<OWLEntityData> workingCopy;
+
+    private final PrimitiveDataSorter caseFoldingSorter = PrimitiveDataSorter.get();
+
+    private final PrimitiveDataSorter collatingSorter = PrimitiveDataSorter.get(Locale.ENGLISH);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entityData = new BenchmarkData(42).nextEntityDataList(size);
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        workingCopy = new ArrayList<>(entityData);
+    }
+
+    @Benchmark
+    public List<OWLEntityData> collectionsSort() {
+        Collections.sort(workingCopy);
+        return workingCopy;
+    }
+
+    @Benchmark
+    public List<OWLEntityData> collectionsSortIgnoringPrefixNames() {
+        workingCopy.sort(OWLEntityData::compareToIgnorePrefixNames);
+        return workingCopy;
+    }
+
+    @Benchmark
+    public List<OWLEntityData> legacyCollectionsSortIgnoringPrefixNames() {
+        workingCopy.sort(PrimitiveDataSorterBenchmark::legacyCompareToIgnorePrefixNames);
+        return workingCopy;
+    }
+
+    @Benchmark
+    public List<OWLEntityData> collectionsSortByUnquotedBrowserText() {
+        workingCopy.sort(OWLEntityData.UNQUOTED_BROWSER_TEXT_ORDER);
+        return workingCopy;
+    }
+
+    @Benchmark
+    public List<OWLEntityData> sorter() {
+        caseFoldingSorter.sort(workingCopy);
+        return workingCopy;
+    }
+
+    @Benchmark
+    public List<OWLEntityData> sorterIgnoringPrefixNames() {
+        caseFoldingSorter.sortIgnoringPrefixNames(workingCopy);
+        return workingCopy;
+    }
+
+    @Benchmark
+    public List<OWLEntityData> collatingSorter() {
+        collatingSorter.sort(workingCopy);
+        return workingCopy;
+    }
+
+    private static int legacyCompareToIgnorePrefixNames(OWLEntityData first, OWLEntityData second) {
+        int prefixSepIndex = first.getPrefixSeparatorIndex();
+        String comparisonString = first.getBrowserText().substring(prefixSepIndex != -1 ? prefixSepIndex : 0);
+        int otherPrefixSepIndex = second.getPrefixSeparatorIndex();
+        String otherComparisonString = second.getBrowserText().substring(otherPrefixSepIndex != -1 ? otherPrefixSepIndex : 0);
+        return comparisonString.compareToIgnoreCase(otherComparisonString);
+    }
+}
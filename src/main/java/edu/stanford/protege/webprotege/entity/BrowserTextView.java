@@ -0,0 +1,188 @@
+package edu.stanford.protege.webprotege.entity;
+
+import javax.annotation.Nonnull;
+import java.util.Comparator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     A read-only view of a region of a browser text string, such as the browser text without its quotes or without
+ *     its prefix name.  Creating a view does not copy any characters, and views can be compared ignoring case
+ *     without being copied.  {@link #toString()} copies the region if it is not the whole string.
+ * </p>
+ */
+public final class BrowserTextView implements CharSequence, Comparable<BrowserTextView> {
+
+    /**
+     * Orders views in the same way as {@link String#compareToIgnoreCase(String)} orders the strings that they view.
+     */
+    public static final Comparator<BrowserTextView> CASE_INSENSITIVE_ORDER = BrowserTextView::compareToIgnoreCase;
+
+    private final String text;
+
+    private final int start;
+
+    private final int end;
+
+    private BrowserTextView(String text, int start, int end) {
+        this.text = text;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Gets a view of the specified region of the specified text.
+     * @param text The text.
+     * @param start The index of the first character in the view.
+     * @param end The index after the last character in the view.
+     * @throws IndexOutOfBoundsException if the region is not within the text.
+     */
+    @Nonnull
+    public static BrowserTextView get(@Nonnull String text, int start, int end) {
+        checkNotNull(text);
+        checkPositionIndexes(start, end, text.length());
+        return new BrowserTextView(text, start, end);
+    }
+
+    /**
+     * Gets the text that this is a view of.
+     */
+    @Nonnull
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Gets the index in the text of the first character in this view.
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * Gets the index in the text after the last character in this view.
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if(index < 0 || index >= end - start) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + (end - start));
+        }
+        return text.charAt(start + index);
+    }
+
+    @Nonnull
+    @Override
+    public BrowserTextView subSequence(int start, int end) {
+        checkPositionIndexes(start, end, this.end - this.start);
+        return new BrowserTextView(text, this.start + start, this.start + end);
+    }
+
+    /**
+     * Compares the characters in this view with the characters in another view, in the same way as
+     * {@link String#compareTo(String)}.
+     */
+    @Override
+    public int compareTo(@Nonnull BrowserTextView other) {
+        int length = end - start;
+        int otherLength = other.end - other.start;
+        int minLength = Math.min(length, otherLength);
+        for(int i = 0; i < minLength; i++) {
+            char ch = text.charAt(start + i);
+            char otherCh = other.text.charAt(other.start + i);
+            if(ch != otherCh) {
+                return ch - otherCh;
+            }
+        }
+        return length - otherLength;
+    }
+
+    /**
+     * Compares the characters in this view with the characters in another view, ignoring case, in the same way as
+     * {@link String#compareToIgnoreCase(String)}.
+     */
+    public int compareToIgnoreCase(@Nonnull BrowserTextView other) {
+        return compareIgnoreCase(text, start, end, other.text, other.start, other.end);
+    }
+
+    /**
+     * Compares regions of two strings ignoring case.  The result is the same as the result of
+     * {@code text.substring(start, end).compareToIgnoreCase(otherText.substring(otherStart, otherEnd))}, but
+     * the regions are only copied if they differ at a surrogate character.
+     */
+    static int compareIgnoreCase(String text, int start, int end,
+                                 String otherText, int otherStart, int otherEnd) {
+        int length = end - start;
+        int otherLength = otherEnd - otherStart;
+        int minLength = Math.min(length, otherLength);
+        for(int i = 0; i < minLength; i++) {
+            char ch = text.charAt(start + i);
+            char otherCh = otherText.charAt(otherStart + i);
+            if(ch == otherCh) {
+                continue;
+            }
+            if(Character.isSurrogate(ch) || Character.isSurrogate(otherCh)) {
+                // Supplementary characters are compared as code points, which is rare enough to delegate
+                return text.substring(start, end).compareToIgnoreCase(otherText.substring(otherStart, otherEnd));
+            }
+            ch = Character.toUpperCase(ch);
+            otherCh = Character.toUpperCase(otherCh);
+            if(ch != otherCh) {
+                ch = Character.toLowerCase(ch);
+                otherCh = Character.toLowerCase(otherCh);
+                if(ch != otherCh) {
+                    return ch - otherCh;
+                }
+            }
+        }
+        return length - otherLength;
+    }
+
+    /**
+     * Determines whether this view has the same characters as another view.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if(o == this) {
+            return true;
+        }
+        if(!(o instanceof BrowserTextView)) {
+            return false;
+        }
+        BrowserTextView other = (BrowserTextView) o;
+        int length = end - start;
+        return length == other.end - other.start && text.regionMatches(start, other.text, other.start, length);
+    }
+
+    /**
+     * Gets the hash code of the characters in this view.  This is the same as the hash code of the
+     * {@link String} returned by {@link #toString()}.
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for(int i = start; i < end; i++) {
+            hashCode = 31 * hashCode + text.charAt(i);
+        }
+        return hashCode;
+    }
+
+    @Nonnull
+    @Override
+    public String toString() {
+        return text.substring(start, end);
+    }
+}
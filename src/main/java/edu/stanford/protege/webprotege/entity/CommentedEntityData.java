@@ -1,11 +1,17 @@
 package edu.stanford.protege.webprotege.entity;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
 import edu.stanford.protege.webprotege.common.UserId;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
+import javax.annotation.Nullable;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -13,6 +19,9 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * Matthew Horridge
  * Stanford Center for Biomedical Informatics Research
  * 8 Mar 2017
+ * <p>
+ *     A summary of the comments on an entity.  Instances are immutable.
+ * </p>
  */
 public class CommentedEntityData implements  Comparable<CommentedEntityData> {
 
@@ -23,28 +32,27 @@ public class CommentedEntityData implements  Comparable<CommentedEntityData> {
                       .thenComparing(Comparator.naturalOrder());
 
 
-    private OWLEntityData entityData;
+    private final OWLEntityData entityData;
 
-    private int totalThreadCount;
+    private final int totalThreadCount;
 
-    private int openThreadCount;
+    private final int openThreadCount;
 
-    private int totalCommentCount;
+    private final int totalCommentCount;
 
-    private long lastModified;
+    private final long lastModified;
 
-    private UserId lastModifiedBy;
+    private final UserId lastModifiedBy;
 
-    private List<UserId> partipants;
+    private final ImmutableList<UserId> partipants;
 
-    private static final transient Comparator<CommentedEntityData> comparator =
-            Comparator.comparing((CommentedEntityData c) -> c.getOpenThreadCount() > 0)
-                      .reversed()
-                      .thenComparing(c -> c.getEntityData().getBrowserText().toLowerCase());
-
-
-    private CommentedEntityData() {
-    }
+    /**
+     * The lower cased browser text of the entity, which is the secondary sort key of the natural ordering.
+     * This is computed when it is first needed.  Racy initialisation is harmless because every thread computes
+     * an equal value.
+     */
+    @Nullable
+    private transient String lowerCaseBrowserText;
 
     public CommentedEntityData(@Nonnull OWLEntityData entityData,
                                int totalThreadCount,
@@ -59,7 +67,24 @@ public class CommentedEntityData implements  Comparable<CommentedEntityData> {
         this.totalCommentCount = totalCommentCount;
         this.lastModified = lastModified;
         this.lastModifiedBy = checkNotNull(lastModifiedBy);
-        this.partipants = new ArrayList<>(participants);
+        this.partipants = ImmutableList.copyOf(participants);
+    }
+
+    @JsonCreator
+    private static CommentedEntityData get(@JsonProperty("entityData") @Nonnull OWLEntityData entityData,
+                                           @JsonProperty("totalThreadCount") int totalThreadCount,
+                                           @JsonProperty("openThreadCount") int openThreadCount,
+                                           @JsonProperty("totalCommentCount") int totalCommentCount,
+                                           @JsonProperty("lastModified") long lastModified,
+                                           @JsonProperty("lastModifiedBy") @Nonnull UserId lastModifiedBy,
+                                           @JsonProperty("partipants") @Nullable List<UserId> participants) {
+        return new CommentedEntityData(entityData,
+                                       totalThreadCount,
+                                       openThreadCount,
+                                       totalCommentCount,
+                                       lastModified,
+                                       lastModifiedBy,
+                                       Objects.requireNonNullElse(participants, ImmutableList.of()));
     }
 
     @Nonnull
@@ -88,12 +113,74 @@ public class CommentedEntityData implements  Comparable<CommentedEntityData> {
         return lastModifiedBy;
     }
 
+    /**
+     * Gets the participants.  The returned list is immutable and is not copied.
+     */
+    @Nonnull
     public List<UserId> getPartipants() {
-        return new ArrayList<>(partipants);
+        return partipants;
+    }
+
+    @JsonIgnore
+    @Nonnull
+    String getLowerCaseBrowserText() {
+        String text = lowerCaseBrowserText;
+        if(text == null) {
+            text = entityData.getBrowserText().toLowerCase();
+            lowerCaseBrowserText = text;
+        }
+        return text;
     }
 
     @Override
     public int compareTo(@Nonnull CommentedEntityData o) {
-        return comparator.compare(this, o);
+        boolean open = openThreadCount > 0;
+        boolean otherOpen = o.openThreadCount > 0;
+        if(open != otherOpen) {
+            return open ? -1 : 1;
+        }
+        return getLowerCaseBrowserText().compareTo(o.getLowerCaseBrowserText());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if(obj == this) {
+            return true;
+        }
+        if(!(obj instanceof CommentedEntityData)) {
+            return false;
+        }
+        CommentedEntityData other = (CommentedEntityData) obj;
+        return totalThreadCount == other.totalThreadCount
+                && openThreadCount == other.openThreadCount
+                && totalCommentCount == other.totalCommentCount
+                && lastModified == other.lastModified
+                && entityData.equals(other.entityData)
+                && lastModifiedBy.equals(other.lastModifiedBy)
+                && partipants.equals(other.partipants);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entityData,
+                            totalThreadCount,
+                            openThreadCount,
+                            totalCommentCount,
+                            lastModified,
+                            lastModifiedBy,
+                            partipants);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper("CommentedEntityData")
+                          .add("entityData", entityData)
+                          .add("totalThreadCount", totalThreadCount)
+                          .add("openThreadCount", openThreadCount)
+                          .add("totalCommentCount", totalCommentCount)
+                          .add("lastModified", lastModified)
+                          .add("lastModifiedBy", lastModifiedBy)
+                          .add("participants", partipants)
+                          .toString();
     }
 }
@@ -0,0 +1,266 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Striped;
+import edu.stanford.protege.webprotege.common.UserId;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLEntity;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Maintains a {@link CommentedEntityData} summary for each commented entity from a stream of discussion
+ *     events, so that the summaries do not have to be recomputed by scanning every thread.  The aggregator can
+ *     be seeded with summaries that were computed by a scan and then kept up to date with events.
+ * </p>
+ * <p>
+ *     Summaries are held in a concurrent map.  Each event replaces the summary for its entity with a new
+ *     (immutable) summary while holding a lock that is striped by entity, so events for different entities
+ *     can be applied concurrently and events for the same entity are never lost.  Snapshots can be taken at any
+ *     time.  A snapshot contains the latest summary for each entity, but summaries for different entities may
+ *     reflect events up to slightly different points in time.
+ * </p>
+ * <p>
+ *     The entity data that is supplied with an event is only used to create the summary for an entity that does
+ *     not have one.  After that the entity data in the summary is only replaced by
+ *     {@link #refreshEntityData(Collection, Function)}, so an event that carries entity data that was rendered
+ *     before a label change cannot undo a refresh.
+ * </p>
+ * <p>
+ *     Creating a thread does not count as adding a comment.  The first comment in a thread should be reported
+ *     with {@link #commentAdded(OWLEntityData, UserId, long)}.
+ * </p>
+ */
+public final class CommentedEntityDataAggregator {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final ConcurrentMap<OWLEntity, CommentedEntityData> summaries = new ConcurrentHashMap<>();
+
+    private final Striped<Lock> locks = Striped.lock(LOCK_STRIPES);
+
+    private CommentedEntityDataAggregator() {
+    }
+
+    /**
+     * Creates an aggregator with no summaries.
+     */
+    @Nonnull
+    public static CommentedEntityDataAggregator create() {
+        return new CommentedEntityDataAggregator();
+    }
+
+    /**
+     * Creates an aggregator that is seeded with the specified summaries.
+     * @param summaries The summaries.  If there is more than one summary for an entity then the last one is used.
+     */
+    @Nonnull
+    public static CommentedEntityDataAggregator create(@Nonnull Collection<CommentedEntityData> summaries) {
+        CommentedEntityDataAggregator aggregator = new CommentedEntityDataAggregator();
+        for(CommentedEntityData summary : summaries) {
+            aggregator.summaries.put(summary.getEntityData().getEntity(), summary);
+        }
+        return aggregator;
+    }
+
+    /**
+     * Records that a thread was created for an entity.
+     * @param entityData The entity.  This is only used as the entity data of the summary if the entity does not
+     *                   have a summary.
+     * @param createdBy The user that created the thread.
+     * @param timestamp The time at which the thread was created.
+     */
+    public void threadCreated(@Nonnull OWLEntityData entityData, @Nonnull UserId createdBy, long timestamp) {
+        update(entityData, createdBy, timestamp, 1, 1, 0, false);
+    }
+
+    /**
+     * Records that an open thread for an entity was closed.
+     */
+    public void threadClosed(@Nonnull OWLEntityData entityData, @Nonnull UserId closedBy, long timestamp) {
+        update(entityData, closedBy, timestamp, 0, -1, 0, false);
+    }
+
+    /**
+     * Records that a closed thread for an entity was reopened.
+     */
+    public void threadReopened(@Nonnull OWLEntityData entityData, @Nonnull UserId reopenedBy, long timestamp) {
+        update(entityData, reopenedBy, timestamp, 0, 1, 0, false);
+    }
+
+    /**
+     * Records that a comment was added to a thread for an entity.  The author becomes a participant in the
+     * discussion about the entity.
+     */
+    public void commentAdded(@Nonnull OWLEntityData entityData, @Nonnull UserId author, long timestamp) {
+        update(entityData, author, timestamp, 0, 0, 1, true);
+    }
+
+    /**
+     * Replaces the entity data in the summaries for entities whose IRI is one of the specified IRIs, for example
+     * after their labels or deprecation status have changed.  The counts in the summaries are kept.  Changes
+     * should be applied in batches because each call scans the entities that have summaries once.  The new entity
+     * data is rendered without holding any locks, so refreshes should be applied in the order of the changes, by
+     * one thread at a time.
+     * @param iris The IRIs of the entities whose entity data has changed.
+     * @param renderer A function that renders up to date entity data for an entity.
+     * @return The number of summaries that were updated.
+     * @throws IllegalStateException if the renderer returns entity data for a different entity.
+     */
+    public int refreshEntityData(@Nonnull Collection<IRI> iris,
+                                 @Nonnull Function<? super OWLEntity, ? extends OWLEntityData> renderer) {
+        checkNotNull(renderer);
+        Set<IRI> irisSet = iris instanceof Set ? (Set<IRI>) iris : new HashSet<>(checkNotNull(iris));
+        if(irisSet.isEmpty()) {
+            return 0;
+        }
+        int refreshedCount = 0;
+        for(OWLEntity entity : summaries.keySet()) {
+            if(!irisSet.contains(entity.getIRI())) {
+                continue;
+            }
+            OWLEntityData entityData = checkNotNull(renderer.apply(entity));
+            checkState(entityData.getEntity().equals(entity),
+                       "Rendered data is for %s, not %s", entityData.getEntity(), entity);
+            Lock lock = locks.get(entity);
+            lock.lock();
+            try {
+                CommentedEntityData current = summaries.get(entity);
+                if(current != null) {
+                    summaries.put(entity, new CommentedEntityData(entityData,
+                                                                  current.getTotalThreadCount(),
+                                                                  current.getOpenThreadCount(),
+                                                                  current.getTotalCommentCount(),
+                                                                  current.getLastModified(),
+                                                                  current.getLastModifiedBy(),
+                                                                  current.getPartipants()));
+                    refreshedCount++;
+                }
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+        return refreshedCount;
+    }
+
+    /**
+     * Gets the summary for the specified entity.
+     */
+    @Nonnull
+    public Optional<CommentedEntityData> getCommentedEntityData(@Nonnull OWLEntity entity) {
+        return Optional.ofNullable(summaries.get(checkNotNull(entity)));
+    }
+
+    /**
+     * Gets the number of entities that have summaries.
+     */
+    public int size() {
+        return summaries.size();
+    }
+
+    /**
+     * Gets a snapshot of the summaries in the natural order of {@link CommentedEntityData}.
+     */
+    @Nonnull
+    public ImmutableList<CommentedEntityData> getSnapshot() {
+        List<CommentedEntityData> snapshot = new ArrayList<>(summaries.values());
+        CommentedEntityDataSorter.get().sort(snapshot);
+        return ImmutableList.copyOf(snapshot);
+    }
+
+    /**
+     * Gets a snapshot of the summaries in {@link CommentedEntityData#byLastModified} order.
+     */
+    @Nonnull
+    public ImmutableList<CommentedEntityData> getSnapshotByLastModified() {
+        List<CommentedEntityData> snapshot = new ArrayList<>(summaries.values());
+        CommentedEntityDataSorter.get().sortByLastModified(snapshot);
+        return ImmutableList.copyOf(snapshot);
+    }
+
+    /**
+     * Gets the most recently modified summaries in {@link CommentedEntityData#byLastModified} order.
+     * @param limit The maximum number of summaries to get.
+     */
+    @Nonnull
+    public ImmutableList<CommentedEntityData> getMostRecentlyModified(int limit) {
+        return CommentedEntityDataSorter.get().getMostRecentlyModified(summaries.values(), limit);
+    }
+
+    private void update(@Nonnull OWLEntityData entityData,
+                        @Nonnull UserId userId,
+                        long timestamp,
+                        int threadDelta,
+                        int openThreadDelta,
+                        int commentDelta,
+                        boolean participant) {
+        checkNotNull(entityData);
+        checkNotNull(userId);
+        OWLEntity entity = entityData.getEntity();
+        Lock lock = locks.get(entity);
+        lock.lock();
+        try {
+            CommentedEntityData current = summaries.get(entity);
+            summaries.put(entity, apply(current, entityData, userId, timestamp, threadDelta, openThreadDelta, commentDelta, participant));
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    private static CommentedEntityData apply(@Nullable CommentedEntityData current,
+                                             OWLEntityData entityData,
+                                             UserId userId,
+                                             long timestamp,
+                                             int threadDelta,
+                                             int openThreadDelta,
+                                             int commentDelta,
+                                             boolean participant) {
+        if(current == null) {
+            return new CommentedEntityData(entityData,
+                                           Math.max(0, threadDelta),
+                                           Math.max(0, openThreadDelta),
+                                           Math.max(0, commentDelta),
+                                           timestamp,
+                                           userId,
+                                           participant ? ImmutableList.of(userId) : ImmutableList.of());
+        }
+        int totalThreadCount = current.getTotalThreadCount() + threadDelta;
+        int openThreadCount = Math.max(0, Math.min(totalThreadCount, current.getOpenThreadCount() + openThreadDelta));
+        // Events may arrive out of order, so the latest event determines the last modification
+        boolean latest = timestamp >= current.getLastModified();
+        List<UserId> participants = current.getPartipants();
+        if(participant && !participants.contains(userId)) {
+            participants = ImmutableList.<UserId>builderWithExpectedSize(participants.size() + 1)
+                                        .addAll(participants)
+                                        .add(userId)
+                                        .build();
+        }
+        return new CommentedEntityData(current.getEntityData(),
+                                       totalThreadCount,
+                                       openThreadCount,
+                                       current.getTotalCommentCount() + commentDelta,
+                                       latest ? timestamp : current.getLastModified(),
+                                       latest ? userId : current.getLastModifiedBy(),
+                                       participants);
+    }
+}
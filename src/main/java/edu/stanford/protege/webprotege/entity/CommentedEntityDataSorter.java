@@ -0,0 +1,180 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableList;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.PriorityQueue;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Sorts lists of {@link CommentedEntityData}.  The sort key of each element (whether it has open threads and
+ *     its lower cased browser text) is computed at most once per element rather than on every comparison.  Lists that
+ *     contain at least {@link #PARALLEL_SORT_THRESHOLD} elements are sorted with {@link Arrays#parallelSort}.
+ * </p>
+ * <p>
+ *     The orders produced are exactly the orders of {@link CommentedEntityData#compareTo(CommentedEntityData)}
+ *     and {@link CommentedEntityData#byLastModified}.  Sorting is stable.  The sorter is thread safe.
+ * </p>
+ */
+public final class CommentedEntityDataSorter {
+
+    /**
+     * The minimum size of a list that is sorted in parallel.
+     */
+    public static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    private static final CommentedEntityDataSorter INSTANCE = new CommentedEntityDataSorter();
+
+    private static final Comparator<SortEntry> NATURAL_ORDER = SortEntry::compareByOpenThreadsAndText;
+
+    private static final Comparator<SortEntry> LAST_MODIFIED_ORDER = SortEntry::compareByLastModified;
+
+    private CommentedEntityDataSorter() {
+    }
+
+    @Nonnull
+    public static CommentedEntityDataSorter get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Sorts the specified list into the natural order of {@link CommentedEntityData}, which puts entities with
+     * open threads first and then orders entities by browser text.
+     * @param list The list to sort.  The list must be modifiable.
+     */
+    public void sort(@Nonnull List<CommentedEntityData> list) {
+        sort(list, NATURAL_ORDER);
+    }
+
+    /**
+     * Sorts the specified list into the {@link CommentedEntityData#byLastModified} order, which puts the most
+     * recently modified entities first.
+     * @param list The list to sort.  The list must be modifiable.
+     */
+    public void sortByLastModified(@Nonnull List<CommentedEntityData> list) {
+        sort(list, LAST_MODIFIED_ORDER);
+    }
+
+    /**
+     * Gets the most recently modified elements of the specified collection, without sorting the whole collection.
+     * The result is the same as the first {@code limit} elements of the collection (in iteration order) after
+     * sorting with {@link #sortByLastModified(List)}.
+     * @param data The collection of data.
+     * @param limit The maximum number of elements to get.
+     * @return A list of at most {@code limit} elements, in {@link CommentedEntityData#byLastModified} order.
+     */
+    @Nonnull
+    public ImmutableList<CommentedEntityData> getMostRecentlyModified(@Nonnull Collection<CommentedEntityData> data,
+                                                                      int limit) {
+        checkNotNull(data);
+        checkArgument(limit >= 0, "limit must not be negative");
+        if(limit == 0 || data.isEmpty()) {
+            return ImmutableList.of();
+        }
+        // A heap of the best elements seen so far, with the worst of them at the head
+        PriorityQueue<SortEntry> heap = new PriorityQueue<>(Math.min(limit, data.size()), LAST_MODIFIED_ORDER.reversed());
+        int index = 0;
+        for(CommentedEntityData element : data) {
+            if(heap.size() < limit) {
+                heap.add(new SortEntry(element, index));
+            }
+            else {
+                SortEntry worst = heap.peek();
+                // Elements that are older than the worst element so far are rejected without computing a sort key
+                if(element.getLastModified() >= worst.lastModified) {
+                    SortEntry entry = new SortEntry(element, index);
+                    if(LAST_MODIFIED_ORDER.compare(entry, worst) < 0) {
+                        heap.poll();
+                        heap.add(entry);
+                    }
+                }
+            }
+            index++;
+        }
+        SortEntry[] entries = heap.toArray(new SortEntry[0]);
+        Arrays.sort(entries, LAST_MODIFIED_ORDER);
+        ImmutableList.Builder<CommentedEntityData> result = ImmutableList.builderWithExpectedSize(entries.length);
+        for(SortEntry entry : entries) {
+            result.add(entry.element);
+        }
+        return result.build();
+    }
+
+    private static void sort(@Nonnull List<CommentedEntityData> list, @Nonnull Comparator<SortEntry> order) {
+        checkNotNull(list);
+        int size = list.size();
+        if(size < 2) {
+            return;
+        }
+        SortEntry[] entries = new SortEntry[size];
+        int index = 0;
+        for(CommentedEntityData element : list) {
+            entries[index] = new SortEntry(element, index);
+            index++;
+        }
+        if(size < PARALLEL_SORT_THRESHOLD) {
+            Arrays.sort(entries, order);
+        }
+        else {
+            Arrays.parallelSort(entries, order);
+        }
+        ListIterator<CommentedEntityData> iterator = list.listIterator();
+        for(SortEntry entry : entries) {
+            iterator.next();
+            iterator.set(entry.element);
+        }
+    }
+
+    private static final class SortEntry {
+
+        private final CommentedEntityData element;
+
+        private final boolean open;
+
+        private final long lastModified;
+
+        /**
+         * The position of the element in the input.  This is used to break ties so that heap based selection
+         * is stable.
+         */
+        private final int index;
+
+        private SortEntry(CommentedEntityData element, int index) {
+            this.element = element;
+            this.open = element.getOpenThreadCount() > 0;
+            this.lastModified = element.getLastModified();
+            this.index = index;
+        }
+
+        private int compareByOpenThreadsAndText(SortEntry other) {
+            if(open != other.open) {
+                return open ? -1 : 1;
+            }
+            // Memoized by the element, and only computed if it is needed
+            int diff = element.getLowerCaseBrowserText().compareTo(other.element.getLowerCaseBrowserText());
+            if(diff != 0) {
+                return diff;
+            }
+            return Integer.compare(index, other.index);
+        }
+
+        private int compareByLastModified(SortEntry other) {
+            int diff = Long.compare(other.lastModified, lastModified);
+            if(diff != 0) {
+                return diff;
+            }
+            return compareByOpenThreadsAndText(other);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.google.auto.value.AutoValue;
+import com.google.common.collect.ImmutableList;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     A list of {@link OWLPrimitiveData} with a compact JSON form.  Namespaces that are shared by several IRIs
+ *     in the list are written once, in a prefix table, and each IRI that has one of these namespaces is written
+ *     as an array that contains the index of the namespace in the table and the remainder of the IRI:
+ * </p>
+ * <pre>
+ * {
+ *     "prefixes" : [ "http://purl.obolibrary.org/obo/" ],
+ *     "elements" : [
+ *         { "@type" : "ClassData", "iri" : [ 0, "GO_0008150" ] },
+ *         { "@type" : "ClassData", "iri" : [ 0, "GO_0003674" ] },
+ *         { "@type" : "ClassData", "iri" : "http://example.org/A" }
+ *     ]
+ * }
+ * </pre>
+ * <p>
+ *     Apart from their IRIs, elements are written in the same way as they are in a plain list.  The prefix
+ *     table is always written before the elements and is required to precede them when the list is read.
+ * </p>
+ */
+@AutoValue
+@JsonSerialize(using = CompactOWLPrimitiveDataListSerializer.class)
+@JsonDeserialize(using = CompactOWLPrimitiveDataListDeserializer.class)
+public abstract class CompactOWLPrimitiveDataList {
+
+    @Nonnull
+    public static CompactOWLPrimitiveDataList get(@Nonnull List<? extends OWLPrimitiveData> elements) {
+        return new AutoValue_CompactOWLPrimitiveDataList(ImmutableList.copyOf(elements));
+    }
+
+    @Nonnull
+    public abstract ImmutableList<OWLPrimitiveData> getElements();
+}
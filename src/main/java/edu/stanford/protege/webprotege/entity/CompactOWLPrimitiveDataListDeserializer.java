@@ -0,0 +1,105 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.google.common.collect.ImmutableList;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static edu.stanford.protege.webprotege.entity.CompactOWLPrimitiveDataListSerializer.ELEMENTS_FIELD;
+import static edu.stanford.protege.webprotege.entity.CompactOWLPrimitiveDataListSerializer.PREFIXES_FIELD;
+import static edu.stanford.protege.webprotege.entity.OWLPrimitiveDataSerializer.TYPE_FIELD;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Deserializes a {@link CompactOWLPrimitiveDataList}.  The type name must be the first property of each
+ *     element, which is always the case for lists written by {@link CompactOWLPrimitiveDataListSerializer}.
+ *     If an {@link OWLEntityInterningPool} is specified with the
+ *     {@link OWLPrimitiveDataInterningModule#POOL_ATTRIBUTE} attribute then elements are created from pooled IRIs
+ *     and entities.
+ * </p>
+ */
+public class CompactOWLPrimitiveDataListDeserializer extends StdDeserializer<CompactOWLPrimitiveDataList> {
+
+    public CompactOWLPrimitiveDataListDeserializer() {
+        super(CompactOWLPrimitiveDataList.class);
+    }
+
+    @Override
+    public CompactOWLPrimitiveDataList deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if(token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        }
+        else if(token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (CompactOWLPrimitiveDataList) ctxt.handleUnexpectedToken(CompactOWLPrimitiveDataList.class, p);
+        }
+        List<String> prefixes = new ArrayList<>();
+        List<OWLPrimitiveData> elements = ImmutableList.of();
+        for(; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String fieldName = p.currentName();
+            p.nextToken();
+            switch(fieldName) {
+                case PREFIXES_FIELD:
+                    readPrefixes(p, ctxt, prefixes);
+                    break;
+                case ELEMENTS_FIELD:
+                    elements = readElements(p, ctxt, prefixes);
+                    break;
+                default:
+                    handleUnknownProperty(p, ctxt, CompactOWLPrimitiveDataList.class, fieldName);
+            }
+        }
+        return CompactOWLPrimitiveDataList.get(elements);
+    }
+
+    private void readPrefixes(JsonParser p, DeserializationContext ctxt, List<String> prefixes) throws IOException {
+        if(p.currentToken() != JsonToken.START_ARRAY) {
+            ctxt.handleUnexpectedToken(List.class, p);
+            return;
+        }
+        while(p.nextToken() != JsonToken.END_ARRAY) {
+            prefixes.add(_parseString(p, ctxt));
+        }
+    }
+
+    private List<OWLPrimitiveData> readElements(JsonParser p,
+                                                DeserializationContext ctxt,
+                                                List<String> prefixes) throws IOException {
+        if(p.currentToken() != JsonToken.START_ARRAY) {
+            ctxt.handleUnexpectedToken(List.class, p);
+            return ImmutableList.of();
+        }
+        JsonDeserializer<Object> dictionaryLanguageDeserializer = ctxt.findRootValueDeserializer(ctxt.constructType(DictionaryLanguage.class));
+        List<OWLPrimitiveDataDeserializer<OWLPrimitiveData>> deserializers = new ArrayList<>();
+        for(PrimitiveType primitiveType : PrimitiveType.values()) {
+            deserializers.add(OWLPrimitiveDataDeserializer.get(primitiveType, dictionaryLanguageDeserializer, prefixes));
+        }
+        List<OWLPrimitiveData> elements = new ArrayList<>();
+        while(p.nextToken() != JsonToken.END_ARRAY) {
+            if(p.currentToken() != JsonToken.START_OBJECT
+                    || p.nextToken() != JsonToken.FIELD_NAME
+                    || !TYPE_FIELD.equals(p.currentName())) {
+                return ctxt.reportInputMismatch(this, "Expected an element that starts with its %s property", TYPE_FIELD);
+            }
+            p.nextToken();
+            String typeName = _parseString(p, ctxt);
+            PrimitiveType primitiveType = OWLPrimitiveDataSerializer.getPrimitiveType(typeName);
+            if(primitiveType == null) {
+                return ctxt.reportInputMismatch(this, "Unrecognized type name: %s", typeName);
+            }
+            p.nextToken();
+            elements.add(deserializers.get(primitiveType.ordinal()).deserialize(p, ctxt));
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,95 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.google.common.collect.ImmutableList;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDatatype;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Serializes a {@link CompactOWLPrimitiveDataList}.  Namespaces that are used by at least two IRIs in the
+ *     list are added to the prefix table.  Other IRIs are written in full, since a prefix reference would not
+ *     make them any shorter.
+ * </p>
+ */
+public class CompactOWLPrimitiveDataListSerializer extends StdSerializer<CompactOWLPrimitiveDataList> {
+
+    static final String PREFIXES_FIELD = "prefixes";
+
+    static final String ELEMENTS_FIELD = "elements";
+
+    private static final int MINIMUM_PREFIX_USAGE = 2;
+
+    public CompactOWLPrimitiveDataListSerializer() {
+        super(CompactOWLPrimitiveDataList.class);
+    }
+
+    @Override
+    public void serialize(CompactOWLPrimitiveDataList value,
+                          JsonGenerator gen,
+                          SerializerProvider provider) throws IOException {
+        ImmutableList<OWLPrimitiveData> elements = value.getElements();
+        Map<String, Integer> prefixIndexes = getPrefixIndexes(elements);
+        gen.writeStartObject(value);
+        gen.writeArrayFieldStart(PREFIXES_FIELD);
+        for(String prefix : prefixIndexes.keySet()) {
+            gen.writeString(prefix);
+        }
+        gen.writeEndArray();
+        gen.writeArrayFieldStart(ELEMENTS_FIELD);
+        OWLPrimitiveDataSerializer elementSerializer = new OWLPrimitiveDataSerializer(prefixIndexes);
+        for(int i = 0, size = elements.size(); i < size; i++) {
+            elementSerializer.serializeWithTypeName(elements.get(i), gen, provider);
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    /**
+     * Gets the prefix table for the specified elements as a map from namespaces to indexes, in index order.
+     */
+    private static Map<String, Integer> getPrefixIndexes(ImmutableList<OWLPrimitiveData> elements) {
+        Map<String, Integer> usage = new LinkedHashMap<>();
+        for(int i = 0, size = elements.size(); i < size; i++) {
+            IRI iri = getIri(elements.get(i));
+            if(iri != null && iri.getRemainder().isPresent()) {
+                usage.merge(iri.getNamespace(), 1, Integer::sum);
+            }
+        }
+        Map<String, Integer> prefixIndexes = new LinkedHashMap<>();
+        usage.forEach((namespace, count) -> {
+            if(count >= MINIMUM_PREFIX_USAGE) {
+                prefixIndexes.put(namespace, prefixIndexes.size());
+            }
+        });
+        return prefixIndexes;
+    }
+
+    @Nullable
+    private static IRI getIri(OWLPrimitiveData element) {
+        if(element instanceof OWLEntityData) {
+            return ((OWLEntityData) element).getEntity().getIRI();
+        }
+        else if(element instanceof IRIData) {
+            return ((IRIData) element).getIri();
+        }
+        else if(element instanceof OWLLiteralData) {
+            OWLDatatype datatype = ((OWLLiteralData) element).getLiteral().getDatatype();
+            return datatype.isRDFPlainLiteral() ? null : datatype.getIRI();
+        }
+        else {
+            return null;
+        }
+    }
+}
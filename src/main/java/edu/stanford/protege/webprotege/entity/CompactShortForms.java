@@ -0,0 +1,391 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import edu.stanford.protege.webprotege.common.ShortForm;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     An immutable, ordered list of short forms that is stored without a {@link ShortForm} object per entry.
+ *     Each entry is held as the id of its {@link DictionaryLanguage}, which is assigned by a JVM wide index, and
+ *     its short form string.  A list with a single entry, which is the most common case, is held in a single
+ *     small object.  Lists with more entries are held as a pair of parallel arrays.
+ * </p>
+ * <p>
+ *     Looking up the short form for a language does not build any intermediate collections.  It takes
+ *     constant time to find the language id and then time that is linear in the (small) number of entries.
+ *     Entries with duplicate languages are retained; lookups return the first of them.
+ * </p>
+ */
+public abstract class CompactShortForms {
+
+    private static final CompactShortForms EMPTY = new MultipleShortForms(new int[0], new String[0]);
+
+    private CompactShortForms() {
+    }
+
+    @Nonnull
+    public static CompactShortForms empty() {
+        return EMPTY;
+    }
+
+    @Nonnull
+    public static CompactShortForms get(@Nonnull List<ShortForm> shortForms) {
+        int size = shortForms.size();
+        if(size == 0) {
+            return EMPTY;
+        }
+        if(size == 1) {
+            ShortForm shortForm = shortForms.get(0);
+            return new SingleShortForm(DictionaryLanguageIndex.getId(shortForm.getDictionaryLanguage()),
+                                       shortForm.getShortForm());
+        }
+        int[] languageIds = new int[size];
+        String[] strings = new String[size];
+        for(int i = 0; i < size; i++) {
+            ShortForm shortForm = shortForms.get(i);
+            languageIds[i] = DictionaryLanguageIndex.getId(shortForm.getDictionaryLanguage());
+            strings[i] = checkNotNull(shortForm.getShortForm());
+        }
+        return new MultipleShortForms(languageIds, strings);
+    }
+
+    @Nonnull
+    public static CompactShortForms get(@Nonnull Map<DictionaryLanguage, String> shortForms) {
+        Builder builder = builder();
+        shortForms.forEach(builder::add);
+        return builder.build();
+    }
+
+    @Nonnull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the number of short forms in this list.
+     */
+    public abstract int size();
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Gets the language of the short form at the specified index.
+     */
+    @Nonnull
+    public DictionaryLanguage getDictionaryLanguage(int index) {
+        return DictionaryLanguageIndex.getLanguage(getLanguageId(index));
+    }
+
+    /**
+     * Gets the short form string at the specified index.
+     */
+    @Nonnull
+    public abstract String getShortForm(int index);
+
+    /**
+     * Gets the short form for the specified language.
+     * @param language The language.
+     * @return The first short form for the language, or {@code null} if there is no short form for the language.
+     */
+    @Nullable
+    public String getShortForm(@Nonnull DictionaryLanguage language) {
+        int index = indexOf(language);
+        return index != -1 ? getShortForm(index) : null;
+    }
+
+    /**
+     * Gets the short form for the most preferred language that has a short form.
+     * @param preferenceOrder The languages in order of preference, most preferred first.
+     * @return The short form, or {@code null} if there is no short form for any of the languages.
+     */
+    @Nullable
+    public String getShortForm(@Nonnull List<DictionaryLanguage> preferenceOrder) {
+        int index = indexOf(preferenceOrder);
+        return index != -1 ? getShortForm(index) : null;
+    }
+
+    /**
+     * Gets the index of the first short form for the most preferred language that has a short form.
+     * @param preferenceOrder The languages in order of preference, most preferred first.
+     * @return The index, or -1 if there is no short form for any of the languages.
+     */
+    public int indexOf(@Nonnull List<DictionaryLanguage> preferenceOrder) {
+        if(isEmpty()) {
+            return -1;
+        }
+        for(int i = 0, size = preferenceOrder.size(); i < size; i++) {
+            int languageId = DictionaryLanguageIndex.findId(preferenceOrder.get(i));
+            if(languageId != -1) {
+                int index = indexOfLanguageId(languageId);
+                if(index != -1) {
+                    return index;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the index of the first short form for the specified language.
+     * @return The index, or -1 if there is no short form for the language.
+     */
+    public int indexOf(@Nonnull DictionaryLanguage language) {
+        if(isEmpty()) {
+            return -1;
+        }
+        int languageId = DictionaryLanguageIndex.findId(language);
+        return languageId != -1 ? indexOfLanguageId(languageId) : -1;
+    }
+
+    /**
+     * Creates a list of {@link ShortForm} objects that contains the short forms in this list, in order.
+     */
+    @Nonnull
+    public ImmutableList<ShortForm> asList() {
+        int size = size();
+        if(size == 0) {
+            return ImmutableList.of();
+        }
+        ImmutableList.Builder<ShortForm> builder = ImmutableList.builderWithExpectedSize(size);
+        for(int i = 0; i < size; i++) {
+            builder.add(ShortForm.get(getDictionaryLanguage(i), getShortForm(i)));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates a map from languages to short forms.  If a language has more than one short form then the first
+     * short form for the language is used.
+     */
+    @Nonnull
+    public ImmutableMap<DictionaryLanguage, String> asMap() {
+        int size = size();
+        if(size == 0) {
+            return ImmutableMap.of();
+        }
+        if(size == 1) {
+            return ImmutableMap.of(getDictionaryLanguage(0), getShortForm(0));
+        }
+        ImmutableMap.Builder<DictionaryLanguage, String> builder = ImmutableMap.builderWithExpectedSize(size);
+        for(int i = 0; i < size; i++) {
+            if(indexOfLanguageId(getLanguageId(i)) == i) {
+                builder.put(getDictionaryLanguage(i), getShortForm(i));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Gets a list of short forms in which each short form string is replaced by the result of the specified
+     * function.  The languages are unchanged.
+     * @return This list if the function returns the same instance for every string, otherwise a new list.
+     */
+    @Nonnull
+    CompactShortForms replaceShortForms(@Nonnull UnaryOperator<String> function) {
+        int size = size();
+        String[] replaced = null;
+        for(int i = 0; i < size; i++) {
+            String shortForm = getShortForm(i);
+            String replacement = checkNotNull(function.apply(shortForm));
+            if(replacement != shortForm && replaced == null) {
+                replaced = new String[size];
+                for(int j = 0; j < i; j++) {
+                    replaced[j] = getShortForm(j);
+                }
+            }
+            if(replaced != null) {
+                replaced[i] = replacement;
+            }
+        }
+        if(replaced == null) {
+            return this;
+        }
+        if(size == 1) {
+            return new SingleShortForm(getLanguageId(0), replaced[0]);
+        }
+        int[] languageIds = new int[size];
+        for(int i = 0; i < size; i++) {
+            languageIds[i] = getLanguageId(i);
+        }
+        return new MultipleShortForms(languageIds, replaced);
+    }
+
+    abstract int getLanguageId(int index);
+
+    abstract int indexOfLanguageId(int languageId);
+
+    @Override
+    public boolean equals(Object obj) {
+        if(obj == this) {
+            return true;
+        }
+        if(!(obj instanceof CompactShortForms)) {
+            return false;
+        }
+        CompactShortForms other = (CompactShortForms) obj;
+        int size = size();
+        if(size != other.size()) {
+            return false;
+        }
+        for(int i = 0; i < size; i++) {
+            if(getLanguageId(i) != other.getLanguageId(i) || !getShortForm(i).equals(other.getShortForm(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for(int i = 0, size = size(); i < size; i++) {
+            hashCode = 31 * hashCode + getDictionaryLanguage(i).hashCode();
+            hashCode = 31 * hashCode + getShortForm(i).hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    public static final class Builder {
+
+        private int[] languageIds = new int[4];
+
+        private String[] strings = new String[4];
+
+        private int size = 0;
+
+        private Builder() {
+        }
+
+        @Nonnull
+        public Builder add(@Nonnull DictionaryLanguage language, @Nonnull String shortForm) {
+            if(size == languageIds.length) {
+                languageIds = Arrays.copyOf(languageIds, size * 2);
+                strings = Arrays.copyOf(strings, size * 2);
+            }
+            languageIds[size] = DictionaryLanguageIndex.getId(language);
+            strings[size] = checkNotNull(shortForm);
+            size++;
+            return this;
+        }
+
+        @Nonnull
+        public CompactShortForms build() {
+            if(size == 0) {
+                return EMPTY;
+            }
+            if(size == 1) {
+                return new SingleShortForm(languageIds[0], strings[0]);
+            }
+            return new MultipleShortForms(Arrays.copyOf(languageIds, size), Arrays.copyOf(strings, size));
+        }
+
+        /**
+         * Removes all short forms from this builder so that it can be reused.
+         */
+        void clear() {
+            Arrays.fill(strings, 0, size, null);
+            size = 0;
+        }
+    }
+
+    private static final class SingleShortForm extends CompactShortForms {
+
+        private final int languageId;
+
+        private final String shortForm;
+
+        private SingleShortForm(int languageId, @Nonnull String shortForm) {
+            this.languageId = languageId;
+            this.shortForm = checkNotNull(shortForm);
+        }
+
+        @Override
+        public int size() {
+            return 1;
+        }
+
+        @Nonnull
+        @Override
+        public String getShortForm(int index) {
+            checkIndex(index);
+            return shortForm;
+        }
+
+        @Override
+        int getLanguageId(int index) {
+            checkIndex(index);
+            return languageId;
+        }
+
+        @Override
+        int indexOfLanguageId(int languageId) {
+            return this.languageId == languageId ? 0 : -1;
+        }
+
+        private static void checkIndex(int index) {
+            if(index != 0) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length 1");
+            }
+        }
+    }
+
+    private static final class MultipleShortForms extends CompactShortForms {
+
+        private final int[] languageIds;
+
+        private final String[] shortForms;
+
+        private MultipleShortForms(int[] languageIds, String[] shortForms) {
+            this.languageIds = languageIds;
+            this.shortForms = shortForms;
+        }
+
+        @Override
+        public int size() {
+            return languageIds.length;
+        }
+
+        @Nonnull
+        @Override
+        public String getShortForm(int index) {
+            return shortForms[index];
+        }
+
+        @Override
+        int getLanguageId(int index) {
+            return languageIds[index];
+        }
+
+        @Override
+        int indexOfLanguageId(int languageId) {
+            int[] ids = languageIds;
+            for(int i = 0; i < ids.length; i++) {
+                if(ids[i] == languageId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.impl.TypeWrappedSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import edu.stanford.protege.webprotege.common.ShortForm;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Serializes {@link CompactShortForms} as the same array of objects that a list of {@link ShortForm}s is
+ *     serialized as, without building the list.  Dictionary languages are serialized by the serializers that are
+ *     configured for {@link DictionaryLanguage}, since their format is not defined here.
+ * </p>
+ */
+public class CompactShortFormsSerializer extends StdSerializer<CompactShortForms> {
+
+    public CompactShortFormsSerializer() {
+        super(CompactShortForms.class);
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider provider, CompactShortForms value) {
+        return value.isEmpty();
+    }
+
+    @Override
+    public void serialize(CompactShortForms value,
+                          JsonGenerator gen,
+                          SerializerProvider provider) throws IOException {
+        writeShortForms(value, gen, provider);
+    }
+
+    /**
+     * Writes the specified short forms as an array.
+     */
+    static void writeShortForms(CompactShortForms shortForms,
+                                JsonGenerator gen,
+                                SerializerProvider provider) throws IOException {
+        // Serializers that are found by class (rather than by class and property) are cached by the provider,
+        // so these lookups are cheap
+        TypeSerializer typeSerializer = findDictionaryLanguageTypeSerializer(provider);
+        gen.writeStartArray();
+        for(int i = 0, size = shortForms.size(); i < size; i++) {
+            gen.writeStartObject();
+            DictionaryLanguage dictionaryLanguage = shortForms.getDictionaryLanguage(i);
+            gen.writeFieldName(ShortForm.DICTIONARY_LANGUAGE);
+            JsonSerializer<Object> serializer = provider.findValueSerializer(dictionaryLanguage.getClass());
+            if(typeSerializer != null) {
+                serializer.serializeWithType(dictionaryLanguage, gen, provider, typeSerializer);
+            }
+            else {
+                serializer.serialize(dictionaryLanguage, gen, provider);
+            }
+            gen.writeStringField(ShortForm.SHORT_FORM, shortForms.getShortForm(i));
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+
+    /**
+     * Gets the type serializer for the declared type, {@link DictionaryLanguage}, of dictionary languages.
+     * @return The type serializer, or {@code null} if type information is not written for dictionary languages.
+     */
+    @Nullable
+    private static TypeSerializer findDictionaryLanguageTypeSerializer(SerializerProvider provider)
+            throws JsonMappingException {
+        JsonSerializer<Object> serializer = provider.findTypedValueSerializer(DictionaryLanguage.class, true, null);
+        if(serializer instanceof TypeWrappedSerializer) {
+            return ((TypeWrappedSerializer) serializer).typeSerializer();
+        }
+        return null;
+    }
+}
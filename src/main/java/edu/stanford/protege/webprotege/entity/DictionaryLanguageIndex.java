@@ -0,0 +1,83 @@
+package edu.stanford.protege.webprotege.entity;
+
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Assigns a small integer id to each distinct {@link DictionaryLanguage}.  Ids are dense, start at zero and
+ *     are stable for the lifetime of the JVM, so equal languages always have equal ids.  They are not stable
+ *     across JVMs and must not be persisted or sent over the wire.
+ * </p>
+ * <p>
+ *     Languages are never removed from the index.  This is fine because the number of distinct languages in use
+ *     (annotation properties combined with language tags) is small and does not grow with the number of
+ *     entities.
+ * </p>
+ */
+final class DictionaryLanguageIndex {
+
+    private static final Map<DictionaryLanguage, Integer> ids = new ConcurrentHashMap<>();
+
+    private static volatile DictionaryLanguage[] languages = new DictionaryLanguage[16];
+
+    private static int size = 0;
+
+    private DictionaryLanguageIndex() {
+    }
+
+    /**
+     * Gets the id of the specified language, assigning a new id if the language has not been seen before.
+     */
+    static int getId(@Nonnull DictionaryLanguage language) {
+        Integer id = ids.get(language);
+        if(id != null) {
+            return id;
+        }
+        return ids.computeIfAbsent(checkNotNull(language), DictionaryLanguageIndex::add);
+    }
+
+    /**
+     * Finds the id of the specified language without assigning a new id.
+     * @return The id, or -1 if the language has not been assigned an id.
+     */
+    static int findId(@Nonnull DictionaryLanguage language) {
+        Integer id = ids.get(language);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Gets the language that has the specified id.
+     * @throws IndexOutOfBoundsException if no language has been assigned the id.
+     */
+    @Nonnull
+    static DictionaryLanguage getLanguage(int id) {
+        DictionaryLanguage language = languages[id];
+        if(language == null) {
+            throw new IndexOutOfBoundsException("No dictionary language has the id " + id);
+        }
+        return language;
+    }
+
+    private static synchronized int add(DictionaryLanguage language) {
+        int id = size;
+        DictionaryLanguage[] current = languages;
+        if(id == current.length) {
+            current = Arrays.copyOf(current, id * 2);
+        }
+        current[id] = language;
+        // Publishes the new entry before the id is visible to other threads
+        languages = current;
+        size++;
+        return id;
+    }
+}
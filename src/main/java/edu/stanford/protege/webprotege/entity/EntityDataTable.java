@@ -0,0 +1,619 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableList;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import org.semanticweb.owlapi.model.IRI;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     An immutable, column oriented table of {@link OWLEntityData} that is stored off-heap, for holding snapshots
+ *     of all of the entities in a large project without adding millions of objects to the heap.  Each row holds
+ *     the type, deprecation status, IRI and short forms of one piece of entity data.  Types and deprecation flags
+ *     are stored in byte columns, and IRIs and short forms are stored as packed UTF-8 with int offset columns.
+ *     The dictionary languages of the short forms are stored as indexes into a small on-heap list of the
+ *     languages used by the table.
+ * </p>
+ * <p>
+ *     Each column is stored as a sequence of direct buffers (chunks) of up to {@link #DEFAULT_CHUNK_SHIFT 1 MB}.
+ *     A column grows by adding a chunk, rather than by copying it into a larger buffer, and building a table
+ *     only copies the last chunk of each column, so building a table needs little more off-heap memory than
+ *     the table itself.
+ * </p>
+ * <p>
+ *     Rows can be read individually, for example {@link #getIri(int)}, or through a reusable {@link Cursor}.
+ *     {@link OWLEntityData} objects are only created by {@link #getEntityData(int)} and
+ *     {@link Cursor#getEntityData()}.  Tables are thread safe, but cursors are not.  The off-heap memory is
+ *     released when the table is garbage collected.
+ * </p>
+ */
+public final class EntityDataTable {
+
+    // Type codes are stored in the table and so are not derived from PrimitiveType ordinals
+    static final byte CLASS_CODE = 1;
+
+    static final byte OBJECT_PROPERTY_CODE = 2;
+
+    static final byte DATA_PROPERTY_CODE = 3;
+
+    static final byte ANNOTATION_PROPERTY_CODE = 4;
+
+    static final byte NAMED_INDIVIDUAL_CODE = 5;
+
+    static final byte DATATYPE_CODE = 6;
+
+    private static final byte DEPRECATED_FLAG = 0x01;
+
+    /**
+     * Columns are stored in chunks of 2^20 bytes
+     */
+    static final int DEFAULT_CHUNK_SHIFT = 20;
+
+    private final int size;
+
+    private final ImmutableList<DictionaryLanguage> languages;
+
+    /**
+     * One byte type code per row
+     */
+    private final Column types;
+
+    /**
+     * One byte of flags per row
+     */
+    private final Column flags;
+
+    /**
+     * size + 1 int offsets into iris
+     */
+    private final Column iriOffsets;
+
+    private final Column iris;
+
+    /**
+     * size + 1 int offsets into the short form columns.  The short forms for row i are at positions
+     * shortFormIndexes[i] until shortFormIndexes[i + 1].
+     */
+    private final Column shortFormIndexes;
+
+    /**
+     * One unsigned short index into languages per short form
+     */
+    private final Column shortFormLanguages;
+
+    /**
+     * short form count + 1 int offsets into shortForms
+     */
+    private final Column shortFormOffsets;
+
+    private final Column shortForms;
+
+    EntityDataTable(int size,
+                    @Nonnull ImmutableList<DictionaryLanguage> languages,
+                    @Nonnull Column types,
+                    @Nonnull Column flags,
+                    @Nonnull Column iriOffsets,
+                    @Nonnull Column iris,
+                    @Nonnull Column shortFormIndexes,
+                    @Nonnull Column shortFormLanguages,
+                    @Nonnull Column shortFormOffsets,
+                    @Nonnull Column shortForms) {
+        this.size = size;
+        this.languages = checkNotNull(languages);
+        this.types = checkNotNull(types);
+        this.flags = checkNotNull(flags);
+        this.iriOffsets = checkNotNull(iriOffsets);
+        this.iris = checkNotNull(iris);
+        this.shortFormIndexes = checkNotNull(shortFormIndexes);
+        this.shortFormLanguages = checkNotNull(shortFormLanguages);
+        this.shortFormOffsets = checkNotNull(shortFormOffsets);
+        this.shortForms = checkNotNull(shortForms);
+    }
+
+    @Nonnull
+    public static Builder builder() {
+        return new Builder(DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Gets a builder for tables whose columns are stored in chunks of 2^chunkShift bytes.
+     */
+    @Nonnull
+    static Builder builder(int chunkShift) {
+        checkArgument(2 <= chunkShift && chunkShift <= 30, "chunkShift must be between 2 and 30");
+        return new Builder(chunkShift);
+    }
+
+    /**
+     * Creates a table that contains the specified entity data, in iteration order.
+     */
+    @Nonnull
+    public static EntityDataTable create(@Nonnull Iterable<? extends OWLEntityData> entityData) {
+        Builder builder = builder();
+        for(OWLEntityData data : entityData) {
+            builder.add(data);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Gets the number of rows in this table.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the dictionary languages of the short forms in this table.
+     */
+    @Nonnull
+    public ImmutableList<DictionaryLanguage> getDictionaryLanguages() {
+        return languages;
+    }
+
+    /**
+     * Gets the number of bytes of off-heap memory that is used by this table.
+     */
+    public long getOffHeapSize() {
+        return types.capacity() + flags.capacity() + iriOffsets.capacity() + iris.capacity()
+                + shortFormIndexes.capacity() + shortFormLanguages.capacity() + shortFormOffsets.capacity()
+                + shortForms.capacity();
+    }
+
+    @Nonnull
+    public PrimitiveType getType(int row) {
+        checkElementIndex(row, size);
+        return toPrimitiveType(types.getByte(row));
+    }
+
+    public boolean isDeprecated(int row) {
+        checkElementIndex(row, size);
+        return (flags.getByte(row) & DEPRECATED_FLAG) != 0;
+    }
+
+    /**
+     * Gets the lexical form of the IRI in the specified row.
+     */
+    @Nonnull
+    public String getIri(int row) {
+        checkElementIndex(row, size);
+        return decode(iris, getInt(iriOffsets, row), getInt(iriOffsets, row + 1));
+    }
+
+    /**
+     * Gets the number of short forms in the specified row.
+     */
+    public int getShortFormCount(int row) {
+        checkElementIndex(row, size);
+        return getInt(shortFormIndexes, row + 1) - getInt(shortFormIndexes, row);
+    }
+
+    /**
+     * Gets the short form in the specified row for the specified language.
+     * @return The short form, or {@code null} if the row does not have a short form for the language.
+     */
+    @Nullable
+    public String getShortForm(int row, @Nonnull DictionaryLanguage language) {
+        checkElementIndex(row, size);
+        int languageIndex = languages.indexOf(checkNotNull(language));
+        if(languageIndex == -1) {
+            return null;
+        }
+        for(int i = getInt(shortFormIndexes, row), end = getInt(shortFormIndexes, row + 1); i < end; i++) {
+            if(getLanguageIndex(i) == languageIndex) {
+                return getShortFormText(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Materializes the entity data in the specified row.
+     */
+    @Nonnull
+    public OWLEntityData getEntityData(int row) {
+        checkElementIndex(row, size);
+        CompactShortForms.Builder builder = CompactShortForms.builder();
+        for(int i = getInt(shortFormIndexes, row), end = getInt(shortFormIndexes, row + 1); i < end; i++) {
+            builder.add(languages.get(getLanguageIndex(i)), getShortFormText(i));
+        }
+        return (OWLEntityData) OWLPrimitiveData.get(getType(row),
+                                                    IRI.create(getIri(row)),
+                                                    builder.build(),
+                                                    isDeprecated(row));
+    }
+
+    /**
+     * Gets a cursor that is positioned before the first row.
+     */
+    @Nonnull
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    private int getLanguageIndex(int shortFormIndex) {
+        return Short.toUnsignedInt(shortFormLanguages.getShort(shortFormIndex * Short.BYTES));
+    }
+
+    private String getShortFormText(int shortFormIndex) {
+        return decode(shortForms, getInt(shortFormOffsets, shortFormIndex), getInt(shortFormOffsets, shortFormIndex + 1));
+    }
+
+    private static int getInt(Column column, int index) {
+        return column.getInt(index * Integer.BYTES);
+    }
+
+    private static String decode(Column column, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        column.getBytes(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static byte toTypeCode(PrimitiveType type) {
+        switch(type) {
+            case CLASS:
+                return CLASS_CODE;
+            case OBJECT_PROPERTY:
+                return OBJECT_PROPERTY_CODE;
+            case DATA_PROPERTY:
+                return DATA_PROPERTY_CODE;
+            case ANNOTATION_PROPERTY:
+                return ANNOTATION_PROPERTY_CODE;
+            case NAMED_INDIVIDUAL:
+                return NAMED_INDIVIDUAL_CODE;
+            case DATA_TYPE:
+                return DATATYPE_CODE;
+            default:
+                throw new IllegalArgumentException("Not an entity type: " + type);
+        }
+    }
+
+    static PrimitiveType toPrimitiveType(byte typeCode) {
+        switch(typeCode) {
+            case CLASS_CODE:
+                return PrimitiveType.CLASS;
+            case OBJECT_PROPERTY_CODE:
+                return PrimitiveType.OBJECT_PROPERTY;
+            case DATA_PROPERTY_CODE:
+                return PrimitiveType.DATA_PROPERTY;
+            case ANNOTATION_PROPERTY_CODE:
+                return PrimitiveType.ANNOTATION_PROPERTY;
+            case NAMED_INDIVIDUAL_CODE:
+                return PrimitiveType.NAMED_INDIVIDUAL;
+            case DATATYPE_CODE:
+                return PrimitiveType.DATA_TYPE;
+            default:
+                throw new IllegalStateException("Unrecognized type code: " + typeCode);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EntityDataTable(" + size + " rows, " + getOffHeapSize() + " bytes)";
+    }
+
+    /**
+     * A reusable, forward or random access position in a table.  The row accessors of a cursor read directly
+     * from the table columns.
+     */
+    public final class Cursor {
+
+        private int row = -1;
+
+        private Cursor() {
+        }
+
+        /**
+         * Moves this cursor to the next row.
+         * @return true if there is a next row, otherwise false, in which case the cursor is positioned after the
+         * last row.
+         */
+        public boolean next() {
+            if(row < size) {
+                row++;
+            }
+            return row < size;
+        }
+
+        /**
+         * Moves this cursor to the specified row.
+         */
+        @Nonnull
+        public Cursor moveTo(int row) {
+            checkElementIndex(row, size);
+            this.row = row;
+            return this;
+        }
+
+        public int getRow() {
+            return row;
+        }
+
+        @Nonnull
+        public PrimitiveType getType() {
+            return EntityDataTable.this.getType(row);
+        }
+
+        public boolean isDeprecated() {
+            return EntityDataTable.this.isDeprecated(row);
+        }
+
+        @Nonnull
+        public String getIri() {
+            return EntityDataTable.this.getIri(row);
+        }
+
+        public int getShortFormCount() {
+            return EntityDataTable.this.getShortFormCount(row);
+        }
+
+        @Nullable
+        public String getShortForm(@Nonnull DictionaryLanguage language) {
+            return EntityDataTable.this.getShortForm(row, language);
+        }
+
+        @Nonnull
+        public OWLEntityData getEntityData() {
+            return EntityDataTable.this.getEntityData(row);
+        }
+    }
+
+    public static final class Builder {
+
+        private final Map<DictionaryLanguage, Integer> languageIndexes = new HashMap<>();
+
+        private final List<DictionaryLanguage> languages = new ArrayList<>();
+
+        private final ColumnWriter types;
+
+        private final ColumnWriter flags;
+
+        private final ColumnWriter iriOffsets;
+
+        private final ColumnWriter iris;
+
+        private final ColumnWriter shortFormIndexes;
+
+        private final ColumnWriter shortFormLanguages;
+
+        private final ColumnWriter shortFormOffsets;
+
+        private final ColumnWriter shortForms;
+
+        private int size = 0;
+
+        private int shortFormCount = 0;
+
+        private boolean built = false;
+
+        private Builder(int chunkShift) {
+            types = new ColumnWriter(1024, chunkShift);
+            flags = new ColumnWriter(1024, chunkShift);
+            iriOffsets = new ColumnWriter(4096, chunkShift);
+            iris = new ColumnWriter(16384, chunkShift);
+            shortFormIndexes = new ColumnWriter(4096, chunkShift);
+            shortFormLanguages = new ColumnWriter(2048, chunkShift);
+            shortFormOffsets = new ColumnWriter(4096, chunkShift);
+            shortForms = new ColumnWriter(16384, chunkShift);
+            iriOffsets.putInt(0);
+            shortFormIndexes.putInt(0);
+            shortFormOffsets.putInt(0);
+        }
+
+        @Nonnull
+        public Builder add(@Nonnull OWLEntityData data) {
+            checkState(!built, "The table has already been built");
+            checkState(size < Integer.MAX_VALUE - 1, "Too many rows");
+            types.putByte(toTypeCode(data.getType()));
+            flags.putByte(data.isDeprecated() ? DEPRECATED_FLAG : 0);
+            iris.putBytes(data.getEntity().getIRI().toString().getBytes(StandardCharsets.UTF_8));
+            iriOffsets.putInt(iris.position());
+            CompactShortForms compactShortForms = data.getCompactShortForms();
+            for(int i = 0, count = compactShortForms.size(); i < count; i++) {
+                shortFormLanguages.putShort(getLanguageIndex(compactShortForms.getDictionaryLanguage(i)));
+                shortForms.putBytes(compactShortForms.getShortForm(i).getBytes(StandardCharsets.UTF_8));
+                shortFormOffsets.putInt(shortForms.position());
+                shortFormCount++;
+            }
+            shortFormIndexes.putInt(shortFormCount);
+            size++;
+            return this;
+        }
+
+        private int getLanguageIndex(DictionaryLanguage language) {
+            Integer index = languageIndexes.get(language);
+            if(index == null) {
+                checkState(languages.size() < 0xFFFF, "Too many dictionary languages");
+                index = languages.size();
+                languageIndexes.put(language, index);
+                languages.add(language);
+            }
+            return index;
+        }
+
+        /**
+         * Builds the table.  A builder can only build one table.
+         */
+        @Nonnull
+        public EntityDataTable build() {
+            checkState(!built, "The table has already been built");
+            built = true;
+            return new EntityDataTable(size,
+                                       ImmutableList.copyOf(languages),
+                                       types.finish(),
+                                       flags.finish(),
+                                       iriOffsets.finish(),
+                                       iris.finish(),
+                                       shortFormIndexes.finish(),
+                                       shortFormLanguages.finish(),
+                                       shortFormOffsets.finish(),
+                                       shortForms.finish());
+        }
+    }
+
+    /**
+     * An off-heap column that is stored in chunks.  Every chunk apart from the last one holds 2^chunkShift bytes,
+     * so the chunk that holds a byte is found by shifting its index.  Columns hold values of a single width,
+     * which divides the chunk size, so only byte sequences can span chunks.
+     */
+    private static final class Column {
+
+        private final ByteBuffer[] chunks;
+
+        private final int chunkShift;
+
+        private final int chunkMask;
+
+        private Column(ByteBuffer[] chunks, int chunkShift) {
+            this.chunks = chunks;
+            this.chunkShift = chunkShift;
+            this.chunkMask = (1 << chunkShift) - 1;
+        }
+
+        private long capacity() {
+            long capacity = 0;
+            for(ByteBuffer chunk : chunks) {
+                capacity += chunk.capacity();
+            }
+            return capacity;
+        }
+
+        private byte getByte(int index) {
+            return chunks[index >>> chunkShift].get(index & chunkMask);
+        }
+
+        private short getShort(int index) {
+            return chunks[index >>> chunkShift].getShort(index & chunkMask);
+        }
+
+        private int getInt(int index) {
+            return chunks[index >>> chunkShift].getInt(index & chunkMask);
+        }
+
+        private void getBytes(int index, byte[] bytes) {
+            for(int offset = 0; offset < bytes.length; ) {
+                int position = index + offset;
+                ByteBuffer chunk = chunks[position >>> chunkShift];
+                int chunkPosition = position & chunkMask;
+                int length = Math.min(bytes.length - offset, chunk.capacity() - chunkPosition);
+                chunk.get(chunkPosition, bytes, offset, length);
+                offset += length;
+            }
+        }
+    }
+
+    /**
+     * An off-heap column that grows as values are appended to it.  The first chunk grows by doubling until it
+     * reaches the chunk size.  After that a new chunk is added whenever the last one is full, so chunks are
+     * never copied.
+     */
+    private static final class ColumnWriter {
+
+        private final int chunkShift;
+
+        private final int chunkSize;
+
+        private final List<ByteBuffer> chunks = new ArrayList<>();
+
+        private ByteBuffer chunk;
+
+        private int position = 0;
+
+        private ColumnWriter(int initialCapacity, int chunkShift) {
+            this.chunkShift = chunkShift;
+            this.chunkSize = 1 << chunkShift;
+            chunk = allocate(Math.min(initialCapacity, chunkSize));
+        }
+
+        private static ByteBuffer allocate(int capacity) {
+            return ByteBuffer.allocateDirect(capacity).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        private int position() {
+            return position;
+        }
+
+        private void putByte(byte value) {
+            ensureRemaining(Byte.BYTES);
+            chunk.put(value);
+        }
+
+        private void putShort(int value) {
+            ensureRemaining(Short.BYTES);
+            chunk.putShort((short) value);
+        }
+
+        private void putInt(int value) {
+            ensureRemaining(Integer.BYTES);
+            chunk.putInt(value);
+        }
+
+        private void putBytes(byte[] bytes) {
+            for(int offset = 0; offset < bytes.length; ) {
+                ensureRemaining(1);
+                int length = Math.min(bytes.length - offset, chunk.remaining());
+                chunk.put(bytes, offset, length);
+                offset += length;
+                position += length - 1;
+            }
+        }
+
+        /**
+         * Ensures that the current chunk has room for the specified number of bytes, which must divide the chunk
+         * size, and advances the position by that number.
+         */
+        private void ensureRemaining(int length) {
+            checkState(position <= Integer.MAX_VALUE - length, "Column is too large");
+            if(chunk.remaining() < length) {
+                if(chunk.capacity() < chunkSize) {
+                    ByteBuffer grown = allocate(Math.min(chunk.capacity() * 2, chunkSize));
+                    grown.put(chunk.flip());
+                    chunk = grown;
+                }
+                else {
+                    chunks.add(chunk);
+                    chunk = allocate(chunkSize);
+                }
+            }
+            position += length;
+        }
+
+        /**
+         * Gets a column that holds exactly the values that have been written.  Only the last chunk is copied, to
+         * trim it to the values that it holds.
+         */
+        private Column finish() {
+            ByteBuffer last = chunk;
+            if(last.hasRemaining()) {
+                last = allocate(chunk.position());
+                last.put(chunk.flip());
+            }
+            chunks.add(last);
+            chunk = null;
+            ByteBuffer[] finished = new ByteBuffer[chunks.size()];
+            for(int i = 0; i < finished.length; i++) {
+                finished[i] = chunks.get(i).asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+            }
+            chunks.clear();
+            return new Column(finished, chunkShift);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package edu.stanford.protege.webprotege.entity;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkElementIndex;
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -25,6 +26,31 @@ public enum EntityNameCharType {
 
     private static final char SINGLE_QUOTE = '\'';
 
+    private static final EntityNameCharType[] VALUES = values();
+
+    /**
+     * The size of the lookup table.  Characters in the Basic Latin and Latin-1 Supplement blocks are classified
+     * by table lookup, everything else falls back to the {@link Character} predicates.
+     */
+    private static final int TABLE_SIZE = 256;
+
+    private static final byte[] TYPE_TABLE = new byte[TABLE_SIZE];
+
+    private static final byte ESCAPING_QUOTE_CODE = ESCAPING_QUOTE.getCode();
+
+    private static final byte UPPER_CASE_LETTER_CODE = UPPER_CASE_LETTER.getCode();
+
+    private static final boolean[] WORD_LETTER_CODES = new boolean[VALUES.length];
+
+    static {
+        for(int ch = 0; ch < TABLE_SIZE; ch++) {
+            TYPE_TABLE[ch] = getPositionIndependentType(ch).getCode();
+        }
+        for(EntityNameCharType type : VALUES) {
+            WORD_LETTER_CODES[type.getCode()] = type.isWordLetter();
+        }
+    }
+
     private final LetterCategory letterCategory;
 
     EntityNameCharType(LetterCategory letterCategory) {
@@ -41,7 +67,26 @@ public enum EntityNameCharType {
     }
 
     /**
-     * Gets the {@link EntityNameCharType} of the character of the specified index in the specified string.
+     * Gets the code of this type, as written by {@link #classify(CharSequence, byte[])}.
+     * @return The code.
+     */
+    public byte getCode() {
+        return (byte) ordinal();
+    }
+
+    /**
+     * Gets the {@link EntityNameCharType} for a code written by {@link #classify(CharSequence, byte[])}.
+     * @param code The code.
+     * @return The {@link EntityNameCharType} with the specified code.
+     * @throws IndexOutOfBoundsException if {@code code} is not a valid code.
+     */
+    public static EntityNameCharType fromCode(byte code) {
+        return VALUES[code];
+    }
+
+    /**
+     * Gets the {@link EntityNameCharType} of the character of the specified index in the specified string.  If the
+     * character is one half of a surrogate pair then the type of the supplementary code point is returned.
      * @param text The string to examine.
      * @param index The index of the character.
      * @return The {@link EntityNameCharType} of the character at position {@code index} in {@code text}.
@@ -52,6 +97,9 @@ public enum EntityNameCharType {
         checkNotNull(text);
         checkElementIndex(index, text.length());
         char ch = text.charAt(index);
+        if(Character.isSurrogate(ch)) {
+            return getCodePointType(index, getCodePointAt(text, index), text.length());
+        }
         return getType(index, ch, text.length());
     }
 
@@ -64,6 +112,226 @@ public enum EntityNameCharType {
      * @return The {@link EntityNameCharType} of the {@code ch}.  Not {@code null}.
      */
     public static EntityNameCharType getType(int index, char ch, int length) {
+        return getCodePointType(index, ch, length);
+    }
+
+    /**
+     * Gets the type of a code point (which is dependent on the position of the code point in the string being
+     * considered).
+     *
+     * @param index     The char index of the code point in the string being considered.
+     * @param codePoint The code point whose type is to be determined.
+     * @param length    The length, in chars, of the string being considered.
+     * @return The {@link EntityNameCharType} of the {@code codePoint}.  Not {@code null}.
+     */
+    public static EntityNameCharType getCodePointType(int index, int codePoint, int length) {
+        if(codePoint == SINGLE_QUOTE) {
+            // Special handling for quoted names
+            return index == 0 || index == length - 1 ? ESCAPING_QUOTE : LETTER;
+        }
+        else if(0 <= codePoint && codePoint < TABLE_SIZE) {
+            return VALUES[TYPE_TABLE[codePoint]];
+        }
+        else {
+            return getTypeOutsideTable(codePoint);
+        }
+    }
+
+    /**
+     * Classifies each character in the specified text and writes the code of its type (see {@link #getCode()}) into
+     * the corresponding position of the specified array.  Both chars of a surrogate pair receive the type of the
+     * supplementary code point that they encode.  The array may be reused across calls.
+     *
+     * @param text  The text to classify.
+     * @param types The array that the type codes are written to.  Positions beyond the length of the text are
+     *              left untouched.
+     * @return The number of codes written, which is the length of {@code text}.
+     * @throws NullPointerException     if {@code text} or {@code types} is {@code null}.
+     * @throws IllegalArgumentException if {@code types} is shorter than {@code text}.
+     */
+    public static int classify(CharSequence text, byte[] types) {
+        checkNotNull(text);
+        checkNotNull(types);
+        int length = text.length();
+        checkArgument(types.length >= length,
+                      "The types array (length %s) is shorter than the text (length %s)",
+                      types.length,
+                      length);
+        int lastIndex = length - 1;
+        for(int i = 0; i < length; i++) {
+            char ch = text.charAt(i);
+            if(ch < TABLE_SIZE) {
+                if(ch == SINGLE_QUOTE && (i == 0 || i == lastIndex)) {
+                    types[i] = ESCAPING_QUOTE_CODE;
+                }
+                else {
+                    types[i] = TYPE_TABLE[ch];
+                }
+            }
+            else if(Character.isHighSurrogate(ch) && i < lastIndex && Character.isLowSurrogate(text.charAt(i + 1))) {
+                byte code = getTypeOutsideTable(Character.toCodePoint(ch, text.charAt(i + 1))).getCode();
+                types[i] = code;
+                i++;
+                types[i] = code;
+            }
+            else {
+                types[i] = getTypeOutsideTable(ch).getCode();
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Finds the starts of the words in some text that has been classified with
+     * {@link #classify(CharSequence, byte[])}.  A word starts at a word letter that follows a non-word letter, at
+     * an upper case letter that follows a word letter that is not upper case ("heartAttack"), and at the last upper
+     * case letter of a run that is followed by a lower case letter ("HTTPServer").
+     * @param text The text.
+     * @param types The type codes of the text.
+     * @param wordStarts The array that the (increasing) offsets of the word starts are written to.  This must be at
+     *                   least as long as the text.
+     * @return The number of word starts.
+     */
+    static int getWordStarts(CharSequence text, byte[] types, int[] wordStarts) {
+        int length = text.length();
+        int count = 0;
+        for(int i = 0; i < length; i++) {
+            byte type = types[i];
+            if(!WORD_LETTER_CODES[type]) {
+                continue;
+            }
+            if(i == 0 || !WORD_LETTER_CODES[types[i - 1]]) {
+                wordStarts[count] = i;
+                count++;
+            }
+            else if(type == UPPER_CASE_LETTER_CODE && isCamelCaseBoundary(text, types, i)) {
+                wordStarts[count] = i;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Finds the ends of the words whose starts were found by {@link #getWordStarts(CharSequence, byte[], int[])}.
+     * A word ends at the start of the next word or at the first non-word letter after its start.
+     * @param types The type codes of the text.
+     * @param length The length of the text.
+     * @param wordStarts The word starts.
+     * @param wordCount The number of word starts.
+     * @param wordEnds The array that the (exclusive) word ends are written to.
+     */
+    static void getWordEnds(byte[] types, int length, int[] wordStarts, int wordCount, int[] wordEnds) {
+        for(int w = 0; w < wordCount; w++) {
+            int limit = w + 1 < wordCount ? wordStarts[w + 1] : length;
+            int end = wordStarts[w] + 1;
+            while(end < limit && WORD_LETTER_CODES[types[end]]) {
+                end++;
+            }
+            wordEnds[w] = end;
+        }
+    }
+
+    /**
+     * Determines whether a word starts at the specified index of some text, in the same way as
+     * {@link #getWordStarts(CharSequence, byte[], int[])}, without classifying the whole text.  Only the characters
+     * around the index are classified.
+     * @param text The text.
+     * @param index The index.
+     */
+    static boolean isWordStart(CharSequence text, int index) {
+        byte type = getCode(text, index);
+        if(!WORD_LETTER_CODES[type]) {
+            return false;
+        }
+        if(index == 0) {
+            return true;
+        }
+        byte previousType = getCode(text, index - 1);
+        if(!WORD_LETTER_CODES[previousType]) {
+            return true;
+        }
+        if(type != UPPER_CASE_LETTER_CODE) {
+            return false;
+        }
+        return previousType != UPPER_CASE_LETTER_CODE
+                || index + 1 < text.length() && Character.isLowerCase(text.charAt(index + 1));
+    }
+
+    /**
+     * Gets the code of the type of the char at the specified index, as written by
+     * {@link #classify(CharSequence, byte[])}.
+     */
+    private static byte getCode(CharSequence text, int index) {
+        char ch = text.charAt(index);
+        if(ch < TABLE_SIZE) {
+            if(ch == SINGLE_QUOTE && (index == 0 || index == text.length() - 1)) {
+                return ESCAPING_QUOTE_CODE;
+            }
+            return TYPE_TABLE[ch];
+        }
+        return getTypeOutsideTable(getCodePointAt(text, index)).getCode();
+    }
+
+    /**
+     * Determines whether an upper case letter, which follows a word letter, starts a word.
+     */
+    private static boolean isCamelCaseBoundary(CharSequence text, byte[] types, int index) {
+        if(types[index - 1] != UPPER_CASE_LETTER_CODE) {
+            return true;
+        }
+        return index + 1 < text.length() && Character.isLowerCase(text.charAt(index + 1));
+    }
+
+    /**
+     * Determines whether a type code, as written by {@link #classify(CharSequence, byte[])}, is the code of a
+     * word letter type.
+     */
+    static boolean isWordLetterCode(byte code) {
+        return WORD_LETTER_CODES[code];
+    }
+
+    /**
+     * Gets the code point that the char at the specified index is part of.  Unpaired surrogates are returned as is.
+     */
+    private static int getCodePointAt(CharSequence text, int index) {
+        char ch = text.charAt(index);
+        if(Character.isHighSurrogate(ch) && index + 1 < text.length()) {
+            char next = text.charAt(index + 1);
+            if(Character.isLowSurrogate(next)) {
+                return Character.toCodePoint(ch, next);
+            }
+        }
+        else if(Character.isLowSurrogate(ch) && index > 0) {
+            char previous = text.charAt(index - 1);
+            if(Character.isHighSurrogate(previous)) {
+                return Character.toCodePoint(previous, ch);
+            }
+        }
+        return ch;
+    }
+
+    /**
+     * Computes the type of a code point that is outside of the lookup table.  None of the boundary characters are
+     * outside of the table, so the only distinctions that need to be made are upper case letters and digits.
+     */
+    private static EntityNameCharType getTypeOutsideTable(int codePoint) {
+        if(Character.isUpperCase(codePoint)) {
+            return UPPER_CASE_LETTER;
+        }
+        else if(Character.isDigit(codePoint)) {
+            return DIGIT;
+        }
+        else {
+            return LETTER;
+        }
+    }
+
+    /**
+     * Computes the type of a character, ignoring the special handling of quotes at the start and end of a name.
+     * This is used to build the lookup table.
+     */
+    private static EntityNameCharType getPositionIndependentType(int ch) {
         if (Character.isUpperCase(ch)) {
             return UPPER_CASE_LETTER;
         }
@@ -73,14 +341,6 @@ public enum EntityNameCharType {
         else if (Character.isDigit(ch)) {
             return DIGIT;
         }
-        else if (index == 0 && ch == SINGLE_QUOTE) {
-            // Special handling for quoted names
-            return ESCAPING_QUOTE;
-        }
-        else if (index == length - 1 && ch == SINGLE_QUOTE) {
-            // Special handling for quoted names
-            return ESCAPING_QUOTE;
-        }
         else if (ch == '-') {
             return LETTER;
         }
@@ -0,0 +1,43 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.auto.value.AutoValue;
+
+import javax.annotation.Nonnull;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     A span of characters in an entity name that was matched by an {@link EntityNameMatcher}, for highlighting.
+ * </p>
+ */
+@AutoValue
+public abstract class EntityNameMatchSpan {
+
+    /**
+     * Gets a span.
+     * @param start The index of the first matched character.
+     * @param end The index after the last matched character.
+     * @throws IllegalArgumentException if {@code start} is negative or {@code end} is not greater than
+     * {@code start}.
+     */
+    @Nonnull
+    public static EntityNameMatchSpan get(int start, int end) {
+        checkArgument(0 <= start, "start must not be negative");
+        checkArgument(start < end, "end must be greater than start");
+        return new AutoValue_EntityNameMatchSpan(start, end);
+    }
+
+    /**
+     * The index of the first matched character.
+     */
+    public abstract int getStart();
+
+    /**
+     * The index after the last matched character.
+     */
+    public abstract int getEnd();
+}
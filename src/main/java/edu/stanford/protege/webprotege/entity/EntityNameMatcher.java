@@ -0,0 +1,351 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableList;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Matches abbreviated queries against entity names, so that "HeAt", "heat" or "HA" find "HeartAttack" and
+ *     "heart att" finds "Heart attack".  Names are split into words using {@link EntityNameCharType} (so camel
+ *     case humps start words).  A query matches a name if the query can be split into pieces such that each
+ *     piece is a case insensitive prefix of a word in the name, and the words of consecutive pieces are in
+ *     order (words may be skipped).  An upper case letter that follows a letter that is not upper case, or a word
+ *     letter that follows a non-word letter, in the query must start a new piece.  Non-word letters in the
+ *     query are otherwise ignored.  A query without any word letters matches every name.
+ * </p>
+ * <p>
+ *     Matching does not use regular expressions and does not allocate for a candidate name unless spans are
+ *     requested with {@link #getMatchSpans(CharSequence)}.  Names that do not contain the letters of the query in
+ *     order, with each letter that must start a piece at the start of a word, are rejected before they are split
+ *     into words.  Large lists of candidates can be filtered in parallel in a {@link ForkJoinPool}.
+ * </p>
+ * <p>
+ *     Matchers reuse buffers between candidates, so a matcher must not be used by several threads at the same
+ *     time.  Parallel filtering uses one matcher per task.
+ * </p>
+ */
+public final class EntityNameMatcher {
+
+    /**
+     * The minimum number of candidates that are filtered in parallel.
+     */
+    public static final int PARALLEL_THRESHOLD = 16_384;
+
+    private static final int CHUNK_SIZE = 4_096;
+
+    private static final int INITIAL_NAME_CAPACITY = 64;
+
+    private final String query;
+
+    /**
+     * The lower case word letters of the query.
+     */
+    private final char[] queryChars;
+
+    /**
+     * Flags for the query chars that must start a new piece.
+     */
+    private final boolean[] pieceStarts;
+
+    private byte[] types = new byte[INITIAL_NAME_CAPACITY];
+
+    private int[] wordStarts = new int[INITIAL_NAME_CAPACITY];
+
+    private int[] wordEnds = new int[INITIAL_NAME_CAPACITY];
+
+    /**
+     * Flags for states (a query index and a word index) that are known not to lead to a match.
+     */
+    private boolean[] failedStates = new boolean[0];
+
+    private final int[] spans;
+
+    private int spanCount = 0;
+
+    private EntityNameMatcher(String query, char[] queryChars, boolean[] pieceStarts) {
+        this.query = query;
+        this.queryChars = queryChars;
+        this.pieceStarts = pieceStarts;
+        this.spans = new int[2 * queryChars.length];
+    }
+
+    /**
+     * Gets a matcher for the specified query.
+     * @param query The query.
+     */
+    @Nonnull
+    public static EntityNameMatcher get(@Nonnull String query) {
+        checkNotNull(query);
+        byte[] queryTypes = new byte[query.length()];
+        EntityNameCharType.classify(query, queryTypes);
+        char[] queryChars = new char[query.length()];
+        boolean[] pieceStarts = new boolean[query.length()];
+        int queryLength = 0;
+        boolean afterNonWordLetter = true;
+        byte previousType = -1;
+        byte upperCaseLetterCode = EntityNameCharType.UPPER_CASE_LETTER.getCode();
+        for(int i = 0; i < query.length(); i++) {
+            byte type = queryTypes[i];
+            if(!EntityNameCharType.isWordLetterCode(type)) {
+                afterNonWordLetter = true;
+                continue;
+            }
+            queryChars[queryLength] = toLowerCase(query.charAt(i));
+            pieceStarts[queryLength] = afterNonWordLetter
+                    || type == upperCaseLetterCode && previousType != upperCaseLetterCode;
+            queryLength++;
+            afterNonWordLetter = false;
+            previousType = type;
+        }
+        return new EntityNameMatcher(query,
+                                     Arrays.copyOf(queryChars, queryLength),
+                                     Arrays.copyOf(pieceStarts, queryLength));
+    }
+
+    /**
+     * Gets the query that this matcher matches.
+     */
+    @Nonnull
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * Gets the maximum number of spans in a match.  This is the number of word letters in the query.
+     */
+    public int getMaxSpanCount() {
+        return queryChars.length;
+    }
+
+    /**
+     * Determines whether the query matches the specified name.
+     * @param name The name.
+     * @return {@code true} if the query matches the name, otherwise {@code false}.
+     */
+    public boolean matches(@Nonnull CharSequence name) {
+        checkNotNull(name);
+        return matchName(name);
+    }
+
+    /**
+     * Matches the query against the specified name and writes the matched spans to the specified array.
+     * @param name The name.
+     * @param spans The array that the spans are written to.  The start and end (exclusive) of the i-th span are
+     *              written at 2i and 2i + 1.  This must have a length of at least twice {@link #getMaxSpanCount()}.
+     * @return The number of spans, or -1 if the query does not match the name.
+     * @throws IllegalArgumentException if {@code spans} is too short.
+     */
+    public int match(@Nonnull CharSequence name, @Nonnull int[] spans) {
+        checkNotNull(name);
+        checkArgument(spans.length >= this.spans.length,
+                      "The spans array must have a length of at least %s", this.spans.length);
+        if(!matchName(name)) {
+            return -1;
+        }
+        System.arraycopy(this.spans, 0, spans, 0, 2 * spanCount);
+        return spanCount;
+    }
+
+    /**
+     * Matches the query against the specified name.
+     * @param name The name.
+     * @return The matched spans, one for each piece of the query, or empty if the query does not match the name.
+     */
+    @Nonnull
+    public Optional<ImmutableList<EntityNameMatchSpan>> getMatchSpans(@Nonnull CharSequence name) {
+        checkNotNull(name);
+        if(!matchName(name)) {
+            return Optional.empty();
+        }
+        ImmutableList.Builder<EntityNameMatchSpan> result = ImmutableList.builderWithExpectedSize(spanCount);
+        for(int i = 0; i < spanCount; i++) {
+            result.add(EntityNameMatchSpan.get(spans[2 * i], spans[2 * i + 1]));
+        }
+        return Optional.of(result.build());
+    }
+
+    /**
+     * Finds the entity data whose browser text is matched by the query.
+     * @param entityData The candidates.
+     * @return The matching candidates, in the order of the candidates.
+     */
+    @Nonnull
+    public ImmutableList<OWLEntityData> filter(@Nonnull List<? extends OWLEntityData> entityData) {
+        checkNotNull(entityData);
+        boolean[] matched = new boolean[entityData.size()];
+        filterRange(entityData, matched, 0, entityData.size());
+        return collectMatches(entityData, matched);
+    }
+
+    /**
+     * Finds the entity data whose browser text is matched by the query.  Lists that contain at least
+     * {@link #PARALLEL_THRESHOLD} candidates are split into chunks that are filtered in parallel in the specified
+     * pool (unless the pool has a parallelism of one).  The list should support fast random access.
+     * @param entityData The candidates.
+     * @param pool The pool.
+     * @return The matching candidates, in the order of the candidates.
+     */
+    @Nonnull
+    public ImmutableList<OWLEntityData> filter(@Nonnull List<? extends OWLEntityData> entityData,
+                                               @Nonnull ForkJoinPool pool) {
+        checkNotNull(entityData);
+        checkNotNull(pool);
+        int size = entityData.size();
+        if(size < PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+            return filter(entityData);
+        }
+        boolean[] matched = new boolean[size];
+        pool.invoke(new FilterRangeAction(entityData, matched, 0, size));
+        return collectMatches(entityData, matched);
+    }
+
+    private void filterRange(List<? extends OWLEntityData> entityData, boolean[] matched, int from, int to) {
+        for(int i = from; i < to; i++) {
+            matched[i] = matchName(entityData.get(i).getBrowserText());
+        }
+    }
+
+    private static ImmutableList<OWLEntityData> collectMatches(List<? extends OWLEntityData> entityData,
+                                                               boolean[] matched) {
+        ImmutableList.Builder<OWLEntityData> result = ImmutableList.builder();
+        for(int i = 0; i < matched.length; i++) {
+            if(matched[i]) {
+                result.add(entityData.get(i));
+            }
+        }
+        return result.build();
+    }
+
+    private boolean matchName(CharSequence name) {
+        int queryLength = queryChars.length;
+        if(queryLength == 0) {
+            spanCount = 0;
+            return true;
+        }
+        int length = name.length();
+        if(length < queryLength || !containsQueryCharsInOrder(name)) {
+            return false;
+        }
+        if(types.length < length) {
+            int capacity = Math.max(length, types.length * 2);
+            types = new byte[capacity];
+            wordStarts = new int[capacity];
+            wordEnds = new int[capacity];
+        }
+        EntityNameCharType.classify(name, types);
+        int wordCount = EntityNameCharType.getWordStarts(name, types, wordStarts);
+        EntityNameCharType.getWordEnds(types, length, wordStarts, wordCount, wordEnds);
+        int stateCount = queryLength * wordCount;
+        if(failedStates.length < stateCount) {
+            failedStates = new boolean[Math.max(stateCount, failedStates.length * 2)];
+        }
+        else {
+            Arrays.fill(failedStates, 0, stateCount, false);
+        }
+        return matchPiece(name, 0, 0, 0, wordCount);
+    }
+
+    /**
+     * Matches the piece of the query that starts at the specified query index against the prefix of a word
+     * at or after the specified word, trying the longest prefixes first.
+     */
+    private boolean matchPiece(CharSequence name, int queryIndex, int firstWord, int pieceIndex, int wordCount) {
+        int queryLength = queryChars.length;
+        if(queryIndex == queryLength) {
+            spanCount = pieceIndex;
+            return true;
+        }
+        for(int w = firstWord; w < wordCount; w++) {
+            int state = queryIndex * wordCount + w;
+            if(failedStates[state]) {
+                continue;
+            }
+            int wordStart = wordStarts[w];
+            int maxPieceLength = Math.min(wordEnds[w] - wordStart, queryLength - queryIndex);
+            int pieceLength = 0;
+            while(pieceLength < maxPieceLength
+                    && (pieceLength == 0 || !pieceStarts[queryIndex + pieceLength])
+                    && toLowerCase(name.charAt(wordStart + pieceLength)) == queryChars[queryIndex + pieceLength]) {
+                pieceLength++;
+            }
+            for(; pieceLength > 0; pieceLength--) {
+                if(matchPiece(name, queryIndex + pieceLength, w + 1, pieceIndex + 1, wordCount)) {
+                    spans[2 * pieceIndex] = wordStart;
+                    spans[2 * pieceIndex + 1] = wordStart + pieceLength;
+                    return true;
+                }
+            }
+            failedStates[state] = true;
+        }
+        return false;
+    }
+
+    /**
+     * Determines whether the name contains the query chars in order, where each query char that must start a piece
+     * is at the start of a word.  This is necessary for a match, and is checked without classifying the whole name.
+     * Taking the first occurrence of each query char is enough to find the chars if they are in the name.
+     */
+    private boolean containsQueryCharsInOrder(CharSequence name) {
+        int queryIndex = 0;
+        int queryLength = queryChars.length;
+        for(int i = 0, length = name.length(); i < length; i++) {
+            if(toLowerCase(name.charAt(i)) == queryChars[queryIndex]
+                    && (!pieceStarts[queryIndex] || EntityNameCharType.isWordStart(name, i))) {
+                queryIndex++;
+                if(queryIndex == queryLength) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static char toLowerCase(char ch) {
+        if(ch < 128) {
+            return 'A' <= ch && ch <= 'Z' ? (char) (ch + ('a' - 'A')) : ch;
+        }
+        return Character.toLowerCase(ch);
+    }
+
+    private class FilterRangeAction extends RecursiveAction {
+
+        private final List<? extends OWLEntityData> entityData;
+
+        private final boolean[] matched;
+
+        private final int from;
+
+        private final int to;
+
+        private FilterRangeAction(List<? extends OWLEntityData> entityData, boolean[] matched, int from, int to) {
+            this.entityData = entityData;
+            this.matched = matched;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if(to - from <= CHUNK_SIZE) {
+                new EntityNameMatcher(query, queryChars, pieceStarts).filterRange(entityData, matched, from, to);
+            }
+            else {
+                int mid = (from + to) >>> 1;
+                invokeAll(new FilterRangeAction(entityData, matched, from, mid),
+                          new FilterRangeAction(entityData, matched, mid, to));
+            }
+        }
+    }
+}
@@ -3,7 +3,7 @@ package edu.stanford.protege.webprotege.entity;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.auto.value.AutoValue;
-import com.google.common.base.Splitter;
+import com.google.common.base.CharMatcher;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import org.semanticweb.owlapi.model.EntityType;
@@ -12,7 +12,6 @@ import org.semanticweb.owlapi.model.OWLEntity;
 import org.semanticweb.owlapi.model.OWLEntityProvider;
 
 import javax.annotation.Nonnull;
-import java.util.List;
 import java.util.Objects;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -36,6 +35,18 @@ public abstract class FreshEntityIri {
 
     private static final String PARAM_SEPARATOR = "&";
 
+    private static final char COLON_CHAR = ':';
+
+    private static final char QUERY_SEPARATOR_CHAR = '?';
+
+    private static final char FRAGMENT_IDENTIFIER_CHAR = '#';
+
+    private static final char PARAM_SEPARATOR_CHAR = '&';
+
+    private static final char KEY_VALUE_SEPARATOR_CHAR = '=';
+
+    private static final char ESCAPE_CHAR = '%';
+
     public static final String AMPERSAND_ESCAPE = "%26";
 
     public static final String HASH_ESCAPE = "%23";
@@ -139,45 +150,155 @@ public abstract class FreshEntityIri {
         return Objects.equals(iri.getScheme(), SCHEME);
     }
 
+    /**
+     * Parses a fresh term IRI string.  The IRI is scanned once, from left to right, without splitting it into
+     * intermediate strings.
+     * @param iriString The IRI string
+     * @return The parsed {@link FreshEntityIri}
+     * @throws RuntimeException if the IRI string is not a well formed fresh term IRI
+     */
     @Nonnull
     public static FreshEntityIri parse(@Nonnull String iriString) {
-        int colonIndex = iriString.indexOf(":");
-        if(colonIndex == -1) {
-            throw new RuntimeException("Missing colon");
-        }
-        int querySeparatorIndex = iriString.indexOf(QUERY_SEPARATOR);
-        if(querySeparatorIndex == -1) {
-            throw new RuntimeException("Missing query separator (?)");
-        }
-        int fragmentIdentifierIndex = iriString.indexOf(FRAGMENT_IDENTIFIER);
-        if(fragmentIdentifierIndex == -1) {
-            throw new RuntimeException("Missing fragment identifier (#)");
-        }
-        if(!(colonIndex < querySeparatorIndex) && !(querySeparatorIndex < fragmentIdentifierIndex)) {
-            throw new RuntimeException("Malformed fresh " + SCHEME + " IRI");
-        }
-        final String queryToken = iriString.substring(querySeparatorIndex + 1, fragmentIdentifierIndex);
+        int fragmentIdentifierIndex = getFragmentIdentifierIndex(iriString);
+        int querySeparatorIndex = iriString.indexOf(QUERY_SEPARATOR_CHAR);
 
         String discriminator = "";
         String langTag = "";
         ImmutableSet.Builder<IRI> parentIris = ImmutableSet.builder();
 
-        for(String keyValue : Splitter.on(PARAM_SEPARATOR).trimResults().split(queryToken)) {
-            List<String> keyValueList = Splitter.on("=").splitToList(keyValue);
-            String key = keyValueList.get(0);
-            String value = keyValueList.get(1);
-            if(key.equals(DISCRIMINATOR_PARAM_NAME) && discriminator.isEmpty()) {
-                discriminator = value;
+        int paramStart = querySeparatorIndex + 1;
+        while(paramStart <= fragmentIdentifierIndex) {
+            int paramEnd = paramStart;
+            while(paramEnd < fragmentIdentifierIndex && iriString.charAt(paramEnd) != PARAM_SEPARATOR_CHAR) {
+                paramEnd++;
+            }
+            int keyStart = paramStart;
+            int valueEnd = paramEnd;
+            while(keyStart < valueEnd && CharMatcher.whitespace().matches(iriString.charAt(keyStart))) {
+                keyStart++;
+            }
+            while(valueEnd > keyStart && CharMatcher.whitespace().matches(iriString.charAt(valueEnd - 1))) {
+                valueEnd--;
+            }
+            int keyEnd = keyStart;
+            while(keyEnd < valueEnd && iriString.charAt(keyEnd) != KEY_VALUE_SEPARATOR_CHAR) {
+                keyEnd++;
+            }
+            if(keyEnd == valueEnd) {
+                throw new RuntimeException("Malformed query parameter in fresh " + SCHEME + " IRI");
+            }
+            int valueStart = keyEnd + 1;
+            if(isKey(iriString, keyStart, keyEnd, DISCRIMINATOR_PARAM_NAME)) {
+                if(discriminator.isEmpty()) {
+                    discriminator = iriString.substring(valueStart, valueEnd);
+                }
             }
-            else if(key.equals(LANG_TAG_PARAM_NAME) && langTag.isEmpty()) {
-                langTag = value;
+            else if(isKey(iriString, keyStart, keyEnd, LANG_TAG_PARAM_NAME)) {
+                if(langTag.isEmpty()) {
+                    langTag = iriString.substring(valueStart, valueEnd);
+                }
             }
-            else if(key.equals(PARENT_IRI_PARAM_NAME)) {
-                parentIris.add(IRI.create(value.replace(AMPERSAND_ESCAPE, "&").replace(HASH_ESCAPE, "#")));
+            else if(isKey(iriString, keyStart, keyEnd, PARENT_IRI_PARAM_NAME)) {
+                parentIris.add(IRI.create(decodeParentIri(iriString, valueStart, valueEnd)));
             }
+            paramStart = paramEnd + 1;
         }
 
         String suppliedName = iriString.substring(fragmentIdentifierIndex + 1);
         return FreshEntityIri.get(suppliedName, langTag, discriminator, parentIris.build());
     }
+
+    /**
+     * Extracts the supplied name from a fresh term IRI without parsing the other components of the IRI.
+     * The query parameters of the IRI are not examined or validated.
+     * @param iriString The fresh term IRI
+     * @return The supplied name
+     * @throws RuntimeException if the IRI string is not a well formed fresh term IRI
+     */
+    @Nonnull
+    public static String suppliedNameOf(@Nonnull CharSequence iriString) {
+        int fragmentIdentifierIndex = getFragmentIdentifierIndex(iriString);
+        return iriString.subSequence(fragmentIdentifierIndex + 1, iriString.length()).toString();
+    }
+
+    /**
+     * Finds the index of the fragment identifier in a fresh term IRI, checking that the IRI contains a colon and
+     * that the query separator precedes the fragment identifier.
+     */
+    private static int getFragmentIdentifierIndex(@Nonnull CharSequence iriString) {
+        boolean sawColon = false;
+        int querySeparatorIndex = -1;
+        int length = iriString.length();
+        for(int i = 0; i < length; i++) {
+            char ch = iriString.charAt(i);
+            if(ch == FRAGMENT_IDENTIFIER_CHAR) {
+                if(querySeparatorIndex == -1) {
+                    throw new RuntimeException("Missing query separator (?) before fragment identifier (#)");
+                }
+                if(!sawColon && !contains(iriString, i + 1, COLON_CHAR)) {
+                    throw new RuntimeException("Missing colon");
+                }
+                return i;
+            }
+            else if(ch == QUERY_SEPARATOR_CHAR) {
+                if(querySeparatorIndex == -1) {
+                    querySeparatorIndex = i;
+                }
+            }
+            else if(ch == COLON_CHAR) {
+                sawColon = true;
+            }
+        }
+        if(querySeparatorIndex == -1) {
+            throw new RuntimeException("Missing query separator (?)");
+        }
+        throw new RuntimeException("Missing fragment identifier (#)");
+    }
+
+    private static boolean contains(@Nonnull CharSequence charSequence, int fromIndex, char ch) {
+        for(int i = fromIndex; i < charSequence.length(); i++) {
+            if(charSequence.charAt(i) == ch) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isKey(@Nonnull String iriString, int keyStart, int keyEnd, @Nonnull String key) {
+        return keyEnd - keyStart == key.length() && iriString.startsWith(key, keyStart);
+    }
+
+    /**
+     * Decodes the escaped ampersands and hashes in a parent IRI, which is found in the specified range of the
+     * specified string.
+     */
+    @Nonnull
+    private static String decodeParentIri(@Nonnull String iriString, int start, int end) {
+        int firstEscape = iriString.indexOf(ESCAPE_CHAR, start);
+        if(firstEscape == -1 || firstEscape >= end) {
+            return iriString.substring(start, end);
+        }
+        StringBuilder sb = new StringBuilder(end - start);
+        sb.append(iriString, start, firstEscape);
+        int i = firstEscape;
+        while(i < end) {
+            char ch = iriString.charAt(i);
+            if(ch == ESCAPE_CHAR && i + 2 < end && iriString.charAt(i + 1) == '2') {
+                char lastEscapeChar = iriString.charAt(i + 2);
+                if(lastEscapeChar == '6') {
+                    sb.append('&');
+                    i += 3;
+                    continue;
+                }
+                else if(lastEscapeChar == '3') {
+                    sb.append('#');
+                    i += 3;
+                    continue;
+                }
+            }
+            sb.append(ch);
+            i++;
+        }
+        return sb.toString();
+    }
 }
@@ -30,17 +30,23 @@ import java.util.Optional;
 public abstract class IRIData extends OWLPrimitiveData {
 
     public static IRIData get(@Nonnull IRI iri, @Nonnull ImmutableMap<DictionaryLanguage, String> shortForms) {
-        return get(iri, toShortFormList(shortForms));
+        return get(iri, CompactShortForms.get(shortForms), false);
     }
 
     public static IRIData get(IRI iri,
                               ImmutableList<ShortForm> shortForms) {
-        return new AutoValue_IRIData(shortForms, false, iri);
+        return get(iri, shortForms, false);
     }
 
     public static IRIData get(IRI iri,
                               ImmutableList<ShortForm> shortForms,
                               boolean deprecated) {
+        return get(iri, CompactShortForms.get(shortForms), deprecated);
+    }
+
+    public static IRIData get(@Nonnull IRI iri,
+                              @Nonnull CompactShortForms shortForms,
+                              boolean deprecated) {
         return new AutoValue_IRIData(shortForms, deprecated, iri);
     }
 
@@ -48,9 +54,9 @@ public abstract class IRIData extends OWLPrimitiveData {
     private static IRIData get(@JsonProperty("iri") String iri,
                               @JsonProperty(value = "shortForms", defaultValue = "[]") ImmutableList<ShortForm> shortForms,
                                @JsonProperty(value = "deprecated", defaultValue = "false") boolean deprecated) {
-        return new AutoValue_IRIData(Objects.requireNonNullElse(shortForms, ImmutableList.of()),
-                                     deprecated,
-                                     IRI.create(iri));
+        return get(IRI.create(iri),
+                   CompactShortForms.get(Objects.requireNonNullElse(shortForms, ImmutableList.of())),
+                   deprecated);
     }
 
     @Nonnull
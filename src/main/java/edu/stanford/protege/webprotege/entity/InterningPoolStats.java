@@ -0,0 +1,91 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.auto.value.AutoValue;
+
+import javax.annotation.Nonnull;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     A snapshot of the metrics recorded by an {@link OWLEntityInterningPool}.
+ * </p>
+ */
+@AutoValue
+public abstract class InterningPoolStats {
+
+    @Nonnull
+    public static InterningPoolStats get(long iriHitCount,
+                                         long iriMissCount,
+                                         long entityHitCount,
+                                         long entityMissCount,
+                                         long estimatedBytesSaved) {
+        return get(iriHitCount, iriMissCount, entityHitCount, entityMissCount, 0, 0, estimatedBytesSaved);
+    }
+
+    @Nonnull
+    public static InterningPoolStats get(long iriHitCount,
+                                         long iriMissCount,
+                                         long entityHitCount,
+                                         long entityMissCount,
+                                         long shortFormHitCount,
+                                         long shortFormMissCount,
+                                         long estimatedBytesSaved) {
+        return new AutoValue_InterningPoolStats(iriHitCount,
+                                                iriMissCount,
+                                                entityHitCount,
+                                                entityMissCount,
+                                                shortFormHitCount,
+                                                shortFormMissCount,
+                                                estimatedBytesSaved);
+    }
+
+    /**
+     * The number of IRI lookups that returned a pooled IRI.
+     */
+    public abstract long getIriHitCount();
+
+    /**
+     * The number of IRI lookups that added an IRI to the pool.
+     */
+    public abstract long getIriMissCount();
+
+    /**
+     * The number of entity lookups that returned a pooled entity.
+     */
+    public abstract long getEntityHitCount();
+
+    /**
+     * The number of entity lookups that added an entity to the pool.
+     */
+    public abstract long getEntityMissCount();
+
+    /**
+     * The number of short form lookups that replaced a short form with an equal pooled short form.
+     */
+    public abstract long getShortFormHitCount();
+
+    /**
+     * The number of short form lookups that returned the specified short form itself, because it was added to
+     * the pool or was already the pooled instance.
+     */
+    public abstract long getShortFormMissCount();
+
+    /**
+     * An estimate of the number of bytes of heap that would have been retained by duplicate IRIs, entities and
+     * short forms had they not been replaced by pooled instances.  This is based on typical object sizes for a
+     * 64-bit JVM with compressed object pointers.
+     */
+    public abstract long getEstimatedBytesSaved();
+
+    /**
+     * Gets the proportion of all lookups (IRI lookups and entity lookups) that returned a pooled instance.
+     * @return The hit rate, between 0 and 1.  If there have been no lookups then the hit rate is 1.
+     */
+    public double getHitRate() {
+        long hitCount = getIriHitCount() + getEntityHitCount();
+        long requestCount = hitCount + getIriMissCount() + getEntityMissCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+}
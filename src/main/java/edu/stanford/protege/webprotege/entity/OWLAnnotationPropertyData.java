@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import edu.stanford.protege.webprotege.common.DictionaryLanguage;
@@ -39,21 +40,27 @@ public abstract class OWLAnnotationPropertyData extends OWLPropertyData {
     public static OWLAnnotationPropertyData get(@Nonnull OWLAnnotationProperty property,
                                             @Nonnull ImmutableMap<DictionaryLanguage, String> shortForms,
                                             boolean deprecated) {
-        return get(property, toShortFormList(shortForms), deprecated);
+        return get(property, CompactShortForms.get(shortForms), deprecated);
     }
 
     public static OWLAnnotationPropertyData get(OWLAnnotationProperty property,
                                                 ImmutableList<ShortForm> shortForms,
                                                 boolean deprecated) {
-        return new AutoValue_OWLAnnotationPropertyData(shortForms, deprecated, property);
+        return get(property, CompactShortForms.get(shortForms), deprecated);
     }
 
 
+    public static OWLAnnotationPropertyData get(@Nonnull OWLAnnotationProperty property,
+                                                @Nonnull CompactShortForms shortForms,
+                                                boolean deprecated) {
+        return new AutoValue_OWLAnnotationPropertyData(shortForms, deprecated, property);
+    }
+
     @JsonCreator
     private static OWLAnnotationPropertyData get(@JsonProperty("iri") String iri,
                                             @JsonProperty(value = "shortForms", defaultValue = "[]") ImmutableList<ShortForm> shortForms,
                                             @JsonProperty(value = "deprecated", defaultValue = "false") boolean deprecated) {
-        return new AutoValue_OWLAnnotationPropertyData(Objects.requireNonNullElse(shortForms, ImmutableList.of()), deprecated, new OWLAnnotationPropertyImpl(IRI.create(iri)));
+        return get(new OWLAnnotationPropertyImpl(IRI.create(iri)), CompactShortForms.get(Objects.requireNonNullElse(shortForms, ImmutableList.of())), deprecated);
     }
 
     @Nonnull
@@ -71,6 +78,27 @@ public abstract class OWLAnnotationPropertyData extends OWLPropertyData {
         return getEntity().getIRI().toString();
     }
 
+    @Memoized
+    @JsonIgnore
+    @Override
+    public String getBrowserText() {
+        return super.getBrowserText();
+    }
+
+    @Memoized
+    @JsonIgnore
+    @Override
+    public int getPrefixSeparatorIndex() {
+        return super.getPrefixSeparatorIndex();
+    }
+
+    @Memoized
+    @JsonIgnore
+    @Override
+    public String getUnquotedBrowserText() {
+        return super.getUnquotedBrowserText();
+    }
+
     @Override
     public <R, E extends Throwable> R accept(OWLPrimitiveDataVisitor<R, E> visitor) throws E {
         return visitor.visit(this);
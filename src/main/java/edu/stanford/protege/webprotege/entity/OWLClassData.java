@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import edu.stanford.protege.webprotege.common.DictionaryLanguage;
@@ -38,12 +39,18 @@ public abstract class OWLClassData extends OWLEntityData {
     public static OWLClassData get(@Nonnull OWLClass cls,
                                    @Nonnull ImmutableMap<DictionaryLanguage, String> shortForms,
                                    boolean deprecated) {
-        return get(cls, toShortFormList(shortForms), deprecated);
+        return get(cls, CompactShortForms.get(shortForms), deprecated);
     }
 
     public static OWLClassData get(@JsonProperty("entity") @Nonnull OWLClass cls,
                                    @JsonProperty("shortForms") @Nonnull ImmutableList<ShortForm> shortForms,
                                    @JsonProperty("deprecated") boolean deprecated) {
+        return get(cls, CompactShortForms.get(shortForms), deprecated);
+    }
+
+    public static OWLClassData get(@Nonnull OWLClass cls,
+                                   @Nonnull CompactShortForms shortForms,
+                                   boolean deprecated) {
         return new AutoValue_OWLClassData(shortForms, deprecated, cls);
     }
 
@@ -58,7 +65,7 @@ public abstract class OWLClassData extends OWLEntityData {
     protected static OWLClassData get(@JsonProperty("iri") @Nonnull String iri,
                                    @JsonProperty(value = "shortForms") @Nullable ImmutableList<ShortForm> shortForms,
                                    @JsonProperty("deprecated") boolean deprecated) {
-        return new AutoValue_OWLClassData(Objects.requireNonNullElse(shortForms, ImmutableList.of()), deprecated, new OWLClassImpl(IRI.create(iri)));
+        return get(new OWLClassImpl(IRI.create(iri)), CompactShortForms.get(Objects.requireNonNullElse(shortForms, ImmutableList.of())), deprecated);
     }
 
     @JsonIgnore
@@ -85,6 +92,27 @@ public abstract class OWLClassData extends OWLEntityData {
         return PrimitiveType.CLASS;
     }
 
+    @Memoized
+    @JsonIgnore
+    @Override
+    public String getBrowserText() {
+        return super.getBrowserText();
+    }
+
+    @Memoized
+    @JsonIgnore
+    @Override
+    public int getPrefixSeparatorIndex() {
+        return super.getPrefixSeparatorIndex();
+    }
+
+    @Memoized
+    @JsonIgnore
+    @Override
+    public String getUnquotedBrowserText() {
+        return super.getUnquotedBrowserText();
+    }
+
     @Override
     public <R, E extends Throwable> R accept(OWLPrimitiveDataVisitor<R, E> visitor) throws E {
         return visitor.visit(this);
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import edu.stanford.protege.webprotege.common.DictionaryLanguage;
@@ -37,12 +38,18 @@ public abstract class OWLDataPropertyData extends OWLPropertyData {
     public static OWLDataPropertyData get(@Nonnull OWLDataProperty property,
                                             @Nonnull ImmutableMap<DictionaryLanguage, String> shortForms,
                                             boolean deprecated) {
-        return get(property, toShortFormList(shortForms), deprecated);
+        return get(property, CompactShortForms.get(shortForms), deprecated);
     }
 
     public static OWLDataPropertyData get(@JsonProperty("entity") OWLDataProperty entity,
                                             @JsonProperty("shortForms") ImmutableList<ShortForm> shortForms,
                                             @JsonProperty("deprecated") boolean deprecated) {
+        return get(entity, CompactShortForms.get(shortForms), deprecated);
+    }
+
+    public static OWLDataPropertyData get(@Nonnull OWLDataProperty entity,
+                                          @Nonnull CompactShortForms shortForms,
+                                          boolean deprecated) {
         return new AutoValue_OWLDataPropertyData(shortForms, deprecated, entity);
     }
 
@@ -50,7 +57,7 @@ public abstract class OWLDataPropertyData extends OWLPropertyData {
     private static OWLDataPropertyData get(@JsonProperty("iri") String iri,
                                             @JsonProperty(value = "shortForms", defaultValue = "[]") ImmutableList<ShortForm> shortForms,
                                             @JsonProperty("deprecated") boolean deprecated) {
-        return new AutoValue_OWLDataPropertyData(Objects.requireNonNullElse(shortForms, ImmutableList.of()), deprecated, new OWLDataPropertyImpl(IRI.create(iri)));
+        return get(new OWLDataPropertyImpl(IRI.create(iri)), CompactShortForms.get(Objects.requireNonNullElse(shortForms, ImmutableList.of())), deprecated);
     }
 
     @Nonnull
@@ -78,6 +85,27 @@ public abstract class OWLDataPropertyData extends OWLPropertyData {
         return getEntity().getIRI().toString();
     }
 
+    @Memoized
+    @JsonIgnore
+    @Override
+    public String getBrowserText() {
+        return super.getBrowserText();
+    }
+
+    @Memoized
+    @JsonIgnore
+    @Override
+    public int getPrefixSeparatorIndex() {
+        return super.getPrefixSeparatorIndex();
+    }
+
+    @Memoized
+    @JsonIgnore
+    @Override
+    public String getUnquotedBrowserText() {
+        return super.getUnquotedBrowserText();
+    }
+
     @Override
     public <R, E extends Throwable> R accept(OWLPrimitiveDataVisitor<R, E> visitor) throws E {
         return visitor.visit(this);
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import edu.stanford.protege.webprotege.common.DictionaryLanguage;
@@ -37,12 +38,18 @@ public abstract class OWLDatatypeData extends OWLEntityData {
     public static OWLDatatypeData get(@Nonnull OWLDatatype datatype,
                                              @Nonnull ImmutableMap<DictionaryLanguage, String> shortForms,
                                              boolean deprecated) {
-        return get(datatype, toShortFormList(shortForms), deprecated);
+        return get(datatype, CompactShortForms.get(shortForms), deprecated);
     }
 
     public static OWLDatatypeData get(@JsonProperty("entity") OWLDatatype datatype,
                                              @JsonProperty("shortForms") ImmutableList<ShortForm> shortForms,
                                              @JsonProperty("deprecated") boolean deprecated) {
+        return get(datatype, CompactShortForms.get(shortForms), deprecated);
+    }
+
+    public static OWLDatatypeData get(@Nonnull OWLDatatype datatype,
+                                      @Nonnull CompactShortForms shortForms,
+                                      boolean deprecated) {
         return new AutoValue_OWLDatatypeData(shortForms, deprecated, datatype);
     }
 
@@ -50,7 +57,7 @@ public abstract class OWLDatatypeData extends OWLEntityData {
     private static OWLDatatypeData get(@JsonProperty("iri") String iri,
                                              @JsonProperty(value = "shortForms", defaultValue = "[]") ImmutableList<ShortForm> shortForms,
                                              @JsonProperty(value = "deprecated", defaultValue = "false") boolean deprecated) {
-        return new AutoValue_OWLDatatypeData(Objects.requireNonNullElse(shortForms, ImmutableList.of()), deprecated, new OWLDatatypeImpl(IRI.create(iri)));
+        return get(new OWLDatatypeImpl(IRI.create(iri)), CompactShortForms.get(Objects.requireNonNullElse(shortForms, ImmutableList.of())), deprecated);
     }
 
     @Nonnull
@@ -73,6 +80,27 @@ public abstract class OWLDatatypeData extends OWLEntityData {
         return getEntity().getIRI().toString();
     }
 
+    @Memoized
+    @JsonIgnore
+    @Override
+    public String getBrowserText() {
+        return super.getBrowserText();
+    }
+
+    @Memoized
+    @JsonIgnore
+    @Override
+    public int getPrefixSeparatorIndex() {
+        return super.getPrefixSeparatorIndex();
+    }
+
+    @Memoized
+    @JsonIgnore
+    @Override
+    public String getUnquotedBrowserText() {
+        return super.getUnquotedBrowserText();
+    }
+
     @Override
     public <R, E extends Throwable> R accept(OWLPrimitiveDataVisitor<R, E> visitor) throws E {
         return visitor.visit(this);
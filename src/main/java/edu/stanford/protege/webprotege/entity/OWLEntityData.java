@@ -9,6 +9,7 @@ import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnnotationValue;
 import org.semanticweb.owlapi.model.OWLEntity;
 
+import java.util.Comparator;
 import java.util.Optional;
 
 
@@ -29,6 +30,23 @@ import java.util.Optional;
 })
 public abstract class OWLEntityData extends OWLPrimitiveData {
 
+    /**
+     * Orders entity data by browser text, ignoring case and prefix names.  This is the order imposed by
+     * {@link #compareToIgnorePrefixNames(OWLEntityData)}.
+     */
+    public static final Comparator<OWLEntityData> IGNORE_PREFIX_NAMES_ORDER = OWLEntityData::compareToIgnorePrefixNames;
+
+    /**
+     * Orders entity data by unquoted browser text, ignoring case.  The unquoted browser text is not copied.
+     */
+    public static final Comparator<OWLEntityData> UNQUOTED_BROWSER_TEXT_ORDER = (first, second) ->
+            BrowserTextView.compareIgnoreCase(first.getBrowserText(),
+                                              first.getUnquotedBrowserTextStart(),
+                                              first.getUnquotedBrowserTextEnd(),
+                                              second.getBrowserText(),
+                                              second.getUnquotedBrowserTextStart(),
+                                              second.getUnquotedBrowserTextEnd());
+
     public OWLEntity getEntity() {
         return (OWLEntity) getObject();
     }
@@ -38,21 +56,33 @@ public abstract class OWLEntityData extends OWLPrimitiveData {
         return getEntity().getIRI().length() == 0;
     }
 
+    /**
+     * Compares the browser text of this entity data with the browser text of other entity data, ignoring case and
+     * ignoring anything before the prefix separator.  The browser text is not copied.
+     */
     public int compareToIgnorePrefixNames(OWLEntityData other) {
-        int prefixSepIndex = getPrefixSeparatorIndex();
-        String comparisonString = getBrowserText().substring(prefixSepIndex != -1 ? prefixSepIndex : 0);
-        int otherPrefixSepIndex = other.getPrefixSeparatorIndex();
-        String otherComparisonString = other.getBrowserText().substring(otherPrefixSepIndex != -1 ? otherPrefixSepIndex : 0);
-        return comparisonString.compareToIgnoreCase(otherComparisonString);
+        String browserText = getBrowserText();
+        String otherBrowserText = other.getBrowserText();
+        return BrowserTextView.compareIgnoreCase(browserText,
+                                                 getBrowserTextWithoutPrefixNameStart(),
+                                                 browserText.length(),
+                                                 otherBrowserText,
+                                                 other.getBrowserTextWithoutPrefixNameStart(),
+                                                 otherBrowserText.length());
     }
 
     public abstract <R> R accept(OWLEntityDataVisitorEx<R> visitor);
 
+    /**
+     * Computes the browser text for this entity.  Concrete subclasses memoize the result of this method (along
+     * with the derived prefix separator index and unquoted browser text) so that it is computed at most
+     * once per instance.
+     */
     @Override
     public String getBrowserText() {
         IRI iri = getEntity().getIRI();
         if(FreshEntityIri.isFreshEntityIri(iri)) {
-            return FreshEntityIri.parse(iri.toString()).getSuppliedName();
+            return FreshEntityIri.suppliedNameOf(iri.toString());
         }
         else {
             return getFirstShortForm(iri::toQuotedString);
@@ -68,15 +98,60 @@ public abstract class OWLEntityData extends OWLPrimitiveData {
         return getBrowserText().indexOf(':');
     }
 
+    /**
+     * Gets the index in the browser text at which the browser text without its prefix name starts.  This is the
+     * index of the prefix separator, or zero if the browser text does not contain a prefix separator.
+     */
+    @JsonIgnore
+    public int getBrowserTextWithoutPrefixNameStart() {
+        int prefixSeparatorIndex = getPrefixSeparatorIndex();
+        return prefixSeparatorIndex != -1 ? prefixSeparatorIndex : 0;
+    }
+
+    /**
+     * Gets a view of the browser text without its prefix name.  The browser text is not copied.
+     */
+    @JsonIgnore
+    public BrowserTextView getBrowserTextWithoutPrefixNameView() {
+        String browserText = getBrowserText();
+        return BrowserTextView.get(browserText, getBrowserTextWithoutPrefixNameStart(), browserText.length());
+    }
+
     @JsonIgnore
     public String getUnquotedBrowserText() {
         String browserText = getBrowserText();
-        if(browserText.startsWith("'") && browserText.endsWith("'")) {
-            return browserText.substring(1, browserText.length() - 1);
-        }
-        else {
-            return browserText;
-        }
+        return browserText.substring(getUnquotedBrowserTextStart(), getUnquotedBrowserTextEnd());
+    }
+
+    /**
+     * Gets the index in the browser text of the first character of the unquoted browser text.
+     */
+    @JsonIgnore
+    public int getUnquotedBrowserTextStart() {
+        return isQuoted(getBrowserText()) ? 1 : 0;
+    }
+
+    /**
+     * Gets the index in the browser text after the last character of the unquoted browser text.
+     */
+    @JsonIgnore
+    public int getUnquotedBrowserTextEnd() {
+        String browserText = getBrowserText();
+        return isQuoted(browserText) ? browserText.length() - 1 : browserText.length();
+    }
+
+    /**
+     * Gets a view of the unquoted browser text.  Unlike {@link #getUnquotedBrowserText()}, this does not copy the
+     * browser text.
+     */
+    @JsonIgnore
+    public BrowserTextView getUnquotedBrowserTextView() {
+        return BrowserTextView.get(getBrowserText(), getUnquotedBrowserTextStart(), getUnquotedBrowserTextEnd());
+    }
+
+    private static boolean isQuoted(String browserText) {
+        int length = browserText.length();
+        return length > 1 && browserText.charAt(0) == '\'' && browserText.charAt(length - 1) == '\'';
     }
 
     @Override
@@ -0,0 +1,235 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableList;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import org.semanticweb.owlapi.model.OWLEntity;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Creates {@link OWLEntityData} for large batches of entities.  The entities, their short forms and their
+ *     deprecation flags are supplied as parallel collections.  The kind of data to create is chosen with a
+ *     chain of type tests on the entity, so no visitor is allocated per element, and short forms are copied
+ *     straight into {@link CompactShortForms} without intermediate
+ *     {@link edu.stanford.protege.webprotege.common.ShortForm} objects.  A factory can optionally make identical
+ *     short form strings within a batch share a single {@link String} instance.  This reduces the memory that is
+ *     retained by long lived results (for example, when the same labels are supplied as distinct strings that were
+ *     read from a database) but it roughly doubles the cost of creating each element.
+ * </p>
+ * <p>
+ *     Batches that contain at least {@link #PARALLEL_THRESHOLD} entities are split into chunks that are
+ *     processed in parallel in a {@link ForkJoinPool} (unless the pool has a parallelism of one).  The order of the
+ *     result always matches the order of the input.  The supplied lists should support fast random access.
+ *     Factories are thread safe.
+ * </p>
+ */
+public final class OWLEntityDataBatchFactory {
+
+    /**
+     * The minimum size of a batch that is processed in parallel.
+     */
+    public static final int PARALLEL_THRESHOLD = 16_384;
+
+    private static final int CHUNK_SIZE = 4_096;
+
+    private static final OWLEntityDataBatchFactory COMMON_POOL_FACTORY =
+            new OWLEntityDataBatchFactory(ForkJoinPool.commonPool(), false);
+
+    private final ForkJoinPool pool;
+
+    private final boolean shareShortForms;
+
+    private OWLEntityDataBatchFactory(@Nonnull ForkJoinPool pool, boolean shareShortForms) {
+        this.pool = checkNotNull(pool);
+        this.shareShortForms = shareShortForms;
+    }
+
+    /**
+     * Gets a factory that processes large batches in the common fork-join pool.
+     */
+    @Nonnull
+    public static OWLEntityDataBatchFactory get() {
+        return COMMON_POOL_FACTORY;
+    }
+
+    /**
+     * Gets a factory that processes large batches in the specified pool.
+     */
+    @Nonnull
+    public static OWLEntityDataBatchFactory get(@Nonnull ForkJoinPool pool) {
+        return new OWLEntityDataBatchFactory(pool, false);
+    }
+
+    /**
+     * Gets a factory that processes large batches in the specified pool.
+     * @param pool The pool.
+     * @param shareShortForms true if identical short form strings within a batch should share a single
+     *                        {@link String} instance, otherwise false.
+     */
+    @Nonnull
+    public static OWLEntityDataBatchFactory get(@Nonnull ForkJoinPool pool, boolean shareShortForms) {
+        return new OWLEntityDataBatchFactory(pool, shareShortForms);
+    }
+
+    /**
+     * Creates entity data for a batch of non-deprecated entities.
+     * @see #create(List, List, BitSet)
+     */
+    @Nonnull
+    public ImmutableList<OWLEntityData> create(@Nonnull List<? extends OWLEntity> entities,
+                                               @Nonnull List<? extends Map<DictionaryLanguage, String>> shortForms) {
+        return create(entities, shortForms, new BitSet());
+    }
+
+    /**
+     * Creates entity data for a batch of entities.
+     * @param entities The entities.
+     * @param shortForms The short forms for each entity.  The short forms at index i are for the entity at index
+     *                   i.  The order of short forms is the iteration order of each map.
+     * @param deprecated The deprecation flags for the entities.  The entity at index i is deprecated if bit i
+     *                   is set.
+     * @return A list of entity data that is in the same order as the entities.
+     * @throws IllegalArgumentException if the number of entities and the number of short form maps differ.
+     */
+    @Nonnull
+    public ImmutableList<OWLEntityData> create(@Nonnull List<? extends OWLEntity> entities,
+                                               @Nonnull List<? extends Map<DictionaryLanguage, String>> shortForms,
+                                               @Nonnull BitSet deprecated) {
+        int size = entities.size();
+        checkArgument(size == shortForms.size(),
+                      "Expected %s short form maps but got %s", size, shortForms.size());
+        checkNotNull(deprecated);
+        OWLEntityData[] result = new OWLEntityData[size];
+        if(size < PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+            Map<String, String> canonicalStrings = shareShortForms ? new HashMap<>() : null;
+            createRange(entities, shortForms, deprecated, canonicalStrings, result, 0, size);
+        }
+        else {
+            // The chunks of the batch share one map so that strings are shared across the whole batch
+            Map<String, String> canonicalStrings = shareShortForms ? new ConcurrentHashMap<>() : null;
+            pool.invoke(new CreateRangeAction(entities, shortForms, deprecated, canonicalStrings, result, 0, size));
+        }
+        return ImmutableList.copyOf(result);
+    }
+
+    private static void createRange(List<? extends OWLEntity> entities,
+                                    List<? extends Map<DictionaryLanguage, String>> shortForms,
+                                    BitSet deprecated,
+                                    @Nullable Map<String, String> canonicalStrings,
+                                    OWLEntityData[] result,
+                                    int from,
+                                    int to) {
+        CompactShortForms.Builder builder = CompactShortForms.builder();
+        for(int i = from; i < to; i++) {
+            CompactShortForms entityShortForms = toCompactShortForms(shortForms.get(i), builder, canonicalStrings);
+            result[i] = createEntityData(entities.get(i), entityShortForms, deprecated.get(i));
+        }
+    }
+
+    private static CompactShortForms toCompactShortForms(Map<DictionaryLanguage, String> shortForms,
+                                                         CompactShortForms.Builder builder,
+                                                         @Nullable Map<String, String> canonicalStrings) {
+        if(shortForms.isEmpty()) {
+            return CompactShortForms.empty();
+        }
+        builder.clear();
+        if(canonicalStrings == null) {
+            shortForms.forEach(builder::add);
+        }
+        else {
+            for(Map.Entry<DictionaryLanguage, String> entry : shortForms.entrySet()) {
+                String shortForm = entry.getValue();
+                String canonicalShortForm = canonicalStrings.putIfAbsent(shortForm, shortForm);
+                builder.add(entry.getKey(), canonicalShortForm != null ? canonicalShortForm : shortForm);
+            }
+        }
+        return builder.build();
+    }
+
+    private static OWLEntityData createEntityData(OWLEntity entity,
+                                                  CompactShortForms shortForms,
+                                                  boolean deprecated) {
+        if(entity.isOWLClass()) {
+            return OWLClassData.get(entity.asOWLClass(), shortForms, deprecated);
+        }
+        else if(entity.isOWLNamedIndividual()) {
+            return OWLNamedIndividualData.get(entity.asOWLNamedIndividual(), shortForms, deprecated);
+        }
+        else if(entity.isOWLObjectProperty()) {
+            return OWLObjectPropertyData.get(entity.asOWLObjectProperty(), shortForms, deprecated);
+        }
+        else if(entity.isOWLAnnotationProperty()) {
+            return OWLAnnotationPropertyData.get(entity.asOWLAnnotationProperty(), shortForms, deprecated);
+        }
+        else if(entity.isOWLDataProperty()) {
+            return OWLDataPropertyData.get(entity.asOWLDataProperty(), shortForms, deprecated);
+        }
+        else if(entity.isOWLDatatype()) {
+            return OWLDatatypeData.get(entity.asOWLDatatype(), shortForms, deprecated);
+        }
+        else {
+            throw new RuntimeException("Unknown entity type " + entity.getEntityType());
+        }
+    }
+
+    private static class CreateRangeAction extends RecursiveAction {
+
+        private final List<? extends OWLEntity> entities;
+
+        private final List<? extends Map<DictionaryLanguage, String>> shortForms;
+
+        private final BitSet deprecated;
+
+        @Nullable
+        private final Map<String, String> canonicalStrings;
+
+        private final OWLEntityData[] result;
+
+        private final int from;
+
+        private final int to;
+
+        private CreateRangeAction(List<? extends OWLEntity> entities,
+                                  List<? extends Map<DictionaryLanguage, String>> shortForms,
+                                  BitSet deprecated,
+                                  @Nullable Map<String, String> canonicalStrings,
+                                  OWLEntityData[] result,
+                                  int from,
+                                  int to) {
+            this.entities = entities;
+            this.shortForms = shortForms;
+            this.deprecated = deprecated;
+            this.canonicalStrings = canonicalStrings;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if(to - from <= CHUNK_SIZE) {
+                createRange(entities, shortForms, deprecated, canonicalStrings, result, from, to);
+            }
+            else {
+                int mid = (from + to) >>> 1;
+                invokeAll(new CreateRangeAction(entities, shortForms, deprecated, canonicalStrings, result, from, mid),
+                          new CreateRangeAction(entities, shortForms, deprecated, canonicalStrings, result, mid, to));
+            }
+        }
+    }
+}
@@ -0,0 +1,467 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.collect.ImmutableList;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import edu.stanford.protege.webprotege.common.ProjectId;
+import org.semanticweb.owlapi.model.EntityType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLEntity;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     A bounded cache of {@link OWLEntityData}, so that services do not rebuild entity data for entities whose
+ *     short forms have not changed.  Entity data is cached per project and is keyed by the IRI and the type of the
+ *     entity, and by the languages (in order of preference) that the short forms were rendered for.  Concurrent
+ *     lookups of the same key return the same canonical instance.
+ * </p>
+ * <p>
+ *     Each project has its own partition that holds the entity data for at most a maximum number of IRIs.  The
+ *     entity data for an IRI is evicted when the partition is full or when it has not been accessed for the expiry
+ *     time.  When the short forms of an entity change, the entity data for its IRI (for all entity types and all
+ *     languages) must be invalidated with {@link #invalidate(ProjectId, IRI)}.
+ * </p>
+ * <p>
+ *     Entity data that is created by {@link #get(ProjectId, OWLEntity, ImmutableList, Supplier)} is not cached if
+ *     its IRI was invalidated while it was being created, because it may have been rendered from the short forms
+ *     that were replaced.  Each partition holds a striped array of generation numbers for this.  Invalidating an
+ *     IRI advances the generation of its stripe before removing the entity data, and newly created entity data is
+ *     only cached if the generation of its stripe is unchanged.
+ * </p>
+ * <p>
+ *     Caches are thread safe.  Hit, miss, eviction and invalidation counts are available from {@link #getStats()}.
+ * </p>
+ */
+public final class OWLEntityDataCache {
+
+    public static final long DEFAULT_MAXIMUM_SIZE_PER_PROJECT = 100_000;
+
+    public static final Duration DEFAULT_EXPIRY_TIME = Duration.ofMinutes(30);
+
+    /**
+     * The number of independently locked segments in each partition
+     */
+    private static final int CONCURRENCY_LEVEL = 16;
+
+    /**
+     * The number of generation numbers in each partition.  IRIs that share a generation number cause each other's
+     * newly created entity data to not be cached when they are invalidated, which is safe but unnecessary.
+     */
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final long maximumSizePerProject;
+
+    private final Duration expiryTime;
+
+    private final Ticker ticker;
+
+    private final ConcurrentMap<ProjectId, Partition> partitions = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    private final LongAdder invalidationCount = new LongAdder();
+
+    private OWLEntityDataCache(long maximumSizePerProject, Duration expiryTime, Ticker ticker) {
+        this.maximumSizePerProject = maximumSizePerProject;
+        this.expiryTime = expiryTime;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Creates a cache that holds the entity data for at most {@link #DEFAULT_MAXIMUM_SIZE_PER_PROJECT} IRIs per
+     * project and that evicts entity data that has not been accessed for {@link #DEFAULT_EXPIRY_TIME}.
+     */
+    @Nonnull
+    public static OWLEntityDataCache create() {
+        return create(DEFAULT_MAXIMUM_SIZE_PER_PROJECT, DEFAULT_EXPIRY_TIME);
+    }
+
+    /**
+     * Creates a cache.
+     * @param maximumSizePerProject The maximum number of IRIs per project that entity data is cached for.  Must be
+     *                              positive.
+     * @param expiryTime The time after which entity data that has not been accessed is evicted.  Must be positive.
+     */
+    @Nonnull
+    public static OWLEntityDataCache create(long maximumSizePerProject, @Nonnull Duration expiryTime) {
+        return create(maximumSizePerProject, expiryTime, Ticker.systemTicker());
+    }
+
+    @Nonnull
+    static OWLEntityDataCache create(long maximumSizePerProject, @Nonnull Duration expiryTime, @Nonnull Ticker ticker) {
+        checkArgument(maximumSizePerProject > 0, "maximumSizePerProject must be positive");
+        checkArgument(!expiryTime.isNegative() && !expiryTime.isZero(), "expiryTime must be positive");
+        return new OWLEntityDataCache(maximumSizePerProject, expiryTime, checkNotNull(ticker));
+    }
+
+    /**
+     * Gets the cached entity data for the specified entity, or creates and caches it if it is not cached.
+     * @param projectId The project that the entity is in.
+     * @param entity The entity.
+     * @param languages The languages, in order of preference, that the short forms of the entity data are
+     *                  rendered for.
+     * @param entityDataSupplier Creates the entity data if it is not cached.  The entity data must be for the
+     *                           specified entity.  This may be called by several threads at the same time for the
+     *                           same entity, in which case the first entity data to be cached is returned to all
+     *                           of them.
+     * @return The canonical entity data, or the created entity data if the IRI was invalidated while it was being
+     * created, in which case it is not cached.
+     * @throws IllegalStateException if the supplied entity data is for a different entity.
+     */
+    @Nonnull
+    public OWLEntityData get(@Nonnull ProjectId projectId,
+                             @Nonnull OWLEntity entity,
+                             @Nonnull ImmutableList<DictionaryLanguage> languages,
+                             @Nonnull Supplier<? extends OWLEntityData> entityDataSupplier) {
+        checkNotNull(entityDataSupplier);
+        OWLEntityData cached = getIfPresent(projectId, entity, languages);
+        if(cached != null) {
+            return cached;
+        }
+        Partition partition = getPartition(projectId);
+        IRI iri = entity.getIRI();
+        long generation = partition.getGeneration(iri);
+        OWLEntityData created = checkNotNull(entityDataSupplier.get());
+        checkState(created.getEntity().equals(entity), "Supplied data is for %s, not %s", created.getEntity(), entity);
+        return partition.putIfAbsent(iri, generation, entity.getEntityType(), languages, created);
+    }
+
+    /**
+     * Gets the cached entity data for the specified entity.
+     * @param projectId The project that the entity is in.
+     * @param entity The entity.
+     * @param languages The languages, in order of preference, that the short forms of the entity data are
+     *                  rendered for.
+     * @return The cached entity data, or {@code null} if no entity data is cached.
+     */
+    @Nullable
+    public OWLEntityData getIfPresent(@Nonnull ProjectId projectId,
+                                      @Nonnull OWLEntity entity,
+                                      @Nonnull ImmutableList<DictionaryLanguage> languages) {
+        checkNotNull(projectId);
+        checkNotNull(entity);
+        checkNotNull(languages);
+        Partition partition = partitions.get(projectId);
+        CachedEntityData cachedEntityData = partition != null ? partition.cache.getIfPresent(entity.getIRI()) : null;
+        OWLEntityData cached = cachedEntityData != null
+                ? cachedEntityData.get(entity.getEntityType(), languages)
+                : null;
+        if(cached != null) {
+            hitCount.increment();
+        }
+        else {
+            missCount.increment();
+        }
+        return cached;
+    }
+
+    /**
+     * Caches the specified entity data, replacing any entity data that is cached for the same entity and languages.
+     * @param projectId The project that the entity is in.
+     * @param languages The languages, in order of preference, that the short forms of the entity data are
+     *                  rendered for.
+     * @param entityData The entity data.
+     */
+    public void put(@Nonnull ProjectId projectId,
+                    @Nonnull ImmutableList<DictionaryLanguage> languages,
+                    @Nonnull OWLEntityData entityData) {
+        checkNotNull(languages);
+        OWLEntity entity = checkNotNull(entityData).getEntity();
+        getPartition(projectId).getCachedEntityData(entity.getIRI()).put(entity.getEntityType(), languages, entityData);
+    }
+
+    /**
+     * Invalidates the entity data for the specified IRI, for all entity types and all languages.
+     * @param projectId The project.
+     * @param iri The IRI.
+     */
+    public void invalidate(@Nonnull ProjectId projectId, @Nonnull IRI iri) {
+        checkNotNull(iri);
+        Partition partition = partitions.get(checkNotNull(projectId));
+        if(partition != null) {
+            partition.invalidate(iri);
+        }
+    }
+
+    /**
+     * Invalidates the entity data for each of the specified IRIs, for all entity types and all languages.  Each IRI
+     * is invalidated separately, holding only the lock for the part of the partition that contains it, so reads of
+     * other IRIs are not blocked while a large batch is invalidated.
+     * @param projectId The project.
+     * @param iris The IRIs.
+     */
+    public void invalidate(@Nonnull ProjectId projectId, @Nonnull Iterable<IRI> iris) {
+        checkNotNull(iris);
+        Partition partition = partitions.get(checkNotNull(projectId));
+        if(partition != null) {
+            for(IRI iri : iris) {
+                partition.invalidate(iri);
+            }
+        }
+    }
+
+    /**
+     * Invalidates the entity data that is affected by the specified changes.  The entity data for an IRI is
+     * invalidated (for all entity types and all languages) if the entity data for any of the entity types and
+     * languages that are cached for it is affected by the changes.  Entity data that is being created for any of
+     * the changed IRIs is not cached, because it is not known which languages it is being rendered for.
+     * @param projectId The project.
+     * @param changes The changes.
+     */
+    public void invalidate(@Nonnull ProjectId projectId, @Nonnull OWLEntityDataChanges changes) {
+        checkNotNull(changes);
+        Partition partition = partitions.get(checkNotNull(projectId));
+        if(partition == null) {
+            return;
+        }
+        ConcurrentMap<IRI, CachedEntityData> partitionMap = partition.cache.asMap();
+        for(IRI subject : changes.getSubjects()) {
+            partition.advanceGeneration(subject);
+            CachedEntityData cachedEntityData = partitionMap.get(subject);
+            if(cachedEntityData != null && cachedEntityData.isAffectedBy(subject, changes)) {
+                partition.cache.invalidate(subject);
+            }
+        }
+    }
+
+    /**
+     * Invalidates all entity data for the specified project.
+     * @param projectId The project.
+     */
+    public void invalidateAll(@Nonnull ProjectId projectId) {
+        // Entity data that is being created is cached in the removed partition, which is no longer reachable
+        Partition partition = partitions.remove(checkNotNull(projectId));
+        if(partition != null) {
+            partition.cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Invalidates all entity data for all projects.
+     */
+    public void invalidateAll() {
+        for(ProjectId projectId : partitions.keySet()) {
+            invalidateAll(projectId);
+        }
+    }
+
+    /**
+     * Gets the number of IRIs that entity data is cached for in the specified project.  This may include entity
+     * data that has expired but has not yet been evicted.
+     * @param projectId The project.
+     */
+    public long size(@Nonnull ProjectId projectId) {
+        Partition partition = partitions.get(checkNotNull(projectId));
+        return partition != null ? partition.cache.size() : 0;
+    }
+
+    /**
+     * Evicts expired entity data.  Expired entity data is otherwise evicted gradually as the cache is used.
+     */
+    public void cleanUp() {
+        for(Partition partition : partitions.values()) {
+            partition.cache.cleanUp();
+        }
+    }
+
+    /**
+     * Gets a snapshot of the metrics for this cache.
+     */
+    @Nonnull
+    public OWLEntityDataCacheStats getStats() {
+        return OWLEntityDataCacheStats.get(hitCount.sum(),
+                                           missCount.sum(),
+                                           evictionCount.sum(),
+                                           invalidationCount.sum());
+    }
+
+    private Partition getPartition(ProjectId projectId) {
+        return partitions.computeIfAbsent(checkNotNull(projectId), id -> newPartition());
+    }
+
+    private Partition newPartition() {
+        return new Partition(CacheBuilder.newBuilder()
+                                         .concurrencyLevel(CONCURRENCY_LEVEL)
+                                         .maximumSize(maximumSizePerProject)
+                                         .expireAfterAccess(expiryTime)
+                                         .ticker(ticker)
+                                         .removalListener(this::recordRemoval)
+                                         .build());
+    }
+
+    private void recordRemoval(RemovalNotification<IRI, CachedEntityData> notification) {
+        CachedEntityData cachedEntityData = notification.getValue();
+        int count = cachedEntityData != null ? cachedEntityData.size() : 0;
+        if(notification.wasEvicted()) {
+            evictionCount.add(count);
+        }
+        else {
+            invalidationCount.add(count);
+        }
+    }
+
+    /**
+     * The entity data for the IRIs in one project, and the generation numbers of the IRIs
+     */
+    private static final class Partition {
+
+        private final Cache<IRI, CachedEntityData> cache;
+
+        private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+        private Partition(Cache<IRI, CachedEntityData> cache) {
+            this.cache = cache;
+        }
+
+        private long getGeneration(IRI iri) {
+            return generations.get(getStripe(iri));
+        }
+
+        private void advanceGeneration(IRI iri) {
+            generations.incrementAndGet(getStripe(iri));
+        }
+
+        private static int getStripe(IRI iri) {
+            int h = iri.hashCode();
+            return (h ^ (h >>> 16)) & (GENERATION_STRIPES - 1);
+        }
+
+        private void invalidate(IRI iri) {
+            // The generation is advanced first so that entity data that is cached after the removal is rejected
+            advanceGeneration(iri);
+            cache.invalidate(iri);
+        }
+
+        private CachedEntityData getCachedEntityData(IRI iri) {
+            // There is no loading here that can fail
+            return cache.asMap().computeIfAbsent(iri, i -> new CachedEntityData());
+        }
+
+        /**
+         * Caches the specified entity data if there is no entity data for its key and the generation of the IRI is
+         * the specified generation.  This holds the lock for the IRI, which is also held by invalidation.
+         */
+        private OWLEntityData putIfAbsent(IRI iri,
+                                          long generation,
+                                          EntityType<?> entityType,
+                                          ImmutableList<DictionaryLanguage> languages,
+                                          OWLEntityData entityData) {
+            OWLEntityData[] canonical = {entityData};
+            cache.asMap().compute(iri, (i, cachedEntityData) -> {
+                if(getGeneration(iri) != generation) {
+                    return cachedEntityData;
+                }
+                CachedEntityData result = cachedEntityData != null ? cachedEntityData : new CachedEntityData();
+                canonical[0] = result.putIfAbsent(entityType, languages, entityData);
+                return result;
+            });
+            return canonical[0];
+        }
+    }
+
+    /**
+     * The entity data for one IRI.  There is usually a single entity type and a single list of languages, so the
+     * keys and values are held in small copy-on-write arrays rather than in a map.
+     */
+    private static final class CachedEntityData {
+
+        private static final Object[] EMPTY = new Object[0];
+
+        /**
+         * Entity type, languages and entity data triples
+         */
+        private volatile Object[] entries = EMPTY;
+
+        @Nullable
+        private OWLEntityData get(EntityType<?> entityType, ImmutableList<DictionaryLanguage> languages) {
+            Object[] entries = this.entries;
+            int index = indexOf(entries, entityType, languages);
+            return index != -1 ? (OWLEntityData) entries[index + 2] : null;
+        }
+
+        private synchronized OWLEntityData putIfAbsent(EntityType<?> entityType,
+                                                       ImmutableList<DictionaryLanguage> languages,
+                                                       OWLEntityData entityData) {
+            int index = indexOf(entries, entityType, languages);
+            if(index != -1) {
+                return (OWLEntityData) entries[index + 2];
+            }
+            append(entityType, languages, entityData);
+            return entityData;
+        }
+
+        private synchronized void put(EntityType<?> entityType,
+                                      ImmutableList<DictionaryLanguage> languages,
+                                      OWLEntityData entityData) {
+            int index = indexOf(entries, entityType, languages);
+            if(index != -1) {
+                Object[] replaced = entries.clone();
+                replaced[index + 2] = entityData;
+                entries = replaced;
+            }
+            else {
+                append(entityType, languages, entityData);
+            }
+        }
+
+        private void append(EntityType<?> entityType,
+                            ImmutableList<DictionaryLanguage> languages,
+                            OWLEntityData entityData) {
+            Object[] appended = Arrays.copyOf(entries, entries.length + 3);
+            appended[entries.length] = entityType;
+            appended[entries.length + 1] = languages;
+            appended[entries.length + 2] = entityData;
+            entries = appended;
+        }
+
+        private boolean isAffectedBy(IRI subject, OWLEntityDataChanges changes) {
+            Object[] entries = this.entries;
+            for(int i = 0; i < entries.length; i += 3) {
+                @SuppressWarnings("unchecked")
+                ImmutableList<DictionaryLanguage> languages = (ImmutableList<DictionaryLanguage>) entries[i + 1];
+                if(changes.affects(subject, languages)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int size() {
+            return entries.length / 3;
+        }
+
+        private static int indexOf(Object[] entries, EntityType<?> entityType, ImmutableList<DictionaryLanguage> languages) {
+            for(int i = 0; i < entries.length; i += 3) {
+                Object cachedLanguages = entries[i + 1];
+                if(entries[i].equals(entityType) && (cachedLanguages == languages || cachedLanguages.equals(languages))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.auto.value.AutoValue;
+
+import javax.annotation.Nonnull;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     A snapshot of the metrics recorded by an {@link OWLEntityDataCache}.
+ * </p>
+ */
+@AutoValue
+public abstract class OWLEntityDataCacheStats {
+
+    @Nonnull
+    public static OWLEntityDataCacheStats get(long hitCount,
+                                              long missCount,
+                                              long evictionCount,
+                                              long invalidationCount) {
+        return new AutoValue_OWLEntityDataCacheStats(hitCount, missCount, evictionCount, invalidationCount);
+    }
+
+    /**
+     * The number of lookups that returned cached entity data.
+     */
+    public abstract long getHitCount();
+
+    /**
+     * The number of lookups that did not find cached entity data.
+     */
+    public abstract long getMissCount();
+
+    /**
+     * The number of cached entity data that were removed because the cache was full or because they had not been
+     * accessed for the expiry time.
+     */
+    public abstract long getEvictionCount();
+
+    /**
+     * The number of cached entity data that were removed by explicit invalidation.
+     */
+    public abstract long getInvalidationCount();
+
+    /**
+     * Gets the proportion of lookups that returned cached entity data.
+     * @return The hit rate, between 0 and 1.  If there have been no lookups then the hit rate is 1.
+     */
+    public double getHitRate() {
+        long requestCount = getHitCount() + getMissCount();
+        return requestCount == 0 ? 1.0 : (double) getHitCount() / requestCount;
+    }
+}
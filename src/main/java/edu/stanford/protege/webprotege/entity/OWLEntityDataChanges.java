@@ -0,0 +1,166 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import edu.stanford.protege.webprotege.common.AnnotationAssertionDictionaryLanguage;
+import edu.stanford.protege.webprotege.common.AnnotationAssertionPathDictionaryLanguage;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import org.semanticweb.owlapi.change.AxiomChangeData;
+import org.semanticweb.owlapi.change.OWLOntologyChangeData;
+import org.semanticweb.owlapi.change.OWLOntologyChangeRecord;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
+
+import javax.annotation.Nonnull;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     The changes to entity data that are implied by a batch of ontology changes.  The short forms and the
+ *     deprecation status of entity data are rendered from annotation assertions on the entity IRI, so only
+ *     added and removed annotation assertions whose subject is an IRI are recorded.  For each subject the
+ *     annotation properties of the changed assertions are recorded, so that cached entity data can be invalidated
+ *     only if it was rendered with one of those properties.
+ * </p>
+ * <p>
+ *     Short forms that are rendered along a path of annotation assertions
+ *     ({@link AnnotationAssertionPathDictionaryLanguage}) are affected by a change to an assertion on the subject
+ *     whose property is anywhere in the path.  Changes to assertions on the intermediate values of a path are not
+ *     traced back to the subject.
+ * </p>
+ */
+public final class OWLEntityDataChanges {
+
+    private static final IRI DEPRECATED = OWLRDFVocabulary.OWL_DEPRECATED.getIRI();
+
+    private static final OWLEntityDataChanges EMPTY = new OWLEntityDataChanges(ImmutableSetMultimap.of());
+
+    private final ImmutableSetMultimap<IRI, IRI> changedPropertiesBySubject;
+
+    private OWLEntityDataChanges(ImmutableSetMultimap<IRI, IRI> changedPropertiesBySubject) {
+        this.changedPropertiesBySubject = changedPropertiesBySubject;
+    }
+
+    /**
+     * Gets the changes to entity data that are implied by the specified ontology changes.
+     * @param changes The ontology changes.
+     */
+    @Nonnull
+    public static OWLEntityDataChanges get(@Nonnull Iterable<? extends OWLOntologyChange> changes) {
+        ImmutableSetMultimap.Builder<IRI, IRI> builder = ImmutableSetMultimap.builder();
+        for(OWLOntologyChange change : checkNotNull(changes)) {
+            if(change.isAxiomChange()) {
+                addAxiom(change.getAxiom(), builder);
+            }
+        }
+        return build(builder);
+    }
+
+    /**
+     * Gets the changes to entity data that are implied by the specified ontology change records.  Unlike
+     * {@link OWLOntologyChange}s, change records do not refer to an ontology object, so they can be received from
+     * other services.
+     * @param changeRecords The change records.
+     */
+    @Nonnull
+    public static OWLEntityDataChanges getFromChangeRecords(@Nonnull Iterable<OWLOntologyChangeRecord> changeRecords) {
+        ImmutableSetMultimap.Builder<IRI, IRI> builder = ImmutableSetMultimap.builder();
+        for(OWLOntologyChangeRecord changeRecord : checkNotNull(changeRecords)) {
+            OWLOntologyChangeData data = changeRecord.getData();
+            if(data instanceof AxiomChangeData) {
+                addAxiom(((AxiomChangeData) data).getAxiom(), builder);
+            }
+        }
+        return build(builder);
+    }
+
+    private static void addAxiom(OWLAxiom axiom, ImmutableSetMultimap.Builder<IRI, IRI> builder) {
+        if(!(axiom instanceof OWLAnnotationAssertionAxiom)) {
+            return;
+        }
+        OWLAnnotationAssertionAxiom assertion = (OWLAnnotationAssertionAxiom) axiom;
+        if(assertion.getSubject() instanceof IRI) {
+            builder.put((IRI) assertion.getSubject(), assertion.getProperty().getIRI());
+        }
+    }
+
+    private static OWLEntityDataChanges build(ImmutableSetMultimap.Builder<IRI, IRI> builder) {
+        ImmutableSetMultimap<IRI, IRI> changedPropertiesBySubject = builder.build();
+        return changedPropertiesBySubject.isEmpty() ? EMPTY : new OWLEntityDataChanges(changedPropertiesBySubject);
+    }
+
+    /**
+     * Gets the IRIs that are the subjects of changed annotation assertions.  The entity data for entities with
+     * other IRIs is not affected by the changes.
+     */
+    @Nonnull
+    public ImmutableSet<IRI> getSubjects() {
+        return changedPropertiesBySubject.keySet();
+    }
+
+    /**
+     * Determines whether there are no changes to entity data.
+     */
+    public boolean isEmpty() {
+        return changedPropertiesBySubject.isEmpty();
+    }
+
+    /**
+     * Determines whether the entity data for the specified IRI, rendered for the specified languages, is affected
+     * by the changes.  It is affected if its deprecation status changed, or if the short form for one of the
+     * languages is rendered from a changed annotation property.  Short forms for languages that are not annotation
+     * based (local names, prefixed names and OBO ids) are not affected by annotation changes.
+     * @param subject The IRI.
+     * @param languages The languages.
+     */
+    public boolean affects(@Nonnull IRI subject, @Nonnull ImmutableList<DictionaryLanguage> languages) {
+        ImmutableSet<IRI> changedProperties = changedPropertiesBySubject.get(checkNotNull(subject));
+        if(changedProperties.isEmpty()) {
+            return false;
+        }
+        if(changedProperties.contains(DEPRECATED)) {
+            return true;
+        }
+        for(DictionaryLanguage language : languages) {
+            if(isAffected(language, changedProperties)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAffected(DictionaryLanguage language, ImmutableSet<IRI> changedProperties) {
+        if(!language.isAnnotationBased()) {
+            return false;
+        }
+        if(language instanceof AnnotationAssertionDictionaryLanguage) {
+            return changedProperties.contains(((AnnotationAssertionDictionaryLanguage) language).getAnnotationPropertyIri());
+        }
+        if(language instanceof AnnotationAssertionPathDictionaryLanguage) {
+            for(IRI property : ((AnnotationAssertionPathDictionaryLanguage) language).getAnnotationPropertyPath()) {
+                if(changedProperties.contains(property)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        // An annotation based language that we do not know how to inspect
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper("OWLEntityDataChanges")
+                          .addValue(changedPropertiesBySubject)
+                          .toString();
+    }
+}
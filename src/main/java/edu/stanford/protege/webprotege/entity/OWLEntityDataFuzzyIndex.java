@@ -0,0 +1,502 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Ordering;
+
+import javax.annotation.Nonnull;
+import java.util.*;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     An in-memory index that finds {@link OWLEntityData} whose short forms contain words that are within a
+ *     bounded edit distance of the words in a query, so that searches with typos ("haert atack") still find
+ *     entities ("Heart attack").  Short forms (or the browser text, for entities without short forms) are split
+ *     into words using {@link EntityNameCharType} and matched case insensitively.  An entity matches a query if
+ *     every word in the query is within the maximum distance of some word in one of the entity's short forms.
+ * </p>
+ * <p>
+ *     The distinct words are held in a BK-tree under the Levenshtein distance, and each word has a sorted posting
+ *     list of the entities that contain it.  Searching a BK-tree only computes the distance to a small fraction of
+ *     the words, because the triangle inequality rules out whole subtrees.  Short query words allow fewer edits,
+ *     since almost every short word is within a couple of edits of every other: words of one or two characters
+ *     must match exactly, and words of three or four characters may be at most one edit away.  Words that contain
+ *     digits (such as the numeric parts of identifiers) and very long words are only matched exactly.  They are
+ *     not put in the BK-tree, which keeps the tree small for ontologies with many unlabelled entities.
+ * </p>
+ * <p>
+ *     Results are ranked by the sum of the edit distances of the query words, then by the length of the browser
+ *     text and then alphabetically.  The index is immutable and safe for concurrent use.  It should be rebuilt
+ *     when entities change.
+ * </p>
+ */
+public final class OWLEntityDataFuzzyIndex {
+
+    private static final int NO_NODE = -1;
+
+    private static final int DISTANCE_BITS = 8;
+
+    private static final int MAX_DISTANCE = (1 << DISTANCE_BITS) - 1;
+
+    /**
+     * The length of the longest word that is matched approximately.
+     */
+    private static final int MAX_FUZZY_WORD_LENGTH = 32;
+
+    private final OWLEntityData[] entries;
+
+    /**
+     * The distinct lower case words, by word id.  The word with id i is node i of the BK-tree, if it is in the tree.
+     */
+    private final String[] words;
+
+    private final Map<String, Integer> wordIds;
+
+    private final int rootWordId;
+
+    /**
+     * The sorted ids of the entities that contain each word, by word id.
+     */
+    private final int[][] postings;
+
+    private final int[] firstChildren;
+
+    private final int[] nextSiblings;
+
+    /**
+     * The distance between each node and its parent.
+     */
+    private final int[] parentDistances;
+
+    private final int maxWordLength;
+
+    private OWLEntityDataFuzzyIndex(OWLEntityData[] entries,
+                                    String[] words,
+                                    Map<String, Integer> wordIds,
+                                    int rootWordId,
+                                    int[][] postings,
+                                    int[] firstChildren,
+                                    int[] nextSiblings,
+                                    int[] parentDistances,
+                                    int maxWordLength) {
+        this.entries = entries;
+        this.words = words;
+        this.wordIds = wordIds;
+        this.rootWordId = rootWordId;
+        this.postings = postings;
+        this.firstChildren = firstChildren;
+        this.nextSiblings = nextSiblings;
+        this.parentDistances = parentDistances;
+        this.maxWordLength = maxWordLength;
+    }
+
+    /**
+     * Creates an index of the specified entity data.
+     * @param entityData The entity data.
+     */
+    @Nonnull
+    public static OWLEntityDataFuzzyIndex create(@Nonnull Collection<? extends OWLEntityData> entityData) {
+        checkNotNull(entityData);
+        OWLEntityData[] entries = entityData.toArray(new OWLEntityData[0]);
+        Map<String, Integer> wordIds = new HashMap<>();
+        List<String> words = new ArrayList<>();
+        List<IntList> postings = new ArrayList<>();
+        WordSplitter splitter = new WordSplitter();
+        List<String> entityWords = new ArrayList<>();
+        for(int entityId = 0; entityId < entries.length; entityId++) {
+            OWLEntityData data = checkNotNull(entries[entityId]);
+            entityWords.clear();
+            CompactShortForms shortForms = data.getCompactShortForms();
+            if(shortForms.isEmpty()) {
+                splitter.split(data.getBrowserText(), entityWords);
+            }
+            else {
+                for(int i = 0; i < shortForms.size(); i++) {
+                    splitter.split(shortForms.getShortForm(i), entityWords);
+                }
+            }
+            for(String word : entityWords) {
+                Integer wordId = wordIds.get(word);
+                if(wordId == null) {
+                    wordId = words.size();
+                    wordIds.put(word, wordId);
+                    words.add(word);
+                    postings.add(new IntList());
+                }
+                IntList wordPostings = postings.get(wordId);
+                // An entity may contain a word more than once, but entities are added in order
+                if(wordPostings.size == 0 || wordPostings.values[wordPostings.size - 1] != entityId) {
+                    wordPostings.add(entityId);
+                }
+            }
+        }
+        int wordCount = words.size();
+        int maxWordLength = 0;
+        for(String word : words) {
+            maxWordLength = Math.max(maxWordLength, word.length());
+        }
+        int[] firstChildren = new int[wordCount];
+        int[] nextSiblings = new int[wordCount];
+        int[] parentDistances = new int[wordCount];
+        Arrays.fill(firstChildren, NO_NODE);
+        Arrays.fill(nextSiblings, NO_NODE);
+        int[] previousRow = new int[maxWordLength + 1];
+        int[] currentRow = new int[maxWordLength + 1];
+        int rootWordId = NO_NODE;
+        for(int wordId = 0; wordId < wordCount; wordId++) {
+            String word = words.get(wordId);
+            if(!isFuzzyWord(word)) {
+                continue;
+            }
+            if(rootWordId == NO_NODE) {
+                rootWordId = wordId;
+                continue;
+            }
+            int node = rootWordId;
+            while(true) {
+                int distance = getDistance(word, words.get(node), previousRow, currentRow);
+                int child = firstChildren[node];
+                while(child != NO_NODE && parentDistances[child] != distance) {
+                    child = nextSiblings[child];
+                }
+                if(child == NO_NODE) {
+                    parentDistances[wordId] = distance;
+                    nextSiblings[wordId] = firstChildren[node];
+                    firstChildren[node] = wordId;
+                    break;
+                }
+                node = child;
+            }
+        }
+        int[][] postingArrays = new int[wordCount][];
+        for(int wordId = 0; wordId < wordCount; wordId++) {
+            postingArrays[wordId] = postings.get(wordId).toArray();
+        }
+        return new OWLEntityDataFuzzyIndex(entries,
+                                           words.toArray(new String[0]),
+                                           wordIds,
+                                           rootWordId,
+                                           postingArrays,
+                                           firstChildren,
+                                           nextSiblings,
+                                           parentDistances,
+                                           maxWordLength);
+    }
+
+    /**
+     * Gets the number of entities in the index.
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * Gets the number of distinct words in the index.
+     */
+    public int getWordCount() {
+        return words.length;
+    }
+
+    /**
+     * Finds the entity data whose short forms contain words that are close to each of the words in the query.
+     * @param query The query.
+     * @param maxDistance The maximum edit distance between a query word and a word in a short form.  Short query
+     *                    words are allowed fewer edits.
+     * @param limit The maximum number of results.
+     * @return The best matching entity data.  A query without any words matches nothing.
+     * @throws IllegalArgumentException if {@code maxDistance} or {@code limit} is negative.
+     */
+    @Nonnull
+    public ImmutableList<OWLEntityData> search(@Nonnull String query, int maxDistance, int limit) {
+        checkNotNull(query);
+        checkArgument(maxDistance >= 0, "maxDistance must not be negative");
+        checkArgument(limit >= 0, "limit must not be negative");
+        List<String> queryWords = new ArrayList<>();
+        new WordSplitter().split(query, queryWords);
+        if(queryWords.isEmpty() || limit == 0 || words.length == 0) {
+            return ImmutableList.of();
+        }
+        int[] matchIds = null;
+        int[] matchDistances = null;
+        int matchCount = 0;
+        for(String queryWord : queryWords) {
+            int wordMaxDistance = Math.min(Math.min(maxDistance, getMaxDistanceForLength(queryWord.length())),
+                                           MAX_DISTANCE);
+            long[] wordMatches = findEntities(queryWord, wordMaxDistance);
+            if(matchIds == null) {
+                matchIds = new int[wordMatches.length];
+                matchDistances = new int[wordMatches.length];
+                for(long wordMatch : wordMatches) {
+                    matchIds[matchCount] = (int) (wordMatch >>> DISTANCE_BITS);
+                    matchDistances[matchCount] = (int) (wordMatch & MAX_DISTANCE);
+                    matchCount++;
+                }
+            }
+            else {
+                // Intersect the sorted entity ids, summing the distances
+                int intersectionCount = 0;
+                int wordMatchIndex = 0;
+                for(int i = 0; i < matchCount && wordMatchIndex < wordMatches.length; i++) {
+                    int entityId = matchIds[i];
+                    while(wordMatchIndex < wordMatches.length
+                            && (int) (wordMatches[wordMatchIndex] >>> DISTANCE_BITS) < entityId) {
+                        wordMatchIndex++;
+                    }
+                    if(wordMatchIndex < wordMatches.length
+                            && (int) (wordMatches[wordMatchIndex] >>> DISTANCE_BITS) == entityId) {
+                        matchIds[intersectionCount] = entityId;
+                        matchDistances[intersectionCount] = matchDistances[i]
+                                + (int) (wordMatches[wordMatchIndex] & MAX_DISTANCE);
+                        intersectionCount++;
+                    }
+                }
+                matchCount = intersectionCount;
+            }
+            if(matchCount == 0) {
+                return ImmutableList.of();
+            }
+        }
+        return selectBest(matchIds, matchDistances, matchCount, limit);
+    }
+
+    /**
+     * Finds the entities that contain a word within the specified distance of the query word.
+     * @return The entity ids, each packed with the smallest distance of a word in the entity, sorted by id.
+     */
+    private long[] findEntities(String queryWord, int maxDistance) {
+        if(maxDistance == 0 || !isFuzzyWord(queryWord) || rootWordId == NO_NODE) {
+            Integer wordId = wordIds.get(queryWord);
+            if(wordId == null) {
+                return new long[0];
+            }
+            int[] wordPostings = postings[wordId];
+            long[] entityMatches = new long[wordPostings.length];
+            for(int i = 0; i < wordPostings.length; i++) {
+                entityMatches[i] = (long) wordPostings[i] << DISTANCE_BITS;
+            }
+            return entityMatches;
+        }
+        int rowLength = Math.max(queryWord.length(), maxWordLength) + 1;
+        int[] previousRow = new int[rowLength];
+        int[] currentRow = new int[rowLength];
+        IntList stack = new IntList();
+        List<int[]> matchedPostings = new ArrayList<>();
+        IntList matchedDistances = new IntList();
+        int postingCount = 0;
+        stack.add(rootWordId);
+        while(stack.size > 0) {
+            stack.size--;
+            int node = stack.values[stack.size];
+            int distance = getDistance(queryWord, words[node], previousRow, currentRow);
+            if(distance <= maxDistance) {
+                matchedPostings.add(postings[node]);
+                matchedDistances.add(distance);
+                postingCount += postings[node].length;
+            }
+            for(int child = firstChildren[node]; child != NO_NODE; child = nextSiblings[child]) {
+                if(Math.abs(parentDistances[child] - distance) <= maxDistance) {
+                    stack.add(child);
+                }
+            }
+        }
+        long[] entityMatches = new long[postingCount];
+        int count = 0;
+        for(int i = 0; i < matchedPostings.size(); i++) {
+            long distance = matchedDistances.values[i];
+            for(int entityId : matchedPostings.get(i)) {
+                entityMatches[count] = (long) entityId << DISTANCE_BITS | distance;
+                count++;
+            }
+        }
+        if(matchedPostings.size() == 1) {
+            // A single posting list is already sorted and has no duplicates
+            return entityMatches;
+        }
+        Arrays.sort(entityMatches);
+        // Keep the first (closest) match for each entity
+        int distinctCount = 0;
+        for(int i = 0; i < count; i++) {
+            if(distinctCount == 0
+                    || entityMatches[distinctCount - 1] >>> DISTANCE_BITS != entityMatches[i] >>> DISTANCE_BITS) {
+                entityMatches[distinctCount] = entityMatches[i];
+                distinctCount++;
+            }
+        }
+        return Arrays.copyOf(entityMatches, distinctCount);
+    }
+
+    /**
+     * Selects the best matches.  Only matches at or below the smallest total distance that gives enough matches
+     * are compared in full.
+     */
+    private ImmutableList<OWLEntityData> selectBest(int[] matchIds, int[] matchDistances, int matchCount, int limit) {
+        int maxTotalDistance = 0;
+        for(int i = 0; i < matchCount; i++) {
+            maxTotalDistance = Math.max(maxTotalDistance, matchDistances[i]);
+        }
+        int[] countsByDistance = new int[maxTotalDistance + 1];
+        for(int i = 0; i < matchCount; i++) {
+            countsByDistance[matchDistances[i]]++;
+        }
+        int distanceThreshold = 0;
+        int countAtOrBelowThreshold = countsByDistance[0];
+        while(countAtOrBelowThreshold < limit && distanceThreshold < maxTotalDistance) {
+            distanceThreshold++;
+            countAtOrBelowThreshold += countsByDistance[distanceThreshold];
+        }
+        List<Match> candidates = new ArrayList<>(Math.min(countAtOrBelowThreshold, matchCount));
+        for(int i = 0; i < matchCount; i++) {
+            if(matchDistances[i] <= distanceThreshold) {
+                candidates.add(new Match(entries[matchIds[i]], matchIds[i], matchDistances[i]));
+            }
+        }
+        ImmutableList.Builder<OWLEntityData> result = ImmutableList.builder();
+        for(Match match : Ordering.natural().leastOf(candidates, limit)) {
+            result.add(match.entityData);
+        }
+        return result.build();
+    }
+
+    /**
+     * Determines whether a word is matched approximately, and so is in the BK-tree.
+     */
+    private static boolean isFuzzyWord(String word) {
+        if(word.length() > MAX_FUZZY_WORD_LENGTH) {
+            return false;
+        }
+        for(int i = 0; i < word.length(); i++) {
+            if(Character.isDigit(word.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the largest number of edits that is allowed for a query word of the specified length.
+     */
+    private static int getMaxDistanceForLength(int length) {
+        if(length <= 2) {
+            return 0;
+        }
+        else if(length <= 4) {
+            return 1;
+        }
+        else {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Computes the Levenshtein distance between two strings using the specified rows, which must be longer than
+     * the second string.
+     */
+    private static int getDistance(String first, String second, int[] previousRow, int[] currentRow) {
+        int secondLength = second.length();
+        for(int j = 0; j <= secondLength; j++) {
+            previousRow[j] = j;
+        }
+        for(int i = 1; i <= first.length(); i++) {
+            char ch = first.charAt(i - 1);
+            currentRow[0] = i;
+            for(int j = 1; j <= secondLength; j++) {
+                int substitutionCost = ch == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(Math.min(currentRow[j - 1] + 1, previousRow[j] + 1),
+                                         previousRow[j - 1] + substitutionCost);
+            }
+            int[] row = previousRow;
+            previousRow = currentRow;
+            currentRow = row;
+        }
+        return previousRow[secondLength];
+    }
+
+    /**
+     * Splits text into lower case words using {@link EntityNameCharType}.
+     */
+    private static final class WordSplitter {
+
+        private byte[] types = new byte[64];
+
+        private int[] wordStarts = new int[64];
+
+        private int[] wordEnds = new int[64];
+
+        private void split(String text, List<String> words) {
+            int length = text.length();
+            if(types.length < length) {
+                types = new byte[length];
+                wordStarts = new int[length];
+                wordEnds = new int[length];
+            }
+            EntityNameCharType.classify(text, types);
+            int wordCount = EntityNameCharType.getWordStarts(text, types, wordStarts);
+            EntityNameCharType.getWordEnds(types, length, wordStarts, wordCount, wordEnds);
+            for(int w = 0; w < wordCount; w++) {
+                char[] chars = new char[wordEnds[w] - wordStarts[w]];
+                for(int i = 0; i < chars.length; i++) {
+                    chars[i] = Character.toLowerCase(text.charAt(wordStarts[w] + i));
+                }
+                words.add(new String(chars));
+            }
+        }
+    }
+
+    private static final class IntList {
+
+        private int[] values = new int[4];
+
+        private int size = 0;
+
+        private void add(int value) {
+            if(size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size] = value;
+            size++;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class Match implements Comparable<Match> {
+
+        private final OWLEntityData entityData;
+
+        private final int entityId;
+
+        private final int distance;
+
+        private Match(OWLEntityData entityData, int entityId, int distance) {
+            this.entityData = entityData;
+            this.entityId = entityId;
+            this.distance = distance;
+        }
+
+        @Override
+        public int compareTo(@Nonnull Match other) {
+            int diff = Integer.compare(distance, other.distance);
+            if(diff != 0) {
+                return diff;
+            }
+            String browserText = entityData.getBrowserText();
+            String otherBrowserText = other.entityData.getBrowserText();
+            diff = Integer.compare(browserText.length(), otherBrowserText.length());
+            if(diff != 0) {
+                return diff;
+            }
+            diff = browserText.compareToIgnoreCase(otherBrowserText);
+            if(diff != 0) {
+                return diff;
+            }
+            return Integer.compare(entityId, other.entityId);
+        }
+    }
+}
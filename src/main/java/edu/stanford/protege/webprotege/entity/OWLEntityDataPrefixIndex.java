@@ -0,0 +1,552 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Ordering;
+import org.semanticweb.owlapi.model.OWLEntity;
+
+import javax.annotation.Nonnull;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     An in-memory index that finds {@link OWLEntityData} whose browser text contains a word that starts with a
+ *     given prefix, for autocompletion.  Browser text is split into words using {@link EntityNameCharType}, so
+ *     camel case humps ("heartAttack") start words.  Matching is case insensitive and a prefix may span several
+ *     words, so "heart att" matches "Heart attack".
+ * </p>
+ * <p>
+ *     The index is a sorted array of word starts (a suffix array that only contains suffixes starting at a word).
+ *     Each word start is stored as two ints, and entity data and lower case browser text are stored once per
+ *     entity, so the index does not copy any substrings.  Additions and removals are applied to a small sorted
+ *     set of pending word starts and to a tombstone per removed entity.  When the pending changes grow to
+ *     an eighth of the index the array is rebuilt.
+ * </p>
+ * <p>
+ *     Results are ranked by the position of the match in the browser text, so that matches at the start of
+ *     the name come first, then by the length of the browser text and then alphabetically.  Each entity is
+ *     returned at most once.
+ * </p>
+ * <p>
+ *     The index is safe for concurrent use.  Searches hold a shared lock and can run concurrently.  Updates hold
+ *     an exclusive lock.
+ * </p>
+ */
+public final class OWLEntityDataPrefixIndex {
+
+    private static final int MIN_REBUILD_THRESHOLD = 1024;
+
+    private static final int PARALLEL_SORT_THRESHOLD = 8192;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * The indexed entity data by slot.  Removed entities leave a {@code null} slot until the next rebuild.
+     */
+    private OWLEntityData[] entries = new OWLEntityData[INITIAL_CAPACITY];
+
+    /**
+     * The lower case browser text by slot.  Keys of removed entities are kept until the next rebuild because
+     * the sorted word starts still refer to them.
+     */
+    private String[] keys = new String[INITIAL_CAPACITY];
+
+    /**
+     * The length of the key by slot.  This is kept so that ranking a match does not need to touch its key.
+     */
+    private int[] keyLengths = new int[INITIAL_CAPACITY];
+
+    private int slotCount = 0;
+
+    private int removedSlotCount = 0;
+
+    private final Map<OWLEntity, Integer> slotsByEntity = new HashMap<>();
+
+    /**
+     * The slots of the sorted word starts.
+     */
+    private int[] sortedSlots = new int[0];
+
+    /**
+     * The offsets, into the key of the corresponding slot, of the sorted word starts.
+     */
+    private int[] sortedOffsets = new int[0];
+
+    private final TreeSet<WordStart> pendingWordStarts = new TreeSet<>();
+
+    /**
+     * Buffers used for splitting text into words.  Only used while holding the write lock.
+     */
+    private byte[] typeBuffer = new byte[64];
+
+    private int[] wordStartBuffer = new int[16];
+
+    private OWLEntityDataPrefixIndex() {
+    }
+
+    /**
+     * Creates an empty index.
+     */
+    @Nonnull
+    public static OWLEntityDataPrefixIndex create() {
+        return new OWLEntityDataPrefixIndex();
+    }
+
+    /**
+     * Creates an index that contains the specified entity data.
+     * @param entityData The entity data.  If this contains several entity data objects for the same entity
+     *                   then the last one is indexed.
+     */
+    @Nonnull
+    public static OWLEntityDataPrefixIndex create(@Nonnull Collection<? extends OWLEntityData> entityData) {
+        checkNotNull(entityData);
+        OWLEntityDataPrefixIndex index = new OWLEntityDataPrefixIndex();
+        index.lock.writeLock().lock();
+        try {
+            for(OWLEntityData data : entityData) {
+                index.addWithoutRebuild(checkNotNull(data));
+            }
+            index.rebuild();
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+        return index;
+    }
+
+    /**
+     * Adds the specified entity data to the index.  If the index already contains entity data for the same
+     * entity then it is replaced, so this should be called when the browser text of an entity changes.
+     * @param entityData The entity data.
+     */
+    public void add(@Nonnull OWLEntityData entityData) {
+        checkNotNull(entityData);
+        lock.writeLock().lock();
+        try {
+            addWithoutRebuild(entityData);
+            rebuildIfNecessary();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds each of the specified entity data to the index, replacing any entity data for the same entities.
+     * @param entityData The entity data.
+     */
+    public void addAll(@Nonnull Collection<? extends OWLEntityData> entityData) {
+        checkNotNull(entityData);
+        lock.writeLock().lock();
+        try {
+            for(OWLEntityData data : entityData) {
+                addWithoutRebuild(checkNotNull(data));
+            }
+            rebuildIfNecessary();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the entity data for the specified entity from the index.
+     * @param entity The entity.
+     * @return {@code true} if the index contained entity data for the entity, otherwise {@code false}.
+     */
+    public boolean remove(@Nonnull OWLEntity entity) {
+        checkNotNull(entity);
+        lock.writeLock().lock();
+        try {
+            boolean removed = removeWithoutRebuild(entity);
+            rebuildIfNecessary();
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of entities in the index.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsByEntity.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the entity data that have a word in their browser text that starts with the specified prefix.
+     * @param prefix The prefix.  Matching is case insensitive.  The prefix may contain several words.
+     * @param limit The maximum number of results.
+     * @return The best matching entity data, ranked by the position of the match in the browser text.  An empty
+     * prefix matches nothing.
+     * @throws IllegalArgumentException if {@code limit} is negative.
+     */
+    @Nonnull
+    public ImmutableList<OWLEntityData> search(@Nonnull String prefix, int limit) {
+        checkNotNull(prefix);
+        checkArgument(limit >= 0, "limit must not be negative");
+        if(prefix.isEmpty() || limit == 0) {
+            return ImmutableList.of();
+        }
+        String searchKey = toKey(prefix);
+        lock.readLock().lock();
+        try {
+            long[] rankKeys = new long[16];
+            int matchCount = 0;
+            int from = binarySearch(searchKey, false);
+            int to = binarySearch(searchKey, true);
+            for(int i = from; i < to; i++) {
+                int slot = sortedSlots[i];
+                if(entries[slot] != null) {
+                    if(matchCount == rankKeys.length) {
+                        rankKeys = Arrays.copyOf(rankKeys, matchCount * 2);
+                    }
+                    rankKeys[matchCount] = toRankKey(sortedOffsets[i], keyLengths[slot], slot);
+                    matchCount++;
+                }
+            }
+            for(WordStart wordStart : pendingWordStarts.tailSet(new WordStart(searchKey, -1, 0))) {
+                if(!wordStart.key.startsWith(searchKey, wordStart.offset)) {
+                    break;
+                }
+                if(matchCount == rankKeys.length) {
+                    rankKeys = Arrays.copyOf(rankKeys, matchCount * 2);
+                }
+                rankKeys[matchCount] = toRankKey(wordStart.offset, wordStart.key.length(), wordStart.slot);
+                matchCount++;
+            }
+            // Only matches that rank at least as well as the limit-th best match need to be sorted.  Entities can
+            // match at more than one word, in which case there might be fewer than limit entities in these
+            // matches and all of the matches are sorted instead.
+            long maxRank = limit < matchCount
+                    ? getSmallestRankKey(rankKeys, matchCount, limit) >>> 32
+                    : Long.MAX_VALUE;
+            List<Match> selected = selectMatches(rankKeys, matchCount, maxRank, limit);
+            if(selected.size() < limit && maxRank != Long.MAX_VALUE) {
+                selected = selectMatches(rankKeys, matchCount, Long.MAX_VALUE, limit);
+            }
+            ImmutableList.Builder<OWLEntityData> result = ImmutableList.builder();
+            for(Match match : Ordering.natural().leastOf(selected, limit)) {
+                result.add(match.entityData);
+            }
+            return result.build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sorts the matches whose rank is at most the specified maximum rank and then selects the best match for
+     * each entity until there are enough entities.  Any further matches that tie with the last selected match on
+     * position and length are also selected, so that the selection can be ordered alphabetically within ties.
+     */
+    private List<Match> selectMatches(long[] rankKeys, int matchCount, long maxRank, int limit) {
+        long[] candidates = new long[matchCount];
+        int candidateCount = 0;
+        for(int i = 0; i < matchCount; i++) {
+            if(rankKeys[i] >>> 32 <= maxRank) {
+                candidates[candidateCount] = rankKeys[i];
+                candidateCount++;
+            }
+        }
+        Arrays.sort(candidates, 0, candidateCount);
+        Set<Integer> selectedSlots = new HashSet<>();
+        List<Match> selected = new ArrayList<>();
+        long lastRank = -1;
+        for(int i = 0; i < candidateCount; i++) {
+            long rankKey = candidates[i];
+            long rank = rankKey >>> 32;
+            if(selected.size() >= limit && rank != lastRank) {
+                break;
+            }
+            int slot = (int) rankKey;
+            if(selectedSlots.add(slot)) {
+                selected.add(new Match(entries[slot], slot, rank));
+                lastRank = rank;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Gets the k-th smallest of the specified rank keys, by insertion into a sorted buffer of the k smallest keys
+     * seen so far.  Most keys are rejected by a single comparison with the largest key in the buffer.
+     */
+    private static long getSmallestRankKey(long[] rankKeys, int count, int k) {
+        long[] smallest = new long[k];
+        int size = 0;
+        for(int i = 0; i < count; i++) {
+            long rankKey = rankKeys[i];
+            if(size == k) {
+                if(rankKey >= smallest[k - 1]) {
+                    continue;
+                }
+                size--;
+            }
+            int insertionIndex = size;
+            while(insertionIndex > 0 && smallest[insertionIndex - 1] > rankKey) {
+                smallest[insertionIndex] = smallest[insertionIndex - 1];
+                insertionIndex--;
+            }
+            smallest[insertionIndex] = rankKey;
+            size++;
+        }
+        return smallest[k - 1];
+    }
+
+    /**
+     * Packs a match into a long that sorts by offset, then by the length of the browser text and then by slot.
+     * Offsets and lengths are capped at 65535, which only affects the order of matches in very long names.
+     */
+    private static long toRankKey(int offset, int length, int slot) {
+        return (long) Math.min(offset, 0xFFFF) << 48 | (long) Math.min(length, 0xFFFF) << 32 | slot;
+    }
+
+    /**
+     * Finds the index of the first sorted word start that starts with the search key (or, if {@code after} is
+     * {@code true}, the index of the first sorted word start after the ones that start with the search key).
+     * The word starts that match the search key are the ones between these two indexes.
+     */
+    private int binarySearch(String searchKey, boolean after) {
+        int low = 0;
+        int high = sortedSlots.length;
+        while(low < high) {
+            int mid = (low + high) >>> 1;
+            int diff = comparePrefix(keys[sortedSlots[mid]], sortedOffsets[mid], searchKey);
+            if(diff < 0 || after && diff == 0) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void addWithoutRebuild(OWLEntityData entityData) {
+        OWLEntity entity = entityData.getEntity();
+        removeWithoutRebuild(entity);
+        if(slotCount == entries.length) {
+            entries = Arrays.copyOf(entries, slotCount * 2);
+            keys = Arrays.copyOf(keys, slotCount * 2);
+            keyLengths = Arrays.copyOf(keyLengths, slotCount * 2);
+        }
+        int slot = slotCount;
+        slotCount++;
+        String browserText = entityData.getBrowserText();
+        String key = toKey(browserText);
+        entries[slot] = entityData;
+        keys[slot] = key;
+        keyLengths[slot] = key.length();
+        slotsByEntity.put(entity, slot);
+        int wordStartCount = computeWordStarts(browserText);
+        for(int i = 0; i < wordStartCount; i++) {
+            pendingWordStarts.add(new WordStart(key, slot, wordStartBuffer[i]));
+        }
+    }
+
+    private boolean removeWithoutRebuild(OWLEntity entity) {
+        Integer slot = slotsByEntity.remove(entity);
+        if(slot == null) {
+            return false;
+        }
+        String browserText = entries[slot].getBrowserText();
+        entries[slot] = null;
+        removedSlotCount++;
+        String key = keys[slot];
+        int wordStartCount = computeWordStarts(browserText);
+        for(int i = 0; i < wordStartCount; i++) {
+            pendingWordStarts.remove(new WordStart(key, slot, wordStartBuffer[i]));
+        }
+        return true;
+    }
+
+    private void rebuildIfNecessary() {
+        int threshold = Math.max(MIN_REBUILD_THRESHOLD, sortedSlots.length / 8);
+        if(pendingWordStarts.size() + removedSlotCount > threshold) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Rebuilds the sorted word starts from the live entities, compacting the slots.
+     */
+    private void rebuild() {
+        int liveCount = slotsByEntity.size();
+        OWLEntityData[] rebuiltEntries = new OWLEntityData[Math.max(INITIAL_CAPACITY, liveCount)];
+        String[] rebuiltKeys = new String[rebuiltEntries.length];
+        int[] rebuiltKeyLengths = new int[rebuiltEntries.length];
+        List<WordStart> wordStarts = new ArrayList<>(liveCount * 3);
+        int rebuiltSlot = 0;
+        for(int slot = 0; slot < slotCount; slot++) {
+            OWLEntityData entityData = entries[slot];
+            if(entityData == null) {
+                continue;
+            }
+            String key = keys[slot];
+            rebuiltEntries[rebuiltSlot] = entityData;
+            rebuiltKeys[rebuiltSlot] = key;
+            rebuiltKeyLengths[rebuiltSlot] = key.length();
+            slotsByEntity.put(entityData.getEntity(), rebuiltSlot);
+            int wordStartCount = computeWordStarts(entityData.getBrowserText());
+            for(int i = 0; i < wordStartCount; i++) {
+                wordStarts.add(new WordStart(key, rebuiltSlot, wordStartBuffer[i]));
+            }
+            rebuiltSlot++;
+        }
+        WordStart[] sorted = wordStarts.toArray(new WordStart[0]);
+        if(sorted.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(sorted);
+        }
+        else {
+            Arrays.sort(sorted);
+        }
+        int[] rebuiltSortedSlots = new int[sorted.length];
+        int[] rebuiltSortedOffsets = new int[sorted.length];
+        for(int i = 0; i < sorted.length; i++) {
+            rebuiltSortedSlots[i] = sorted[i].slot;
+            rebuiltSortedOffsets[i] = sorted[i].offset;
+        }
+        entries = rebuiltEntries;
+        keys = rebuiltKeys;
+        keyLengths = rebuiltKeyLengths;
+        slotCount = liveCount;
+        removedSlotCount = 0;
+        sortedSlots = rebuiltSortedSlots;
+        sortedOffsets = rebuiltSortedOffsets;
+        pendingWordStarts.clear();
+    }
+
+    /**
+     * Computes the offsets of the word starts in the specified text and writes them to the word start buffer.
+     * This must be given the original browser text rather than the key, so that camel case boundaries can be
+     * found.  Keys have the same length as the browser text, so the offsets are also offsets into the key.
+     * @see EntityNameCharType#getWordStarts(CharSequence, byte[], int[])
+     * @return The number of word starts.
+     */
+    private int computeWordStarts(String text) {
+        int length = text.length();
+        if(typeBuffer.length < length) {
+            typeBuffer = new byte[Math.max(length, typeBuffer.length * 2)];
+        }
+        if(wordStartBuffer.length < length) {
+            wordStartBuffer = new int[Math.max(length, wordStartBuffer.length * 2)];
+        }
+        EntityNameCharType.classify(text, typeBuffer);
+        return EntityNameCharType.getWordStarts(text, typeBuffer, wordStartBuffer);
+    }
+
+    /**
+     * Lower cases each char of the specified text.  Unlike {@link String#toLowerCase()} this never changes
+     * the length of the text, so offsets into the key are offsets into the original text.
+     */
+    private static String toKey(String text) {
+        char[] chars = text.toCharArray();
+        for(int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Compares the suffix of a key with a search key, treating suffixes that start with the search key as equal.
+     */
+    private static int comparePrefix(String key, int offset, String searchKey) {
+        int suffixLength = key.length() - offset;
+        int commonLength = Math.min(suffixLength, searchKey.length());
+        for(int i = 0; i < commonLength; i++) {
+            int diff = key.charAt(offset + i) - searchKey.charAt(i);
+            if(diff != 0) {
+                return diff;
+            }
+        }
+        return suffixLength < searchKey.length() ? -1 : 0;
+    }
+
+    private static int compareSuffixes(String first, int firstOffset, String second, int secondOffset) {
+        int firstLength = first.length() - firstOffset;
+        int secondLength = second.length() - secondOffset;
+        int commonLength = Math.min(firstLength, secondLength);
+        for(int i = 0; i < commonLength; i++) {
+            int diff = first.charAt(firstOffset + i) - second.charAt(secondOffset + i);
+            if(diff != 0) {
+                return diff;
+            }
+        }
+        return firstLength - secondLength;
+    }
+
+    /**
+     * A suffix of a key that starts at a word start.  Ordered by the suffix, then by slot and offset.
+     */
+    private static final class WordStart implements Comparable<WordStart> {
+
+        private final String key;
+
+        private final int slot;
+
+        private final int offset;
+
+        private WordStart(String key, int slot, int offset) {
+            this.key = key;
+            this.slot = slot;
+            this.offset = offset;
+        }
+
+        @Override
+        public int compareTo(@Nonnull WordStart other) {
+            int diff = compareSuffixes(key, offset, other.key, other.offset);
+            if(diff != 0) {
+                return diff;
+            }
+            diff = Integer.compare(slot, other.slot);
+            if(diff != 0) {
+                return diff;
+            }
+            return Integer.compare(offset, other.offset);
+        }
+    }
+
+    /**
+     * A selected match, ordered by its rank (the position of the match and length of the browser text) and then
+     * alphabetically.
+     */
+    private static final class Match implements Comparable<Match> {
+
+        private final OWLEntityData entityData;
+
+        private final int slot;
+
+        private final long rank;
+
+        private Match(OWLEntityData entityData, int slot, long rank) {
+            this.entityData = entityData;
+            this.slot = slot;
+            this.rank = rank;
+        }
+
+        @Override
+        public int compareTo(@Nonnull Match other) {
+            int diff = Long.compare(rank, other.rank);
+            if(diff != 0) {
+                return diff;
+            }
+            diff = entityData.getBrowserText().compareToIgnoreCase(other.entityData.getBrowserText());
+            if(diff != 0) {
+                return diff;
+            }
+            return Integer.compare(slot, other.slot);
+        }
+    }
+}
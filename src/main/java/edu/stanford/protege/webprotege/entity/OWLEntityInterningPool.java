@@ -0,0 +1,383 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import org.semanticweb.owlapi.model.*;
+import uk.ac.manchester.cs.owl.owlapi.*;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     A bounded pool of canonical {@link IRI}s and {@link OWLEntity} objects.  Deserializing a large response in
+ *     which the same entity is referenced many times will, by default, produce one {@link IRI} and one entity
+ *     object per reference.  Passing the deserialized values through a pool means that equal IRIs and entities
+ *     share a single instance.
+ * </p>
+ * <p>
+ *     The pool holds its values weakly, so a pooled instance is discarded once nothing outside of the pool
+ *     refers to it, and the number of pooled IRIs and the number of pooled entities (per entity type) are each
+ *     bounded by a maximum size.  Pools are thread safe.  See {@link OWLPrimitiveDataInterningModule} for
+ *     using a pool with Jackson.
+ * </p>
+ * <p>
+ *     A pool can optionally also intern short form strings.  Labels such as "cell" or "part of" recur across
+ *     many entities, and across the languages of a single entity, but each deserialized occurrence is a distinct
+ *     string.  Only short forms up to a maximum length are interned, because long short forms rarely recur and
+ *     pooling them would only fill the pool.  Like IRIs and entities, short forms are held weakly, so a short
+ *     form is discarded once no data refers to it.  The number of short forms is not bounded by the maximum
+ *     size.  Short form interning is disabled by default.
+ * </p>
+ */
+public final class OWLEntityInterningPool {
+
+    public static final long DEFAULT_MAXIMUM_SIZE = 1_000_000;
+
+    /**
+     * Short form interning is disabled by default
+     */
+    public static final int DEFAULT_MAXIMUM_INTERNED_SHORT_FORM_LENGTH = 0;
+
+    /**
+     * Object header plus two references
+     */
+    private static final int IRI_SHALLOW_SIZE = 24;
+
+    /**
+     * String object plus byte array header
+     */
+    private static final int STRING_OVERHEAD = 40;
+
+    /**
+     * Object header plus a reference and two booleans
+     */
+    private static final int ENTITY_SHALLOW_SIZE = 24;
+
+    private final Cache<String, IRI> iris;
+
+    private final ImmutableMap<EntityType<?>, Cache<IRI, OWLEntity>> entities;
+
+    private final int maximumInternedShortFormLength;
+
+    private final Interner<String> shortForms = Interners.newWeakInterner();
+
+    private final LongAdder iriHitCount = new LongAdder();
+
+    private final LongAdder iriMissCount = new LongAdder();
+
+    private final LongAdder entityHitCount = new LongAdder();
+
+    private final LongAdder entityMissCount = new LongAdder();
+
+    private final LongAdder shortFormHitCount = new LongAdder();
+
+    private final LongAdder shortFormMissCount = new LongAdder();
+
+    private final LongAdder estimatedBytesSaved = new LongAdder();
+
+    private final UnaryOperator<String> shortFormInterner = this::internShortForm;
+
+    private final OWLPrimitiveDataVisitor<OWLPrimitiveData, RuntimeException> internVisitor = new InternVisitor();
+
+    private OWLEntityInterningPool(long maximumSize, int maximumInternedShortFormLength) {
+        iris = newCache(maximumSize);
+        this.maximumInternedShortFormLength = maximumInternedShortFormLength;
+        ImmutableMap.Builder<EntityType<?>, Cache<IRI, OWLEntity>> builder = ImmutableMap.builder();
+        for(EntityType<?> entityType : EntityType.values()) {
+            builder.put(entityType, newCache(maximumSize));
+        }
+        entities = builder.build();
+    }
+
+    private static <K, V> Cache<K, V> newCache(long maximumSize) {
+        return CacheBuilder.newBuilder()
+                           .maximumSize(maximumSize)
+                           .weakValues()
+                           .build();
+    }
+
+    /**
+     * Creates a pool that holds at most {@link #DEFAULT_MAXIMUM_SIZE} IRIs and, for each entity type,
+     * at most {@link #DEFAULT_MAXIMUM_SIZE} entities.
+     */
+    @Nonnull
+    public static OWLEntityInterningPool create() {
+        return create(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a pool that holds at most the specified number of IRIs and, for each entity type, at most the
+     * specified number of entities.
+     * @param maximumSize The maximum size.  Must be positive.
+     */
+    @Nonnull
+    public static OWLEntityInterningPool create(long maximumSize) {
+        return create(maximumSize, DEFAULT_MAXIMUM_INTERNED_SHORT_FORM_LENGTH);
+    }
+
+    /**
+     * Creates a pool that holds at most the specified number of IRIs and, for each entity type, at most the
+     * specified number of entities, and that interns short forms up to the specified length.
+     * @param maximumSize The maximum size.  Must be positive.
+     * @param maximumInternedShortFormLength The maximum length of short forms that are interned.  Short forms
+     *                                       that are longer than this are not interned.  Zero disables short
+     *                                       form interning.  Must not be negative.
+     */
+    @Nonnull
+    public static OWLEntityInterningPool create(long maximumSize, int maximumInternedShortFormLength) {
+        checkArgument(maximumSize > 0, "maximumSize must be positive");
+        checkArgument(maximumInternedShortFormLength >= 0, "maximumInternedShortFormLength must not be negative");
+        return new OWLEntityInterningPool(maximumSize, maximumInternedShortFormLength);
+    }
+
+    /**
+     * Gets the canonical {@link IRI} for the specified IRI string.
+     * @param iri The IRI string
+     */
+    @Nonnull
+    public IRI getIri(@Nonnull String iri) {
+        IRI pooled = iris.getIfPresent(checkNotNull(iri));
+        if(pooled == null) {
+            // Another thread may pool an equal IRI first, in which case its IRI is the canonical IRI
+            IRI created = IRI.create(iri);
+            pooled = iris.asMap().computeIfAbsent(iri, i -> created);
+            if(pooled == created) {
+                iriMissCount.increment();
+                return created;
+            }
+        }
+        iriHitCount.increment();
+        estimatedBytesSaved.add(estimateSize(pooled));
+        return pooled;
+    }
+
+    /**
+     * Gets the canonical entity that has the specified type and IRI.
+     * @param entityType The entity type
+     * @param iri The entity IRI
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public <E extends OWLEntity> E getEntity(@Nonnull EntityType<E> entityType, @Nonnull IRI iri) {
+        Cache<IRI, OWLEntity> cache = entities.get(checkNotNull(entityType));
+        OWLEntity pooled = cache.getIfPresent(checkNotNull(iri));
+        if(pooled == null) {
+            IRI canonicalIri = iris.asMap().computeIfAbsent(iri.toString(), i -> iri);
+            E created = createEntity(entityType, canonicalIri);
+            pooled = cache.asMap().computeIfAbsent(canonicalIri, i -> created);
+            if(pooled == created) {
+                entityMissCount.increment();
+                if(canonicalIri != iri) {
+                    estimatedBytesSaved.add(estimateSize(iri));
+                }
+                return created;
+            }
+        }
+        entityHitCount.increment();
+        estimatedBytesSaved.add(ENTITY_SHALLOW_SIZE);
+        if(pooled.getIRI() != iri) {
+            estimatedBytesSaved.add(estimateSize(iri));
+        }
+        return (E) pooled;
+    }
+
+    /**
+     * Gets the canonical entity that has the specified type and IRI.
+     * @param entityType The entity type
+     * @param iri The lexical form of the entity IRI
+     */
+    @Nonnull
+    public <E extends OWLEntity> E getEntity(@Nonnull EntityType<E> entityType, @Nonnull String iri) {
+        return getEntity(entityType, getIri(iri));
+    }
+
+    /**
+     * Gets the canonical instance of the specified short form.
+     * @param shortForm The short form
+     * @return An equal string.  This is the specified short form itself if it is longer than the maximum interned
+     * short form length, or if short form interning is disabled.
+     */
+    @Nonnull
+    public String internShortForm(@Nonnull String shortForm) {
+        checkNotNull(shortForm);
+        if(maximumInternedShortFormLength == 0 || shortForm.length() > maximumInternedShortFormLength) {
+            return shortForm;
+        }
+        String pooled = shortForms.intern(shortForm);
+        if(pooled == shortForm) {
+            shortFormMissCount.increment();
+            return shortForm;
+        }
+        shortFormHitCount.increment();
+        estimatedBytesSaved.add(STRING_OVERHEAD + shortForm.length());
+        return pooled;
+    }
+
+    /**
+     * Creates data for an entity or an IRI from the canonical entity or IRI in this pool.  The short forms are
+     * used as they are.
+     * @param type The type of data.  This must not be {@link PrimitiveType#LITERAL}.
+     * @param iri The lexical form of the IRI of the entity or of the IRI itself.
+     * @param shortForms The short forms.
+     * @param deprecated The deprecation status.
+     */
+    @Nonnull
+    OWLPrimitiveData getPrimitiveData(@Nonnull PrimitiveType type,
+                                      @Nonnull String iri,
+                                      @Nonnull CompactShortForms shortForms,
+                                      boolean deprecated) {
+        switch(type) {
+            case CLASS:
+                return OWLClassData.get(getEntity(EntityType.CLASS, iri), shortForms, deprecated);
+            case OBJECT_PROPERTY:
+                return OWLObjectPropertyData.get(getEntity(EntityType.OBJECT_PROPERTY, iri), shortForms, deprecated);
+            case DATA_PROPERTY:
+                return OWLDataPropertyData.get(getEntity(EntityType.DATA_PROPERTY, iri), shortForms, deprecated);
+            case ANNOTATION_PROPERTY:
+                return OWLAnnotationPropertyData.get(getEntity(EntityType.ANNOTATION_PROPERTY, iri), shortForms, deprecated);
+            case NAMED_INDIVIDUAL:
+                return OWLNamedIndividualData.get(getEntity(EntityType.NAMED_INDIVIDUAL, iri), shortForms, deprecated);
+            case DATA_TYPE:
+                return OWLDatatypeData.get(getEntity(EntityType.DATATYPE, iri), shortForms, deprecated);
+            case IRI:
+                return IRIData.get(getIri(iri), shortForms, deprecated);
+            default:
+                throw new RuntimeException("Unsupported primitive type " + type);
+        }
+    }
+
+    /**
+     * Gets a version of the specified data whose IRI or entity is the canonical IRI or entity from this pool, and,
+     * if short form interning is enabled, whose short forms are canonical short forms from this pool.
+     * @param data The data
+     * @return Data that is equal to the specified data.  This may be the specified data itself.
+     */
+    @Nonnull
+    public OWLPrimitiveData intern(@Nonnull OWLPrimitiveData data) {
+        return data.accept(internVisitor);
+    }
+
+    /**
+     * Gets a snapshot of the metrics for this pool.
+     */
+    @Nonnull
+    public InterningPoolStats getStats() {
+        return InterningPoolStats.get(iriHitCount.sum(),
+                                      iriMissCount.sum(),
+                                      entityHitCount.sum(),
+                                      entityMissCount.sum(),
+                                      shortFormHitCount.sum(),
+                                      shortFormMissCount.sum(),
+                                      estimatedBytesSaved.sum());
+    }
+
+    private static long estimateSize(IRI iri) {
+        // The namespace is shared by all IRIs so it is the remainder that is duplicated
+        int remainderLength = iri.length() - iri.getNamespace().length();
+        return IRI_SHALLOW_SIZE + STRING_OVERHEAD + remainderLength;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends OWLEntity> E createEntity(EntityType<E> entityType, IRI iri) {
+        if(entityType.equals(EntityType.CLASS)) {
+            return (E) new OWLClassImpl(iri);
+        }
+        else if(entityType.equals(EntityType.OBJECT_PROPERTY)) {
+            return (E) new OWLObjectPropertyImpl(iri);
+        }
+        else if(entityType.equals(EntityType.DATA_PROPERTY)) {
+            return (E) new OWLDataPropertyImpl(iri);
+        }
+        else if(entityType.equals(EntityType.ANNOTATION_PROPERTY)) {
+            return (E) new OWLAnnotationPropertyImpl(iri);
+        }
+        else if(entityType.equals(EntityType.NAMED_INDIVIDUAL)) {
+            return (E) new OWLNamedIndividualImpl(iri);
+        }
+        else if(entityType.equals(EntityType.DATATYPE)) {
+            return (E) new OWLDatatypeImpl(iri);
+        }
+        else {
+            throw new RuntimeException("Unrecognized entity type " + entityType);
+        }
+    }
+
+    private CompactShortForms internShortForms(CompactShortForms shortForms) {
+        if(maximumInternedShortFormLength == 0) {
+            return shortForms;
+        }
+        return shortForms.replaceShortForms(shortFormInterner);
+    }
+
+    private class InternVisitor implements OWLPrimitiveDataVisitor<OWLPrimitiveData, RuntimeException> {
+
+        @Override
+        public OWLPrimitiveData visit(OWLClassData data) {
+            OWLClass cls = getEntity(EntityType.CLASS, data.getEntity().getIRI());
+            CompactShortForms shortForms = internShortForms(data.getCompactShortForms());
+            return isUnchanged(data, cls, shortForms) ? data : OWLClassData.get(cls, shortForms, data.isDeprecated());
+        }
+
+        @Override
+        public OWLPrimitiveData visit(OWLObjectPropertyData data) {
+            OWLObjectProperty property = getEntity(EntityType.OBJECT_PROPERTY, data.getEntity().getIRI());
+            CompactShortForms shortForms = internShortForms(data.getCompactShortForms());
+            return isUnchanged(data, property, shortForms) ? data : OWLObjectPropertyData.get(property, shortForms, data.isDeprecated());
+        }
+
+        @Override
+        public OWLPrimitiveData visit(OWLDataPropertyData data) {
+            OWLDataProperty property = getEntity(EntityType.DATA_PROPERTY, data.getEntity().getIRI());
+            CompactShortForms shortForms = internShortForms(data.getCompactShortForms());
+            return isUnchanged(data, property, shortForms) ? data : OWLDataPropertyData.get(property, shortForms, data.isDeprecated());
+        }
+
+        @Override
+        public OWLPrimitiveData visit(OWLAnnotationPropertyData data) {
+            OWLAnnotationProperty property = getEntity(EntityType.ANNOTATION_PROPERTY, data.getEntity().getIRI());
+            CompactShortForms shortForms = internShortForms(data.getCompactShortForms());
+            return isUnchanged(data, property, shortForms) ? data : OWLAnnotationPropertyData.get(property, shortForms, data.isDeprecated());
+        }
+
+        @Override
+        public OWLPrimitiveData visit(OWLNamedIndividualData data) {
+            OWLNamedIndividual individual = getEntity(EntityType.NAMED_INDIVIDUAL, data.getEntity().getIRI());
+            CompactShortForms shortForms = internShortForms(data.getCompactShortForms());
+            return isUnchanged(data, individual, shortForms) ? data : OWLNamedIndividualData.get(individual, shortForms, data.isDeprecated());
+        }
+
+        @Override
+        public OWLPrimitiveData visit(OWLDatatypeData data) {
+            OWLDatatype datatype = getEntity(EntityType.DATATYPE, data.getEntity().getIRI());
+            CompactShortForms shortForms = internShortForms(data.getCompactShortForms());
+            return isUnchanged(data, datatype, shortForms) ? data : OWLDatatypeData.get(datatype, shortForms, data.isDeprecated());
+        }
+
+        @Override
+        public OWLPrimitiveData visit(OWLLiteralData data) {
+            return data;
+        }
+
+        @Override
+        public OWLPrimitiveData visit(IRIData data) {
+            IRI iri = getIri(data.getIri().toString());
+            CompactShortForms shortForms = internShortForms(data.getCompactShortForms());
+            return iri == data.getIri() && shortForms == data.getCompactShortForms() ? data : IRIData.get(iri, shortForms, data.isDeprecated());
+        }
+
+        private boolean isUnchanged(OWLEntityData data, OWLEntity entity, CompactShortForms shortForms) {
+            return entity == data.getEntity() && shortForms == data.getCompactShortForms();
+        }
+    }
+}
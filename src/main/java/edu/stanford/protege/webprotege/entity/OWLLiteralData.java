@@ -135,4 +135,11 @@ public abstract class OWLLiteralData extends OWLPrimitiveData {
     public ImmutableList<ShortForm> getShortForms() {
         return ImmutableList.of();
     }
+
+    @JsonIgnore
+    @Nonnull
+    @Override
+    public CompactShortForms getCompactShortForms() {
+        return CompactShortForms.empty();
+    }
 }
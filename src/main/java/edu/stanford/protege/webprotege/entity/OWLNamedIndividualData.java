@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import edu.stanford.protege.webprotege.common.DictionaryLanguage;
@@ -38,12 +39,18 @@ public abstract class OWLNamedIndividualData extends OWLEntityData {
     public static OWLNamedIndividualData get(@Nonnull OWLNamedIndividual individual,
                                             @Nonnull ImmutableMap<DictionaryLanguage, String> shortForms,
                                             boolean deprecated) {
-        return get(individual, toShortFormList(shortForms), deprecated);
+        return get(individual, CompactShortForms.get(shortForms), deprecated);
     }
 
     public static OWLNamedIndividualData get(@JsonProperty("entity") OWLNamedIndividual individual,
                                             @JsonProperty("shortForms") ImmutableList<ShortForm> shortForms,
                                             @JsonProperty("deprecated") boolean deprecated) {
+        return get(individual, CompactShortForms.get(shortForms), deprecated);
+    }
+
+    public static OWLNamedIndividualData get(@Nonnull OWLNamedIndividual individual,
+                                             @Nonnull CompactShortForms shortForms,
+                                             boolean deprecated) {
         return new AutoValue_OWLNamedIndividualData(shortForms, deprecated, individual);
     }
 
@@ -51,7 +58,7 @@ public abstract class OWLNamedIndividualData extends OWLEntityData {
     private static OWLNamedIndividualData get(@JsonProperty("iri") String iri,
                                             @JsonProperty(value = "shortForms", defaultValue = "[]") ImmutableList<ShortForm> shortForms,
                                             @JsonProperty(value = "deprecated", defaultValue = "false") boolean deprecated) {
-        return new AutoValue_OWLNamedIndividualData(Objects.requireNonNullElse(shortForms, ImmutableList.of()), deprecated, new OWLNamedIndividualImpl(IRI.create(iri)));
+        return get(new OWLNamedIndividualImpl(IRI.create(iri)), CompactShortForms.get(Objects.requireNonNullElse(shortForms, ImmutableList.of())), deprecated);
     }
 
     @Nonnull
@@ -74,6 +81,27 @@ public abstract class OWLNamedIndividualData extends OWLEntityData {
         return PrimitiveType.NAMED_INDIVIDUAL;
     }
 
+    @Memoized
+    @JsonIgnore
+    @Override
+    public String getBrowserText() {
+        return super.getBrowserText();
+    }
+
+    @Memoized
+    @JsonIgnore
+    @Override
+    public int getPrefixSeparatorIndex() {
+        return super.getPrefixSeparatorIndex();
+    }
+
+    @Memoized
+    @JsonIgnore
+    @Override
+    public String getUnquotedBrowserText() {
+        return super.getUnquotedBrowserText();
+    }
+
     @Override
     public <R, E extends Throwable> R accept(OWLPrimitiveDataVisitor<R, E> visitor) throws E {
         return visitor.visit(this);
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import edu.stanford.protege.webprotege.common.DictionaryLanguage;
@@ -38,20 +39,26 @@ public abstract class OWLObjectPropertyData extends OWLPropertyData {
     public static OWLObjectPropertyData get(@Nonnull OWLObjectProperty property,
                                             @Nonnull ImmutableMap<DictionaryLanguage, String> shortForms,
                                             boolean deprecated) {
-        return get(property, toShortFormList(shortForms), deprecated);
+        return get(property, CompactShortForms.get(shortForms), deprecated);
     }
 
     public static OWLObjectPropertyData get(OWLObjectProperty property,
                                             ImmutableList<ShortForm> shortForms,
                                             boolean deprecated) {
-        return new AutoValue_OWLObjectPropertyData(Objects.requireNonNullElse(shortForms, ImmutableList.of()), deprecated, property);
+        return get(property, CompactShortForms.get(Objects.requireNonNullElse(shortForms, ImmutableList.of())), deprecated);
+    }
+
+    public static OWLObjectPropertyData get(@Nonnull OWLObjectProperty property,
+                                            @Nonnull CompactShortForms shortForms,
+                                            boolean deprecated) {
+        return new AutoValue_OWLObjectPropertyData(shortForms, deprecated, property);
     }
 
     @JsonCreator
     private static OWLObjectPropertyData get(@JsonProperty("iri") String iri,
                                              @JsonProperty(value = "shortForms", defaultValue = "[]") ImmutableList<ShortForm> shortForms,
                                              @JsonProperty(value = "deprecated", defaultValue = "false")  boolean deprecated) {
-        return new AutoValue_OWLObjectPropertyData(Objects.requireNonNullElse(shortForms, ImmutableList.of()), deprecated, new OWLObjectPropertyImpl(IRI.create(iri)));
+        return get(new OWLObjectPropertyImpl(IRI.create(iri)), CompactShortForms.get(Objects.requireNonNullElse(shortForms, ImmutableList.of())), deprecated);
     }
 
     @Nonnull
@@ -79,6 +86,27 @@ public abstract class OWLObjectPropertyData extends OWLPropertyData {
         return false;
     }
 
+    @Memoized
+    @JsonIgnore
+    @Override
+    public String getBrowserText() {
+        return super.getBrowserText();
+    }
+
+    @Memoized
+    @JsonIgnore
+    @Override
+    public int getPrefixSeparatorIndex() {
+        return super.getPrefixSeparatorIndex();
+    }
+
+    @Memoized
+    @JsonIgnore
+    @Override
+    public String getUnquotedBrowserText() {
+        return super.getUnquotedBrowserText();
+    }
+
     @Override
     public <R, E extends Throwable> R accept(OWLPrimitiveDataVisitor<R, E> visitor) throws E {
         return visitor.visit(this);
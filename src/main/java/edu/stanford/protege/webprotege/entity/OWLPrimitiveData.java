@@ -2,21 +2,25 @@ package edu.stanford.protege.webprotege.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonSubTypes.Type;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import edu.stanford.protege.webprotege.common.DictionaryLanguage;
 import edu.stanford.protege.webprotege.common.ShortForm;
 import org.semanticweb.owlapi.model.*;
+import uk.ac.manchester.cs.owl.owlapi.*;
 
 import javax.annotation.Nonnull;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 
 import static com.google.common.collect.ImmutableList.toImmutableList;
-import static com.google.common.collect.ImmutableMap.toImmutableMap;
 
 /**
  * Author: Matthew Horridge<br>
@@ -40,9 +44,41 @@ import static com.google.common.collect.ImmutableMap.toImmutableMap;
 
 })
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME)
+@JsonPropertyOrder({"shortForms", "deprecated"})
 public abstract class OWLPrimitiveData extends ObjectData implements Comparable<OWLPrimitiveData> {
 
 
+    /**
+     * Creates data for an entity or an IRI.
+     * @param type The type of data.  This must not be {@link PrimitiveType#LITERAL}.
+     * @param iri The IRI of the entity or the IRI itself.
+     * @param shortForms The short forms.
+     * @param deprecated The deprecation status.
+     */
+    static OWLPrimitiveData get(@Nonnull PrimitiveType type,
+                                @Nonnull IRI iri,
+                                @Nonnull CompactShortForms shortForms,
+                                boolean deprecated) {
+        switch(type) {
+            case CLASS:
+                return OWLClassData.get(new OWLClassImpl(iri), shortForms, deprecated);
+            case OBJECT_PROPERTY:
+                return OWLObjectPropertyData.get(new OWLObjectPropertyImpl(iri), shortForms, deprecated);
+            case DATA_PROPERTY:
+                return OWLDataPropertyData.get(new OWLDataPropertyImpl(iri), shortForms, deprecated);
+            case ANNOTATION_PROPERTY:
+                return OWLAnnotationPropertyData.get(new OWLAnnotationPropertyImpl(iri), shortForms, deprecated);
+            case NAMED_INDIVIDUAL:
+                return OWLNamedIndividualData.get(new OWLNamedIndividualImpl(iri), shortForms, deprecated);
+            case DATA_TYPE:
+                return OWLDatatypeData.get(new OWLDatatypeImpl(iri), shortForms, deprecated);
+            case IRI:
+                return IRIData.get(iri, shortForms, deprecated);
+            default:
+                throw new RuntimeException("Unsupported primitive type " + type);
+        }
+    }
+
     protected static ImmutableList<ShortForm> toShortFormList(@Nonnull ImmutableMap<DictionaryLanguage, String> shortForms) {
         return shortForms.entrySet().stream().map(e -> ShortForm.get(e.getKey(), e.getValue())).collect(
                 toImmutableList());
@@ -57,15 +93,63 @@ public abstract class OWLPrimitiveData extends ObjectData implements Comparable<
     @JsonIgnore
     public abstract OWLPrimitive getObject();
 
+    /**
+     * Gets the short forms as a map.  The map is built on each call.  To look up the short form for a
+     * particular language use {@link CompactShortForms#getShortForm(DictionaryLanguage)} on
+     * {@link #getCompactShortForms()}, which does not build a map.
+     */
     @JsonIgnore
     public ImmutableMap<DictionaryLanguage, String> getShortFormsMap() {
-        return getShortForms()
-                .stream()
-                .collect(toImmutableMap(ShortForm::getDictionaryLanguage, ShortForm::getShortForm));
+        return getCompactShortForms().asMap();
     }
 
+    /**
+     * Gets the short forms as a list.  The list is built, from the compact representation of the short forms,
+     * on each call.
+     */
+    @JsonIgnore
+    public ImmutableList<ShortForm> getShortForms() {
+        return getCompactShortForms().asList();
+    }
+
+    /**
+     * For JSON serialization.  The short forms are written from their compact representation, so a list of
+     * {@link ShortForm}s is not built.
+     */
+    @JsonProperty("shortForms")
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
-    public abstract ImmutableList<ShortForm> getShortForms();
+    @JsonSerialize(using = CompactShortFormsSerializer.class)
+    protected CompactShortForms getShortFormsForSerialization() {
+        return getCompactShortForms();
+    }
+
+    /**
+     * Gets the short forms in the compact form that they are stored in.
+     */
+    @JsonIgnore
+    @Nonnull
+    public abstract CompactShortForms getCompactShortForms();
+
+    /**
+     * Gets the short form for the specified language.
+     * @param language The language.
+     * @return The first short form for the language, or empty if this object does not have a short form for
+     * the language.
+     */
+    @Nonnull
+    public Optional<String> getShortForm(@Nonnull DictionaryLanguage language) {
+        return Optional.ofNullable(getCompactShortForms().getShortForm(language));
+    }
+
+    /**
+     * Gets the short form for the most preferred language that this object has a short form for.
+     * @param preferenceOrder The languages in order of preference, most preferred first.
+     * @return The short form, or empty if this object does not have a short form for any of the languages.
+     */
+    @Nonnull
+    public Optional<String> getShortForm(@Nonnull List<DictionaryLanguage> preferenceOrder) {
+        return Optional.ofNullable(getCompactShortForms().getShortForm(preferenceOrder));
+    }
 
     /**
      * A convenience method that gets the first short form for this object
@@ -74,11 +158,8 @@ public abstract class OWLPrimitiveData extends ObjectData implements Comparable<
     public abstract String getBrowserText();
 
     protected String getFirstShortForm(Supplier<String> defaultValue) {
-        return getShortForms()
-                .stream()
-                .findFirst()
-                .map(ShortForm::getShortForm)
-                .orElseGet(defaultValue);
+        CompactShortForms shortForms = getCompactShortForms();
+        return shortForms.isEmpty() ? defaultValue.get() : shortForms.getShortForm(0);
     }
 
     public abstract <R, E extends Throwable> R accept(OWLPrimitiveDataVisitor<R, E> visitor) throws E;
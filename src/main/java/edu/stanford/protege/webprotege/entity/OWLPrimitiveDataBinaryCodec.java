@@ -0,0 +1,524 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableList;
+import edu.stanford.protege.webprotege.common.*;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import uk.ac.manchester.cs.owl.owlapi.OWLDatatypeImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLLiteralImpl;
+
+import javax.annotation.Nonnull;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     A compact binary encoding for lists of {@link OWLPrimitiveData}, as an alternative to JSON where bandwidth
+ *     matters.  A message consists of a format version, the number of elements, and then the elements.  Each
+ *     element starts with a one byte tag that holds the type of the element and its flags.  Lengths and counts are
+ *     written as unsigned varints and strings are written as UTF-8.
+ * </p>
+ * <p>
+ *     IRIs are written as a namespace and a remainder.  Namespaces and dictionary languages are written in full
+ *     the first time that they occur in a message and are subsequently referred to by their index, so that
+ *     repeated namespaces such as {@code http://purl.obolibrary.org/obo/} are only encoded once per message.  A
+ *     reference is written as a varint that is zero for a new entry, which then follows, or the index of an
+ *     existing entry plus one.
+ * </p>
+ * <p>
+ *     Decoding produces data that is equal to the data that was encoded, and that is equal to the data that is
+ *     produced by reading the JSON form.  Codecs are thread safe.
+ * </p>
+ */
+public final class OWLPrimitiveDataBinaryCodec {
+
+    static final int FORMAT_VERSION = 1;
+
+    // Type codes are part of the format and so are not derived from PrimitiveType ordinals
+    private static final int CLASS_TAG = 1;
+
+    private static final int OBJECT_PROPERTY_TAG = 2;
+
+    private static final int DATA_PROPERTY_TAG = 3;
+
+    private static final int ANNOTATION_PROPERTY_TAG = 4;
+
+    private static final int NAMED_INDIVIDUAL_TAG = 5;
+
+    private static final int DATATYPE_TAG = 6;
+
+    private static final int IRI_TAG = 7;
+
+    private static final int LITERAL_TAG = 8;
+
+    private static final int TYPE_MASK = 0x0F;
+
+    /**
+     * Entities and IRIs: the data is deprecated.  Literals: the literal has a language tag.
+     */
+    private static final int FLAG_A = 0x10;
+
+    /**
+     * Entities and IRIs: the data has short forms.  Literals: the literal has a datatype other than
+     * rdf:PlainLiteral.
+     */
+    private static final int FLAG_B = 0x20;
+
+    private static final int LOCAL_NAME_LANGUAGE = 1;
+
+    private static final int OBO_ID_LANGUAGE = 2;
+
+    private static final int PREFIXED_NAME_LANGUAGE = 3;
+
+    private static final int ANNOTATION_ASSERTION_LANGUAGE = 4;
+
+    private static final int ANNOTATION_ASSERTION_PATH_LANGUAGE = 5;
+
+    private static final OWLPrimitiveDataBinaryCodec INSTANCE = new OWLPrimitiveDataBinaryCodec();
+
+    private OWLPrimitiveDataBinaryCodec() {
+    }
+
+    @Nonnull
+    public static OWLPrimitiveDataBinaryCodec get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Encodes the specified data as a single message.
+     * @param data The data to encode.
+     * @return The encoded message.
+     */
+    @Nonnull
+    public byte[] encode(@Nonnull Collection<? extends OWLPrimitiveData> data) {
+        Encoder encoder = new Encoder(Math.max(64, data.size() * 48));
+        encoder.writeMessage(data);
+        return encoder.toByteArray();
+    }
+
+    /**
+     * Encodes the specified data as a single message and writes it to the specified output stream.  The stream
+     * is not closed.
+     * @param data The data to encode.
+     * @param outputStream The output stream.
+     */
+    public void encode(@Nonnull Collection<? extends OWLPrimitiveData> data,
+                       @Nonnull OutputStream outputStream) throws IOException {
+        Encoder encoder = new Encoder(Math.max(64, data.size() * 48));
+        encoder.writeMessage(data);
+        encoder.writeTo(outputStream);
+    }
+
+    /**
+     * Decodes a message.
+     * @param message The encoded message.
+     * @return The decoded data, in the order in which it was encoded.
+     * @throws IOException if the message is truncated or malformed.
+     */
+    @Nonnull
+    public ImmutableList<OWLPrimitiveData> decode(@Nonnull byte[] message) throws IOException {
+        return new Decoder(checkNotNull(message)).readMessage();
+    }
+
+    /**
+     * Reads a message from the specified input stream and decodes it.  The stream is read to its end but is
+     * not closed.
+     * @param inputStream The input stream.
+     * @return The decoded data, in the order in which it was encoded.
+     * @throws IOException if the stream could not be read or the message is truncated or malformed.
+     */
+    @Nonnull
+    public ImmutableList<OWLPrimitiveData> decode(@Nonnull InputStream inputStream) throws IOException {
+        return decode(inputStream.readAllBytes());
+    }
+
+    private static final class Encoder implements OWLPrimitiveDataVisitor<Void, RuntimeException>,
+                                                   DictionaryLanguageVisitor<Void> {
+
+        private final Map<String, Integer> namespaces = new HashMap<>();
+
+        private final Map<DictionaryLanguage, Integer> languages = new HashMap<>();
+
+        private byte[] buffer;
+
+        private int size = 0;
+
+        private Encoder(int initialCapacity) {
+            buffer = new byte[initialCapacity];
+        }
+
+        private void writeMessage(Collection<? extends OWLPrimitiveData> data) {
+            writeVarInt(FORMAT_VERSION);
+            writeVarInt(data.size());
+            for(OWLPrimitiveData d : data) {
+                d.accept(this);
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void writeTo(OutputStream outputStream) throws IOException {
+            outputStream.write(buffer, 0, size);
+        }
+
+        @Override
+        public Void visit(OWLClassData data) {
+            writeIriBasedData(CLASS_TAG, data, data.getEntity().getIRI());
+            return null;
+        }
+
+        @Override
+        public Void visit(OWLObjectPropertyData data) {
+            writeIriBasedData(OBJECT_PROPERTY_TAG, data, data.getEntity().getIRI());
+            return null;
+        }
+
+        @Override
+        public Void visit(OWLDataPropertyData data) {
+            writeIriBasedData(DATA_PROPERTY_TAG, data, data.getEntity().getIRI());
+            return null;
+        }
+
+        @Override
+        public Void visit(OWLAnnotationPropertyData data) {
+            writeIriBasedData(ANNOTATION_PROPERTY_TAG, data, data.getEntity().getIRI());
+            return null;
+        }
+
+        @Override
+        public Void visit(OWLNamedIndividualData data) {
+            writeIriBasedData(NAMED_INDIVIDUAL_TAG, data, data.getEntity().getIRI());
+            return null;
+        }
+
+        @Override
+        public Void visit(OWLDatatypeData data) {
+            writeIriBasedData(DATATYPE_TAG, data, data.getEntity().getIRI());
+            return null;
+        }
+
+        @Override
+        public Void visit(IRIData data) {
+            writeIriBasedData(IRI_TAG, data, data.getIri());
+            return null;
+        }
+
+        @Override
+        public Void visit(OWLLiteralData data) {
+            OWLLiteral literal = data.getLiteral();
+            String lang = literal.getLang();
+            OWLDatatype datatype = literal.getDatatype();
+            boolean hasLang = !lang.isEmpty();
+            boolean hasDatatype = !datatype.isRDFPlainLiteral();
+            writeByte(LITERAL_TAG | (hasLang ? FLAG_A : 0) | (hasDatatype ? FLAG_B : 0));
+            writeString(literal.getLiteral());
+            if(hasLang) {
+                writeString(lang);
+            }
+            if(hasDatatype) {
+                writeIri(datatype.getIRI());
+            }
+            return null;
+        }
+
+        private void writeIriBasedData(int tag, OWLPrimitiveData data, IRI iri) {
+            CompactShortForms shortForms = data.getCompactShortForms();
+            boolean hasShortForms = !shortForms.isEmpty();
+            writeByte(tag | (data.isDeprecated() ? FLAG_A : 0) | (hasShortForms ? FLAG_B : 0));
+            writeIri(iri);
+            if(hasShortForms) {
+                writeVarInt(shortForms.size());
+                for(int i = 0, count = shortForms.size(); i < count; i++) {
+                    writeDictionaryLanguage(shortForms.getDictionaryLanguage(i));
+                    writeString(shortForms.getShortForm(i));
+                }
+            }
+        }
+
+        private void writeIri(IRI iri) {
+            String namespace = iri.getNamespace();
+            Integer index = namespaces.get(namespace);
+            if(index == null) {
+                namespaces.put(namespace, namespaces.size());
+                writeVarInt(0);
+                writeString(namespace);
+            }
+            else {
+                writeVarInt(index + 1);
+            }
+            writeString(iri.getRemainder().or(""));
+        }
+
+        private void writeDictionaryLanguage(DictionaryLanguage language) {
+            Integer index = languages.get(language);
+            if(index == null) {
+                languages.put(language, languages.size());
+                writeVarInt(0);
+                language.accept(this);
+            }
+            else {
+                writeVarInt(index + 1);
+            }
+        }
+
+        @Override
+        public Void getDefault() {
+            throw new RuntimeException("Unsupported dictionary language");
+        }
+
+        @Override
+        public Void visit(LocalNameDictionaryLanguage language) {
+            writeByte(LOCAL_NAME_LANGUAGE);
+            return null;
+        }
+
+        @Override
+        public Void visit(OboIdDictionaryLanguage language) {
+            writeByte(OBO_ID_LANGUAGE);
+            return null;
+        }
+
+        @Override
+        public Void visit(PrefixedNameDictionaryLanguage language) {
+            writeByte(PREFIXED_NAME_LANGUAGE);
+            return null;
+        }
+
+        @Override
+        public Void visit(AnnotationAssertionDictionaryLanguage language) {
+            writeByte(ANNOTATION_ASSERTION_LANGUAGE);
+            writeIri(language.getAnnotationPropertyIri());
+            writeString(language.getLang());
+            return null;
+        }
+
+        @Override
+        public Void visit(AnnotationAssertionPathDictionaryLanguage language) {
+            writeByte(ANNOTATION_ASSERTION_PATH_LANGUAGE);
+            ImmutableList<IRI> path = language.getAnnotationPropertyPath();
+            writeVarInt(path.size());
+            for(IRI iri : path) {
+                writeIri(iri);
+            }
+            writeString(language.getLang());
+            return null;
+        }
+
+        private void writeString(String s) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        private void writeVarInt(int value) {
+            ensureCapacity(5);
+            while((value & ~0x7F) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        private void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[size++] = (byte) value;
+        }
+
+        private void ensureCapacity(int additional) {
+            if(size + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+            }
+        }
+    }
+
+    private static final class Decoder {
+
+        private final List<String> namespaces = new ArrayList<>();
+
+        private final List<DictionaryLanguage> languages = new ArrayList<>();
+
+        private final byte[] buffer;
+
+        private int position = 0;
+
+        private Decoder(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        private ImmutableList<OWLPrimitiveData> readMessage() throws IOException {
+            int version = readVarInt();
+            if(version != FORMAT_VERSION) {
+                throw new IOException("Unsupported format version: " + version);
+            }
+            int count = readVarInt();
+            // Each element occupies at least two bytes, which bounds the count for malformed messages
+            ImmutableList.Builder<OWLPrimitiveData> data = ImmutableList.builderWithExpectedSize(Math.min(count, buffer.length / 2));
+            for(int i = 0; i < count; i++) {
+                data.add(readElement());
+            }
+            if(position != buffer.length) {
+                throw new IOException("Unexpected data at the end of the message");
+            }
+            return data.build();
+        }
+
+        private OWLPrimitiveData readElement() throws IOException {
+            int tag = readByte();
+            boolean flagA = (tag & FLAG_A) != 0;
+            boolean flagB = (tag & FLAG_B) != 0;
+            switch(tag & TYPE_MASK) {
+                case CLASS_TAG:
+                    return readIriBasedData(PrimitiveType.CLASS, flagA, flagB);
+                case OBJECT_PROPERTY_TAG:
+                    return readIriBasedData(PrimitiveType.OBJECT_PROPERTY, flagA, flagB);
+                case DATA_PROPERTY_TAG:
+                    return readIriBasedData(PrimitiveType.DATA_PROPERTY, flagA, flagB);
+                case ANNOTATION_PROPERTY_TAG:
+                    return readIriBasedData(PrimitiveType.ANNOTATION_PROPERTY, flagA, flagB);
+                case NAMED_INDIVIDUAL_TAG:
+                    return readIriBasedData(PrimitiveType.NAMED_INDIVIDUAL, flagA, flagB);
+                case DATATYPE_TAG:
+                    return readIriBasedData(PrimitiveType.DATA_TYPE, flagA, flagB);
+                case IRI_TAG:
+                    return readIriBasedData(PrimitiveType.IRI, flagA, flagB);
+                case LITERAL_TAG:
+                    return readLiteralData(flagA, flagB);
+                default:
+                    throw new IOException("Unrecognized element tag: " + tag);
+            }
+        }
+
+        private OWLPrimitiveData readIriBasedData(PrimitiveType type,
+                                                  boolean deprecated,
+                                                  boolean hasShortForms) throws IOException {
+            IRI iri = readIri();
+            CompactShortForms shortForms = hasShortForms ? readShortForms() : CompactShortForms.empty();
+            return OWLPrimitiveData.get(type, iri, shortForms, deprecated);
+        }
+
+        private CompactShortForms readShortForms() throws IOException {
+            int count = readVarInt();
+            CompactShortForms.Builder shortForms = CompactShortForms.builder();
+            for(int i = 0; i < count; i++) {
+                DictionaryLanguage language = readDictionaryLanguage();
+                shortForms.add(language, readString());
+            }
+            return shortForms.build();
+        }
+
+        private OWLLiteralData readLiteralData(boolean hasLang, boolean hasDatatype) throws IOException {
+            String value = readString();
+            String lang = hasLang ? readString() : null;
+            OWLDatatype datatype = hasDatatype ? new OWLDatatypeImpl(readIri()) : null;
+            return OWLLiteralData.get(new OWLLiteralImpl(value, lang, datatype));
+        }
+
+        private IRI readIri() throws IOException {
+            int reference = readVarInt();
+            String namespace;
+            if(reference == 0) {
+                namespace = readString();
+                namespaces.add(namespace);
+            }
+            else {
+                namespace = getEntry(namespaces, reference);
+            }
+            String remainder = readString();
+            return IRI.create(namespace, remainder.isEmpty() ? null : remainder);
+        }
+
+        private DictionaryLanguage readDictionaryLanguage() throws IOException {
+            int reference = readVarInt();
+            if(reference != 0) {
+                return getEntry(languages, reference);
+            }
+            DictionaryLanguage language;
+            int kind = readByte();
+            switch(kind) {
+                case LOCAL_NAME_LANGUAGE:
+                    language = LocalNameDictionaryLanguage.get();
+                    break;
+                case OBO_ID_LANGUAGE:
+                    language = OboIdDictionaryLanguage.get();
+                    break;
+                case PREFIXED_NAME_LANGUAGE:
+                    language = PrefixedNameDictionaryLanguage.get();
+                    break;
+                case ANNOTATION_ASSERTION_LANGUAGE:
+                    IRI propertyIri = readIri();
+                    language = AnnotationAssertionDictionaryLanguage.get(propertyIri, readString());
+                    break;
+                case ANNOTATION_ASSERTION_PATH_LANGUAGE:
+                    int length = readVarInt();
+                    ImmutableList.Builder<IRI> path = ImmutableList.builder();
+                    for(int i = 0; i < length; i++) {
+                        path.add(readIri());
+                    }
+                    language = AnnotationAssertionPathDictionaryLanguage.get(path.build(), readString());
+                    break;
+                default:
+                    throw new IOException("Unrecognized dictionary language kind: " + kind);
+            }
+            languages.add(language);
+            return language;
+        }
+
+        private static <T> T getEntry(List<T> entries, int reference) throws IOException {
+            if(reference > entries.size()) {
+                throw new IOException("Reference to undefined entry: " + reference);
+            }
+            return entries.get(reference - 1);
+        }
+
+        private String readString() throws IOException {
+            int length = readVarInt();
+            if(length > buffer.length - position) {
+                throw new EOFException();
+            }
+            String s = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return s;
+        }
+
+        private int readVarInt() throws IOException {
+            int value = 0;
+            for(int shift = 0; shift < 32; shift += 7) {
+                int b = readByte();
+                value |= (b & 0x7F) << shift;
+                if((b & 0x80) == 0) {
+                    if(value < 0) {
+                        break;
+                    }
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint");
+        }
+
+        private int readByte() throws IOException {
+            if(position >= buffer.length) {
+                throw new EOFException();
+            }
+            return buffer[position++] & 0xFF;
+        }
+    }
+}
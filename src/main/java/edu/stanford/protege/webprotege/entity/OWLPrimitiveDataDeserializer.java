@@ -0,0 +1,296 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.google.common.collect.ImmutableList;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import edu.stanford.protege.webprotege.common.ShortForm;
+import org.semanticweb.owlapi.model.IRI;
+import uk.ac.manchester.cs.owl.owlapi.OWLDatatypeImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLLiteralImpl;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static edu.stanford.protege.webprotege.entity.OWLPrimitiveDataSerializer.*;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Deserializes one type of {@link OWLPrimitiveData} by reading its fields directly from the parser, rather
+ *     than by binding them to the {@code @JsonCreator} factory method of the AutoValue class.  The format that
+ *     is accepted is the format produced by {@link OWLPrimitiveDataSerializer}.  Unknown properties are handled
+ *     according to the configuration of the {@link DeserializationContext}.  Type ids are handled by Jackson
+ *     before this deserializer is called.
+ * </p>
+ * <p>
+ *     If an {@link OWLEntityInterningPool} is specified with the
+ *     {@link OWLPrimitiveDataInterningModule#POOL_ATTRIBUTE} attribute, or the deserializer has a default pool,
+ *     then the IRI or entity is looked up in the pool before the data is created, and short forms are interned
+ *     as they are read.  The data is created once, from the pooled IRI or entity.
+ * </p>
+ */
+public class OWLPrimitiveDataDeserializer<T extends OWLPrimitiveData> extends StdDeserializer<T> implements ContextualDeserializer {
+
+    private final Class<T> type;
+
+    private final PrimitiveType primitiveType;
+
+    @Nullable
+    private final JsonDeserializer<Object> dictionaryLanguageDeserializer;
+
+    @Nullable
+    private final List<String> prefixes;
+
+    @Nullable
+    private final OWLEntityInterningPool defaultPool;
+
+    /**
+     * Creates a deserializer for the specified type of primitive data.
+     * @param type The class of the data, for example {@link OWLClassData}.
+     * @param primitiveType The corresponding primitive type, for example {@link PrimitiveType#CLASS}.
+     */
+    public OWLPrimitiveDataDeserializer(@Nonnull Class<T> type, @Nonnull PrimitiveType primitiveType) {
+        this(type, primitiveType, null, null, null);
+    }
+
+    /**
+     * Creates a deserializer that uses the specified pool when a pool is not specified with the
+     * {@link OWLPrimitiveDataInterningModule#POOL_ATTRIBUTE} attribute.
+     * @param type The class of the data, for example {@link OWLClassData}.
+     * @param primitiveType The corresponding primitive type, for example {@link PrimitiveType#CLASS}.
+     * @param defaultPool The default pool.
+     */
+    static <T extends OWLPrimitiveData> OWLPrimitiveDataDeserializer<T> get(@Nonnull Class<T> type,
+                                                                           @Nonnull PrimitiveType primitiveType,
+                                                                           @Nonnull OWLEntityInterningPool defaultPool) {
+        return new OWLPrimitiveDataDeserializer<>(type, primitiveType, null, null, checkNotNull(defaultPool));
+    }
+
+    /**
+     * Creates a deserializer that also accepts IRIs that are written as a reference to a prefix in the
+     * specified prefix table.  See {@link CompactOWLPrimitiveDataList}.
+     * @param primitiveType The primitive type.
+     * @param dictionaryLanguageDeserializer The deserializer for dictionary languages.
+     * @param prefixes The prefix table.  This list may be added to after the deserializer has been created.
+     */
+    static OWLPrimitiveDataDeserializer<OWLPrimitiveData> get(@Nonnull PrimitiveType primitiveType,
+                                                             @Nonnull JsonDeserializer<Object> dictionaryLanguageDeserializer,
+                                                             @Nonnull List<String> prefixes) {
+        return new OWLPrimitiveDataDeserializer<>(OWLPrimitiveData.class,
+                                                  primitiveType,
+                                                  checkNotNull(dictionaryLanguageDeserializer),
+                                                  checkNotNull(prefixes),
+                                                  null);
+    }
+
+    private OWLPrimitiveDataDeserializer(@Nonnull Class<T> type,
+                                         @Nonnull PrimitiveType primitiveType,
+                                         @Nullable JsonDeserializer<Object> dictionaryLanguageDeserializer,
+                                         @Nullable List<String> prefixes,
+                                         @Nullable OWLEntityInterningPool defaultPool) {
+        super(type);
+        this.type = checkNotNull(type);
+        this.primitiveType = checkNotNull(primitiveType);
+        this.dictionaryLanguageDeserializer = dictionaryLanguageDeserializer;
+        this.prefixes = prefixes;
+        this.defaultPool = defaultPool;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt,
+                                                BeanProperty property) throws JsonMappingException {
+        if(dictionaryLanguageDeserializer != null || primitiveType == PrimitiveType.LITERAL) {
+            return this;
+        }
+        return new OWLPrimitiveDataDeserializer<>(type,
+                                                  primitiveType,
+                                                  findDictionaryLanguageDeserializer(ctxt),
+                                                  prefixes,
+                                                  defaultPool);
+    }
+
+    @Override
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if(token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        }
+        else if(token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return type.cast(ctxt.handleUnexpectedToken(type, p));
+        }
+        if(primitiveType == PrimitiveType.LITERAL) {
+            return type.cast(readLiteralData(p, ctxt, token));
+        }
+        OWLEntityInterningPool pool = getPool(ctxt);
+        String iri = null;
+        CompactShortForms shortForms = CompactShortForms.empty();
+        boolean deprecated = false;
+        for(; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String fieldName = p.currentName();
+            p.nextToken();
+            switch(fieldName) {
+                case IRI_FIELD:
+                    iri = readIri(p, ctxt);
+                    break;
+                case SHORT_FORMS_FIELD:
+                    shortForms = readShortForms(p, ctxt, pool);
+                    break;
+                case DEPRECATED_FIELD:
+                    deprecated = _parseBooleanPrimitive(p, ctxt);
+                    break;
+                default:
+                    handleUnknownProperty(p, ctxt, type, fieldName);
+            }
+        }
+        if(iri == null) {
+            return ctxt.reportInputMismatch(this, "Missing property '%s' for %s", IRI_FIELD, type.getSimpleName());
+        }
+        if(pool != null) {
+            return type.cast(pool.getPrimitiveData(primitiveType, iri, shortForms, deprecated));
+        }
+        return type.cast(OWLPrimitiveData.get(primitiveType, IRI.create(iri), shortForms, deprecated));
+    }
+
+    @Nullable
+    private OWLEntityInterningPool getPool(DeserializationContext ctxt) {
+        OWLEntityInterningPool pool = OWLPrimitiveDataInterningModule.getPool(ctxt);
+        return pool != null ? pool : defaultPool;
+    }
+
+    private OWLLiteralData readLiteralData(JsonParser p, DeserializationContext ctxt, JsonToken token) throws IOException {
+        String value = null;
+        String lang = null;
+        String datatype = null;
+        for(; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String fieldName = p.currentName();
+            p.nextToken();
+            switch(fieldName) {
+                case VALUE_FIELD:
+                    value = readNullableString(p, ctxt);
+                    break;
+                case LANG_FIELD:
+                    lang = readNullableString(p, ctxt);
+                    break;
+                case DATATYPE_FIELD:
+                    datatype = readIri(p, ctxt);
+                    break;
+                default:
+                    handleUnknownProperty(p, ctxt, type, fieldName);
+            }
+        }
+        if(value == null) {
+            return ctxt.reportInputMismatch(this, "Missing property '%s' for %s", VALUE_FIELD, type.getSimpleName());
+        }
+        OWLDatatypeImpl theDatatype = datatype == null ? null : new OWLDatatypeImpl(IRI.create(datatype));
+        return OWLLiteralData.get(new OWLLiteralImpl(value, lang, theDatatype));
+    }
+
+    private CompactShortForms readShortForms(JsonParser p,
+                                             DeserializationContext ctxt,
+                                             @Nullable OWLEntityInterningPool pool) throws IOException {
+        JsonToken token = p.currentToken();
+        if(token == JsonToken.VALUE_NULL) {
+            return CompactShortForms.empty();
+        }
+        if(token != JsonToken.START_ARRAY) {
+            ctxt.handleUnexpectedToken(ImmutableList.class, p);
+            return CompactShortForms.empty();
+        }
+        CompactShortForms.Builder shortForms = CompactShortForms.builder();
+        while((token = p.nextToken()) != JsonToken.END_ARRAY) {
+            if(token != JsonToken.START_OBJECT) {
+                ctxt.handleUnexpectedToken(ShortForm.class, p);
+                continue;
+            }
+            readShortForm(p, ctxt, pool, shortForms);
+        }
+        return shortForms.build();
+    }
+
+    private void readShortForm(JsonParser p,
+                               DeserializationContext ctxt,
+                               @Nullable OWLEntityInterningPool pool,
+                               CompactShortForms.Builder shortForms) throws IOException {
+        DictionaryLanguage dictionaryLanguage = null;
+        String shortForm = null;
+        for(JsonToken token = p.nextToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String fieldName = p.currentName();
+            p.nextToken();
+            switch(fieldName) {
+                case ShortForm.DICTIONARY_LANGUAGE:
+                    dictionaryLanguage = readDictionaryLanguage(p, ctxt);
+                    break;
+                case ShortForm.SHORT_FORM:
+                    shortForm = readNullableString(p, ctxt);
+                    break;
+                default:
+                    handleUnknownProperty(p, ctxt, ShortForm.class, fieldName);
+            }
+        }
+        if(dictionaryLanguage == null || shortForm == null) {
+            ctxt.reportInputMismatch(ShortForm.class,
+                                     "Missing property '%s' for ShortForm",
+                                     dictionaryLanguage == null ? ShortForm.DICTIONARY_LANGUAGE : ShortForm.SHORT_FORM);
+            return;
+        }
+        shortForms.add(dictionaryLanguage, pool != null ? pool.internShortForm(shortForm) : shortForm);
+    }
+
+    @Nullable
+    private DictionaryLanguage readDictionaryLanguage(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if(p.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        JsonDeserializer<Object> deserializer = dictionaryLanguageDeserializer;
+        if(deserializer == null) {
+            deserializer = findDictionaryLanguageDeserializer(ctxt);
+        }
+        return (DictionaryLanguage) deserializer.deserialize(p, ctxt);
+    }
+
+    /**
+     * Reads an IRI that is either written in full or, if there is a prefix table, written as an array that
+     * contains the index of a prefix and the remainder of the IRI.
+     */
+    @Nullable
+    private String readIri(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if(prefixes == null || p.currentToken() != JsonToken.START_ARRAY) {
+            return readNullableString(p, ctxt);
+        }
+        p.nextToken();
+        int prefixIndex = _parseIntPrimitive(p, ctxt);
+        if(prefixIndex < 0 || prefixIndex >= prefixes.size()) {
+            return ctxt.reportInputMismatch(this, "Undefined prefix index %d", prefixIndex);
+        }
+        p.nextToken();
+        String remainder = _parseString(p, ctxt);
+        if(p.nextToken() != JsonToken.END_ARRAY) {
+            ctxt.reportWrongTokenException(this, JsonToken.END_ARRAY, "Expected the end of a prefixed IRI");
+        }
+        return prefixes.get(prefixIndex) + remainder;
+    }
+
+    @Nullable
+    private String readNullableString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if(p.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return _parseString(p, ctxt);
+    }
+
+    private static JsonDeserializer<Object> findDictionaryLanguageDeserializer(DeserializationContext ctxt) throws JsonMappingException {
+        return ctxt.findRootValueDeserializer(ctxt.constructType(DictionaryLanguage.class));
+    }
+}
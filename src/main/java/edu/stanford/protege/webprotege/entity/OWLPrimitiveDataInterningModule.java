@@ -0,0 +1,92 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     A Jackson module that deserializes {@link OWLPrimitiveData} using an {@link OWLEntityInterningPool}, so that
+ *     IRIs and entities that are referenced many times in a response are shared rather than duplicated.  Entity
+ *     and IRI data are read by an {@link OWLPrimitiveDataDeserializer}, which looks up the IRI or entity in the
+ *     pool before the data is created, so a duplicate IRI, entity or data object is not allocated for a pooled
+ *     entity.  The deserializer accepts the same JSON as the annotated classes.
+ * </p>
+ * <p>
+ *     The pool that is supplied to the module is used by default.  A different pool can be used for
+ *     a particular read by setting the {@link #POOL_ATTRIBUTE} attribute, for example
+ *     {@code objectMapper.readerFor(type).withAttribute(POOL_ATTRIBUTE, pool)}.
+ * </p>
+ */
+public class OWLPrimitiveDataInterningModule extends SimpleModule {
+
+    /**
+     * The key of the {@link com.fasterxml.jackson.databind.cfg.ContextAttributes} attribute that specifies the
+     * {@link OWLEntityInterningPool} to use for a particular read.
+     */
+    public static final Class<OWLEntityInterningPool> POOL_ATTRIBUTE = OWLEntityInterningPool.class;
+
+    private final OWLEntityInterningPool pool;
+
+    public OWLPrimitiveDataInterningModule(@Nonnull OWLEntityInterningPool pool) {
+        super("OWLPrimitiveDataInterningModule");
+        this.pool = checkNotNull(pool);
+        setDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config,
+                                                          BeanDescription beanDesc,
+                                                          JsonDeserializer<?> deserializer) {
+                // Abstract types are deserialized by finding the deserializer for the concrete type, which is
+                // replaced here
+                PrimitiveType primitiveType = getPrimitiveType(beanDesc.getBeanClass());
+                if(primitiveType == null || primitiveType == PrimitiveType.LITERAL) {
+                    return deserializer;
+                }
+                return OWLPrimitiveDataDeserializer.get(beanDesc.getBeanClass().asSubclass(OWLPrimitiveData.class),
+                                                        primitiveType,
+                                                        pool);
+            }
+        });
+    }
+
+    @Nonnull
+    public OWLEntityInterningPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Gets the pool that should be used by the specified context.
+     * @return The pool specified by the {@link #POOL_ATTRIBUTE} attribute or {@code null} if the attribute is
+     * not set.
+     */
+    @Nullable
+    static OWLEntityInterningPool getPool(@Nonnull DeserializationContext context) {
+        Object attribute = context.getAttribute(POOL_ATTRIBUTE);
+        return attribute instanceof OWLEntityInterningPool ? (OWLEntityInterningPool) attribute : null;
+    }
+
+    /**
+     * Gets the primitive type of the specified concrete type of primitive data.
+     * @return The primitive type, or {@code null} if the class is not a concrete type of primitive data.
+     */
+    @Nullable
+    private static PrimitiveType getPrimitiveType(Class<?> beanClass) {
+        if(!OWLPrimitiveData.class.isAssignableFrom(beanClass)) {
+            return null;
+        }
+        JsonTypeName typeName = beanClass.getAnnotation(JsonTypeName.class);
+        return typeName == null ? null : OWLPrimitiveDataSerializer.getPrimitiveType(typeName.value());
+    }
+}
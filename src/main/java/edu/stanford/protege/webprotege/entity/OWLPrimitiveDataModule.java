@@ -0,0 +1,30 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     A Jackson module that registers the hand-written {@link OWLPrimitiveDataSerializer} and
+ *     {@link OWLPrimitiveDataDeserializer}s for the {@link OWLPrimitiveData} hierarchy.  These produce and
+ *     accept the same JSON as the annotated classes, but avoid bean introspection and intermediate objects.
+ *     The module may be combined with the {@link OWLPrimitiveDataInterningModule}.
+ * </p>
+ */
+public class OWLPrimitiveDataModule extends SimpleModule {
+
+    public OWLPrimitiveDataModule() {
+        super("OWLPrimitiveDataModule");
+        addSerializer(OWLPrimitiveData.class, new OWLPrimitiveDataSerializer());
+        addDeserializer(OWLClassData.class, new OWLPrimitiveDataDeserializer<>(OWLClassData.class, PrimitiveType.CLASS));
+        addDeserializer(OWLObjectPropertyData.class, new OWLPrimitiveDataDeserializer<>(OWLObjectPropertyData.class, PrimitiveType.OBJECT_PROPERTY));
+        addDeserializer(OWLDataPropertyData.class, new OWLPrimitiveDataDeserializer<>(OWLDataPropertyData.class, PrimitiveType.DATA_PROPERTY));
+        addDeserializer(OWLAnnotationPropertyData.class, new OWLPrimitiveDataDeserializer<>(OWLAnnotationPropertyData.class, PrimitiveType.ANNOTATION_PROPERTY));
+        addDeserializer(OWLNamedIndividualData.class, new OWLPrimitiveDataDeserializer<>(OWLNamedIndividualData.class, PrimitiveType.NAMED_INDIVIDUAL));
+        addDeserializer(OWLDatatypeData.class, new OWLPrimitiveDataDeserializer<>(OWLDatatypeData.class, PrimitiveType.DATA_TYPE));
+        addDeserializer(IRIData.class, new OWLPrimitiveDataDeserializer<>(IRIData.class, PrimitiveType.IRI));
+        addDeserializer(OWLLiteralData.class, new OWLPrimitiveDataDeserializer<>(OWLLiteralData.class, PrimitiveType.LITERAL));
+    }
+}
@@ -0,0 +1,204 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLLiteral;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Serializes all types of {@link OWLPrimitiveData} by writing their fields directly to the generator, rather
+ *     than by introspecting the annotated getters of the AutoValue classes.  The output is identical to the
+ *     output produced by the annotations.  Dictionary languages are serialized by the serializers that are
+ *     configured for {@link DictionaryLanguage}, since their format is not defined here.
+ * </p>
+ */
+public class OWLPrimitiveDataSerializer extends StdSerializer<OWLPrimitiveData> {
+
+    static final String SHORT_FORMS_FIELD = "shortForms";
+
+    static final String DEPRECATED_FIELD = "deprecated";
+
+    static final String IRI_FIELD = "iri";
+
+    static final String VALUE_FIELD = "value";
+
+    static final String LANG_FIELD = "lang";
+
+    static final String DATATYPE_FIELD = "datatype";
+
+    private static final ImmutableMap<PrimitiveType, String> TYPE_NAMES = Maps.immutableEnumMap(Map.of(
+            PrimitiveType.CLASS, getTypeName(OWLClassData.class),
+            PrimitiveType.OBJECT_PROPERTY, getTypeName(OWLObjectPropertyData.class),
+            PrimitiveType.DATA_PROPERTY, getTypeName(OWLDataPropertyData.class),
+            PrimitiveType.ANNOTATION_PROPERTY, getTypeName(OWLAnnotationPropertyData.class),
+            PrimitiveType.NAMED_INDIVIDUAL, getTypeName(OWLNamedIndividualData.class),
+            PrimitiveType.DATA_TYPE, getTypeName(OWLDatatypeData.class),
+            PrimitiveType.IRI, getTypeName(IRIData.class),
+            PrimitiveType.LITERAL, getTypeName(OWLLiteralData.class)));
+
+    private static final ImmutableMap<String, PrimitiveType> TYPES_BY_NAME = ImmutableMap.copyOf(
+            TYPE_NAMES.entrySet().stream().collect(Collectors.toMap(Map.Entry::getValue, Map.Entry::getKey)));
+
+    static final String TYPE_FIELD = "@type";
+
+    @Nullable
+    private final Map<String, Integer> prefixIndexes;
+
+    public OWLPrimitiveDataSerializer() {
+        this(null);
+    }
+
+    /**
+     * Creates a serializer that writes IRIs whose namespace is in the specified map as a prefix reference.
+     * See {@link CompactOWLPrimitiveDataList}.
+     * @param prefixIndexes A map from namespaces to their index in the prefix table, or {@code null} if IRIs
+     *                      should always be written in full.
+     */
+    OWLPrimitiveDataSerializer(@Nullable Map<String, Integer> prefixIndexes) {
+        super(OWLPrimitiveData.class);
+        this.prefixIndexes = prefixIndexes;
+    }
+
+    @Override
+    public void serialize(OWLPrimitiveData value,
+                          JsonGenerator gen,
+                          SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        writeFields(value, gen, provider);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(OWLPrimitiveData value,
+                                  JsonGenerator gen,
+                                  SerializerProvider provider,
+                                  TypeSerializer typeSer) throws IOException {
+        gen.setCurrentValue(value);
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, getTypeId(value, typeSer));
+        writeFields(value, gen, provider);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    /**
+     * Writes the specified value as an object whose first property is its type name.
+     */
+    void serializeWithTypeName(OWLPrimitiveData value,
+                               JsonGenerator gen,
+                               SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeStringField(TYPE_FIELD, TYPE_NAMES.get(value.getType()));
+        writeFields(value, gen, provider);
+        gen.writeEndObject();
+    }
+
+    /**
+     * Gets the type id for the specified value.  Type names are looked up from the {@link JsonTypeName}
+     * annotations once, rather than being resolved from the class of the value each time a value is written.
+     */
+    private static WritableTypeId getTypeId(OWLPrimitiveData value, TypeSerializer typeSer) {
+        if(typeSer.getTypeIdResolver().getMechanism() == JsonTypeInfo.Id.NAME) {
+            return typeSer.typeId(value, JsonToken.START_OBJECT, TYPE_NAMES.get(value.getType()));
+        }
+        else {
+            return typeSer.typeId(value, JsonToken.START_OBJECT);
+        }
+    }
+
+    private void writeFields(OWLPrimitiveData value,
+                             JsonGenerator gen,
+                             SerializerProvider provider) throws IOException {
+        if(value instanceof OWLEntityData) {
+            writeShortForms(value.getCompactShortForms(), gen, provider);
+            writeDeprecated(value.isDeprecated(), gen);
+            writeIri(IRI_FIELD, ((OWLEntityData) value).getEntity().getIRI(), gen);
+        }
+        else if(value instanceof IRIData) {
+            writeShortForms(value.getCompactShortForms(), gen, provider);
+            writeDeprecated(value.isDeprecated(), gen);
+            writeIri(IRI_FIELD, ((IRIData) value).getIri(), gen);
+        }
+        else if(value instanceof OWLLiteralData) {
+            writeLiteral(((OWLLiteralData) value).getLiteral(), gen);
+        }
+        else {
+            provider.reportMappingProblem("Unrecognized type of primitive data: %s", value.getClass().getName());
+        }
+    }
+
+    private static void writeShortForms(CompactShortForms shortForms,
+                                        JsonGenerator gen,
+                                        SerializerProvider provider) throws IOException {
+        if(shortForms.isEmpty()) {
+            return;
+        }
+        gen.writeFieldName(SHORT_FORMS_FIELD);
+        CompactShortFormsSerializer.writeShortForms(shortForms, gen, provider);
+    }
+
+    private static void writeDeprecated(boolean deprecated, JsonGenerator gen) throws IOException {
+        if(deprecated) {
+            gen.writeBooleanField(DEPRECATED_FIELD, true);
+        }
+    }
+
+    private void writeIri(String fieldName, IRI iri, JsonGenerator gen) throws IOException {
+        if(prefixIndexes != null) {
+            Integer prefixIndex = prefixIndexes.get(iri.getNamespace());
+            if(prefixIndex != null) {
+                gen.writeArrayFieldStart(fieldName);
+                gen.writeNumber(prefixIndex);
+                gen.writeString(iri.getRemainder().or(""));
+                gen.writeEndArray();
+                return;
+            }
+        }
+        gen.writeStringField(fieldName, iri.toString());
+    }
+
+    private void writeLiteral(OWLLiteral literal, JsonGenerator gen) throws IOException {
+        gen.writeStringField(VALUE_FIELD, literal.getLiteral());
+        String lang = literal.getLang();
+        if(!lang.isEmpty()) {
+            gen.writeStringField(LANG_FIELD, lang);
+        }
+        OWLDatatype datatype = literal.getDatatype();
+        if(!datatype.isRDFPlainLiteral()) {
+            IRI datatypeIri = datatype.getIRI();
+            if(datatypeIri.length() != 0) {
+                writeIri(DATATYPE_FIELD, datatypeIri, gen);
+            }
+        }
+    }
+
+    /**
+     * Gets the primitive type that has the specified type name.
+     * @return The primitive type or {@code null} if there is no primitive type with the name.
+     */
+    @Nullable
+    static PrimitiveType getPrimitiveType(String typeName) {
+        return TYPES_BY_NAME.get(typeName);
+    }
+
+    private static String getTypeName(Class<? extends OWLPrimitiveData> type) {
+        return type.getAnnotation(JsonTypeName.class).value();
+    }
+}
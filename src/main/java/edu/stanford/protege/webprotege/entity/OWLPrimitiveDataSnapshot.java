@@ -0,0 +1,462 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableList;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLEntity;
+
+import javax.annotation.Nonnull;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     A read-only, memory-mapped snapshot file of {@link OWLPrimitiveData}, so that a service that restarts can
+ *     serve entity data straight from a snapshot that it wrote earlier, rather than rendering it again.  Opening a
+ *     snapshot maps the file and checks its header.  Records are only decoded when they are accessed, either by
+ *     ordinal with {@link #get(int)} or by IRI with {@link #getByIri(IRI)}.
+ * </p>
+ * <p>
+ *     A snapshot file is written sequentially by a {@link Writer}.  It consists of a fixed size header, the
+ *     records, an offset index and an IRI hash table.  All numbers are little-endian.  A writer writes to a
+ *     temporary file in the same directory and atomically moves it to the snapshot path when it is closed, so a
+ *     snapshot that is being replaced, and that may still be mapped by a running service, is never modified, and
+ *     a snapshot whose write failed is never published.
+ * </p>
+ * <ul>
+ *     <li>The header holds the magic number, the format version, the number of records, the capacity of the
+ *     hash table, and the file offsets of the offset index and the hash table.</li>
+ *     <li>Each record is a single element message in the {@link OWLPrimitiveDataBinaryCodec} format.</li>
+ *     <li>The offset index holds the long file offset of each record, followed by the offset of the end of the
+ *     records.</li>
+ *     <li>The hash table is an open addressing table with linear probing.  Each slot holds the hash of an IRI
+ *     and the ordinal plus one of a record with that IRI, or zero for an empty slot.  Literal records are not
+ *     in the table.</li>
+ * </ul>
+ * <p>
+ *     Snapshots are thread safe.  Files are limited to 2GB, which is the maximum size of a mapped buffer.
+ * </p>
+ */
+public final class OWLPrimitiveDataSnapshot {
+
+    static final int MAGIC = 0x57505344;
+
+    static final int FORMAT_VERSION = 1;
+
+    static final int HEADER_SIZE = 32;
+
+    private static final int SLOT_SIZE = 2 * Integer.BYTES;
+
+    private final ByteBuffer buffer;
+
+    private final int size;
+
+    private final int hashTableCapacity;
+
+    private final int indexOffset;
+
+    private final int hashTableOffset;
+
+    private OWLPrimitiveDataSnapshot(ByteBuffer buffer,
+                                     int size,
+                                     int hashTableCapacity,
+                                     int indexOffset,
+                                     int hashTableOffset) {
+        this.buffer = buffer;
+        this.size = size;
+        this.hashTableCapacity = hashTableCapacity;
+        this.indexOffset = indexOffset;
+        this.hashTableOffset = hashTableOffset;
+    }
+
+    /**
+     * Opens a snapshot file.  The file is mapped into memory and is not read until records are accessed.
+     * @param path The path of the snapshot file.
+     * @throws IOException if the file could not be mapped or is not a snapshot file with a supported version.
+     */
+    @Nonnull
+    public static OWLPrimitiveDataSnapshot open(@Nonnull Path path) throws IOException {
+        try(FileChannel channel = FileChannel.open(checkNotNull(path), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if(fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot file is too large: " + fileSize);
+            }
+            if(fileSize < HEADER_SIZE) {
+                throw new IOException("Not a snapshot file");
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize)
+                                       .order(ByteOrder.LITTLE_ENDIAN);
+            return open(buffer);
+        }
+    }
+
+    private static OWLPrimitiveDataSnapshot open(ByteBuffer buffer) throws IOException {
+        if(buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a snapshot file");
+        }
+        int version = buffer.getInt(4);
+        if(version != FORMAT_VERSION) {
+            throw new IOException("Unsupported format version: " + version);
+        }
+        int size = buffer.getInt(8);
+        int hashTableCapacity = buffer.getInt(12);
+        long indexOffset = buffer.getLong(16);
+        long hashTableOffset = buffer.getLong(24);
+        long indexEnd = indexOffset + (size + 1L) * Long.BYTES;
+        if(size < 0
+                || hashTableCapacity <= size
+                || Integer.bitCount(hashTableCapacity) != 1
+                || indexOffset < HEADER_SIZE
+                || indexEnd > hashTableOffset
+                || hashTableOffset + (long) hashTableCapacity * SLOT_SIZE != buffer.capacity()) {
+            throw new IOException("Malformed snapshot file");
+        }
+        return new OWLPrimitiveDataSnapshot(buffer, size, hashTableCapacity, (int) indexOffset, (int) hashTableOffset);
+    }
+
+    /**
+     * Creates a writer that writes a snapshot to the specified file.  An existing file is replaced when the writer
+     * is closed.
+     * @param path The path of the snapshot file.
+     */
+    @Nonnull
+    public static Writer writer(@Nonnull Path path) throws IOException {
+        Path target = checkNotNull(path).toAbsolutePath();
+        Path temporaryPath = Files.createTempFile(target.getParent(), target.getFileName() + ".", ".tmp");
+        try {
+            return new Writer(target, temporaryPath, FileChannel.open(temporaryPath, StandardOpenOption.WRITE));
+        } catch(IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryPath);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the specified data to a snapshot file.  If the data cannot be written then an existing file is left
+     * unchanged.
+     * @param data The data, which is written in iteration order.
+     * @param path The path of the snapshot file.  An existing file is replaced.
+     */
+    public static void write(@Nonnull Iterable<? extends OWLPrimitiveData> data,
+                             @Nonnull Path path) throws IOException {
+        Writer writer = writer(path);
+        try {
+            for(OWLPrimitiveData d : data) {
+                writer.add(d);
+            }
+        } catch(Throwable t) {
+            writer.abortAfter(t);
+            throw t;
+        }
+        writer.close();
+    }
+
+    /**
+     * Gets the number of records in this snapshot.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Decodes the record with the specified ordinal.
+     * @param ordinal The ordinal of the record, which is its position in the order in which records were written.
+     * @throws IllegalStateException if the record is malformed.
+     */
+    @Nonnull
+    public OWLPrimitiveData get(int ordinal) {
+        checkElementIndex(ordinal, size);
+        long start = buffer.getLong(indexOffset + ordinal * Long.BYTES);
+        long end = buffer.getLong(indexOffset + (ordinal + 1) * Long.BYTES);
+        if(start < HEADER_SIZE || end < start || end > indexOffset) {
+            throw new IllegalStateException("Malformed snapshot record offset for record " + ordinal);
+        }
+        byte[] record = new byte[(int) (end - start)];
+        buffer.get((int) start, record);
+        try {
+            ImmutableList<OWLPrimitiveData> decoded = OWLPrimitiveDataBinaryCodec.get().decode(record);
+            checkState(decoded.size() == 1, "Malformed snapshot record %s", ordinal);
+            return decoded.get(0);
+        } catch(IOException e) {
+            throw new IllegalStateException("Malformed snapshot record " + ordinal, e);
+        }
+    }
+
+    /**
+     * Gets the records that have the specified IRI.  There may be more than one record for an IRI, for example
+     * if a class and an individual have the same IRI.
+     * @param iri The IRI.
+     * @return The records, in ordinal order.
+     */
+    @Nonnull
+    public ImmutableList<OWLPrimitiveData> getByIri(@Nonnull IRI iri) {
+        int hash = hash(checkNotNull(iri));
+        int mask = hashTableCapacity - 1;
+        ImmutableList.Builder<OWLPrimitiveData> records = ImmutableList.builder();
+        // A well formed table always has an empty slot, so the probe count only bounds malformed tables
+        for(int slot = hash & mask, probes = 0; probes < hashTableCapacity; slot = (slot + 1) & mask, probes++) {
+            int slotOffset = hashTableOffset + slot * SLOT_SIZE;
+            int ordinal = buffer.getInt(slotOffset + Integer.BYTES) - 1;
+            if(ordinal == -1) {
+                break;
+            }
+            if(buffer.getInt(slotOffset) == hash) {
+                OWLPrimitiveData record = get(ordinal);
+                if(getIri(record).map(iri::equals).orElse(false)) {
+                    records.add(record);
+                }
+            }
+        }
+        return records.build();
+    }
+
+    private static Optional<IRI> getIri(OWLPrimitiveData data) {
+        return data.asEntity().map(OWLEntity::getIRI).or(data::asIRI);
+    }
+
+    /**
+     * The hash of an IRI, which is part of the file format and so must not depend on the JVM.
+     * {@link String#hashCode()} is specified, and the result is mixed so that its low bits can be used as the
+     * slot index.
+     */
+    private static int hash(IRI iri) {
+        int h = iri.toString().hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public String toString() {
+        return "OWLPrimitiveDataSnapshot(" + size + " records)";
+    }
+
+    /**
+     * Writes a snapshot file.  Records are written to a temporary file as they are added.  The index, hash table
+     * and header are written, and the temporary file is moved to the snapshot path, when the writer is closed.  If
+     * adding a record fails then the writer is aborted.  Callers that fail for other reasons must call
+     * {@link #abort()} rather than {@link #close()}, because closing publishes the records that have been added so
+     * far.  Writers are not thread safe.
+     */
+    public static final class Writer implements Closeable {
+
+        private final Path path;
+
+        private final Path temporaryPath;
+
+        private final FileChannel channel;
+
+        private final ByteBuffer staging = ByteBuffer.allocate(64 * 1024).order(ByteOrder.LITTLE_ENDIAN);
+
+        private long position = HEADER_SIZE;
+
+        private long[] offsets = new long[1024];
+
+        /**
+         * The hash of the IRI of each record, and whether each record has an IRI
+         */
+        private int[] hashes = new int[1024];
+
+        private boolean[] hasIri = new boolean[1024];
+
+        private int size = 0;
+
+        private boolean closed = false;
+
+        private Writer(Path path, Path temporaryPath, FileChannel channel) throws IOException {
+            this.path = path;
+            this.temporaryPath = temporaryPath;
+            this.channel = channel;
+            channel.position(HEADER_SIZE);
+        }
+
+        /**
+         * Appends a record to the snapshot.
+         * @param data The data.
+         * @throws IOException if the record could not be written or the file would be larger than 2GB.
+         */
+        @Nonnull
+        public Writer add(@Nonnull OWLPrimitiveData data) throws IOException {
+            checkState(!closed, "The writer is closed");
+            checkNotNull(data);
+            try {
+                byte[] record = OWLPrimitiveDataBinaryCodec.get().encode(List.of(data));
+                if(size == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, size * 2);
+                    hashes = Arrays.copyOf(hashes, size * 2);
+                    hasIri = Arrays.copyOf(hasIri, size * 2);
+                }
+                Optional<IRI> iri = getIri(data);
+                offsets[size] = position;
+                hasIri[size] = iri.isPresent();
+                hashes[size] = iri.map(OWLPrimitiveDataSnapshot::hash).orElse(0);
+                size++;
+                write(record);
+                return this;
+            } catch(Throwable t) {
+                abortAfter(t);
+                throw t;
+            }
+        }
+
+        /**
+         * Discards the records that have been added and deletes the temporary file.  An existing snapshot file is
+         * left unchanged.  Aborting a writer that is already closed has no effect.
+         */
+        public void abort() throws IOException {
+            if(closed) {
+                return;
+            }
+            closed = true;
+            try {
+                channel.close();
+            } finally {
+                Files.deleteIfExists(temporaryPath);
+            }
+        }
+
+        private void abortAfter(Throwable failure) {
+            try {
+                abort();
+            } catch(IOException e) {
+                failure.addSuppressed(e);
+            }
+        }
+
+        /**
+         * Writes the index, the hash table and the header, and moves the snapshot file to its path, replacing an
+         * existing file.  If this fails then the writer is aborted.
+         */
+        @Override
+        public void close() throws IOException {
+            if(closed) {
+                return;
+            }
+            try {
+                finish();
+            } catch(Throwable t) {
+                abortAfter(t);
+                throw t;
+            }
+            closed = true;
+            try {
+                channel.close();
+                Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch(IOException | RuntimeException e) {
+                Files.deleteIfExists(temporaryPath);
+                throw e;
+            }
+        }
+
+        private void finish() throws IOException {
+            long indexOffset = position;
+            for(int i = 0; i < size; i++) {
+                writeLong(offsets[i]);
+            }
+            writeLong(indexOffset);
+            long hashTableOffset = position;
+            int capacity = getHashTableCapacity(size);
+            writeHashTable(capacity);
+            flush();
+            if(position > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot file is too large: " + position);
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC)
+                  .putInt(FORMAT_VERSION)
+                  .putInt(size)
+                  .putInt(capacity)
+                  .putLong(indexOffset)
+                  .putLong(hashTableOffset)
+                  .flip();
+            while(header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        }
+
+        /**
+         * The smallest power of two that keeps the load factor of the table at or below one half
+         */
+        private static int getHashTableCapacity(int size) {
+            int capacity = Integer.highestOneBit(Math.max(1, size) * 2 - 1) << 1;
+            checkState(capacity > 0, "Too many records");
+            return capacity;
+        }
+
+        private void writeHashTable(int capacity) throws IOException {
+            int[] slots = new int[capacity * 2];
+            int mask = capacity - 1;
+            for(int i = 0; i < size; i++) {
+                if(!hasIri[i]) {
+                    continue;
+                }
+                int slot = hashes[i] & mask;
+                while(slots[slot * 2 + 1] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot * 2] = hashes[i];
+                slots[slot * 2 + 1] = i + 1;
+            }
+            for(int value : slots) {
+                ensureStagingCapacity(Integer.BYTES);
+                staging.putInt(value);
+                position += Integer.BYTES;
+            }
+        }
+
+        private void write(byte[] bytes) throws IOException {
+            if(bytes.length > staging.capacity()) {
+                flush();
+                ByteBuffer wrapped = ByteBuffer.wrap(bytes);
+                while(wrapped.hasRemaining()) {
+                    channel.write(wrapped);
+                }
+            }
+            else {
+                ensureStagingCapacity(bytes.length);
+                staging.put(bytes);
+            }
+            position += bytes.length;
+            if(position > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot file is too large");
+            }
+        }
+
+        private void writeLong(long value) throws IOException {
+            ensureStagingCapacity(Long.BYTES);
+            staging.putLong(value);
+            position += Long.BYTES;
+        }
+
+        private void ensureStagingCapacity(int length) throws IOException {
+            if(staging.remaining() < length) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            staging.flip();
+            while(staging.hasRemaining()) {
+                channel.write(staging);
+            }
+            staging.clear();
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import javax.annotation.Nonnull;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Reads a JSON array of {@link OWLPrimitiveData} one element at a time, rather than materializing the
+ *     whole array as a {@link java.util.List}.  Only the element that is currently being deserialized is held
+ *     in memory and elements are available as soon as they have been read, so processing can start before the
+ *     end of the array has been received.
+ * </p>
+ * <p>
+ *     Each element is deserialized with the polymorphic type handling of {@link OWLPrimitiveData}, so the
+ *     elements may be of mixed types.  Readers are thread safe, but the iterators and streams that they
+ *     produce are not.
+ * </p>
+ */
+public final class OWLPrimitiveDataStreamReader<T extends OWLPrimitiveData> {
+
+    private final ObjectReader objectReader;
+
+    private OWLPrimitiveDataStreamReader(@Nonnull ObjectReader objectReader) {
+        this.objectReader = checkNotNull(objectReader);
+    }
+
+    /**
+     * Gets a reader that reads arrays of {@link OWLPrimitiveData}.
+     * @param objectMapper The object mapper that is used to deserialize elements.
+     */
+    @Nonnull
+    public static OWLPrimitiveDataStreamReader<OWLPrimitiveData> get(@Nonnull ObjectMapper objectMapper) {
+        return get(objectMapper, OWLPrimitiveData.class);
+    }
+
+    /**
+     * Gets a reader that reads arrays of the specified type, for example {@link OWLEntityData}.
+     * @param objectMapper The object mapper that is used to deserialize elements.
+     * @param type The element type.
+     */
+    @Nonnull
+    public static <T extends OWLPrimitiveData> OWLPrimitiveDataStreamReader<T> get(@Nonnull ObjectMapper objectMapper,
+                                                                                 @Nonnull Class<T> type) {
+        return get(objectMapper.reader(), type);
+    }
+
+    /**
+     * Gets a reader that reads arrays of the specified type using the specified {@link ObjectReader}.  This
+     * allows the configuration and attributes of the reader, such as
+     * {@link OWLPrimitiveDataInterningModule#POOL_ATTRIBUTE}, to be used when deserializing elements.
+     * @param objectReader The object reader that is used to deserialize elements.
+     * @param type The element type.
+     */
+    @Nonnull
+    public static <T extends OWLPrimitiveData> OWLPrimitiveDataStreamReader<T> get(@Nonnull ObjectReader objectReader,
+                                                                                 @Nonnull Class<T> type) {
+        return new OWLPrimitiveDataStreamReader<>(objectReader.forType(checkNotNull(type)));
+    }
+
+    /**
+     * Reads the elements of the array from the specified input stream.  The iterator must be closed after use,
+     * which closes the input stream.
+     * @param inputStream The input stream, which must contain a JSON array.
+     * @throws IOException if the start of the array could not be read.  Errors that occur while iterating are
+     * thrown as {@link UncheckedIOException}s.
+     */
+    @Nonnull
+    public ElementIterator<T> iterator(@Nonnull InputStream inputStream) throws IOException {
+        return iterator(objectReader.getFactory().createParser(checkNotNull(inputStream)));
+    }
+
+    /**
+     * Reads the elements of an array from the specified parser.  The parser must either be positioned at the
+     * start of the array, or be positioned immediately before it (for example, at the field name of the array).
+     * This allows an array that is nested inside a larger document to be read.  Closing the iterator closes the
+     * parser.
+     * @param parser The parser.
+     * @throws IOException if the start of the array could not be read.
+     */
+    @Nonnull
+    public ElementIterator<T> iterator(@Nonnull JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if(token == null || token == JsonToken.FIELD_NAME) {
+            token = parser.nextToken();
+        }
+        if(token != JsonToken.START_ARRAY) {
+            parser.close();
+            throw new JsonParseException(parser, "Expected the start of an array but found " + token);
+        }
+        return new ElementIterator<>(parser, objectReader);
+    }
+
+    /**
+     * Reads the elements of the array from the specified input stream as a sequential {@link Stream}.  The
+     * stream must be closed after use, which closes the input stream.
+     * @param inputStream The input stream, which must contain a JSON array.
+     * @throws IOException if the start of the array could not be read.
+     */
+    @Nonnull
+    public Stream<T> stream(@Nonnull InputStream inputStream) throws IOException {
+        ElementIterator<T> iterator = iterator(inputStream);
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator,
+                                                                         Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+    }
+
+    /**
+     * Reads the elements of the array from the specified input stream and passes each element to the
+     * specified consumer as soon as it has been read.  The input stream is closed on return.
+     * @param inputStream The input stream, which must contain a JSON array.
+     * @param consumer The consumer.
+     * @return The number of elements that were read.
+     * @throws IOException if the array could not be read.
+     */
+    public long forEach(@Nonnull InputStream inputStream,
+                        @Nonnull Consumer<? super T> consumer) throws IOException {
+        checkNotNull(consumer);
+        try (ElementIterator<T> iterator = iterator(inputStream)) {
+            long count = 0;
+            while(iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                count++;
+            }
+            return count;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * An iterator over the elements of an array that reads each element on demand.
+     */
+    public static final class ElementIterator<T> implements Iterator<T>, Closeable {
+
+        private final JsonParser parser;
+
+        private final ObjectReader objectReader;
+
+        private boolean finished = false;
+
+        private ElementIterator(@Nonnull JsonParser parser, @Nonnull ObjectReader objectReader) {
+            this.parser = parser;
+            this.objectReader = objectReader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if(finished) {
+                return false;
+            }
+            try {
+                JsonToken token = parser.currentToken();
+                // The parser is left on the last token of the previous element (or on the start of the array)
+                if(token != JsonToken.START_OBJECT) {
+                    token = parser.nextToken();
+                }
+                if(token == JsonToken.START_OBJECT) {
+                    return true;
+                }
+                finished = true;
+                if(token != JsonToken.END_ARRAY) {
+                    throw new JsonParseException(parser,
+                                                 "Expected an object or the end of the array but found " + token);
+                }
+                return false;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public T next() {
+            if(!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                return objectReader.readValue(parser);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Closes the underlying parser.
+         */
+        @Override
+        public void close() {
+            finished = true;
+            try {
+                parser.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package edu.stanford.protege.webprotege.entity;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     Sorts lists of {@link OWLPrimitiveData} by browser text.  Rather than case-folding the browser text of
+ *     both arguments on every comparison, as {@link OWLPrimitiveData#compareTo(OWLPrimitiveData)} and
+ *     {@link OWLEntityData#compareToIgnorePrefixNames(OWLEntityData)} do, a sort key is computed once per element
+ *     and the elements are then sorted by their keys.
+ * </p>
+ * <p>
+ *     A sorter obtained from {@link #get()} produces exactly the same order as sorting with the natural ordering
+ *     of {@link OWLPrimitiveData} (or with {@link OWLEntityData#compareToIgnorePrefixNames(OWLEntityData)}).
+ *     A sorter obtained from {@link #get(Locale)} uses {@link CollationKey}s from a case-insensitive
+ *     {@link Collator} for the specified locale.
+ * </p>
+ * <p>
+ *     Sorting is stable and is performed in place.  Sorters are thread safe.
+ * </p>
+ */
+public final class PrimitiveDataSorter {
+
+    private static final PrimitiveDataSorter CASE_FOLDING_SORTER = new PrimitiveDataSorter(null);
+
+    @Nullable
+    private final Collator collator;
+
+    private PrimitiveDataSorter(@Nullable Collator collator) {
+        this.collator = collator;
+    }
+
+    /**
+     * Gets a sorter that orders browser text ignoring case, in the same way as
+     * {@link String#compareToIgnoreCase(String)}.
+     */
+    @Nonnull
+    public static PrimitiveDataSorter get() {
+        return CASE_FOLDING_SORTER;
+    }
+
+    /**
+     * Gets a sorter that orders browser text using the collation rules of the specified locale.  Differences
+     * in case are ignored but differences in accents are not.
+     * @param locale The locale.
+     */
+    @Nonnull
+    public static PrimitiveDataSorter get(@Nonnull Locale locale) {
+        Collator collator = Collator.getInstance(checkNotNull(locale));
+        collator.setStrength(Collator.SECONDARY);
+        return new PrimitiveDataSorter(collator);
+    }
+
+    /**
+     * Sorts the specified list by browser text.
+     * @param list The list to sort.  The list must be modifiable.
+     */
+    public <T extends OWLPrimitiveData> void sort(@Nonnull List<T> list) {
+        sortBy(list, OWLPrimitiveData::getBrowserText, element -> 0);
+    }
+
+    /**
+     * Sorts the specified list by browser text, ignoring any prefix names in the browser text.
+     * This is the order imposed by {@link OWLEntityData#compareToIgnorePrefixNames(OWLEntityData)}.
+     * @param list The list to sort.  The list must be modifiable.
+     */
+    public <T extends OWLEntityData> void sortIgnoringPrefixNames(@Nonnull List<T> list) {
+        sortBy(list, OWLEntityData::getBrowserText, OWLEntityData::getBrowserTextWithoutPrefixNameStart);
+    }
+
+    /**
+     * Sorts the specified list by the text returned by the text function, starting at the index returned by the
+     * start function.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <T> void sortBy(@Nonnull List<T> list,
+                            @Nonnull Function<? super T, String> textFunction,
+                            @Nonnull ToIntFunction<? super T> startFunction) {
+        checkNotNull(list);
+        int size = list.size();
+        if(size < 2) {
+            return;
+        }
+        // Collators are not thread safe
+        Collator sortCollator = collator != null ? (Collator) collator.clone() : null;
+        SortEntry<T>[] entries = new SortEntry[size];
+        int index = 0;
+        for(T element : list) {
+            String text = textFunction.apply(element);
+            int start = startFunction.applyAsInt(element);
+            entries[index] = sortCollator != null
+                    ? new SortEntry<>(element, null, sortCollator.getCollationKey(text.substring(start)))
+                    : new SortEntry<>(element, foldCase(text, start), null);
+            index++;
+        }
+        Arrays.sort(entries);
+        ListIterator<T> iterator = list.listIterator();
+        for(SortEntry<T> entry : entries) {
+            iterator.next();
+            iterator.set(entry.element);
+        }
+    }
+
+    /**
+     * Folds the case of the specified text in the same way as {@link String#compareToIgnoreCase(String)}, so that
+     * comparing folded strings with {@link #compareFolded(String, String)} gives the same result as comparing the
+     * original strings with {@link String#compareToIgnoreCase(String)}.
+     */
+    @Nonnull
+    static String foldCase(@Nonnull String text) {
+        return foldCase(text, 0);
+    }
+
+    /**
+     * Folds the case of the specified text from the specified index to the end of the text.  The text is copied
+     * at most once.
+     */
+    @Nonnull
+    private static String foldCase(@Nonnull String text, int start) {
+        int length = text.length();
+        int firstUnfolded = start;
+        while(firstUnfolded < length) {
+            char ch = text.charAt(firstUnfolded);
+            if(Character.isSurrogate(ch) || foldCase(ch) != ch) {
+                break;
+            }
+            firstUnfolded++;
+        }
+        if(firstUnfolded == length) {
+            return text.substring(start);
+        }
+        StringBuilder sb = new StringBuilder(length - start);
+        sb.append(text, start, firstUnfolded);
+        for(int i = firstUnfolded; i < length; ) {
+            int codePoint = text.codePointAt(i);
+            sb.appendCodePoint(foldCase(codePoint));
+            i += Character.charCount(codePoint);
+        }
+        return sb.toString();
+    }
+
+    private static int foldCase(int codePoint) {
+        return Character.toLowerCase(Character.toUpperCase(codePoint));
+    }
+
+    /**
+     * Compares two folded strings by code point, as {@link String#compareToIgnoreCase(String)} does.  This differs
+     * from {@link String#compareTo(String)}, which compares UTF-16 code units and so places supplementary
+     * characters before the characters from U+E000 to U+FFFF.
+     */
+    static int compareFolded(@Nonnull String text, @Nonnull String otherText) {
+        int length = Math.min(text.length(), otherText.length());
+        for(int i = 0; i < length; i++) {
+            char ch = text.charAt(i);
+            char otherCh = otherText.charAt(i);
+            if(ch != otherCh) {
+                if(Character.isSurrogate(ch) || Character.isSurrogate(otherCh)) {
+                    return Integer.compare(codePointIncluding(text, i), codePointIncluding(otherText, i));
+                }
+                return ch - otherCh;
+            }
+        }
+        return text.length() - otherText.length();
+    }
+
+    /**
+     * Gets the code point that includes the character at the specified index.
+     */
+    private static int codePointIncluding(String text, int index) {
+        if(Character.isLowSurrogate(text.charAt(index))
+                && index > 0
+                && Character.isHighSurrogate(text.charAt(index - 1))) {
+            return text.codePointAt(index - 1);
+        }
+        return text.codePointAt(index);
+    }
+
+    private static final class SortEntry<T> implements Comparable<SortEntry<T>> {
+
+        private final T element;
+
+        @Nullable
+        private final String foldedText;
+
+        @Nullable
+        private final CollationKey collationKey;
+
+        private SortEntry(T element, @Nullable String foldedText, @Nullable CollationKey collationKey) {
+            this.element = element;
+            this.foldedText = foldedText;
+            this.collationKey = collationKey;
+        }
+
+        @Override
+        public int compareTo(@Nonnull SortEntry<T> o) {
+            if(collationKey != null) {
+                return collationKey.compareTo(o.collationKey);
+            }
+            else {
+                return compareFolded(checkNotNull(foldedText), checkNotNull(o.foldedText));
+            }
+        }
+    }
+}
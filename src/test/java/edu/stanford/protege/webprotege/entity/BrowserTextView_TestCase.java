@@ -0,0 +1,121 @@
+package edu.stanford.protege.webprotege.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ */
+public class BrowserTextView_TestCase {
+
+    private static final String[] PIECES = {
+            "a", "A", "b", "Z", "obo:", ":", "'", "é", "É", "ß", "ÿ", "Ÿ", "µ", "Μ", "İ", "ı", "i", "I", "ς", "Σ",
+            "𐐀", "𐐨", "😀", "\uD800", "1", " "
+    };
+
+    private static String randomText(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int length = random.nextInt(6);
+        for(int i = 0; i < length; i++) {
+            sb.append(PIECES[random.nextInt(PIECES.length)]);
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void shouldCompareIgnoringCaseInSameWayAsString() {
+        Random random = new Random(3);
+        for(int i = 0; i < 100_000; i++) {
+            String text = randomText(random);
+            String otherText = randomText(random);
+            int start = random.nextInt(text.length() + 1);
+            int otherStart = random.nextInt(otherText.length() + 1);
+            int expected = text.substring(start).compareToIgnoreCase(otherText.substring(otherStart));
+            BrowserTextView view = BrowserTextView.get(text, start, text.length());
+            BrowserTextView otherView = BrowserTextView.get(otherText, otherStart, otherText.length());
+            assertThat(text + " " + otherText, Integer.signum(view.compareToIgnoreCase(otherView)),
+                       is(Integer.signum(expected)));
+        }
+    }
+
+    @Test
+    public void shouldCompareInSameWayAsString() {
+        Random random = new Random(5);
+        for(int i = 0; i < 10_000; i++) {
+            String text = randomText(random);
+            String otherText = randomText(random);
+            int expected = text.compareTo(otherText);
+            BrowserTextView view = BrowserTextView.get(text, 0, text.length());
+            BrowserTextView otherView = BrowserTextView.get(otherText, 0, otherText.length());
+            assertThat(Integer.signum(view.compareTo(otherView)), is(Integer.signum(expected)));
+            assertThat(view.equals(otherView), is(text.equals(otherText)));
+        }
+    }
+
+    @Test
+    public void shouldViewRegionOfText() {
+        BrowserTextView view = BrowserTextView.get("'Heart attack'", 1, 13);
+        assertThat(view.length(), is(12));
+        assertThat(view.charAt(0), is('H'));
+        assertThat(view.toString(), is("Heart attack"));
+        assertThat(view.subSequence(6, 12).toString(), is("attack"));
+        assertThat(view.hashCode(), is("Heart attack".hashCode()));
+        assertThat(view, is(BrowserTextView.get("Heart attack", 0, 12)));
+    }
+
+    @Test
+    public void shouldThrowIndexOutOfBoundsExceptionForRegionOutsideText() {
+        assertThrows(IndexOutOfBoundsException.class, () -> BrowserTextView.get("Heart", 2, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> BrowserTextView.get("Heart", 3, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> BrowserTextView.get("Heart", 1, 3).charAt(2));
+    }
+
+    @Test
+    public void shouldGetUnquotedBrowserTextView() {
+        assertThat(TestUtils.newOWLClassData("'The Name'").getUnquotedBrowserTextView().toString(), is("The Name"));
+        assertThat(TestUtils.newOWLClassData("The Name").getUnquotedBrowserTextView().toString(), is("The Name"));
+        assertThat(TestUtils.newOWLClassData("'").getUnquotedBrowserTextView().toString(), is("'"));
+        assertThat(TestUtils.newOWLClassData("'").getUnquotedBrowserText(), is("'"));
+        assertThat(TestUtils.newOWLClassData("''").getUnquotedBrowserText(), is(""));
+    }
+
+    @Test
+    public void shouldGetBrowserTextWithoutPrefixNameView() {
+        assertThat(TestUtils.newOWLClassData("obo:Heart").getBrowserTextWithoutPrefixNameView().toString(),
+                   is(":Heart"));
+        assertThat(TestUtils.newOWLClassData("Heart").getBrowserTextWithoutPrefixNameView().toString(), is("Heart"));
+    }
+
+    @Test
+    public void shouldCompareIgnoringPrefixNamesInSameWayAsSubstrings() {
+        Random random = new Random(9);
+        List<OWLEntityData> entityData = new ArrayList<>();
+        for(int i = 0; i < 2_000; i++) {
+            entityData.add(TestUtils.newOWLClassData(randomText(random)));
+        }
+        for(int i = 0; i < entityData.size() - 1; i++) {
+            OWLEntityData first = entityData.get(i);
+            OWLEntityData second = entityData.get(i + 1);
+            int expected = withoutPrefixName(first).compareToIgnoreCase(withoutPrefixName(second));
+            assertThat(Integer.signum(first.compareToIgnorePrefixNames(second)), is(Integer.signum(expected)));
+            int expectedUnquoted = first.getUnquotedBrowserText().compareToIgnoreCase(second.getUnquotedBrowserText());
+            assertThat(Integer.signum(OWLEntityData.UNQUOTED_BROWSER_TEXT_ORDER.compare(first, second)),
+                       is(Integer.signum(expectedUnquoted)));
+        }
+    }
+
+    private static String withoutPrefixName(OWLEntityData entityData) {
+        String browserText = entityData.getBrowserText();
+        int prefixSeparatorIndex = browserText.indexOf(':');
+        return browserText.substring(prefixSeparatorIndex != -1 ? prefixSeparatorIndex : 0);
+    }
+}
@@ -0,0 +1,188 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import edu.stanford.protege.webprotege.common.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ */
+public class CommentedEntityDataAggregator_TestCase {
+
+    private final UserId alice = UserId.valueOf("alice");
+
+    private final UserId bob = UserId.valueOf("bob");
+
+    private OWLClassData heart;
+
+    private OWLClassData artery;
+
+    private CommentedEntityDataAggregator aggregator;
+
+    @BeforeEach
+    public void setUp() {
+        heart = TestUtils.newOWLClassData("Heart");
+        artery = TestUtils.newOWLClassData("Artery");
+        aggregator = CommentedEntityDataAggregator.create();
+    }
+
+    @Test
+    public void shouldAggregateThreadAndCommentEvents() {
+        aggregator.threadCreated(heart, alice, 10);
+        aggregator.commentAdded(heart, alice, 10);
+        aggregator.commentAdded(heart, bob, 20);
+        aggregator.threadCreated(heart, bob, 30);
+        aggregator.commentAdded(heart, bob, 30);
+        aggregator.threadClosed(heart, alice, 40);
+        var summary = aggregator.getCommentedEntityData(heart.getEntity()).orElseThrow();
+        assertThat(summary.getTotalThreadCount(), is(2));
+        assertThat(summary.getOpenThreadCount(), is(1));
+        assertThat(summary.getTotalCommentCount(), is(3));
+        assertThat(summary.getLastModified(), is(40L));
+        assertThat(summary.getLastModifiedBy(), is(alice));
+        assertThat(summary.getPartipants(), contains(alice, bob));
+    }
+
+    @Test
+    public void shouldReopenThreads() {
+        aggregator.threadCreated(heart, alice, 10);
+        aggregator.threadClosed(heart, alice, 20);
+        aggregator.threadReopened(heart, bob, 30);
+        var summary = aggregator.getCommentedEntityData(heart.getEntity()).orElseThrow();
+        assertThat(summary.getOpenThreadCount(), is(1));
+        assertThat(summary.getLastModifiedBy(), is(bob));
+    }
+
+    @Test
+    public void shouldNotMoveLastModifiedBackwardsForLateEvents() {
+        aggregator.commentAdded(heart, alice, 50);
+        aggregator.commentAdded(heart, bob, 20);
+        var summary = aggregator.getCommentedEntityData(heart.getEntity()).orElseThrow();
+        assertThat(summary.getLastModified(), is(50L));
+        assertThat(summary.getLastModifiedBy(), is(alice));
+        assertThat(summary.getTotalCommentCount(), is(2));
+    }
+
+    @Test
+    public void shouldNotCountMoreOpenThreadsThanThreads() {
+        aggregator.threadCreated(heart, alice, 10);
+        aggregator.threadReopened(heart, alice, 20);
+        aggregator.threadClosed(heart, alice, 30);
+        aggregator.threadClosed(heart, alice, 40);
+        var summary = aggregator.getCommentedEntityData(heart.getEntity()).orElseThrow();
+        assertThat(summary.getOpenThreadCount(), is(0));
+    }
+
+    @Test
+    public void shouldProduceSortedSnapshots() {
+        aggregator.threadCreated(heart, alice, 10);
+        aggregator.threadCreated(artery, alice, 20);
+        aggregator.threadClosed(artery, alice, 30);
+        assertThat(aggregator.getSnapshot().stream().map(CommentedEntityData::getEntityData).toList(),
+                   contains(heart, artery));
+        assertThat(aggregator.getSnapshotByLastModified().stream().map(CommentedEntityData::getEntityData).toList(),
+                   contains(artery, heart));
+        assertThat(aggregator.getMostRecentlyModified(1).stream().map(CommentedEntityData::getEntityData).toList(),
+                   contains(artery));
+    }
+
+    @Test
+    public void shouldContinueFromSeededSummaries() {
+        var seed = new CommentedEntityData(heart, 3, 1, 7, 100, alice, List.of(alice));
+        var seededAggregator = CommentedEntityDataAggregator.create(List.of(seed));
+        seededAggregator.commentAdded(heart, bob, 110);
+        var summary = seededAggregator.getCommentedEntityData(heart.getEntity()).orElseThrow();
+        assertThat(summary, is(new CommentedEntityData(heart, 3, 1, 8, 110, bob, List.of(alice, bob))));
+    }
+
+    @Test
+    public void shouldRefreshEntityDataAndKeepCounts() {
+        aggregator.threadCreated(heart, alice, 1);
+        aggregator.commentAdded(heart, bob, 2);
+        aggregator.threadCreated(artery, alice, 3);
+        OWLClassData renamed = OWLClassData.get(heart.getEntity(),
+                                                ImmutableMap.of(DictionaryLanguage.rdfsLabel("en"), "Cardiac organ"));
+        int refreshedCount = aggregator.refreshEntityData(List.of(heart.getEntity().getIRI()), entity -> renamed);
+        assertThat(refreshedCount, is(1));
+        CommentedEntityData summary = aggregator.getCommentedEntityData(heart.getEntity()).orElseThrow();
+        assertThat(summary.getEntityData(), is(renamed));
+        assertThat(summary.getTotalCommentCount(), is(1));
+        assertThat(summary.getLastModifiedBy(), is(bob));
+        assertThat(aggregator.getCommentedEntityData(artery.getEntity()).orElseThrow().getEntityData(), is(artery));
+        assertThat(aggregator.getSnapshot().get(0).getEntityData(), is(artery));
+    }
+
+    @Test
+    public void shouldKeepRefreshedEntityDataWhenEventCarriesStaleEntityData() {
+        aggregator.threadCreated(heart, alice, 1);
+        OWLClassData renamed = OWLClassData.get(heart.getEntity(),
+                                                ImmutableMap.of(DictionaryLanguage.rdfsLabel("en"), "Cardiac organ"));
+        aggregator.refreshEntityData(List.of(heart.getEntity().getIRI()), entity -> renamed);
+        aggregator.commentAdded(heart, bob, 2);
+        CommentedEntityData summary = aggregator.getCommentedEntityData(heart.getEntity()).orElseThrow();
+        assertThat(summary.getEntityData(), is(renamed));
+        assertThat(summary.getTotalCommentCount(), is(1));
+    }
+
+    @Test
+    public void shouldThrowIllegalStateExceptionIfRefreshedDataIsForDifferentEntity() {
+        aggregator.threadCreated(heart, alice, 1);
+        assertThrows(IllegalStateException.class,
+                     () -> aggregator.refreshEntityData(List.of(heart.getEntity().getIRI()), entity -> artery));
+    }
+
+    @Test
+    public void shouldReturnEmptyForUncommentedEntity() {
+        assertThat(aggregator.getCommentedEntityData(heart.getEntity()).isPresent(), is(false));
+        assertThat(aggregator.size(), is(0));
+    }
+
+    @Test
+    public void shouldNotLoseConcurrentUpdates() throws Exception {
+        var entities = List.of(heart, artery, TestUtils.newOWLClassData("Vein"));
+        int threads = 4;
+        int eventsPerThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            var futures = new ArrayList<Future<?>>();
+            for(int t = 0; t < threads; t++) {
+                var user = UserId.valueOf("user" + t);
+                futures.add(executor.submit(() -> {
+                    for(int i = 0; i < eventsPerThread; i++) {
+                        var entity = entities.get(i % entities.size());
+                        aggregator.threadCreated(entity, user, i);
+                        aggregator.commentAdded(entity, user, i);
+                    }
+                }));
+            }
+            for(var future : futures) {
+                future.get();
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+        int total = 0;
+        for(var entity : entities) {
+            var summary = aggregator.getCommentedEntityData(entity.getEntity()).orElseThrow();
+            assertThat(summary.getTotalThreadCount(), is(summary.getTotalCommentCount()));
+            assertThat(summary.getPartipants(), hasSize(threads));
+            total += summary.getTotalThreadCount();
+        }
+        assertThat(total, is(threads * eventsPerThread));
+    }
+}
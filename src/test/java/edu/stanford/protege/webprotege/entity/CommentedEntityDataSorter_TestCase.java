@@ -0,0 +1,112 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import edu.stanford.protege.webprotege.common.UserId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ */
+public class CommentedEntityDataSorter_TestCase {
+
+    private static final String[] NAMES = {
+            "apple", "Apple", "APPLE", "banana", "Banana", "Cherry", "zebra", "Zebra", "Élan", "elan", ""
+    };
+
+    private static final UserId USER = UserId.valueOf("user");
+
+    private static List<CommentedEntityData> randomData(long seed, int size) {
+        var random = new Random(seed);
+        var list = new ArrayList<CommentedEntityData>();
+        for(int i = 0; i < size; i++) {
+            var entityData = OWLClassData.get(TestUtils.newOWLClass(),
+                                              ImmutableMap.of(DictionaryLanguage.rdfsLabel("en"),
+                                                              NAMES[random.nextInt(NAMES.length)]));
+            // A small range of timestamps and thread counts so that there are plenty of ties
+            list.add(new CommentedEntityData(entityData,
+                                             3,
+                                             random.nextInt(3),
+                                             5,
+                                             random.nextInt(50),
+                                             USER,
+                                             List.of(USER)));
+        }
+        return list;
+    }
+
+    @Test
+    public void shouldSortInSameOrderAsNaturalOrdering() {
+        for(int seed = 0; seed < 20; seed++) {
+            var list = randomData(seed, 200);
+            var expected = new ArrayList<>(list);
+            Collections.sort(expected);
+            CommentedEntityDataSorter.get().sort(list);
+            assertThat(list, is(expected));
+        }
+    }
+
+    @Test
+    public void shouldSortInSameOrderAsByLastModified() {
+        for(int seed = 0; seed < 20; seed++) {
+            var list = randomData(seed, 200);
+            var expected = new ArrayList<>(list);
+            expected.sort(CommentedEntityData.byLastModified);
+            CommentedEntityDataSorter.get().sortByLastModified(list);
+            assertThat(list, is(expected));
+        }
+    }
+
+    @Test
+    public void shouldSortLargeListsInParallelInSameOrder() {
+        var list = randomData(7, CommentedEntityDataSorter.PARALLEL_SORT_THRESHOLD * 3);
+        var expected = new ArrayList<>(list);
+        expected.sort(CommentedEntityData.byLastModified);
+        CommentedEntityDataSorter.get().sortByLastModified(list);
+        assertThat(list, is(expected));
+    }
+
+    @Test
+    public void shouldGetMostRecentlyModifiedInSameOrderAsSortedPrefix() {
+        for(int seed = 0; seed < 20; seed++) {
+            var list = randomData(seed, 500);
+            var sorted = new ArrayList<>(list);
+            sorted.sort(CommentedEntityData.byLastModified);
+            for(int limit : new int[]{1, 20, 499, 500}) {
+                var mostRecent = CommentedEntityDataSorter.get().getMostRecentlyModified(list, limit);
+                assertThat(mostRecent, is(sorted.subList(0, limit)));
+            }
+        }
+    }
+
+    @Test
+    public void shouldGetAllElementsIfLimitExceedsSize() {
+        var list = randomData(3, 10);
+        var sorted = new ArrayList<>(list);
+        sorted.sort(CommentedEntityData.byLastModified);
+        assertThat(CommentedEntityDataSorter.get().getMostRecentlyModified(list, 100), is(sorted));
+    }
+
+    @Test
+    public void shouldGetEmptyListForZeroLimit() {
+        assertThat(CommentedEntityDataSorter.get().getMostRecentlyModified(randomData(3, 10), 0), is(empty()));
+    }
+
+    @Test
+    public void shouldThrowIllegalArgumentExceptionForNegativeLimit() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> CommentedEntityDataSorter.get().getMostRecentlyModified(randomData(3, 10), -1));
+    }
+}
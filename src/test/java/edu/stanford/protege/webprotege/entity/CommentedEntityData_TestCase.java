@@ -0,0 +1,112 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import edu.stanford.protege.webprotege.common.UserId;
+import edu.stanford.protege.webprotege.common.WebProtegeCommonConfiguration;
+import edu.stanford.protege.webprotege.jackson.WebProtegeJacksonApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.context.annotation.Import;
+import uk.ac.manchester.cs.owl.owlapi.OWLClassImpl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ */
+@JsonTest
+@Import({WebProtegeJacksonApplication.class, WebProtegeCommonConfiguration.class})
+public class CommentedEntityData_TestCase {
+
+    private static final String JSON = "{\"entityData\":{\"@type\":\"ClassData\",\"shortForms\":[{\"dictionaryLanguage\":" +
+            "{\"type\":\"AnnotationAssertion\",\"lang\":\"en\",\"propertyIri\":\"rdfs:label\"},\"shortForm\":\"Heart\"}]," +
+            "\"iri\":\"http://example.org/Heart\"},\"totalThreadCount\":1,\"openThreadCount\":2,\"totalCommentCount\":3," +
+            "\"lastModified\":4,\"lastModifiedBy\":\"u\",\"partipants\":[\"u\",\"v\"]}";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private OWLClassData entityData;
+
+    private List<UserId> participants;
+
+    private CommentedEntityData data;
+
+    @BeforeEach
+    public void setUp() {
+        entityData = OWLClassData.get(new OWLClassImpl(IRI.create("http://example.org/Heart")),
+                                      ImmutableMap.of(DictionaryLanguage.rdfsLabel("en"), "Heart"));
+        participants = new ArrayList<>(List.of(UserId.valueOf("u"), UserId.valueOf("v")));
+        data = new CommentedEntityData(entityData, 1, 2, 3, 4L, UserId.valueOf("u"), participants);
+    }
+
+    @Test
+    public void shouldSerializeToJson() throws IOException {
+        assertThat(objectMapper.writeValueAsString(data), is(JSON));
+    }
+
+    @Test
+    public void shouldDeserializeFromJson() throws IOException {
+        assertThat(objectMapper.readValue(JSON, CommentedEntityData.class), is(data));
+    }
+
+    @Test
+    public void shouldDeserializeMissingParticipantsAsEmpty() throws IOException {
+        var json = JSON.replace(",\"partipants\":[\"u\",\"v\"]", "");
+        assertThat(objectMapper.readValue(json, CommentedEntityData.class).getPartipants(), is(empty()));
+    }
+
+    @Test
+    public void shouldNotCopyParticipantsOnRead() {
+        assertThat(data.getPartipants(), is(sameInstance(data.getPartipants())));
+        assertThat(data.getPartipants(), is(participants));
+    }
+
+    @Test
+    public void shouldNotBeAffectedByChangesToSuppliedParticipants() {
+        participants.clear();
+        assertThat(data.getPartipants(), contains(UserId.valueOf("u"), UserId.valueOf("v")));
+    }
+
+    @Test
+    public void shouldNotAllowParticipantsToBeModified() {
+        assertThrows(UnsupportedOperationException.class, () -> data.getPartipants().add(UserId.valueOf("w")));
+    }
+
+    @Test
+    public void shouldBeEqualToDataWithSameValues() {
+        var other = new CommentedEntityData(entityData, 1, 2, 3, 4L, UserId.valueOf("u"), List.copyOf(participants));
+        assertThat(data, is(other));
+        assertThat(data.hashCode(), is(other.hashCode()));
+        assertThat(data, is(not(new CommentedEntityData(entityData, 1, 2, 3, 5L, UserId.valueOf("u"), participants))));
+    }
+
+    @Test
+    public void shouldOrderEntitiesWithOpenThreadsFirst() {
+        var closedData = new CommentedEntityData(entityData, 1, 0, 3, 4L, UserId.valueOf("u"), participants);
+        assertThat(data.compareTo(closedData), is(lessThan(0)));
+        assertThat(closedData.compareTo(data), is(greaterThan(0)));
+    }
+
+    @Test
+    public void shouldOrderEntitiesByBrowserTextIgnoringCase() {
+        var otherEntityData = OWLClassData.get(new OWLClassImpl(IRI.create("http://example.org/Artery")),
+                                               ImmutableMap.of(DictionaryLanguage.rdfsLabel("en"), "artery"));
+        var other = new CommentedEntityData(otherEntityData, 1, 2, 3, 4L, UserId.valueOf("u"), participants);
+        assertThat(other.compareTo(data), is(lessThan(0)));
+        assertThat(data.compareTo(other), is(greaterThan(0)));
+    }
+}
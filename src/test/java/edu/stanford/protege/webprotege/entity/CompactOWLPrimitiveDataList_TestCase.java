@@ -0,0 +1,156 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import edu.stanford.protege.webprotege.common.ShortForm;
+import edu.stanford.protege.webprotege.common.WebProtegeCommonConfiguration;
+import edu.stanford.protege.webprotege.jackson.WebProtegeJacksonApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.context.annotation.Import;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ */
+@JsonTest
+@Import({WebProtegeJacksonApplication.class, WebProtegeCommonConfiguration.class})
+public class CompactOWLPrimitiveDataList_TestCase {
+
+    private static final String OBO = "http://purl.obolibrary.org/obo/";
+
+    private final OWLDataFactory dataFactory = new OWLDataFactoryImpl();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private List<OWLPrimitiveData> data;
+
+    @BeforeEach
+    public void setUp() {
+        data = new ArrayList<>();
+        var shortForms = ImmutableList.of(ShortForm.get(DictionaryLanguage.rdfsLabel("en"), "label"),
+                                          ShortForm.get(DictionaryLanguage.oboId(), "GO:0000001"));
+        for(int i = 0; i < 20; i++) {
+            var iri = IRI.create(OBO + "GO_" + i);
+            data.add(OWLClassData.get(dataFactory.getOWLClass(iri), shortForms, i % 3 == 0));
+            data.add(OWLObjectPropertyData.get(dataFactory.getOWLObjectProperty(IRI.create(OBO + "RO_" + i)), ImmutableList.of(), false));
+            data.add(OWLLiteralData.get(dataFactory.getOWLLiteral(i)));
+            data.add(OWLLiteralData.get(dataFactory.getOWLLiteral("Literal " + i, "en")));
+        }
+        data.add(IRIData.get(IRI.create(OBO + "IAO_0000115"), ImmutableList.of()));
+        data.add(OWLNamedIndividualData.get(dataFactory.getOWLNamedIndividual(IRI.create("http://example.org/only#i")), ImmutableList.of(), false));
+        data.add(OWLDatatypeData.get(dataFactory.getOWLDatatype(IRI.create("http://example.org/")), ImmutableList.of(), false));
+        data.add(OWLLiteralData.get(dataFactory.getOWLLiteral("Plain", OWL2Datatype.RDF_PLAIN_LITERAL)));
+    }
+
+    @Test
+    public void shouldRoundTrip() throws IOException {
+        var list = CompactOWLPrimitiveDataList.get(data);
+        var json = objectMapper.writeValueAsString(list);
+        var read = objectMapper.readValue(json, CompactOWLPrimitiveDataList.class);
+        assertThat(read, is(list));
+    }
+
+    @Test
+    public void shouldBeSmallerThanPlainList() throws IOException {
+        var plain = objectMapper.writerFor(new TypeReference<List<OWLPrimitiveData>>() {}).writeValueAsString(data);
+        var compact = objectMapper.writeValueAsString(CompactOWLPrimitiveDataList.get(data));
+        assertThat(compact.length(), is(lessThan(plain.length())));
+    }
+
+    @Test
+    public void shouldWriteSharedNamespacesToPrefixTable() throws IOException {
+        var tree = objectMapper.readTree(objectMapper.writeValueAsString(CompactOWLPrimitiveDataList.get(data)));
+        var prefixes = tree.get("prefixes");
+        assertThat(prefixes.size(), is(2));
+        assertThat(prefixes.get(0).asText(), is(OBO));
+        assertThat(prefixes.get(1).asText(), is("http://www.w3.org/2001/XMLSchema#"));
+        var first = tree.get("elements").get(0);
+        assertThat(first.fieldNames().next(), is("@type"));
+        assertThat(first.get("iri").get(0).asInt(), is(0));
+        assertThat(first.get("iri").get(1).asText(), is("GO_0"));
+        var literal = tree.get("elements").get(2);
+        assertThat(literal.get("datatype").get(0).asInt(), is(1));
+        assertThat(literal.get("datatype").get(1).asText(), is("integer"));
+    }
+
+    @Test
+    public void shouldWriteUnsharedIrisInFull() throws IOException {
+        var tree = objectMapper.readTree(objectMapper.writeValueAsString(CompactOWLPrimitiveDataList.get(data)));
+        var elements = tree.get("elements");
+        assertThat(elements.get(elements.size() - 3).get("iri").asText(), is("http://example.org/only#i"));
+        assertThat(elements.get(elements.size() - 2).get("iri").asText(), is("http://example.org/"));
+    }
+
+    @Test
+    public void shouldWriteEmptyList() throws IOException {
+        var json = objectMapper.writeValueAsString(CompactOWLPrimitiveDataList.get(List.of()));
+        assertThat(json, is("{\"prefixes\":[],\"elements\":[]}"));
+        assertThat(objectMapper.readValue(json, CompactOWLPrimitiveDataList.class).getElements(), is(empty()));
+    }
+
+    @Test
+    public void shouldReadFullIrisAndIgnoreUnknownProperties() throws IOException {
+        var json = """
+                {"version":1,"prefixes":["http://example.org/"],"elements":[
+                {"@type":"ClassData","iri":[0,"A"]},
+                {"@type":"ClassData","iri":"http://example.org/B","deprecated":true}]}""";
+        var read = objectMapper.readValue(json, CompactOWLPrimitiveDataList.class);
+        assertThat(read.getElements(), contains(
+                OWLClassData.get(dataFactory.getOWLClass(IRI.create("http://example.org/A")), ImmutableList.of(), false),
+                OWLClassData.get(dataFactory.getOWLClass(IRI.create("http://example.org/B")), ImmutableList.of(), true)));
+    }
+
+    @Test
+    public void shouldFailOnUndefinedPrefixIndex() {
+        var json = """
+                {"prefixes":["http://example.org/"],"elements":[{"@type":"ClassData","iri":[1,"A"]}]}""";
+        assertThrows(JsonMappingException.class, () -> objectMapper.readValue(json, CompactOWLPrimitiveDataList.class));
+    }
+
+    @Test
+    public void shouldFailIfTypeIsNotFirst() {
+        var json = """
+                {"prefixes":[],"elements":[{"iri":"http://example.org/A","@type":"ClassData"}]}""";
+        assertThrows(JsonMappingException.class, () -> objectMapper.readValue(json, CompactOWLPrimitiveDataList.class));
+    }
+
+    @Test
+    public void shouldFailOnUnknownType() {
+        var json = """
+                {"prefixes":[],"elements":[{"@type":"Unknown","iri":"http://example.org/A"}]}""";
+        assertThrows(JsonMappingException.class, () -> objectMapper.readValue(json, CompactOWLPrimitiveDataList.class));
+    }
+
+    @Test
+    public void shouldInternElementsWithPool() throws IOException {
+        var pool = OWLEntityInterningPool.create();
+        var json = objectMapper.writeValueAsString(CompactOWLPrimitiveDataList.get(data));
+        var reader = objectMapper.readerFor(CompactOWLPrimitiveDataList.class)
+                                 .withAttribute(OWLPrimitiveDataInterningModule.POOL_ATTRIBUTE, pool);
+        CompactOWLPrimitiveDataList first = reader.readValue(json);
+        CompactOWLPrimitiveDataList second = reader.readValue(json);
+        var firstProperty = (OWLObjectPropertyData) first.getElements().get(1);
+        var secondProperty = (OWLObjectPropertyData) second.getElements().get(1);
+        assertThat(secondProperty.getEntity(), is(sameInstance(firstProperty.getEntity())));
+    }
+}
@@ -0,0 +1,150 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import edu.stanford.protege.webprotege.common.ShortForm;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+import uk.ac.manchester.cs.owl.owlapi.OWLClassImpl;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ */
+public class CompactShortForms_TestCase {
+
+    private final DictionaryLanguage english = DictionaryLanguage.rdfsLabel("en");
+
+    private final DictionaryLanguage german = DictionaryLanguage.rdfsLabel("de");
+
+    private final DictionaryLanguage localName = DictionaryLanguage.localName();
+
+    private final ImmutableList<ShortForm> shortForms = ImmutableList.of(ShortForm.get(english, "heart"),
+                                                                         ShortForm.get(german, "Herz"),
+                                                                         ShortForm.get(localName, "Heart"));
+
+    @Test
+    public void shouldPreserveListOrder() {
+        var compact = CompactShortForms.get(shortForms);
+        assertThat(compact.size(), is(3));
+        assertThat(compact.asList(), is(shortForms));
+        assertThat(compact.getDictionaryLanguage(1), is(german));
+        assertThat(compact.getShortForm(1), is("Herz"));
+    }
+
+    @Test
+    public void shouldLookUpShortFormByLanguage() {
+        var compact = CompactShortForms.get(shortForms);
+        assertThat(compact.getShortForm(german), is("Herz"));
+        assertThat(compact.getShortForm(localName), is("Heart"));
+        assertThat(compact.indexOf(english), is(0));
+    }
+
+    @Test
+    public void shouldReturnNullForMissingLanguage() {
+        var compact = CompactShortForms.get(shortForms);
+        assertThat(compact.getShortForm(DictionaryLanguage.rdfsLabel("never-used-language")), is(nullValue()));
+        assertThat(compact.indexOf(DictionaryLanguage.oboId()), is(-1));
+    }
+
+    @Test
+    public void shouldLookUpShortFormByPreferenceOrder() {
+        var compact = CompactShortForms.get(shortForms);
+        assertThat(compact.getShortForm(List.of(DictionaryLanguage.oboId(), german, english)), is("Herz"));
+        assertThat(compact.indexOf(List.of(localName, english)), is(2));
+        assertThat(compact.getShortForm(List.of(DictionaryLanguage.oboId())), is(nullValue()));
+        assertThat(compact.getShortForm(List.of()), is(nullValue()));
+    }
+
+    @Test
+    public void shouldHandleSingleShortForm() {
+        var compact = CompactShortForms.get(ImmutableList.of(ShortForm.get(english, "heart")));
+        assertThat(compact.size(), is(1));
+        assertThat(compact.getShortForm(english), is("heart"));
+        assertThat(compact.getShortForm(german), is(nullValue()));
+        assertThrows(IndexOutOfBoundsException.class, () -> compact.getShortForm(1));
+    }
+
+    @Test
+    public void shouldReturnEmptyForEmptyList() {
+        var compact = CompactShortForms.get(ImmutableList.of());
+        assertThat(compact, is(sameInstance(CompactShortForms.empty())));
+        assertThat(compact.isEmpty(), is(true));
+        assertThat(compact.asList(), is(empty()));
+        assertThat(compact.asMap().isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldUseFirstShortFormForDuplicateLanguage() {
+        var compact = CompactShortForms.builder()
+                                       .add(english, "heart")
+                                       .add(english, "cardiac organ")
+                                       .build();
+        assertThat(compact.size(), is(2));
+        assertThat(compact.getShortForm(english), is("heart"));
+        assertThat(compact.asMap(), is(ImmutableMap.of(english, "heart")));
+    }
+
+    @Test
+    public void shouldBuildMapInOrder() {
+        var compact = CompactShortForms.get(shortForms);
+        assertThat(compact.asMap(), is(ImmutableMap.of(english, "heart", german, "Herz", localName, "Heart")));
+        assertThat(CompactShortForms.get(compact.asMap()), is(compact));
+    }
+
+    @Test
+    public void shouldBeEqualForEqualShortForms() {
+        var compact = CompactShortForms.get(shortForms);
+        var other = CompactShortForms.get(ImmutableList.copyOf(shortForms));
+        assertThat(compact, is(other));
+        assertThat(compact.hashCode(), is(other.hashCode()));
+        assertThat(compact, is(not(CompactShortForms.get(shortForms.subList(0, 2)))));
+        assertThat(compact, is(not(CompactShortForms.get(shortForms.reverse()))));
+    }
+
+    @Test
+    public void shouldBackEntityDataShortForms() {
+        var cls = new OWLClassImpl(IRI.create("http://example.org/Heart"));
+        var data = OWLClassData.get(cls, shortForms, false);
+        assertThat(data.getShortForms(), is(shortForms));
+        assertThat(data.getCompactShortForms().getShortForm(german), is("Herz"));
+        assertThat(data.getBrowserText(), is("heart"));
+        assertThat(data, is(OWLClassData.get(cls, CompactShortForms.get(shortForms), false)));
+    }
+
+    @Test
+    public void shouldLookUpPrimitiveDataShortForms() {
+        var data = IRIData.get(IRI.create("http://example.org/Heart"), shortForms);
+        assertThat(data.getShortForm(german), is(Optional.of("Herz")));
+        assertThat(data.getShortForm(DictionaryLanguage.oboId()), is(Optional.empty()));
+        assertThat(data.getShortForm(List.of(DictionaryLanguage.prefixedName(), localName)), is(Optional.of("Heart")));
+        assertThat(data.getShortForm(List.of(DictionaryLanguage.prefixedName())), is(Optional.empty()));
+    }
+
+    @Test
+    public void shouldReturnSameListIfNoShortFormsAreReplaced() {
+        var compact = CompactShortForms.get(shortForms);
+        assertThat(compact.replaceShortForms(shortForm -> shortForm), is(sameInstance(compact)));
+    }
+
+    @Test
+    public void shouldReplaceShortFormsAndKeepLanguages() {
+        var compact = CompactShortForms.get(shortForms);
+        var replaced = compact.replaceShortForms(shortForm -> shortForm.equals("Herz") ? new String(shortForm) : shortForm);
+        assertThat(replaced, is(not(sameInstance(compact))));
+        assertThat(replaced, is(compact));
+        assertThat(replaced.getShortForm(0), is(sameInstance(compact.getShortForm(0))));
+        assertThat(replaced.getShortForm(1), is(not(sameInstance(compact.getShortForm(1)))));
+        var single = CompactShortForms.get(ImmutableList.of(ShortForm.get(english, "heart")));
+        assertThat(single.replaceShortForms(String::toUpperCase).asList(), contains(ShortForm.get(english, "HEART")));
+    }
+}
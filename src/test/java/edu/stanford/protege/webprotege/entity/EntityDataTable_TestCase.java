@@ -0,0 +1,122 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+import uk.ac.manchester.cs.owl.owlapi.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ */
+public class EntityDataTable_TestCase {
+
+    private final DictionaryLanguage english = DictionaryLanguage.rdfsLabel("en");
+
+    private final DictionaryLanguage german = DictionaryLanguage.rdfsLabel("de");
+
+    private final OWLClassData heart = OWLClassData.get(new OWLClassImpl(IRI.create("http://example.org/Heart")),
+                                                        ImmutableMap.of(english, "heart", german, "Herz"));
+
+    private final List<OWLEntityData> entityData = List.of(
+            heart,
+            OWLNamedIndividualData.get(new OWLNamedIndividualImpl(IRI.create("http://example.org/i")), ImmutableMap.of(), true),
+            OWLObjectPropertyData.get(new OWLObjectPropertyImpl(IRI.create("http://example.org/partOf")), ImmutableMap.of(english, "part of")),
+            OWLDataPropertyData.get(new OWLDataPropertyImpl(IRI.create("http://example.org/hasAge")), ImmutableMap.of(german, "hat Alter"), true),
+            OWLAnnotationPropertyData.get(new OWLAnnotationPropertyImpl(IRI.create("http://example.org/synonym")), ImmutableMap.of(english, "synonym")),
+            OWLDatatypeData.get(new OWLDatatypeImpl(IRI.create("http://example.org/été")), ImmutableMap.of(german, "Sommer ☀")));
+
+    @Test
+    public void shouldMaterializeEqualEntityData() {
+        var table = EntityDataTable.create(entityData);
+        assertThat(table.size(), is(entityData.size()));
+        for(int row = 0; row < entityData.size(); row++) {
+            assertThat(table.getEntityData(row), is(entityData.get(row)));
+        }
+    }
+
+    @Test
+    public void shouldReadColumnsWithoutMaterializing() {
+        var table = EntityDataTable.create(entityData);
+        assertThat(table.getType(2), is(PrimitiveType.OBJECT_PROPERTY));
+        assertThat(table.isDeprecated(1), is(true));
+        assertThat(table.isDeprecated(2), is(false));
+        assertThat(table.getIri(5), is("http://example.org/été"));
+        assertThat(table.getShortFormCount(0), is(2));
+        assertThat(table.getShortFormCount(1), is(0));
+        assertThat(table.getShortForm(0, german), is("Herz"));
+        assertThat(table.getShortForm(5, german), is("Sommer ☀"));
+        assertThat(table.getShortForm(2, german), is(nullValue()));
+        assertThat(table.getShortForm(0, DictionaryLanguage.localName()), is(nullValue()));
+        assertThat(table.getDictionaryLanguages(), contains(english, german));
+    }
+
+    @Test
+    public void shouldIterateRowsWithCursor() {
+        var table = EntityDataTable.create(entityData);
+        var cursor = table.cursor();
+        List<OWLEntityData> materialized = new ArrayList<>();
+        while(cursor.next()) {
+            materialized.add(cursor.getEntityData());
+        }
+        assertThat(materialized, is(entityData));
+        assertThat(cursor.next(), is(false));
+        assertThat(cursor.moveTo(0).getShortForm(english), is("heart"));
+        assertThat(cursor.getIri(), is("http://example.org/Heart"));
+    }
+
+    @Test
+    public void shouldStoreDataOffHeap() {
+        var table = EntityDataTable.create(entityData);
+        assertThat(table.getOffHeapSize(), is(greaterThan(0L)));
+        var empty = EntityDataTable.create(List.of());
+        assertThat(empty.isEmpty(), is(true));
+        assertThat(empty.cursor().next(), is(false));
+    }
+
+    @Test
+    public void shouldReadValuesThatSpanChunks() {
+        List<OWLEntityData> rows = new ArrayList<>();
+        for(int i = 0; i < 50; i++) {
+            rows.addAll(entityData);
+        }
+        var builder = EntityDataTable.builder(4);
+        rows.forEach(builder::add);
+        var table = builder.build();
+        assertThat(table.getOffHeapSize(), is(EntityDataTable.create(rows).getOffHeapSize()));
+        var cursor = table.cursor();
+        for(int row = 0; row < rows.size(); row++) {
+            var data = rows.get(row);
+            assertThat(table.getEntityData(row), is(data));
+            assertThat(table.getIri(row), is(data.getEntity().getIRI().toString()));
+            assertThat(table.getShortForm(row, german), is(data.getCompactShortForms().getShortForm(german)));
+            assertThat(cursor.next(), is(true));
+            assertThat(cursor.getEntityData(), is(data));
+        }
+        assertThat(cursor.next(), is(false));
+    }
+
+    @Test
+    public void shouldThrowIndexOutOfBoundsExceptionForMissingRow() {
+        var table = EntityDataTable.create(List.of(heart));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.getIri(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.cursor().getIri());
+    }
+
+    @Test
+    public void shouldThrowIllegalStateExceptionIfBuilderIsReused() {
+        var builder = EntityDataTable.builder().add(heart);
+        builder.build();
+        assertThrows(IllegalStateException.class, () -> builder.add(heart));
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+}
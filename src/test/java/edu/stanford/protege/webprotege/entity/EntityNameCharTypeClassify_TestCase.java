@@ -0,0 +1,140 @@
+package edu.stanford.protege.webprotege.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static edu.stanford.protege.webprotege.entity.EntityNameCharType.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ */
+public class EntityNameCharTypeClassify_TestCase {
+
+    /**
+     * MATHEMATICAL BOLD CAPITAL A (U+1D400), an upper case letter outside of the Basic Multilingual Plane
+     */
+    private static final String BOLD_CAPITAL_A = "\uD835\uDC00";
+
+    /**
+     * MATHEMATICAL BOLD DIGIT ZERO (U+1D7CE)
+     */
+    private static final String BOLD_DIGIT_ZERO = "\uD835\uDFCE";
+
+    @Test
+    public void shouldClassifyEveryCharInSameWayAsLegacyClassifier() {
+        for(int i = Character.MIN_VALUE; i <= Character.MAX_VALUE; i++) {
+            char ch = (char) i;
+            for(int index = 0; index < 3; index++) {
+                assertThat("U+" + Integer.toHexString(i) + " at " + index,
+                           getType(index, ch, 3),
+                           is(LegacyEntityNameCharTypeClassifier.getType(index, ch, 3)));
+            }
+        }
+    }
+
+    @Test
+    public void shouldClassifyTextInSameWayAsGetType() {
+        String text = "'Heart attack (acute)', caf\u00e9_\u00c9t\u00e9 GO:0008150 \u4e2d\u6587 x-y\tz'";
+        byte[] types = new byte[text.length()];
+        int written = classify(text, types);
+        assertThat(written, is(text.length()));
+        for(int i = 0; i < text.length(); i++) {
+            assertThat(fromCode(types[i]), is(getType(text, i)));
+            assertThat(fromCode(types[i]), is(LegacyEntityNameCharTypeClassifier.getType(i, text.charAt(i), text.length())));
+        }
+    }
+
+    @Test
+    public void shouldClassifyQuotesAtEndsAsEscapingQuotes() {
+        byte[] types = new byte[5];
+        classify("'a'b'", types);
+        assertThat(fromCode(types[0]), is(ESCAPING_QUOTE));
+        assertThat(fromCode(types[2]), is(LETTER));
+        assertThat(fromCode(types[4]), is(ESCAPING_QUOTE));
+    }
+
+    @Test
+    public void shouldClassifyBothHalvesOfSurrogatePairUsingCodePoint() {
+        String text = "a" + BOLD_CAPITAL_A + BOLD_DIGIT_ZERO;
+        byte[] types = new byte[text.length()];
+        classify(text, types);
+        assertThat(fromCode(types[0]), is(LETTER));
+        assertThat(fromCode(types[1]), is(UPPER_CASE_LETTER));
+        assertThat(fromCode(types[2]), is(UPPER_CASE_LETTER));
+        assertThat(fromCode(types[3]), is(DIGIT));
+        assertThat(fromCode(types[4]), is(DIGIT));
+        for(int i = 0; i < text.length(); i++) {
+            assertThat(getType(text, i), is(fromCode(types[i])));
+        }
+    }
+
+    @Test
+    public void shouldClassifyUnpairedSurrogatesAsLetters() {
+        String text = "\uDC00a\uD835";
+        byte[] types = new byte[text.length()];
+        classify(text, types);
+        assertThat(fromCode(types[0]), is(LETTER));
+        assertThat(fromCode(types[2]), is(LETTER));
+        assertThat(getType(text, 0), is(LETTER));
+        assertThat(getType(text, 2), is(LETTER));
+    }
+
+    @Test
+    public void shouldClassifyCodePoints() {
+        assertThat(getCodePointType(1, BOLD_CAPITAL_A.codePointAt(0), 4), is(UPPER_CASE_LETTER));
+        assertThat(getCodePointType(1, '_', 4), is(BOUNDARY));
+        assertThat(getCodePointType(0, '\'', 4), is(ESCAPING_QUOTE));
+    }
+
+    @Test
+    public void shouldReuseLongerArrayAndLeaveTailUntouched() {
+        byte[] types = new byte[8];
+        types[7] = 42;
+        assertThat(classify("A b", types), is(3));
+        assertThat(fromCode(types[0]), is(UPPER_CASE_LETTER));
+        assertThat(fromCode(types[1]), is(BOUNDARY));
+        assertThat(fromCode(types[2]), is(LETTER));
+        assertThat(types[7], is((byte) 42));
+    }
+
+    @Test
+    public void shouldThrowIllegalArgumentExceptionIfArrayIsTooShort() {
+        assertThrows(IllegalArgumentException.class, () -> classify("abc", new byte[2]));
+    }
+
+    @Test
+    public void shouldThrowNullPointerExceptionIfTextIsNull() {
+        assertThrows(NullPointerException.class, () -> classify(null, new byte[2]));
+    }
+
+    @Test
+    public void shouldRoundTripCodes() {
+        for(EntityNameCharType type : values()) {
+            assertThat(fromCode(type.getCode()), is(type));
+        }
+    }
+
+    @Test
+    public void shouldFindWordStartsInSameWayAsGetWordStarts() {
+        String[] texts = {"'Heart attack (acute)', caf\u00e9_\u00c9t\u00e9 GO:0008150 \u4e2d\u6587 x-y\tz'",
+                "HTMLParser", "ABC", "aBC", "ABc", "a" + BOLD_CAPITAL_A + BOLD_DIGIT_ZERO + "b", "'a'b'", ""};
+        for(String text : texts) {
+            byte[] types = new byte[text.length()];
+            int[] wordStarts = new int[text.length()];
+            classify(text, types);
+            int count = getWordStarts(text, types, wordStarts);
+            int next = 0;
+            for(int i = 0; i < text.length(); i++) {
+                boolean expected = next < count && wordStarts[next] == i;
+                if(expected) {
+                    next++;
+                }
+                assertThat(text + " at " + i, isWordStart(text, i), is(expected));
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ */
+public class EntityNameMatcher_TestCase {
+
+    private static boolean matches(String query, String name) {
+        return EntityNameMatcher.get(query).matches(name);
+    }
+
+    @Test
+    public void shouldMatchCamelCaseAbbreviations() {
+        assertThat(matches("HeAt", "HeartAttack"), is(true));
+        assertThat(matches("heat", "HeartAttack"), is(true));
+        assertThat(matches("HA", "HeartAttack"), is(true));
+        assertThat(matches("HeartAttack", "HeartAttack"), is(true));
+        assertThat(matches("Attack", "HeartAttack"), is(true));
+    }
+
+    @Test
+    public void shouldMatchWordsSeparatedByBoundaries() {
+        assertThat(matches("heart att", "Heart attack"), is(true));
+        assertThat(matches("HA", "heart_attack"), is(true));
+        assertThat(matches("go 815", "GO:0008150"), is(false));
+        assertThat(matches("go 0008", "GO:0008150"), is(true));
+    }
+
+    @Test
+    public void shouldNotMatchInsideWords() {
+        assertThat(matches("eart", "HeartAttack"), is(false));
+        assertThat(matches("ttack", "Heart attack"), is(false));
+    }
+
+    @Test
+    public void shouldRequireWordsInOrder() {
+        assertThat(matches("AtHe", "HeartAttack"), is(false));
+        assertThat(matches("attack heart", "Heart attack"), is(false));
+    }
+
+    @Test
+    public void shouldRequireUpperCaseHumpsToStartWords() {
+        assertThat(matches("hEart", "Heart"), is(false));
+        assertThat(matches("HEART", "Heart"), is(true));
+    }
+
+    @Test
+    public void shouldMatchAcronymWords() {
+        assertThat(matches("serv", "HTTPServer"), is(true));
+        assertThat(matches("HS", "HTTPServer"), is(true));
+        assertThat(matches("TS", "HTTPServer"), is(false));
+    }
+
+    @Test
+    public void shouldMatchEverythingWithEmptyQuery() {
+        EntityNameMatcher matcher = EntityNameMatcher.get(" ");
+        assertThat(matcher.matches("Heart"), is(true));
+        assertThat(matcher.getMatchSpans("Heart"), is(Optional.of(ImmutableList.of())));
+    }
+
+    @Test
+    public void shouldBacktrackToShorterPieces() {
+        // "hea" matches the start of "Heart", but then "t" does not start a later word
+        assertThat(EntityNameMatcher.get("heat").getMatchSpans("HeartAttack").orElseThrow(),
+                   contains(EntityNameMatchSpan.get(0, 2), EntityNameMatchSpan.get(5, 7)));
+    }
+
+    @Test
+    public void shouldReturnSpansForHighlighting() {
+        assertThat(EntityNameMatcher.get("heart att").getMatchSpans("Heart attack").orElseThrow(),
+                   contains(EntityNameMatchSpan.get(0, 5), EntityNameMatchSpan.get(6, 9)));
+        assertThat(EntityNameMatcher.get("HA").getMatchSpans("Cardiac HeartAttack").orElseThrow(),
+                   contains(EntityNameMatchSpan.get(8, 9), EntityNameMatchSpan.get(13, 14)));
+        assertThat(EntityNameMatcher.get("HA").getMatchSpans("Artery"), is(Optional.empty()));
+    }
+
+    @Test
+    public void shouldWriteSpansToArray() {
+        EntityNameMatcher matcher = EntityNameMatcher.get("HeAt");
+        int[] spans = new int[2 * matcher.getMaxSpanCount()];
+        assertThat(matcher.match("HeartAttack", spans), is(2));
+        assertThat(spans[0], is(0));
+        assertThat(spans[1], is(2));
+        assertThat(spans[2], is(5));
+        assertThat(spans[3], is(7));
+        assertThat(matcher.match("Artery", spans), is(-1));
+    }
+
+    @Test
+    public void shouldThrowIllegalArgumentExceptionIfSpansArrayIsTooShort() {
+        EntityNameMatcher matcher = EntityNameMatcher.get("HeAt");
+        assertThrows(IllegalArgumentException.class, () -> matcher.match("HeartAttack", new int[3]));
+    }
+
+    @Test
+    public void shouldReuseMatcherForNamesOfDifferentLengths() {
+        EntityNameMatcher matcher = EntityNameMatcher.get("HA");
+        StringBuilder longName = new StringBuilder();
+        for(int i = 0; i < 100; i++) {
+            longName.append("Word").append(i).append(' ');
+        }
+        longName.append("HeartAttack");
+        assertThat(matcher.matches(longName), is(true));
+        assertThat(matcher.matches("HA"), is(true));
+        assertThat(matcher.matches("Heart"), is(false));
+    }
+
+    @Test
+    public void shouldFilterInParallelInSameWayAsSequentially() {
+        String[] labels = {"Heart attack", "HeartAttack", "Artery", "heart", "Acute heart attack"};
+        List<OWLEntityData> candidates = new ArrayList<>();
+        for(int i = 0; i < EntityNameMatcher.PARALLEL_THRESHOLD + 1000; i++) {
+            candidates.add(TestUtils.newOWLClassData(labels[i % labels.length] + i));
+        }
+        EntityNameMatcher matcher = EntityNameMatcher.get("HeAt");
+        ImmutableList<OWLEntityData> sequential = matcher.filter(candidates);
+        ImmutableList<OWLEntityData> parallel = matcher.filter(candidates, new ForkJoinPool(4));
+        assertThat(sequential.size(), is(3 * candidates.size() / labels.length));
+        assertThat(parallel, is(sequential));
+    }
+}
@@ -0,0 +1,180 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ */
+public class FreshEntityIriParse_TestCase {
+
+    private static final String NAME_CHARS = "abcXYZ 019_-'\"&#?:=%/.\u00e9\u4e2d";
+
+    private static final String IRI_CHARS = "abcXYZ019_-/.:&#?%";
+
+    private static final String MUTATION_CHARS = "a&#?:% 26";
+
+    private static String randomString(Random random, String alphabet, int maxLength) {
+        int length = random.nextInt(maxLength + 1);
+        StringBuilder sb = new StringBuilder(length);
+        for(int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+
+    private static FreshEntityIri randomFreshEntityIri(Random random) {
+        ImmutableSet.Builder<IRI> parentIris = ImmutableSet.builder();
+        int parentCount = random.nextInt(4);
+        for(int i = 0; i < parentCount; i++) {
+            parentIris.add(IRI.create("http://example.org/" + randomString(random, IRI_CHARS, 20)));
+        }
+        return FreshEntityIri.get(randomString(random, NAME_CHARS, 20),
+                                  random.nextBoolean() ? "" : randomString(random, "abcdef-", 6),
+                                  random.nextBoolean() ? "" : UUID.randomUUID().toString(),
+                                  parentIris.build());
+    }
+
+    private static String mutate(Random random, String s) {
+        StringBuilder sb = new StringBuilder(s);
+        int mutations = 1 + random.nextInt(3);
+        for(int i = 0; i < mutations && sb.length() > 0; i++) {
+            int index = random.nextInt(sb.length());
+            if(random.nextBoolean()) {
+                sb.deleteCharAt(index);
+            }
+            else {
+                sb.insert(index, MUTATION_CHARS.charAt(random.nextInt(MUTATION_CHARS.length())));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The legacy parser truncates parameter values at a second equals sign.  Inputs where this could
+     * happen are excluded from equivalence checks.
+     */
+    private static boolean hasParameterWithMultipleEqualsSigns(String iri) {
+        int q = iri.indexOf('?');
+        int f = iri.indexOf('#');
+        if(q == -1 || f == -1 || f < q) {
+            return false;
+        }
+        for(String param : iri.substring(q + 1, f).split("&", -1)) {
+            if(param.indexOf('=') != param.lastIndexOf('=')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Optional<FreshEntityIri> parseLegacy(String iri) {
+        try {
+            return Optional.of(LegacyFreshEntityIriParser.parse(iri));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<FreshEntityIri> parse(String iri) {
+        try {
+            return Optional.of(FreshEntityIri.parse(iri));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Test
+    public void shouldParseInSameWayAsLegacyParser() {
+        var random = new Random(1);
+        for(int i = 0; i < 5_000; i++) {
+            var iri = randomFreshEntityIri(random).getIri().toString();
+            if(hasParameterWithMultipleEqualsSigns(iri)) {
+                continue;
+            }
+            assertThat(iri, parse(iri), is(parseLegacy(iri)));
+        }
+    }
+
+    @Test
+    public void shouldAcceptAndRejectMutatedIrisInSameWayAsLegacyParser() {
+        var random = new Random(2);
+        for(int i = 0; i < 20_000; i++) {
+            var iri = mutate(random, randomFreshEntityIri(random).getIri().toString());
+            if(hasParameterWithMultipleEqualsSigns(iri)) {
+                continue;
+            }
+            assertThat(iri, parse(iri), is(parseLegacy(iri)));
+        }
+    }
+
+    @Test
+    public void shouldRoundTripRandomFreshEntityIris() {
+        var random = new Random(3);
+        for(int i = 0; i < 10_000; i++) {
+            var freshEntityIri = randomFreshEntityIri(random);
+            // Escapes that are present in the original parent IRIs are not preserved
+            if(freshEntityIri.getParentIris().stream().anyMatch(iri -> iri.toString().contains("%2"))) {
+                continue;
+            }
+            assertThat(FreshEntityIri.parse(freshEntityIri.getIri().toString()), is(freshEntityIri));
+        }
+    }
+
+    @Test
+    public void shouldRoundTripParentIriContainingEqualsSign() {
+        var freshEntityIri = FreshEntityIri.get("A", "en", "", ImmutableSet.of(IRI.create("http://example.org/a?b=c&d=e#f")));
+        assertThat(FreshEntityIri.parse(freshEntityIri.getIri().toString()), is(freshEntityIri));
+    }
+
+    @Test
+    public void shouldDecodeEscapes() {
+        var parsed = FreshEntityIri.parse("term:?parentIri=http://example.org/a%26b%23c%2%25#A");
+        assertThat(parsed.getParentIris(), is(ImmutableSet.of(IRI.create("http://example.org/a&b#c%2%25"))));
+    }
+
+    @Test
+    public void shouldGetSuppliedNameOf() {
+        var random = new Random(4);
+        for(int i = 0; i < 1_000; i++) {
+            var freshEntityIri = randomFreshEntityIri(random);
+            assertThat(FreshEntityIri.suppliedNameOf(freshEntityIri.getIri().toString()), is(freshEntityIri.getSuppliedName()));
+        }
+    }
+
+    @Test
+    public void shouldGetSuppliedNameOfCharSequence() {
+        assertThat(FreshEntityIri.suppliedNameOf(new StringBuilder("term:?langTag=en#Heart attack")), is("Heart attack"));
+    }
+
+    @Test
+    public void shouldThrowExceptionForMissingFragmentIdentifier() {
+        assertThrows(RuntimeException.class, () -> FreshEntityIri.suppliedNameOf("term:?langTag=en"));
+    }
+
+    @Test
+    public void shouldThrowExceptionForMissingQuerySeparator() {
+        assertThrows(RuntimeException.class, () -> FreshEntityIri.parse("term:#A"));
+    }
+
+    @Test
+    public void shouldThrowExceptionForMissingColon() {
+        assertThrows(RuntimeException.class, () -> FreshEntityIri.parse("term?langTag=en#A"));
+    }
+
+    @Test
+    public void shouldThrowExceptionForMalformedParameter() {
+        assertThrows(RuntimeException.class, () -> FreshEntityIri.parse("term:?langTag#A"));
+    }
+}
@@ -0,0 +1,65 @@
+package edu.stanford.protege.webprotege.entity;
+
+import static edu.stanford.protege.webprotege.entity.EntityNameCharType.*;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     The original, predicate chain based, implementation of {@link EntityNameCharType#getType(int, char, int)}.
+ *     This is kept as a reference implementation for equivalence tests and benchmarks.
+ * </p>
+ */
+public class LegacyEntityNameCharTypeClassifier {
+
+    private static final char SINGLE_QUOTE = '\'';
+
+    public static EntityNameCharType getType(int index, char ch, int length) {
+        if (Character.isUpperCase(ch)) {
+            return UPPER_CASE_LETTER;
+        }
+        else if (Character.isLowerCase(ch)) {
+            return LETTER;
+        }
+        else if (Character.isDigit(ch)) {
+            return DIGIT;
+        }
+        else if (index == 0 && ch == SINGLE_QUOTE) {
+            return ESCAPING_QUOTE;
+        }
+        else if (index == length - 1 && ch == SINGLE_QUOTE) {
+            return ESCAPING_QUOTE;
+        }
+        else if (ch == '-') {
+            return LETTER;
+        }
+        else if (ch == SINGLE_QUOTE) {
+            return LETTER;
+        }
+        else if (ch == ' ') {
+            return BOUNDARY;
+        }
+        else if(33 <= ch && ch <= 47) {
+            return BOUNDARY;
+        }
+        else if(58 <= ch && ch <= 64) {
+            return BOUNDARY;
+        }
+        else if(91 <= ch && ch <= 96) {
+            return BOUNDARY;
+        }
+        else if(123 <= ch && ch <= 126) {
+            return BOUNDARY;
+        }
+        else if (ch == '\t') {
+            return BOUNDARY;
+        }
+        else if (ch == '\n') {
+            return BOUNDARY;
+        }
+        else {
+            return LETTER;
+        }
+    }
+}
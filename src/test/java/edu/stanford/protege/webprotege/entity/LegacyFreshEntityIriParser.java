@@ -0,0 +1,64 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableSet;
+import org.semanticweb.owlapi.model.IRI;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+import static edu.stanford.protege.webprotege.entity.FreshEntityIri.*;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ * <p>
+ *     The original, {@link Splitter} based, implementation of {@link FreshEntityIri#parse(String)}.  This is
+ *     kept as a reference implementation for equivalence tests and benchmarks.
+ * </p>
+ */
+public class LegacyFreshEntityIriParser {
+
+    @Nonnull
+    public static FreshEntityIri parse(@Nonnull String iriString) {
+        int colonIndex = iriString.indexOf(":");
+        if(colonIndex == -1) {
+            throw new RuntimeException("Missing colon");
+        }
+        int querySeparatorIndex = iriString.indexOf("?");
+        if(querySeparatorIndex == -1) {
+            throw new RuntimeException("Missing query separator (?)");
+        }
+        int fragmentIdentifierIndex = iriString.indexOf("#");
+        if(fragmentIdentifierIndex == -1) {
+            throw new RuntimeException("Missing fragment identifier (#)");
+        }
+        if(!(colonIndex < querySeparatorIndex) && !(querySeparatorIndex < fragmentIdentifierIndex)) {
+            throw new RuntimeException("Malformed fresh " + SCHEME + " IRI");
+        }
+        final String queryToken = iriString.substring(querySeparatorIndex + 1, fragmentIdentifierIndex);
+
+        String discriminator = "";
+        String langTag = "";
+        ImmutableSet.Builder<IRI> parentIris = ImmutableSet.builder();
+
+        for(String keyValue : Splitter.on("&").trimResults().split(queryToken)) {
+            List<String> keyValueList = Splitter.on("=").splitToList(keyValue);
+            String key = keyValueList.get(0);
+            String value = keyValueList.get(1);
+            if(key.equals(DISCRIMINATOR_PARAM_NAME) && discriminator.isEmpty()) {
+                discriminator = value;
+            }
+            else if(key.equals(LANG_TAG_PARAM_NAME) && langTag.isEmpty()) {
+                langTag = value;
+            }
+            else if(key.equals(PARENT_IRI_PARAM_NAME)) {
+                parentIris.add(IRI.create(value.replace(AMPERSAND_ESCAPE, "&").replace(HASH_ESCAPE, "#")));
+            }
+        }
+
+        String suppliedName = iriString.substring(fragmentIdentifierIndex + 1);
+        return FreshEntityIri.get(suppliedName, langTag, discriminator, parentIris.build());
+    }
+}
@@ -2,6 +2,7 @@
 package edu.stanford.protege.webprotege.entity;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import edu.stanford.protege.webprotege.common.DictionaryLanguage;
 import edu.stanford.protege.webprotege.common.LocalNameDictionaryLanguage;
 import edu.stanford.protege.webprotege.common.WebProtegeCommonConfiguration;
@@ -16,6 +17,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.json.JsonTest;
 import org.springframework.boot.test.json.JacksonTester;
 import org.springframework.context.annotation.Import;
+import uk.ac.manchester.cs.owl.owlapi.OWLClassImpl;
 
 import java.io.IOException;
 
@@ -67,6 +69,39 @@ public class OWLClassData_TestCase {
         assertThat(clsData.getBrowserText(), is(this.browserText));
     }
 
+    @Test
+    public void shouldMemoize_browserText() {
+        assertThat(clsData.getBrowserText(), is(sameInstance(clsData.getBrowserText())));
+    }
+
+    @Test
+    public void shouldReturnSuppliedNameAsBrowserTextForFreshEntityIri() {
+        var freshIri = FreshEntityIri.get("Heart attack", "en", "", ImmutableSet.of()).getIri();
+        var freshClsData = OWLClassData.get(new OWLClassImpl(freshIri), shortForms);
+        assertThat(freshClsData.getBrowserText(), is("Heart attack"));
+        assertThat(freshClsData.getBrowserText(), is(sameInstance(freshClsData.getBrowserText())));
+    }
+
+    @Test
+    public void shouldGetUnquotedBrowserText() {
+        var quotedClsData = OWLClassData.get(entity, ImmutableMap.of(LocalNameDictionaryLanguage.get(), "'The Name'"));
+        assertThat(quotedClsData.getUnquotedBrowserText(), is("The Name"));
+    }
+
+    @Test
+    public void shouldGetPrefixSeparatorIndex() {
+        var prefixedClsData = OWLClassData.get(entity, ImmutableMap.of(LocalNameDictionaryLanguage.get(), "obo:Name"));
+        assertThat(prefixedClsData.getPrefixSeparatorIndex(), is(3));
+    }
+
+    @Test
+    public void shouldNotIncludeMemoizedBrowserTextInEquality() {
+        var other = OWLClassData.get(entity, shortForms);
+        other.getBrowserText();
+        assertThat(clsData, is(other));
+        assertThat(clsData.hashCode(), is(other.hashCode()));
+    }
+
     @Test
     public void shouldBeEqualToSelf() {
         assertThat(clsData, is(clsData));
@@ -0,0 +1,164 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.*;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ */
+public class OWLEntityDataBatchFactory_TestCase {
+
+    private static final List<EntityType<?>> ENTITY_TYPES = List.copyOf(EntityType.values());
+
+    private final OWLDataFactory dataFactory = new OWLDataFactoryImpl();
+
+    private final List<OWLEntity> entities = new ArrayList<>();
+
+    private final List<Map<DictionaryLanguage, String>> shortForms = new ArrayList<>();
+
+    private final BitSet deprecated = new BitSet();
+
+    private void createInput(int size) {
+        for(int i = 0; i < size; i++) {
+            var iri = IRI.create("http://example.org/Entity" + i);
+            entities.add(dataFactory.getOWLEntity(ENTITY_TYPES.get(i % ENTITY_TYPES.size()), iri));
+            switch(i % 3) {
+                case 0 -> shortForms.add(ImmutableMap.of());
+                case 1 -> shortForms.add(ImmutableMap.of(DictionaryLanguage.rdfsLabel("en"), new String("label " + (i % 10))));
+                default -> shortForms.add(ImmutableMap.of(DictionaryLanguage.rdfsLabel("en"), "label " + i,
+                                                          DictionaryLanguage.localName(), "Entity" + i));
+            }
+            if(i % 7 == 0) {
+                deprecated.set(i);
+            }
+        }
+    }
+
+    private List<OWLEntityData> createOneAtATime() {
+        var result = new ArrayList<OWLEntityData>();
+        for(int i = 0; i < entities.size(); i++) {
+            var entity = entities.get(i);
+            var entityShortForms = ImmutableMap.copyOf(shortForms.get(i));
+            var isDeprecated = deprecated.get(i);
+            result.add(entity.accept(new OWLEntityVisitorEx<OWLEntityData>() {
+                @Override
+                public OWLEntityData visit(OWLClass cls) {
+                    return OWLClassData.get(cls, entityShortForms, isDeprecated);
+                }
+
+                @Override
+                public OWLEntityData visit(OWLObjectProperty property) {
+                    return OWLObjectPropertyData.get(property, entityShortForms, isDeprecated);
+                }
+
+                @Override
+                public OWLEntityData visit(OWLDataProperty property) {
+                    return OWLDataPropertyData.get(property, entityShortForms, isDeprecated);
+                }
+
+                @Override
+                public OWLEntityData visit(OWLNamedIndividual individual) {
+                    return OWLNamedIndividualData.get(individual, entityShortForms, isDeprecated);
+                }
+
+                @Override
+                public OWLEntityData visit(OWLDatatype datatype) {
+                    return OWLDatatypeData.get(datatype, entityShortForms, isDeprecated);
+                }
+
+                @Override
+                public OWLEntityData visit(OWLAnnotationProperty property) {
+                    return OWLAnnotationPropertyData.get(property, entityShortForms, isDeprecated);
+                }
+            }));
+        }
+        return result;
+    }
+
+    @Test
+    public void shouldCreateSameDataAsFactoryMethods() {
+        createInput(100);
+        var data = OWLEntityDataBatchFactory.get().create(entities, shortForms, deprecated);
+        assertThat(data, is(createOneAtATime()));
+    }
+
+    @Test
+    public void shouldKeepSuppliedEntities() {
+        createInput(12);
+        var data = OWLEntityDataBatchFactory.get().create(entities, shortForms, deprecated);
+        for(int i = 0; i < entities.size(); i++) {
+            assertThat(data.get(i).getEntity(), is(sameInstance(entities.get(i))));
+        }
+    }
+
+    @Test
+    public void shouldCreateSameDataInParallel() {
+        createInput(OWLEntityDataBatchFactory.PARALLEL_THRESHOLD * 2 + 5);
+        var pool = new ForkJoinPool(4);
+        try {
+            var data = OWLEntityDataBatchFactory.get(pool).create(entities, shortForms, deprecated);
+            assertThat(data, is(createOneAtATime()));
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldShareIdenticalShortFormStrings() {
+        createInput(40);
+        var data = OWLEntityDataBatchFactory.get(ForkJoinPool.commonPool(), true).create(entities, shortForms, deprecated);
+        // Entities 1 and 31 both have the label "label 1", supplied as distinct String instances
+        assertThat(shortForms.get(1).values().iterator().next(),
+                   is(not(sameInstance(shortForms.get(31).values().iterator().next()))));
+        assertThat(data.get(1).getCompactShortForms().getShortForm(0),
+                   is(sameInstance(data.get(31).getCompactShortForms().getShortForm(0))));
+    }
+
+    @Test
+    public void shouldShareIdenticalShortFormStringsAcrossParallelChunks() {
+        int size = OWLEntityDataBatchFactory.PARALLEL_THRESHOLD * 2 + 5;
+        createInput(size);
+        var pool = new ForkJoinPool(4);
+        try {
+            var data = OWLEntityDataBatchFactory.get(pool, true).create(entities, shortForms, deprecated);
+            assertThat(data, is(createOneAtATime()));
+            // Entity 1 is in the first chunk and the last entity with the label "label 1" is in the last chunk
+            int last = size - 1 - (size - 1 - 1) % 30;
+            assertThat(data.get(last).getCompactShortForms().getShortForm(0),
+                       is(sameInstance(data.get(1).getCompactShortForms().getShortForm(0))));
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldCreateNonDeprecatedData() {
+        createInput(10);
+        var data = OWLEntityDataBatchFactory.get().create(entities, shortForms);
+        assertThat(data.stream().noneMatch(OWLEntityData::isDeprecated), is(true));
+    }
+
+    @Test
+    public void shouldThrowIllegalArgumentExceptionIfSizesDiffer() {
+        createInput(10);
+        assertThrows(IllegalArgumentException.class,
+                     () -> OWLEntityDataBatchFactory.get().create(entities, shortForms.subList(0, 9)));
+    }
+}
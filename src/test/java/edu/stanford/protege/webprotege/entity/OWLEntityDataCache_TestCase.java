@@ -0,0 +1,248 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import edu.stanford.protege.webprotege.common.ProjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.*;
+import uk.ac.manchester.cs.owl.owlapi.OWLClassImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLNamedIndividualImpl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ */
+public class OWLEntityDataCache_TestCase {
+
+    private static final ImmutableList<DictionaryLanguage> ENGLISH = ImmutableList.of(DictionaryLanguage.rdfsLabel("en"));
+
+    private static final ImmutableList<DictionaryLanguage> GERMAN = ImmutableList.of(DictionaryLanguage.rdfsLabel("de"));
+
+    private final FakeTicker ticker = new FakeTicker();
+
+    private OWLEntityDataCache cache;
+
+    private ProjectId projectId;
+
+    private OWLClass cls;
+
+    @BeforeEach
+    public void setUp() {
+        cache = OWLEntityDataCache.create(3, Duration.ofMinutes(10), ticker);
+        projectId = TestUtils.mockProjectId();
+        cls = TestUtils.newOWLClass();
+    }
+
+    private static OWLClassData classData(OWLClass cls, String label) {
+        return OWLClassData.get(cls, ImmutableMap.of(DictionaryLanguage.rdfsLabel("en"), label));
+    }
+
+    @Test
+    public void shouldReturnCanonicalEntityData() {
+        AtomicInteger createCount = new AtomicInteger();
+        OWLEntityData first = cache.get(projectId, cls, ENGLISH, () -> {
+            createCount.incrementAndGet();
+            return classData(cls, "Heart");
+        });
+        OWLEntityData second = cache.get(projectId, new OWLClassImpl(cls.getIRI()), ENGLISH, () -> classData(cls, "Heart"));
+        assertThat(second, is(sameInstance(first)));
+        assertThat(createCount.get(), is(1));
+        assertThat(cache.getStats(), is(OWLEntityDataCacheStats.get(1, 1, 0, 0)));
+    }
+
+    @Test
+    public void shouldKeyByEntityTypeAndLanguages() {
+        OWLEntityData english = cache.get(projectId, cls, ENGLISH, () -> classData(cls, "Heart"));
+        OWLEntityData german = cache.get(projectId, cls, GERMAN, () -> classData(cls, "Herz"));
+        OWLNamedIndividualImpl individual = new OWLNamedIndividualImpl(cls.getIRI());
+        assertThat(cache.getIfPresent(projectId, individual, ENGLISH), is(nullValue()));
+        assertThat(cache.getIfPresent(projectId, cls, ENGLISH), is(sameInstance(english)));
+        assertThat(cache.getIfPresent(projectId, cls, GERMAN), is(sameInstance(german)));
+        assertThat(cache.size(projectId), is(1L));
+    }
+
+    @Test
+    public void shouldPartitionByProject() {
+        cache.get(projectId, cls, ENGLISH, () -> classData(cls, "Heart"));
+        ProjectId otherProjectId = TestUtils.mockProjectId();
+        assertThat(cache.getIfPresent(otherProjectId, cls, ENGLISH), is(nullValue()));
+        cache.invalidateAll(otherProjectId);
+        assertThat(cache.getIfPresent(projectId, cls, ENGLISH), is(notNullValue()));
+    }
+
+    @Test
+    public void shouldInvalidateAllEntityDataForIri() {
+        cache.get(projectId, cls, ENGLISH, () -> classData(cls, "Heart"));
+        cache.get(projectId, cls, GERMAN, () -> classData(cls, "Herz"));
+        cache.invalidate(projectId, cls.getIRI());
+        assertThat(cache.getIfPresent(projectId, cls, ENGLISH), is(nullValue()));
+        assertThat(cache.getIfPresent(projectId, cls, GERMAN), is(nullValue()));
+        OWLEntityData renamed = cache.get(projectId, cls, ENGLISH, () -> classData(cls, "Cardiac organ"));
+        assertThat(renamed.getBrowserText(), is("Cardiac organ"));
+        assertThat(cache.getStats().getInvalidationCount(), is(2L));
+    }
+
+    @Test
+    public void shouldInvalidateBatchOfIris() {
+        OWLClass otherCls = TestUtils.newOWLClass();
+        OWLClass unchangedCls = TestUtils.newOWLClass();
+        cache.get(projectId, cls, ENGLISH, () -> classData(cls, "Heart"));
+        cache.get(projectId, otherCls, ENGLISH, () -> classData(otherCls, "Artery"));
+        cache.get(projectId, unchangedCls, ENGLISH, () -> classData(unchangedCls, "Vein"));
+        cache.invalidate(projectId, List.of(cls.getIRI(), otherCls.getIRI(), TestUtils.mockIRI()));
+        assertThat(cache.size(projectId), is(1L));
+        assertThat(cache.getIfPresent(projectId, unchangedCls, ENGLISH), is(notNullValue()));
+    }
+
+    @Test
+    public void shouldInvalidateOnlyEntityDataAffectedByChanges() {
+        OWLDataFactory dataFactory = new OWLDataFactoryImpl();
+        OWLClass otherCls = TestUtils.newOWLClass();
+        cache.get(projectId, cls, ENGLISH, () -> classData(cls, "Heart"));
+        cache.get(projectId, otherCls, ImmutableList.of(DictionaryLanguage.skosPrefLabel("en")), () -> classData(otherCls, "Artery"));
+        OWLOntology ontology = mock(OWLOntology.class);
+        OWLEntityDataChanges changes = OWLEntityDataChanges.get(List.of(
+                new AddAxiom(ontology, dataFactory.getOWLAnnotationAssertionAxiom(dataFactory.getRDFSLabel(),
+                                                                                  cls.getIRI(),
+                                                                                  dataFactory.getOWLLiteral("Cardiac organ"))),
+                new AddAxiom(ontology, dataFactory.getOWLAnnotationAssertionAxiom(dataFactory.getRDFSLabel(),
+                                                                                  otherCls.getIRI(),
+                                                                                  dataFactory.getOWLLiteral("Arteria")))));
+        cache.invalidate(projectId, changes);
+        assertThat(cache.getIfPresent(projectId, cls, ENGLISH), is(nullValue()));
+        assertThat(cache.size(projectId), is(1L));
+        cache.invalidate(TestUtils.mockProjectId(), changes);
+    }
+
+    @Test
+    public void shouldNotCacheEntityDataIfIriIsInvalidatedWhileCreatingIt() {
+        OWLEntityData stale = cache.get(projectId, cls, ENGLISH, () -> {
+            cache.invalidate(projectId, cls.getIRI());
+            return classData(cls, "Heart");
+        });
+        assertThat(stale.getBrowserText(), is("Heart"));
+        assertThat(cache.getIfPresent(projectId, cls, ENGLISH), is(nullValue()));
+        OWLEntityData renamed = cache.get(projectId, cls, ENGLISH, () -> classData(cls, "Cardiac organ"));
+        assertThat(cache.getIfPresent(projectId, cls, ENGLISH), is(sameInstance(renamed)));
+    }
+
+    @Test
+    public void shouldNotCacheEntityDataIfIriIsChangedWhileCreatingIt() {
+        OWLDataFactory dataFactory = new OWLDataFactoryImpl();
+        OWLEntityDataChanges changes = OWLEntityDataChanges.get(List.of(
+                new AddAxiom(mock(OWLOntology.class),
+                             dataFactory.getOWLAnnotationAssertionAxiom(dataFactory.getRDFSLabel(),
+                                                                        cls.getIRI(),
+                                                                        dataFactory.getOWLLiteral("Cardiac organ")))));
+        ImmutableList<DictionaryLanguage> skosEnglish = ImmutableList.of(DictionaryLanguage.skosPrefLabel("en"));
+        cache.get(projectId, cls, skosEnglish, () -> classData(cls, "Heart"));
+        cache.get(projectId, cls, ENGLISH, () -> {
+            cache.invalidate(projectId, changes);
+            return classData(cls, "Heart");
+        });
+        assertThat(cache.getIfPresent(projectId, cls, ENGLISH), is(nullValue()));
+        assertThat(cache.getIfPresent(projectId, cls, skosEnglish), is(notNullValue()));
+    }
+
+    @Test
+    public void shouldNotCacheEntityDataIfProjectIsInvalidatedWhileCreatingIt() {
+        cache.get(projectId, cls, ENGLISH, () -> {
+            cache.invalidateAll(projectId);
+            return classData(cls, "Heart");
+        });
+        assertThat(cache.getIfPresent(projectId, cls, ENGLISH), is(nullValue()));
+        assertThat(cache.size(projectId), is(0L));
+    }
+
+    @Test
+    public void shouldReplaceEntityDataOnPut() {
+        cache.put(projectId, ENGLISH, classData(cls, "Heart"));
+        OWLClassData renamed = classData(cls, "Cardiac organ");
+        cache.put(projectId, ENGLISH, renamed);
+        assertThat(cache.getIfPresent(projectId, cls, ENGLISH), is(sameInstance(renamed)));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedWhenFull() {
+        for(int i = 0; i < 4; i++) {
+            OWLClass nextCls = TestUtils.newOWLClass();
+            cache.get(projectId, nextCls, ENGLISH, () -> classData(nextCls, "Class"));
+        }
+        assertThat(cache.size(projectId), is(3L));
+        assertThat(cache.getStats().getEvictionCount(), is(1L));
+    }
+
+    @Test
+    public void shouldEvictEntityDataThatHasNotBeenAccessed() {
+        cache.get(projectId, cls, ENGLISH, () -> classData(cls, "Heart"));
+        ticker.advance(5);
+        assertThat(cache.getIfPresent(projectId, cls, ENGLISH), is(notNullValue()));
+        ticker.advance(9);
+        assertThat(cache.getIfPresent(projectId, cls, ENGLISH), is(notNullValue()));
+        ticker.advance(11);
+        cache.cleanUp();
+        assertThat(cache.getIfPresent(projectId, cls, ENGLISH), is(nullValue()));
+        assertThat(cache.size(projectId), is(0L));
+        assertThat(cache.getStats().getEvictionCount(), is(1L));
+    }
+
+    @Test
+    public void shouldInvalidateAll() {
+        cache.get(projectId, cls, ENGLISH, () -> classData(cls, "Heart"));
+        cache.invalidateAll();
+        assertThat(cache.size(projectId), is(0L));
+        assertThat(cache.getIfPresent(projectId, cls, ENGLISH), is(nullValue()));
+    }
+
+    @Test
+    public void shouldThrowIllegalStateExceptionIfSuppliedDataIsForDifferentEntity() {
+        OWLClass otherCls = TestUtils.newOWLClass();
+        assertThrows(IllegalStateException.class,
+                     () -> cache.get(projectId, cls, ENGLISH, () -> classData(otherCls, "Heart")));
+    }
+
+    @Test
+    public void shouldThrowIllegalArgumentExceptionIfMaximumSizeIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> OWLEntityDataCache.create(0, Duration.ofMinutes(1)));
+        assertThrows(IllegalArgumentException.class, () -> OWLEntityDataCache.create(1, Duration.ZERO));
+    }
+
+    @Test
+    public void shouldReportHitRate() {
+        assertThat(cache.getStats().getHitRate(), is(1.0));
+        cache.get(projectId, cls, ENGLISH, () -> classData(cls, "Heart"));
+        cache.getIfPresent(projectId, cls, ENGLISH);
+        assertThat(cache.getStats().getHitRate(), is(0.5));
+        assertThat(cache.getIfPresent(projectId, cls, ImmutableList.of()), is(nullValue()));
+        assertThat(cache.getIfPresent(projectId, new OWLClassImpl(IRI.create("http://other.com/A")), ENGLISH), is(nullValue()));
+    }
+
+    private static class FakeTicker extends Ticker {
+
+        private long nanos = 0;
+
+        private void advance(long minutes) {
+            nanos += TimeUnit.MINUTES.toNanos(minutes);
+        }
+
+        @Override
+        public long read() {
+            return nanos;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableList;
+import edu.stanford.protege.webprotege.common.AnnotationAssertionPathDictionaryLanguage;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.change.AddAxiomData;
+import org.semanticweb.owlapi.change.OWLOntologyChangeRecord;
+import org.semanticweb.owlapi.change.RemoveAxiomData;
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ */
+public class OWLEntityDataChanges_TestCase {
+
+    private static final ImmutableList<DictionaryLanguage> ENGLISH = ImmutableList.of(DictionaryLanguage.rdfsLabel("en"));
+
+    private final OWLDataFactory dataFactory = new OWLDataFactoryImpl();
+
+    private final OWLOntology ontology = mock(OWLOntology.class);
+
+    private final OWLClass cls = TestUtils.newOWLClass();
+
+    private OWLAnnotationAssertionAxiom assertion(OWLAnnotationProperty property, String value) {
+        return dataFactory.getOWLAnnotationAssertionAxiom(property, cls.getIRI(), dataFactory.getOWLLiteral(value));
+    }
+
+    private OWLAnnotationAssertionAxiom label(String value) {
+        return assertion(dataFactory.getRDFSLabel(), value);
+    }
+
+    @Test
+    public void shouldRecordSubjectsOfAddedAndRemovedAnnotationAssertions() {
+        OWLClass otherCls = TestUtils.newOWLClass();
+        var changes = OWLEntityDataChanges.get(List.of(
+                new AddAxiom(ontology, label("Heart")),
+                new RemoveAxiom(ontology, dataFactory.getOWLAnnotationAssertionAxiom(dataFactory.getRDFSLabel(),
+                                                                                     otherCls.getIRI(),
+                                                                                     dataFactory.getOWLLiteral("Old"))),
+                new AddAxiom(ontology, dataFactory.getOWLDeclarationAxiom(TestUtils.newOWLClass()))));
+        assertThat(changes.getSubjects(), containsInAnyOrder(cls.getIRI(), otherCls.getIRI()));
+    }
+
+    @Test
+    public void shouldRecordSubjectsOfChangeRecords() {
+        var changes = OWLEntityDataChanges.getFromChangeRecords(List.of(
+                new OWLOntologyChangeRecord(new OWLOntologyID(), new AddAxiomData(label("Heart"))),
+                new OWLOntologyChangeRecord(new OWLOntologyID(), new RemoveAxiomData(label("Old")))));
+        assertThat(changes.getSubjects(), contains(cls.getIRI()));
+    }
+
+    @Test
+    public void shouldBeEmptyForChangesWithoutAnnotationAssertions() {
+        var changes = OWLEntityDataChanges.get(List.of(new AddAxiom(ontology, dataFactory.getOWLDeclarationAxiom(cls))));
+        assertThat(changes.isEmpty(), is(true));
+        assertThat(changes.affects(cls.getIRI(), ENGLISH), is(false));
+    }
+
+    @Test
+    public void shouldAffectLanguagesForChangedProperties() {
+        var changes = OWLEntityDataChanges.get(List.of(new AddAxiom(ontology, label("Heart"))));
+        assertThat(changes.affects(cls.getIRI(), ENGLISH), is(true));
+        assertThat(changes.affects(cls.getIRI(), ImmutableList.of(DictionaryLanguage.skosPrefLabel("en"))), is(false));
+        assertThat(changes.affects(cls.getIRI(), ImmutableList.of(DictionaryLanguage.localName())), is(false));
+        assertThat(changes.affects(TestUtils.mockIRI(), ENGLISH), is(false));
+    }
+
+    @Test
+    public void shouldAffectLanguagesWithChangedPropertyInPath() {
+        var changes = OWLEntityDataChanges.get(List.of(new AddAxiom(ontology, label("Heart"))));
+        var path = AnnotationAssertionPathDictionaryLanguage.get(
+                ImmutableList.of(OWLRDFVocabulary.RDFS_SEE_ALSO.getIRI(), OWLRDFVocabulary.RDFS_LABEL.getIRI()), "en");
+        assertThat(changes.affects(cls.getIRI(), ImmutableList.of(path)), is(true));
+    }
+
+    @Test
+    public void shouldAffectAllLanguagesWhenDeprecationChanges() {
+        var deprecated = dataFactory.getOWLAnnotationAssertionAxiom(cls.getIRI(), dataFactory.getOWLAnnotation(
+                dataFactory.getOWLDeprecated(), dataFactory.getOWLLiteral(true)));
+        var changes = OWLEntityDataChanges.get(List.of(new AddAxiom(ontology, deprecated)));
+        assertThat(changes.affects(cls.getIRI(), ImmutableList.of(DictionaryLanguage.localName())), is(true));
+    }
+}
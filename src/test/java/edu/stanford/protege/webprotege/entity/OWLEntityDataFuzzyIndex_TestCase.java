@@ -0,0 +1,193 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ */
+public class OWLEntityDataFuzzyIndex_TestCase {
+
+    private static final String[] WORDS = {"heart", "attack", "cell", "membrane", "protein", "binding", "of",
+            "regulation", "negative", "HTTPServer", "GO:0008150", "GO:0008151"};
+
+    private static OWLEntityDataFuzzyIndex indexOf(OWLEntityData... entityData) {
+        return OWLEntityDataFuzzyIndex.create(Arrays.asList(entityData));
+    }
+
+    @Test
+    public void shouldFindEntitiesDespiteTypos() {
+        OWLClassData heartAttack = TestUtils.newOWLClassData("Heart attack");
+        OWLClassData artery = TestUtils.newOWLClassData("Artery");
+        OWLEntityDataFuzzyIndex index = indexOf(heartAttack, artery);
+        assertThat(index.search("haert atack", 2, 10), contains(heartAttack));
+        assertThat(index.search("HEART", 0, 10), contains(heartAttack));
+        assertThat(index.search("arterry", 1, 10), contains(artery));
+    }
+
+    @Test
+    public void shouldRespectMaxDistance() {
+        OWLClassData heartAttack = TestUtils.newOWLClassData("Heart attack");
+        OWLEntityDataFuzzyIndex index = indexOf(heartAttack);
+        assertThat(index.search("haert", 1, 10), is(empty()));
+        assertThat(index.search("haert", 2, 10), contains(heartAttack));
+    }
+
+    @Test
+    public void shouldAllowFewerEditsForShortWords() {
+        OWLClassData cellOfHeart = TestUtils.newOWLClassData("Cell of heart");
+        OWLEntityDataFuzzyIndex index = indexOf(cellOfHeart);
+        assertThat(index.search("on", 2, 10), is(empty()));
+        assertThat(index.search("of", 2, 10), contains(cellOfHeart));
+        assertThat(index.search("cel", 2, 10), contains(cellOfHeart));
+        assertThat(index.search("celk", 2, 10), contains(cellOfHeart));
+        assertThat(index.search("cexx", 2, 10), is(empty()));
+    }
+
+    @Test
+    public void shouldMatchWordsWithDigitsExactly() {
+        OWLClassData goTerm = TestUtils.newOWLClassData("GO:0008150");
+        OWLEntityDataFuzzyIndex index = indexOf(goTerm);
+        assertThat(index.search("0008150", 2, 10), contains(goTerm));
+        assertThat(index.search("0008151", 2, 10), is(empty()));
+    }
+
+    @Test
+    public void shouldRequireEveryQueryWord() {
+        OWLClassData heartAttack = TestUtils.newOWLClassData("Heart attack");
+        OWLClassData heart = TestUtils.newOWLClassData("Heart");
+        OWLEntityDataFuzzyIndex index = indexOf(heartAttack, heart);
+        assertThat(index.search("hart atack", 1, 10), contains(heartAttack));
+        assertThat(index.search("hart", 1, 10), contains(heart, heartAttack));
+    }
+
+    @Test
+    public void shouldSplitCamelCaseWords() {
+        OWLClassData httpServer = TestUtils.newOWLClassData("HTTPServer");
+        OWLEntityDataFuzzyIndex index = indexOf(httpServer);
+        assertThat(index.search("servr", 1, 10), contains(httpServer));
+    }
+
+    @Test
+    public void shouldMatchAnyShortForm() {
+        OWLClassData heart = OWLClassData.get(TestUtils.newOWLClass(),
+                                              ImmutableMap.of(DictionaryLanguage.rdfsLabel("en"), "Heart",
+                                                              DictionaryLanguage.rdfsLabel("de"), "Herz"));
+        OWLEntityDataFuzzyIndex index = indexOf(heart);
+        assertThat(index.search("hertz", 1, 10), contains(heart));
+        assertThat(index.search("hear", 1, 10), contains(heart));
+    }
+
+    @Test
+    public void shouldUseBrowserTextOfEntitiesWithoutShortForms() {
+        OWLClassData unlabelled = OWLClassData.get(TestUtils.newOWLClass(), ImmutableMap.of());
+        OWLEntityDataFuzzyIndex index = indexOf(unlabelled);
+        assertThat(index.getWordCount(), is(greaterThan(0)));
+        assertThat(index.search(unlabelled.getBrowserText(), 0, 10), contains(unlabelled));
+    }
+
+    @Test
+    public void shouldRankByDistanceThenLength() {
+        OWLClassData heart = TestUtils.newOWLClassData("Heart");
+        OWLClassData heat = TestUtils.newOWLClassData("Heat");
+        OWLClassData heartAttack = TestUtils.newOWLClassData("Heart attack");
+        OWLEntityDataFuzzyIndex index = indexOf(heartAttack, heat, heart);
+        assertThat(index.search("heart", 1, 10), contains(heart, heartAttack, heat));
+        assertThat(index.search("heart", 1, 2), contains(heart, heartAttack));
+    }
+
+    @Test
+    public void shouldReturnNothingForQueryWithoutWords() {
+        OWLEntityDataFuzzyIndex index = indexOf(TestUtils.newOWLClassData("Heart"));
+        assertThat(index.search(" , ", 2, 10), is(empty()));
+        assertThat(OWLEntityDataFuzzyIndex.create(List.of()).search("heart", 2, 10), is(empty()));
+    }
+
+    @Test
+    public void shouldThrowIllegalArgumentExceptionIfMaxDistanceIsNegative() {
+        OWLEntityDataFuzzyIndex index = indexOf(TestUtils.newOWLClassData("Heart"));
+        assertThrows(IllegalArgumentException.class, () -> index.search("heart", -1, 10));
+    }
+
+    @Test
+    public void shouldFindSameEntitiesAsScan() {
+        Random random = new Random(11);
+        List<OWLEntityData> entityData = new ArrayList<>();
+        for(int i = 0; i < 2000; i++) {
+            String label = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+            entityData.add(TestUtils.newOWLClassData(label));
+        }
+        OWLEntityDataFuzzyIndex index = OWLEntityDataFuzzyIndex.create(entityData);
+        for(String query : List.of("hart", "membrain", "protien bnding", "regualtion of", "servr", "0008150")) {
+            for(int maxDistance = 0; maxDistance <= 2; maxDistance++) {
+                Set<OWLEntityData> expected = new HashSet<>();
+                for(OWLEntityData data : entityData) {
+                    if(matchesByScan(query, data.getBrowserText(), maxDistance)) {
+                        expected.add(data);
+                    }
+                }
+                Set<OWLEntityData> actual = new HashSet<>(index.search(query, maxDistance, Integer.MAX_VALUE));
+                assertThat(query + " " + maxDistance, actual, is(expected));
+            }
+        }
+    }
+
+    private static boolean matchesByScan(String query, String text, int maxDistance) {
+        List<String> textWords = toWords(text);
+        for(String queryWord : toWords(query)) {
+            int wordMaxDistance = queryWord.length() <= 2 || queryWord.matches(".*[0-9].*") ? 0
+                    : queryWord.length() <= 4 ? Math.min(1, maxDistance)
+                    : maxDistance;
+            boolean found = false;
+            for(String textWord : textWords) {
+                if(levenshtein(queryWord, textWord) <= wordMaxDistance) {
+                    found = true;
+                }
+            }
+            if(!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> toWords(String text) {
+        byte[] types = new byte[text.length()];
+        int[] starts = new int[text.length()];
+        int[] ends = new int[text.length()];
+        EntityNameCharType.classify(text, types);
+        int count = EntityNameCharType.getWordStarts(text, types, starts);
+        EntityNameCharType.getWordEnds(types, text.length(), starts, count, ends);
+        List<String> words = new ArrayList<>();
+        for(int i = 0; i < count; i++) {
+            words.add(text.substring(starts[i], ends[i]).toLowerCase(Locale.ROOT));
+        }
+        return words;
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for(int i = 0; i <= a.length(); i++) {
+            d[i][0] = i;
+        }
+        for(int j = 0; j <= b.length(); j++) {
+            d[0][j] = j;
+        }
+        for(int i = 1; i <= a.length(); i++) {
+            for(int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+}
@@ -0,0 +1,198 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.OWLEntity;
+
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ */
+public class OWLEntityDataPrefixIndex_TestCase {
+
+    private static final String[] WORDS = {"heart", "Attack", "cell", "HTTP", "server", "of", "GO:0008150", "x-ray"};
+
+    private static OWLEntityDataPrefixIndex indexOf(OWLEntityData... entityData) {
+        return OWLEntityDataPrefixIndex.create(Arrays.asList(entityData));
+    }
+
+    private static boolean matchesByScan(String browserText, String prefix) {
+        String lowerCaseBrowserText = browserText.toLowerCase(Locale.ROOT);
+        for(int i = 0; i < browserText.length(); i++) {
+            if(isWordStart(browserText, i) && lowerCaseBrowserText.startsWith(prefix, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isWordStart(String text, int index) {
+        EntityNameCharType type = EntityNameCharType.getType(text, index);
+        if(!type.isWordLetter()) {
+            return false;
+        }
+        if(index == 0) {
+            return true;
+        }
+        EntityNameCharType previousType = EntityNameCharType.getType(text, index - 1);
+        if(!previousType.isWordLetter()) {
+            return true;
+        }
+        if(type != EntityNameCharType.UPPER_CASE_LETTER) {
+            return false;
+        }
+        if(previousType != EntityNameCharType.UPPER_CASE_LETTER) {
+            return true;
+        }
+        return index + 1 < text.length() && Character.isLowerCase(text.charAt(index + 1));
+    }
+
+    @Test
+    public void shouldMatchStartsOfWordsIgnoringCase() {
+        OWLClassData heartAttack = TestUtils.newOWLClassData("Heart attack");
+        OWLEntityDataPrefixIndex index = indexOf(heartAttack);
+        assertThat(index.search("hea", 10), contains(heartAttack));
+        assertThat(index.search("ATT", 10), contains(heartAttack));
+        assertThat(index.search("eart", 10), is(empty()));
+    }
+
+    @Test
+    public void shouldMatchPrefixesThatSpanWords() {
+        OWLClassData heartAttack = TestUtils.newOWLClassData("Heart attack");
+        OWLEntityDataPrefixIndex index = indexOf(heartAttack, TestUtils.newOWLClassData("Heart"));
+        assertThat(index.search("heart att", 10), contains(heartAttack));
+    }
+
+    @Test
+    public void shouldMatchCamelCaseWords() {
+        OWLClassData heartAttack = TestUtils.newOWLClassData("heartAttack");
+        OWLClassData httpServer = TestUtils.newOWLClassData("HTTPServer");
+        OWLEntityDataPrefixIndex index = indexOf(heartAttack, httpServer);
+        assertThat(index.search("attack", 10), contains(heartAttack));
+        assertThat(index.search("serv", 10), contains(httpServer));
+        assertThat(index.search("http", 10), contains(httpServer));
+        assertThat(index.search("ttp", 10), is(empty()));
+    }
+
+    @Test
+    public void shouldSplitWordsOnBoundaryCharacters() {
+        OWLClassData goTerm = TestUtils.newOWLClassData("GO:0008150");
+        OWLClassData underscored = TestUtils.newOWLClassData("heart_attack");
+        OWLEntityDataPrefixIndex index = indexOf(goTerm, underscored);
+        assertThat(index.search("0008", 10), contains(goTerm));
+        assertThat(index.search("attack", 10), contains(underscored));
+    }
+
+    @Test
+    public void shouldRankByMatchPositionThenLength() {
+        OWLClassData attackOfHeart = TestUtils.newOWLClassData("Attack of heart");
+        OWLClassData heartAttack = TestUtils.newOWLClassData("Heart attack");
+        OWLClassData attack = TestUtils.newOWLClassData("Attack");
+        OWLEntityDataPrefixIndex index = indexOf(heartAttack, attackOfHeart, attack);
+        assertThat(index.search("att", 10), contains(attack, attackOfHeart, heartAttack));
+        assertThat(index.search("att", 2), contains(attack, attackOfHeart));
+    }
+
+    @Test
+    public void shouldReturnEachEntityOnce() {
+        OWLClassData attackAttack = TestUtils.newOWLClassData("attack attack");
+        OWLEntityDataPrefixIndex index = indexOf(attackAttack);
+        assertThat(index.search("att", 10), contains(attackAttack));
+    }
+
+    @Test
+    public void shouldFillLimitWhenEntitiesMatchAtSeveralWords() {
+        OWLClassData attackAttack = TestUtils.newOWLClassData("attack attack");
+        OWLClassData late = TestUtils.newOWLClassData("xxxxxxxx attack");
+        OWLEntityDataPrefixIndex index = indexOf(attackAttack, late);
+        assertThat(index.search("att", 2), contains(attackAttack, late));
+    }
+
+    @Test
+    public void shouldAddAndRemoveIncrementally() {
+        OWLClassData heart = TestUtils.newOWLClassData("Heart");
+        OWLClassData artery = TestUtils.newOWLClassData("Artery");
+        OWLEntityDataPrefixIndex index = indexOf(heart);
+        index.add(artery);
+        assertThat(index.size(), is(2));
+        assertThat(index.search("art", 10), contains(artery));
+        assertThat(index.remove(artery.getEntity()), is(true));
+        assertThat(index.remove(artery.getEntity()), is(false));
+        assertThat(index.search("art", 10), is(empty()));
+        assertThat(index.remove(heart.getEntity()), is(true));
+        assertThat(index.search("hea", 10), is(empty()));
+        assertThat(index.size(), is(0));
+    }
+
+    @Test
+    public void shouldReplaceEntityDataForSameEntity() {
+        OWLClassData heart = TestUtils.newOWLClassData("Heart");
+        OWLEntityDataPrefixIndex index = indexOf(heart);
+        OWLClassData renamed = OWLClassData.get(heart.getEntity(),
+                                                ImmutableMap.of(DictionaryLanguage.rdfsLabel("en"), "Cardiac organ"));
+        index.add(renamed);
+        assertThat(index.size(), is(1));
+        assertThat(index.search("hea", 10), is(empty()));
+        assertThat(index.search("org", 10), contains(renamed));
+    }
+
+    @Test
+    public void shouldReturnNothingForEmptyPrefixOrZeroLimit() {
+        OWLEntityDataPrefixIndex index = indexOf(TestUtils.newOWLClassData("Heart"));
+        assertThat(index.search("", 10), is(empty()));
+        assertThat(index.search("h", 0), is(empty()));
+    }
+
+    @Test
+    public void shouldThrowIllegalArgumentExceptionIfLimitIsNegative() {
+        OWLEntityDataPrefixIndex index = OWLEntityDataPrefixIndex.create();
+        assertThrows(IllegalArgumentException.class, () -> index.search("h", -1));
+    }
+
+    @Test
+    public void shouldFindSameEntitiesAsScanAfterManyUpdates() {
+        Random random = new Random(7);
+        OWLEntityDataPrefixIndex index = OWLEntityDataPrefixIndex.create();
+        Map<OWLEntity, OWLEntityData> expected = new LinkedHashMap<>();
+        List<OWLEntity> entities = new ArrayList<>();
+        // Enough updates to cause several rebuilds
+        for(int i = 0; i < 6000; i++) {
+            if(!entities.isEmpty() && random.nextInt(4) == 0) {
+                OWLEntity entity = entities.get(random.nextInt(entities.size()));
+                assertThat(index.remove(entity), is(expected.remove(entity) != null));
+            }
+            else {
+                String label = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + i;
+                OWLEntity entity = !entities.isEmpty() && random.nextInt(5) == 0
+                        ? entities.get(random.nextInt(entities.size()))
+                        : TestUtils.newOWLClass();
+                OWLClassData data = OWLClassData.get(entity.asOWLClass(),
+                                                     ImmutableMap.of(DictionaryLanguage.rdfsLabel("en"), label));
+                index.add(data);
+                expected.put(entity, data);
+                entities.add(entity);
+            }
+        }
+        assertThat(index.size(), is(expected.size()));
+        for(String prefix : List.of("hea", "attack", "serv", "http", "x-r", "of cell", "0008", "server1")) {
+            List<OWLEntityData> allMatches = index.search(prefix, Integer.MAX_VALUE);
+            assertThat(index.search(prefix, 5), is(allMatches.subList(0, Math.min(5, allMatches.size()))));
+            Set<OWLEntityData> matches = new HashSet<>(allMatches);
+            Set<OWLEntityData> scanned = new HashSet<>();
+            for(OWLEntityData data : expected.values()) {
+                if(matchesByScan(data.getBrowserText(), prefix)) {
+                    scanned.add(data);
+                }
+            }
+            assertThat(prefix, matches, is(scanned));
+        }
+    }
+}
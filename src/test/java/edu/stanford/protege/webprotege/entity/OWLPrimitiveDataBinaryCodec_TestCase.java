@@ -0,0 +1,173 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import edu.stanford.protege.webprotege.common.*;
+import edu.stanford.protege.webprotege.jackson.WebProtegeJacksonApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.context.annotation.Import;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ */
+@JsonTest
+@Import({WebProtegeJacksonApplication.class, WebProtegeCommonConfiguration.class})
+public class OWLPrimitiveDataBinaryCodec_TestCase {
+
+    private static final TypeReference<List<OWLPrimitiveData>> PRIMITIVE_DATA_LIST = new TypeReference<>() {};
+
+    private static final List<String> NAMESPACES = List.of("http://purl.obolibrary.org/obo/",
+                                                           "http://www.ebi.ac.uk/efo/",
+                                                           "http://example.org/ontology#",
+                                                           "urn:uuid:");
+
+    private final OWLDataFactory dataFactory = new OWLDataFactoryImpl();
+
+    private final OWLPrimitiveDataBinaryCodec codec = OWLPrimitiveDataBinaryCodec.get();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private List<OWLPrimitiveData> data;
+
+    @BeforeEach
+    public void setUp() {
+        data = createData(new Random(5), 1000);
+    }
+
+    private List<OWLPrimitiveData> createData(Random random, int size) {
+        var data = new ArrayList<OWLPrimitiveData>();
+        var types = PrimitiveType.values();
+        for(int i = 0; i < size; i++) {
+            var type = types[random.nextInt(types.length)];
+            var iri = IRI.create(NAMESPACES.get(random.nextInt(NAMESPACES.size())) + (random.nextInt(10) == 0 ? "" : "E_" + i + "é"));
+            var deprecated = random.nextInt(5) == 0;
+            var shortForms = createShortForms(random, i);
+            switch(type) {
+                case CLASS -> data.add(OWLClassData.get(dataFactory.getOWLClass(iri), shortForms, deprecated));
+                case OBJECT_PROPERTY -> data.add(OWLObjectPropertyData.get(dataFactory.getOWLObjectProperty(iri), shortForms, deprecated));
+                case DATA_PROPERTY -> data.add(OWLDataPropertyData.get(dataFactory.getOWLDataProperty(iri), shortForms, deprecated));
+                case ANNOTATION_PROPERTY -> data.add(OWLAnnotationPropertyData.get(dataFactory.getOWLAnnotationProperty(iri), shortForms, deprecated));
+                case NAMED_INDIVIDUAL -> data.add(OWLNamedIndividualData.get(dataFactory.getOWLNamedIndividual(iri), shortForms, deprecated));
+                case DATA_TYPE -> data.add(OWLDatatypeData.get(dataFactory.getOWLDatatype(iri), shortForms, deprecated));
+                case IRI -> data.add(IRIData.get(iri, shortForms, deprecated));
+                case LITERAL -> {
+                    switch(random.nextInt(4)) {
+                        case 0 -> data.add(OWLLiteralData.get(dataFactory.getOWLLiteral("Literal " + i, "en-gb")));
+                        case 1 -> data.add(OWLLiteralData.get(dataFactory.getOWLLiteral("")));
+                        case 2 -> data.add(OWLLiteralData.get(dataFactory.getOWLLiteral(random.nextDouble())));
+                        default -> data.add(OWLLiteralData.get(dataFactory.getOWLLiteral("Literal 中 " + i, OWL2Datatype.RDF_PLAIN_LITERAL)));
+                    }
+                }
+            }
+        }
+        return data;
+    }
+
+    private static ImmutableList<ShortForm> createShortForms(Random random, int i) {
+        var languages = List.of(DictionaryLanguage.rdfsLabel("en"),
+                                DictionaryLanguage.rdfsLabel(""),
+                                DictionaryLanguage.skosPrefLabel("de"),
+                                DictionaryLanguage.localName(),
+                                DictionaryLanguage.oboId(),
+                                DictionaryLanguage.prefixedName(),
+                                AnnotationAssertionPathDictionaryLanguage.get(ImmutableList.of(IRI.create("http://example.org/p"),
+                                                                                               IRI.create("http://example.org/q")),
+                                                                              "fr"));
+        var shortForms = ImmutableList.<ShortForm>builder();
+        var count = random.nextInt(4);
+        for(int j = 0; j < count; j++) {
+            shortForms.add(ShortForm.get(languages.get(random.nextInt(languages.size())), "Short form " + i + "." + j));
+        }
+        return shortForms.build();
+    }
+
+    @Test
+    public void shouldRoundTrip() throws IOException {
+        var decoded = codec.decode(codec.encode(data));
+        assertThat(decoded, is(data));
+    }
+
+    @Test
+    public void shouldDecodeToSameDataAsJson() throws IOException {
+        var json = objectMapper.writerFor(PRIMITIVE_DATA_LIST).writeValueAsBytes(data);
+        List<OWLPrimitiveData> fromJson = objectMapper.readValue(json, PRIMITIVE_DATA_LIST);
+        var fromBinary = codec.decode(codec.encode(fromJson));
+        assertThat(fromBinary, is(fromJson));
+        assertThat(objectMapper.writerFor(PRIMITIVE_DATA_LIST).writeValueAsBytes(fromBinary), is(json));
+    }
+
+    @Test
+    public void shouldBeSmallerThanJson() throws IOException {
+        var json = objectMapper.writerFor(PRIMITIVE_DATA_LIST).writeValueAsBytes(data);
+        var binary = codec.encode(data);
+        assertThat(binary.length, is(lessThan(json.length / 3)));
+    }
+
+    @Test
+    public void shouldRoundTripEmptyList() throws IOException {
+        assertThat(codec.decode(codec.encode(List.of())), is(empty()));
+    }
+
+    @Test
+    public void shouldRoundTripThroughStreams() throws IOException {
+        var outputStream = new ByteArrayOutputStream();
+        codec.encode(data, outputStream);
+        var decoded = codec.decode(new ByteArrayInputStream(outputStream.toByteArray()));
+        assertThat(decoded, is(data));
+    }
+
+    @Test
+    public void shouldEncodeRepeatedNamespaceOnce() {
+        var cls = OWLClassData.get(dataFactory.getOWLClass(IRI.create("http://purl.obolibrary.org/obo/GO_0000001")), ImmutableList.of(), false);
+        var other = OWLClassData.get(dataFactory.getOWLClass(IRI.create("http://purl.obolibrary.org/obo/GO_0000002")), ImmutableList.of(), false);
+        var single = codec.encode(List.of(cls));
+        var pair = codec.encode(List.of(cls, other));
+        // Tag, namespace reference and length prefixed remainder
+        assertThat(pair.length - single.length, is(1 + 1 + 1 + "GO_0000002".length()));
+    }
+
+    @Test
+    public void shouldThrowEOFExceptionForTruncatedMessage() {
+        var encoded = codec.encode(data);
+        var truncated = Arrays.copyOf(encoded, encoded.length / 2);
+        assertThrows(EOFException.class, () -> codec.decode(truncated));
+    }
+
+    @Test
+    public void shouldThrowIOExceptionForUnknownVersion() {
+        var encoded = codec.encode(data);
+        encoded[0] = 99;
+        assertThrows(IOException.class, () -> codec.decode(encoded));
+    }
+
+    @Test
+    public void shouldThrowIOExceptionForTrailingData() {
+        var encoded = codec.encode(data);
+        var padded = Arrays.copyOf(encoded, encoded.length + 1);
+        assertThrows(IOException.class, () -> codec.decode(padded));
+    }
+}
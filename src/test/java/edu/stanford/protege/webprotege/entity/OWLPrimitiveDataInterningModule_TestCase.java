@@ -0,0 +1,204 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.stanford.protege.webprotege.common.WebProtegeCommonConfiguration;
+import edu.stanford.protege.webprotege.jackson.WebProtegeJacksonApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.EntityType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ */
+@JsonTest
+@Import({WebProtegeJacksonApplication.class, WebProtegeCommonConfiguration.class})
+public class OWLPrimitiveDataInterningModule_TestCase {
+
+    private static final String JSON = """
+            [
+                { "@type" : "ClassData", "iri" : "http://example.org/A", "shortForms" : [ { "dictionaryLanguage" : { "type" : "LocalName" }, "shortForm" : "A" } ] },
+                { "@type" : "ClassData", "iri" : "http://example.org/A" },
+                { "@type" : "NamedIndividualData", "iri" : "http://example.org/A" },
+                { "@type" : "IRIData", "iri" : "http://example.org/A" },
+                { "@type" : "LiteralData", "value" : "A" }
+            ]
+            """;
+
+    private static final TypeReference<List<OWLPrimitiveData>> LIST_TYPE = new TypeReference<>() {};
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private OWLEntityInterningPool pool;
+
+    private ObjectMapper interningObjectMapper;
+
+    @BeforeEach
+    public void setUp() {
+        pool = OWLEntityInterningPool.create();
+        interningObjectMapper = objectMapper.copy().registerModule(new OWLPrimitiveDataInterningModule(pool));
+    }
+
+    @Test
+    public void shouldShareEntitiesAndIrisBetweenDeserializedData() throws IOException {
+        List<OWLPrimitiveData> data = interningObjectMapper.readValue(JSON, LIST_TYPE);
+        var first = (OWLClassData) data.get(0);
+        var second = (OWLClassData) data.get(1);
+        var individual = (OWLNamedIndividualData) data.get(2);
+        var iriData = (IRIData) data.get(3);
+        assertThat(second.getEntity(), is(sameInstance(first.getEntity())));
+        assertThat(individual.getEntity().getIRI(), is(sameInstance(first.getEntity().getIRI())));
+        assertThat(iriData.getIri(), is(sameInstance(first.getEntity().getIRI())));
+    }
+
+    @Test
+    public void shouldDeserializeEqualData() throws IOException {
+        List<OWLPrimitiveData> expected = objectMapper.readValue(JSON, LIST_TYPE);
+        List<OWLPrimitiveData> actual = interningObjectMapper.readValue(JSON, LIST_TYPE);
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    public void shouldInternWhenDeserializingConcreteType() throws IOException {
+        var json = "{ \"@type\" : \"ClassData\", \"iri\" : \"http://example.org/A\" }";
+        var first = interningObjectMapper.readValue(json, OWLClassData.class);
+        var second = interningObjectMapper.readValue(json, OWLClassData.class);
+        assertThat(second.getEntity(), is(sameInstance(first.getEntity())));
+    }
+
+    @Test
+    public void shouldRecordStats() throws IOException {
+        interningObjectMapper.readValue(JSON, LIST_TYPE);
+        var stats = pool.getStats();
+        assertThat(stats.getEntityHitCount(), is(1L));
+        assertThat(stats.getEntityMissCount(), is(2L));
+        assertThat(stats.getIriHitCount(), is(3L));
+        assertThat(stats.getIriMissCount(), is(1L));
+        assertThat(stats.getEstimatedBytesSaved(), is(greaterThan(0L)));
+        assertThat(stats.getHitRate(), is(closeTo(4.0 / 7, 0.0001)));
+    }
+
+    @Test
+    public void shouldUsePoolFromContextAttribute() throws IOException {
+        var otherPool = OWLEntityInterningPool.create();
+        interningObjectMapper.readerFor(LIST_TYPE)
+                             .withAttribute(OWLPrimitiveDataInterningModule.POOL_ATTRIBUTE, otherPool)
+                             .readValue(JSON);
+        assertThat(otherPool.getStats().getEntityHitCount(), is(1L));
+        assertThat(pool.getStats().getEntityHitCount(), is(0L));
+    }
+
+    @Test
+    public void shouldGetCanonicalEntityFromPool() {
+        var cls = pool.getEntity(EntityType.CLASS, "http://example.org/B");
+        assertThat(pool.getEntity(EntityType.CLASS, IRI.create("http://example.org/B")), is(sameInstance(cls)));
+        assertThat(pool.getIri("http://example.org/B"), is(sameInstance(cls.getIRI())));
+    }
+
+    @Test
+    public void shouldGetSameCanonicalEntityFromConcurrentThreads() throws Exception {
+        int threads = 4;
+        int size = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<List<OWLClass>> results = new ArrayList<>();
+        try {
+            var futures = new ArrayList<Future<List<OWLClass>>>();
+            for(int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    List<OWLClass> classes = new ArrayList<>();
+                    for(int i = 0; i < size; i++) {
+                        classes.add(pool.getEntity(EntityType.CLASS, "http://example.org/C" + i));
+                    }
+                    return classes;
+                }));
+            }
+            for(var future : futures) {
+                results.add(future.get());
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+        for(int i = 0; i < size; i++) {
+            for(List<OWLClass> classes : results) {
+                assertThat(classes.get(i), is(sameInstance(results.get(0).get(i))));
+                assertThat(classes.get(i).getIRI(), is(sameInstance(pool.getIri("http://example.org/C" + i))));
+            }
+        }
+        assertThat(pool.getStats().getEntityMissCount(), is((long) size));
+        assertThat(pool.getStats().getIriMissCount(), is((long) size));
+    }
+
+    @Test
+    public void shouldNotShareEntitiesOfDifferentTypes() {
+        var cls = pool.getEntity(EntityType.CLASS, "http://example.org/B");
+        var property = pool.getEntity(EntityType.OBJECT_PROPERTY, "http://example.org/B");
+        assertThat(property.isOWLObjectProperty(), is(true));
+        assertThat(cls.isOWLClass(), is(true));
+    }
+
+    @Test
+    public void shouldInternShortFormsUpToMaximumLength() throws IOException {
+        var shortFormPool = OWLEntityInterningPool.create(100, 5);
+        var json = """
+                [
+                    { "@type" : "ClassData", "iri" : "http://example.org/A", "shortForms" : [ { "dictionaryLanguage" : { "type" : "LocalName" }, "shortForm" : "cell" }, { "dictionaryLanguage" : { "type" : "LocalName" }, "shortForm" : "mitochondrion" } ] },
+                    { "@type" : "ClassData", "iri" : "http://example.org/B", "shortForms" : [ { "dictionaryLanguage" : { "type" : "LocalName" }, "shortForm" : "cell" } ] },
+                    { "@type" : "ClassData", "iri" : "http://example.org/C", "shortForms" : [ { "dictionaryLanguage" : { "type" : "LocalName" }, "shortForm" : "mitochondrion" } ] }
+                ]
+                """;
+        List<OWLPrimitiveData> data = objectMapper.copy()
+                                                  .registerModule(new OWLPrimitiveDataInterningModule(shortFormPool))
+                                                  .readValue(json, LIST_TYPE);
+        var first = ((OWLClassData) data.get(0)).getCompactShortForms();
+        var second = ((OWLClassData) data.get(1)).getCompactShortForms();
+        var third = ((OWLClassData) data.get(2)).getCompactShortForms();
+        assertThat(second.getShortForm(0), is(sameInstance(first.getShortForm(0))));
+        assertThat(third.getShortForm(0), is(not(sameInstance(first.getShortForm(1)))));
+        var stats = shortFormPool.getStats();
+        assertThat(stats.getShortFormHitCount(), is(1L));
+        assertThat(stats.getShortFormMissCount(), is(1L));
+    }
+
+    @Test
+    public void shouldNotRetainShortFormsThatAreNoLongerReferenced() {
+        var shortFormPool = OWLEntityInterningPool.create(100, 5);
+        var reference = new WeakReference<>(shortFormPool.internShortForm(new String("cell")));
+        for(int i = 0; i < 10 && reference.get() != null; i++) {
+            System.gc();
+        }
+        assertThat(reference.get(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldNotInternShortFormsByDefault() throws IOException {
+        interningObjectMapper.readValue(JSON, LIST_TYPE);
+        assertThat(pool.internShortForm("A"), is("A"));
+        assertThat(pool.getStats().getShortFormMissCount(), is(0L));
+    }
+
+    @Test
+    public void shouldThrowIllegalArgumentExceptionIfMaximumShortFormLengthIsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> OWLEntityInterningPool.create(1, -1));
+    }
+}
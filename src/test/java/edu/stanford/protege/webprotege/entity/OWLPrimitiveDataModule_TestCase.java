@@ -0,0 +1,250 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import edu.stanford.protege.webprotege.common.*;
+import edu.stanford.protege.webprotege.jackson.WebProtegeJacksonApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.context.annotation.Import;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ */
+@JsonTest
+@Import({WebProtegeJacksonApplication.class, WebProtegeCommonConfiguration.class})
+public class OWLPrimitiveDataModule_TestCase {
+
+    private static final TypeReference<List<OWLPrimitiveData>> PRIMITIVE_DATA_LIST = new TypeReference<>() {};
+
+    private static final TypeReference<List<OWLEntityData>> ENTITY_DATA_LIST = new TypeReference<>() {};
+
+    private final OWLDataFactory dataFactory = new OWLDataFactoryImpl();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ObjectMapper moduleObjectMapper;
+
+    private List<OWLPrimitiveData> data;
+
+    @BeforeEach
+    public void setUp() {
+        moduleObjectMapper = objectMapper.copy().registerModule(new OWLPrimitiveDataModule());
+        data = createData(new Random(23), 500);
+    }
+
+    private List<OWLPrimitiveData> createData(Random random, int size) {
+        var data = new ArrayList<OWLPrimitiveData>();
+        var types = PrimitiveType.values();
+        for(int i = 0; i < size; i++) {
+            var type = types[i % types.length];
+            var iri = IRI.create("http://example.org/ontology#", "Entity\"" + i + (random.nextBoolean() ? "é" : ""));
+            var shortForms = createShortForms(random, i);
+            var deprecated = random.nextBoolean();
+            switch(type) {
+                case CLASS -> data.add(OWLClassData.get(dataFactory.getOWLClass(iri), shortForms, deprecated));
+                case OBJECT_PROPERTY -> data.add(OWLObjectPropertyData.get(dataFactory.getOWLObjectProperty(iri), shortForms, deprecated));
+                case DATA_PROPERTY -> data.add(OWLDataPropertyData.get(dataFactory.getOWLDataProperty(iri), shortForms, deprecated));
+                case ANNOTATION_PROPERTY -> data.add(OWLAnnotationPropertyData.get(dataFactory.getOWLAnnotationProperty(iri), shortForms, deprecated));
+                case NAMED_INDIVIDUAL -> data.add(OWLNamedIndividualData.get(dataFactory.getOWLNamedIndividual(iri), shortForms, deprecated));
+                case DATA_TYPE -> data.add(OWLDatatypeData.get(dataFactory.getOWLDatatype(iri), shortForms, deprecated));
+                case IRI -> data.add(IRIData.get(iri, shortForms, deprecated));
+                case LITERAL -> {
+                    switch(random.nextInt(4)) {
+                        case 0 -> data.add(OWLLiteralData.get(dataFactory.getOWLLiteral("Literal " + i, "en")));
+                        case 1 -> data.add(OWLLiteralData.get(dataFactory.getOWLLiteral("Literal\n" + i)));
+                        case 2 -> data.add(OWLLiteralData.get(dataFactory.getOWLLiteral(i)));
+                        default -> data.add(OWLLiteralData.get(dataFactory.getOWLLiteral("Literal " + i, OWL2Datatype.RDF_PLAIN_LITERAL)));
+                    }
+                }
+            }
+        }
+        return data;
+    }
+
+    private static ImmutableList<ShortForm> createShortForms(Random random, int i) {
+        var languages = List.of(DictionaryLanguage.rdfsLabel("en"),
+                                DictionaryLanguage.rdfsLabel(""),
+                                DictionaryLanguage.skosPrefLabel("de"),
+                                DictionaryLanguage.localName(),
+                                DictionaryLanguage.oboId(),
+                                DictionaryLanguage.prefixedName(),
+                                AnnotationAssertionPathDictionaryLanguage.get(ImmutableList.of(IRI.create("http://example.org/p"),
+                                                                                               IRI.create("http://example.org/q")),
+                                                                              "fr"));
+        var shortForms = ImmutableList.<ShortForm>builder();
+        var count = random.nextInt(4);
+        for(int j = 0; j < count; j++) {
+            shortForms.add(ShortForm.get(languages.get(random.nextInt(languages.size())), "Short form " + i + "." + j));
+        }
+        return shortForms.build();
+    }
+
+    @Test
+    public void shouldSerializeIdenticallyAsPrimitiveData() throws IOException {
+        var writer = objectMapper.writerFor(OWLPrimitiveData.class);
+        var moduleWriter = moduleObjectMapper.writerFor(OWLPrimitiveData.class);
+        for(var d : data) {
+            assertThat(moduleWriter.writeValueAsString(d), is(writer.writeValueAsString(d)));
+        }
+    }
+
+    @Test
+    public void shouldSerializeShortFormsInSameWayAsShortFormList() throws IOException {
+        for(var d : data) {
+            var shortForms = objectMapper.readTree(objectMapper.writeValueAsString(d)).get("shortForms");
+            if(d.getShortForms().isEmpty()) {
+                assertThat(shortForms, is(nullValue()));
+            }
+            else {
+                assertThat(shortForms, is(objectMapper.readTree(objectMapper.writeValueAsString(d.getShortForms()))));
+            }
+        }
+    }
+
+    @Test
+    public void shouldSerializeIdenticallyAsConcreteType() throws IOException {
+        for(var d : data) {
+            assertThat(moduleObjectMapper.writeValueAsString(d), is(objectMapper.writeValueAsString(d)));
+        }
+    }
+
+    @Test
+    public void shouldSerializeIdenticallyInList() throws IOException {
+        var expected = objectMapper.writerFor(PRIMITIVE_DATA_LIST).writeValueAsString(data);
+        var actual = moduleObjectMapper.writerFor(PRIMITIVE_DATA_LIST).writeValueAsString(data);
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    public void shouldSerializeIdenticallyWithPrettyPrinter() throws IOException {
+        var expected = objectMapper.writerFor(PRIMITIVE_DATA_LIST).withDefaultPrettyPrinter().writeValueAsString(data);
+        var actual = moduleObjectMapper.writerFor(PRIMITIVE_DATA_LIST).withDefaultPrettyPrinter().writeValueAsString(data);
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    public void shouldSerializeCommentedEntityDataIdentically() throws IOException {
+        var entityData = (OWLEntityData) data.get(0);
+        var commentedEntityData = new CommentedEntityData(entityData, 1, 2, 3, 4L, UserId.valueOf("u"), List.of(UserId.valueOf("u")));
+        assertThat(moduleObjectMapper.writeValueAsString(commentedEntityData),
+                   is(objectMapper.writeValueAsString(commentedEntityData)));
+    }
+
+    @Test
+    public void shouldDeserializeToEqualData() throws IOException {
+        var json = objectMapper.writerFor(PRIMITIVE_DATA_LIST).writeValueAsString(data);
+        List<OWLPrimitiveData> expected = objectMapper.readValue(json, PRIMITIVE_DATA_LIST);
+        List<OWLPrimitiveData> actual = moduleObjectMapper.readValue(json, PRIMITIVE_DATA_LIST);
+        assertThat(actual, is(expected));
+        assertThat(actual, is(data));
+    }
+
+    @Test
+    public void shouldDeserializeEntityDataList() throws IOException {
+        var entityData = data.stream().filter(d -> d instanceof OWLEntityData).map(d -> (OWLEntityData) d).toList();
+        var json = objectMapper.writerFor(ENTITY_DATA_LIST).writeValueAsString(entityData);
+        List<OWLEntityData> actual = moduleObjectMapper.readValue(json, ENTITY_DATA_LIST);
+        assertThat(actual, is(entityData));
+    }
+
+    @Test
+    public void shouldDeserializeConcreteType() throws IOException {
+        var json = """
+                { "@type" : "ClassData", "iri" : "http://example.org/A", "deprecated" : true }
+                """;
+        var cls = moduleObjectMapper.readValue(json, OWLClassData.class);
+        assertThat(cls, is(objectMapper.readValue(json, OWLClassData.class)));
+    }
+
+    @Test
+    public void shouldDeserializeWhenTypeIsNotFirstProperty() throws IOException {
+        var json = """
+                { "iri" : "http://example.org/A", "shortForms" : [ { "dictionaryLanguage" : { "type" : "LocalName" }, "shortForm" : "A" } ], "@type" : "ObjectPropertyData" }
+                """;
+        var actual = moduleObjectMapper.readValue(json, OWLPrimitiveData.class);
+        assertThat(actual, is(objectMapper.readValue(json, OWLPrimitiveData.class)));
+    }
+
+    @Test
+    public void shouldDeserializeNullShortFormsAsEmpty() throws IOException {
+        var json = """
+                { "@type" : "IRIData", "iri" : "http://example.org/A", "shortForms" : null }
+                """;
+        var actual = moduleObjectMapper.readValue(json, OWLPrimitiveData.class);
+        assertThat(actual.getShortForms(), is(empty()));
+    }
+
+    @Test
+    public void shouldDeserializeLiteralWithoutLangOrDatatype() throws IOException {
+        var json = """
+                { "@type" : "LiteralData", "value" : "x" }
+                """;
+        var actual = moduleObjectMapper.readValue(json, OWLPrimitiveData.class);
+        assertThat(actual, is(objectMapper.readValue(json, OWLPrimitiveData.class)));
+    }
+
+    @Test
+    public void shouldIgnoreUnknownPropertiesWhenConfigured() throws IOException {
+        var json = """
+                { "@type" : "ClassData", "iri" : "http://example.org/A", "extra" : { "a" : [ 1, 2 ] },
+                  "shortForms" : [ { "dictionaryLanguage" : { "type" : "LocalName" }, "shortForm" : "A", "more" : 1 } ] }
+                """;
+        var actual = moduleObjectMapper.copy()
+                                       .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                                       .readValue(json, OWLPrimitiveData.class);
+        assertThat(actual.getBrowserText(), is("A"));
+    }
+
+    @Test
+    public void shouldFailOnUnknownPropertiesWhenConfigured() {
+        var json = """
+                { "@type" : "ClassData", "iri" : "http://example.org/A", "extra" : 1 }
+                """;
+        var mapper = moduleObjectMapper.copy().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+        assertThrows(JsonMappingException.class, () -> mapper.readValue(json, OWLPrimitiveData.class));
+    }
+
+    @Test
+    public void shouldFailOnMissingIri() {
+        var json = """
+                { "@type" : "ClassData" }
+                """;
+        assertThrows(JsonMappingException.class, () -> moduleObjectMapper.readValue(json, OWLPrimitiveData.class));
+    }
+
+    @Test
+    public void shouldCombineWithInterningModule() throws IOException {
+        var pool = OWLEntityInterningPool.create();
+        var mapper = moduleObjectMapper.copy().registerModule(new OWLPrimitiveDataInterningModule(pool));
+        var json = """
+                [ { "@type" : "ClassData", "iri" : "http://example.org/A" }, { "@type" : "ClassData", "iri" : "http://example.org/A" } ]
+                """;
+        List<OWLPrimitiveData> actual = mapper.readValue(json, PRIMITIVE_DATA_LIST);
+        var first = (OWLClassData) actual.get(0);
+        var second = (OWLClassData) actual.get(1);
+        assertThat(second.getEntity(), is(sameInstance(first.getEntity())));
+        assertThat(pool.getStats().getEntityHitCount(), is(1L));
+    }
+}
@@ -0,0 +1,181 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.semanticweb.owlapi.model.IRI;
+import uk.ac.manchester.cs.owl.owlapi.OWLClassImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLLiteralImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLNamedIndividualImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLObjectPropertyImpl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ */
+public class OWLPrimitiveDataSnapshot_TestCase {
+
+    private static final IRI HEART = IRI.create("http://example.org/Heart");
+
+    private final DictionaryLanguage english = DictionaryLanguage.rdfsLabel("en");
+
+    @TempDir
+    Path directory;
+
+    private final List<OWLPrimitiveData> data = List.of(
+            OWLClassData.get(new OWLClassImpl(HEART), ImmutableMap.of(english, "heart")),
+            OWLObjectPropertyData.get(new OWLObjectPropertyImpl(IRI.create("http://example.org/partOf")), ImmutableMap.of(english, "part of"), true),
+            OWLLiteralData.get(new OWLLiteralImpl("heart", "en", null)),
+            IRIData.get(IRI.create("http://example.org/image.png"), ImmutableMap.of()),
+            OWLNamedIndividualData.get(new OWLNamedIndividualImpl(HEART), ImmutableMap.of(english, "my heart")));
+
+    private Path write(List<OWLPrimitiveData> data) throws IOException {
+        Path path = directory.resolve("snapshot.bin");
+        OWLPrimitiveDataSnapshot.write(data, path);
+        return path;
+    }
+
+    @Test
+    public void shouldGetRecordsByOrdinal() throws IOException {
+        var snapshot = OWLPrimitiveDataSnapshot.open(write(data));
+        assertThat(snapshot.size(), is(data.size()));
+        List<OWLPrimitiveData> records = new ArrayList<>();
+        for(int i = 0; i < snapshot.size(); i++) {
+            records.add(snapshot.get(i));
+        }
+        assertThat(records, is(data));
+    }
+
+    @Test
+    public void shouldGetRecordsByIri() throws IOException {
+        var snapshot = OWLPrimitiveDataSnapshot.open(write(data));
+        assertThat(snapshot.getByIri(HEART), contains(data.get(0), data.get(4)));
+        assertThat(snapshot.getByIri(IRI.create("http://example.org/image.png")), contains(data.get(3)));
+        assertThat(snapshot.getByIri(IRI.create("http://example.org/Missing")), is(empty()));
+    }
+
+    @Test
+    public void shouldGetManyRecordsByIri() throws IOException {
+        List<OWLPrimitiveData> many = new ArrayList<>();
+        for(int i = 0; i < 5000; i++) {
+            many.add(OWLClassData.get(new OWLClassImpl(IRI.create("http://example.org/C" + i)), ImmutableMap.of(english, "c " + i)));
+        }
+        var snapshot = OWLPrimitiveDataSnapshot.open(write(many));
+        for(int i = 0; i < many.size(); i += 7) {
+            assertThat(snapshot.getByIri(IRI.create("http://example.org/C" + i)), contains(many.get(i)));
+        }
+    }
+
+    @Test
+    public void shouldOpenEmptySnapshot() throws IOException {
+        var snapshot = OWLPrimitiveDataSnapshot.open(write(List.of()));
+        assertThat(snapshot.isEmpty(), is(true));
+        assertThat(snapshot.getByIri(HEART), is(empty()));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(0));
+    }
+
+    @Test
+    public void shouldThrowIOExceptionIfFileIsNotSnapshot() throws IOException {
+        Path path = directory.resolve("other.bin");
+        Files.write(path, new byte[64]);
+        assertThrows(IOException.class, () -> OWLPrimitiveDataSnapshot.open(path));
+        Files.write(path, new byte[3]);
+        assertThrows(IOException.class, () -> OWLPrimitiveDataSnapshot.open(path));
+    }
+
+    @Test
+    public void shouldThrowIOExceptionForUnsupportedVersion() throws IOException {
+        Path path = write(data);
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(4, OWLPrimitiveDataSnapshot.FORMAT_VERSION + 1);
+        Files.write(path, bytes);
+        assertThrows(IOException.class, () -> OWLPrimitiveDataSnapshot.open(path));
+    }
+
+    @Test
+    public void shouldThrowIOExceptionForTruncatedFile() throws IOException {
+        Path path = write(data);
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> OWLPrimitiveDataSnapshot.open(path));
+    }
+
+    @Test
+    public void shouldThrowIllegalStateExceptionIfWriterIsClosed() throws IOException {
+        var writer = OWLPrimitiveDataSnapshot.writer(directory.resolve("closed.bin"));
+        writer.close();
+        writer.close();
+        assertThrows(IllegalStateException.class, () -> writer.add(data.get(0)));
+    }
+
+    @Test
+    public void shouldLeaveExistingSnapshotUnchangedIfWriteFails() throws IOException {
+        Path path = write(data);
+        var mapped = OWLPrimitiveDataSnapshot.open(path);
+        Iterable<OWLPrimitiveData> failing = () -> new Iterator<>() {
+
+            private int count = 0;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public OWLPrimitiveData next() {
+                if(count++ == 2) {
+                    throw new IllegalStateException("Rendering failed");
+                }
+                return data.get(0);
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> OWLPrimitiveDataSnapshot.write(failing, path));
+        assertThat(OWLPrimitiveDataSnapshot.open(path).size(), is(data.size()));
+        assertThat(mapped.get(4), is(data.get(4)));
+        assertThat(listFileNames(), contains("snapshot.bin"));
+    }
+
+    @Test
+    public void shouldReplaceSnapshotThatIsMapped() throws IOException {
+        Path path = write(data);
+        var mapped = OWLPrimitiveDataSnapshot.open(path);
+        write(List.of(data.get(2)));
+        assertThat(OWLPrimitiveDataSnapshot.open(path).size(), is(1));
+        assertThat(mapped.get(4), is(data.get(4)));
+        assertThat(listFileNames(), contains("snapshot.bin"));
+    }
+
+    @Test
+    public void shouldNotPublishAbortedSnapshot() throws IOException {
+        Path path = directory.resolve("aborted.bin");
+        var writer = OWLPrimitiveDataSnapshot.writer(path);
+        writer.add(data.get(0));
+        writer.abort();
+        writer.close();
+        assertThat(Files.exists(path), is(false));
+        assertThat(listFileNames(), is(empty()));
+    }
+
+    private List<String> listFileNames() throws IOException {
+        try(var files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package edu.stanford.protege.webprotege.entity;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.stanford.protege.webprotege.common.WebProtegeCommonConfiguration;
+import edu.stanford.protege.webprotege.jackson.WebProtegeJacksonApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ */
+@JsonTest
+@Import({WebProtegeJacksonApplication.class, WebProtegeCommonConfiguration.class})
+public class OWLPrimitiveDataStreamReader_TestCase {
+
+    private static final String JSON = """
+            [
+                { "@type" : "ClassData", "iri" : "http://example.org/A", "shortForms" : [ { "dictionaryLanguage" : { "type" : "LocalName" }, "shortForm" : "A" } ] },
+                { "@type" : "ObjectPropertyData", "iri" : "http://example.org/B", "deprecated" : true },
+                { "@type" : "NamedIndividualData", "iri" : "http://example.org/C" }
+            ]
+            """;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static InputStream toInputStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<OWLEntityData> readList(String json) throws IOException {
+        return objectMapper.readValue(json, new TypeReference<List<OWLEntityData>>() {});
+    }
+
+    @Test
+    public void shouldIterateOverElements() throws IOException {
+        var reader = OWLPrimitiveDataStreamReader.get(objectMapper, OWLEntityData.class);
+        var elements = new ArrayList<OWLEntityData>();
+        try (var iterator = reader.iterator(toInputStream(JSON))) {
+            iterator.forEachRemaining(elements::add);
+        }
+        assertThat(elements, is(readList(JSON)));
+    }
+
+    @Test
+    public void shouldStreamElements() throws IOException {
+        var reader = OWLPrimitiveDataStreamReader.get(objectMapper);
+        try (var stream = reader.stream(toInputStream(JSON))) {
+            var elements = stream.collect(Collectors.toList());
+            assertThat(elements, is(readList(JSON)));
+        }
+    }
+
+    @Test
+    public void shouldPushElementsToConsumer() throws IOException {
+        var reader = OWLPrimitiveDataStreamReader.get(objectMapper, OWLEntityData.class);
+        var elements = new ArrayList<OWLEntityData>();
+        var count = reader.forEach(toInputStream(JSON), elements::add);
+        assertThat(count, is(3L));
+        assertThat(elements, is(readList(JSON)));
+    }
+
+    @Test
+    public void shouldReadEmptyArray() throws IOException {
+        var reader = OWLPrimitiveDataStreamReader.get(objectMapper);
+        try (var iterator = reader.iterator(toInputStream("[]"))) {
+            assertThat(iterator.hasNext(), is(false));
+        }
+    }
+
+    @Test
+    public void shouldAllowHasNextToBeCalledRepeatedly() throws IOException {
+        var reader = OWLPrimitiveDataStreamReader.get(objectMapper);
+        try (var iterator = reader.iterator(toInputStream(JSON))) {
+            assertThat(iterator.hasNext(), is(true));
+            assertThat(iterator.hasNext(), is(true));
+            assertThat(iterator.next().getBrowserText(), is("A"));
+        }
+    }
+
+    @Test
+    public void shouldReadNestedArray() throws IOException {
+        var json = "{ \"results\" : " + JSON + ", \"total\" : 3 }";
+        var reader = OWLPrimitiveDataStreamReader.get(objectMapper, OWLEntityData.class);
+        JsonParser parser = objectMapper.getFactory().createParser(json);
+        parser.nextToken();
+        parser.nextFieldName();
+        var elements = new ArrayList<OWLEntityData>();
+        var iterator = reader.iterator(parser);
+        iterator.forEachRemaining(elements::add);
+        assertThat(elements, is(readList(JSON)));
+        assertThat(parser.nextFieldName(), is("total"));
+    }
+
+    @Test
+    public void shouldCloseInputStreamWhenStreamIsClosed() throws IOException {
+        var closed = new AtomicBoolean();
+        var inputStream = new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        var reader = OWLPrimitiveDataStreamReader.get(objectMapper);
+        try (var stream = reader.stream(inputStream)) {
+            assertThat(stream.findFirst().isPresent(), is(true));
+        }
+        assertThat(closed.get(), is(true));
+    }
+
+    @Test
+    public void shouldThrowIOExceptionIfInputIsNotAnArray() {
+        var reader = OWLPrimitiveDataStreamReader.get(objectMapper);
+        assertThrows(IOException.class, () -> reader.iterator(toInputStream("{ }")));
+    }
+
+    @Test
+    public void shouldThrowUncheckedIOExceptionForMalformedElement() throws IOException {
+        var reader = OWLPrimitiveDataStreamReader.get(objectMapper);
+        try (var iterator = reader.iterator(toInputStream("[ { \"@type\" : \"ClassData\", \"iri\" : \"http://example.org/A\" }, 3 ]"))) {
+            assertThat(iterator.next(), is(notNullValue()));
+            assertThrows(UncheckedIOException.class, iterator::hasNext);
+        }
+    }
+
+    @Test
+    public void shouldThrowIOExceptionFromConsumerApiForMalformedElement() {
+        var reader = OWLPrimitiveDataStreamReader.get(objectMapper);
+        assertThrows(IOException.class, () -> reader.forEach(toInputStream("[ { \"@type\" : \"Unknown\" } ]"), e -> {}));
+    }
+}
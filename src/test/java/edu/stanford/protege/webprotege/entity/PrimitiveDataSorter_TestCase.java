@@ -0,0 +1,107 @@
+package edu.stanford.protege.webprotege.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * WebProtege contributors
+ * Stanford Center for Biomedical Informatics Research
+ * 2026-10-18
+ */
+public class PrimitiveDataSorter_TestCase {
+
+    private static final String[] NAMES = {
+            "apple", "Apple", "APPLE", "banana", "Banana", "obo:Cherry", "ex:apple", "dc:zebra", "Zebra",
+            "'quoted name'", "Élan", "elan", "straße", "STRASSE", "x:", ":y", "", "a1", "A10", "a2",
+            "\uFFFD", "\uD83D\uDE00", "a\uD801\uDC00", "A\uD801\uDC28", "a\uFF21"
+    };
+
+    private static List<OWLEntityData> randomEntityData(long seed, int size) {
+        var random = new Random(seed);
+        var list = new ArrayList<OWLEntityData>();
+        for(int i = 0; i < size; i++) {
+            String name = NAMES[random.nextInt(NAMES.length)];
+            String suffix = random.nextBoolean() ? NAMES[random.nextInt(NAMES.length)] : "";
+            list.add(TestUtils.newOWLClassData(name + suffix));
+        }
+        return list;
+    }
+
+    @Test
+    public void shouldSortInSameOrderAsNaturalOrdering() {
+        for(int seed = 0; seed < 20; seed++) {
+            var list = randomEntityData(seed, 200);
+            var expected = new ArrayList<>(list);
+            Collections.sort(expected);
+            PrimitiveDataSorter.get().sort(list);
+            assertThat(list, is(expected));
+        }
+    }
+
+    @Test
+    public void shouldSortIgnoringPrefixNamesInSameOrderAsCompareToIgnorePrefixNames() {
+        for(int seed = 0; seed < 20; seed++) {
+            var list = randomEntityData(seed, 200);
+            var expected = new ArrayList<>(list);
+            expected.sort(OWLEntityData::compareToIgnorePrefixNames);
+            PrimitiveDataSorter.get().sortIgnoringPrefixNames(list);
+            assertThat(list, is(expected));
+        }
+    }
+
+    @Test
+    public void shouldSortWithLocaleSpecificCollation() {
+        var list = new ArrayList<OWLEntityData>(List.of(TestUtils.newOWLClassData("Zebra"),
+                                                        TestUtils.newOWLClassData("Élan"),
+                                                        TestUtils.newOWLClassData("apple"),
+                                                        TestUtils.newOWLClassData("elan")));
+        PrimitiveDataSorter.get(Locale.ENGLISH).sort(list);
+        var browserText = list.stream().map(OWLPrimitiveData::getBrowserText).collect(toList());
+        assertThat(browserText, contains("apple", "elan", "Élan", "Zebra"));
+    }
+
+    @Test
+    public void shouldBeStable() {
+        var first = TestUtils.newOWLClassData("Apple");
+        var second = TestUtils.newOWLClassData("apple");
+        var third = TestUtils.newOWLClassData("APPLE");
+        var list = new ArrayList<OWLEntityData>(List.of(first, second, third));
+        PrimitiveDataSorter.get().sort(list);
+        assertThat(list, contains(first, second, third));
+    }
+
+    @Test
+    public void shouldSortEmptyList() {
+        var list = new ArrayList<OWLEntityData>();
+        PrimitiveDataSorter.get().sort(list);
+        assertThat(list.isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldFoldCaseInSameWayAsCompareToIgnoreCase() {
+        for(String a : NAMES) {
+            for(String b : NAMES) {
+                int expected = Integer.signum(a.compareToIgnoreCase(b));
+                int actual = Integer.signum(PrimitiveDataSorter.compareFolded(PrimitiveDataSorter.foldCase(a),
+                                                                              PrimitiveDataSorter.foldCase(b)));
+                assertThat(a + " vs " + b, actual, is(expected));
+            }
+        }
+    }
+
+    @Test
+    public void shouldNotCopyAlreadyFoldedText() {
+        var text = "already folded";
+        assertThat(PrimitiveDataSorter.foldCase(text) == text, is(true));
+    }
+}
@@ -1,6 +1,7 @@
 package edu.stanford.protege.webprotege.entity;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import edu.stanford.protege.webprotege.common.DictionaryLanguage;
 import edu.stanford.protege.webprotege.common.ProjectId;
 import edu.stanford.protege.webprotege.common.UserId;
 import org.semanticweb.owlapi.model.*;
@@ -94,6 +95,13 @@ public class TestUtils {
         return OWLClassData.get(newOWLClass(), ImmutableMap.of(), false);
     }
 
+    /**
+     * Creates class data for a new class whose browser text is the specified English rdfs:label.
+     */
+    public static OWLClassData newOWLClassData(String label) {
+        return OWLClassData.get(newOWLClass(), ImmutableMap.of(DictionaryLanguage.rdfsLabel("en"), label));
+    }
+
     public static OWLObjectPropertyData mockOWLObjectPropertyData() {
         return OWLObjectPropertyData.get(mockOWLObjectProperty(), ImmutableMap.of(), false);
     }